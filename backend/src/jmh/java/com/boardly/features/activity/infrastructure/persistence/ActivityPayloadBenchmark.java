@@ -0,0 +1,59 @@
+package com.boardly.features.activity.infrastructure.persistence;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.boardly.features.activity.domain.model.Activity;
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.activity.domain.model.Actor;
+import com.boardly.features.activity.domain.model.Payload;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 활동 페이로드 JSON 직렬화/역직렬화 벤치마크
+ */
+@State(Scope.Benchmark)
+public class ActivityPayloadBenchmark {
+
+    private Activity activity;
+    private ActivityEntity activityEntity;
+
+    @Setup
+    public void setUp() {
+        BoardId boardId = new BoardId();
+        ListId sourceListId = new ListId();
+        ListId destListId = new ListId();
+        CardId cardId = new CardId();
+
+        Payload payload = Payload.of(Map.of(
+                "cardId", cardId.getId(),
+                "cardTitle", "결제 모듈 리팩터링",
+                "sourceListId", sourceListId.getId(),
+                "sourceListName", "진행 중",
+                "destListId", destListId.getId(),
+                "destListName", "리뷰",
+                "boardName", "백엔드 로드맵"));
+
+        activity = Activity.create(ActivityType.CARD_MOVE,
+                Actor.of(new UserId().getId(), "지훈", "김", null),
+                payload, "백엔드 로드맵", boardId, destListId, cardId);
+        activityEntity = ActivityEntity.fromDomainEntity(activity);
+    }
+
+    @Benchmark
+    public ActivityEntity serialize() {
+        return ActivityEntity.fromDomainEntity(activity);
+    }
+
+    @Benchmark
+    public Activity deserialize() {
+        return activityEntity.toDomainEntity();
+    }
+}
@@ -0,0 +1,121 @@
+package com.boardly.features.board.presentation.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.boardly.features.board.application.dto.BoardDetailDto;
+import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.domain.model.BoardMember;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.valueobject.CardMember;
+import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelId;
+import com.boardly.features.user.domain.model.User;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.features.user.domain.model.UserProfile;
+import com.boardly.shared.application.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 보드 상세 응답 조립/직렬화 벤치마크 (카드 100 / 1,000 / 10,000개)
+ */
+@State(Scope.Benchmark)
+public class BoardDetailResponseBenchmark {
+
+    private static final int LIST_COUNT = 10;
+    private static final int MEMBER_COUNT = 10;
+    private static final int LABEL_COUNT = 12;
+
+    @Param({ "100", "1000", "10000" })
+    private int cardCount;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    private BoardDetailDto boardDetail;
+
+    @Setup
+    public void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            users.add(User.create("member" + i + "@boardly.dev", "{noop}password",
+                    new UserProfile("멤버" + i, "김")));
+        }
+
+        Board board = Board.create("백엔드 로드맵", "분기 목표", users.get(0).getUserId());
+
+        List<BoardMember> boardMembers = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            boardMembers.add(BoardMember.create(board.getBoardId(), users.get(i).getUserId(),
+                    i == 0 ? BoardRole.OWNER : BoardRole.MEMBER));
+        }
+
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            labels.add(Label.create(board.getBoardId(), "라벨" + i, "#61bd4f"));
+        }
+
+        List<BoardList> columns = new ArrayList<>();
+        for (int i = 0; i < LIST_COUNT; i++) {
+            columns.add(BoardList.create("리스트" + i, i, board.getBoardId()));
+        }
+
+        Map<ListId, List<Card>> cards = new HashMap<>();
+        Map<CardId, List<CardMember>> cardMembers = new HashMap<>();
+        Map<CardId, List<LabelId>> cardLabels = new HashMap<>();
+        Map<CardId, Integer> commentCounts = new HashMap<>();
+        Map<CardId, Integer> attachmentCounts = new HashMap<>();
+        for (int i = 0; i < cardCount; i++) {
+            BoardList column = columns.get(i % LIST_COUNT);
+            Card card = Card.create("카드 " + i, "설명 " + i, i / LIST_COUNT, column.getListId(),
+                    users.get(i % MEMBER_COUNT).getUserId());
+            cards.computeIfAbsent(column.getListId(), listId -> new ArrayList<>()).add(card);
+            cardMembers.put(card.getCardId(), List.of(
+                    new CardMember(users.get(i % MEMBER_COUNT).getUserId()),
+                    new CardMember(users.get((i + 1) % MEMBER_COUNT).getUserId())));
+            cardLabels.put(card.getCardId(), List.of(labels.get(i % LABEL_COUNT).getLabelId()));
+            commentCounts.put(card.getCardId(), i % 7);
+            attachmentCounts.put(card.getCardId(), i % 3);
+        }
+
+        Map<UserId, User> usersById = new HashMap<>();
+        users.forEach(user -> usersById.put(user.getUserId(), user));
+
+        boardDetail = BoardDetailDto.of(board, columns, boardMembers, labels, cards, cardMembers,
+                cardLabels, commentCounts, attachmentCounts, usersById);
+    }
+
+    @Benchmark
+    public BoardDetailResponse assemble() {
+        return BoardDetailResponse.from(boardDetail);
+    }
+
+    /**
+     * 응답 트리를 조립한 뒤 직렬화 (기존 경로)
+     */
+    @Benchmark
+    public void serializeTree() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), BoardDetailResponse.from(boardDetail));
+    }
+
+    /**
+     * 조회 결과를 JsonGenerator로 바로 직렬화
+     */
+    @Benchmark
+    public void serializeStreaming() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), StreamingBoardDetailResponse.from(boardDetail));
+    }
+}
@@ -0,0 +1,74 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 카드 엔티티 ↔ 도메인 변환 벤치마크
+ */
+@State(Scope.Benchmark)
+public class CardMappingBenchmark {
+
+    @Param({ "0", "3" })
+    private int memberCount;
+
+    private final CardMapper cardMapper = new CardMapper(new CardMemberMapper());
+
+    private CardEntity cardEntity;
+    private Card card;
+
+    @Setup
+    public void setUp() {
+        String cardId = new CardId().getId();
+        Set<CardMemberEntity> members = new HashSet<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(CardMemberEntity.create(cardId, new UserId().getId()));
+        }
+
+        Instant now = Instant.now();
+        cardEntity = CardEntity.builder()
+                .cardId(cardId)
+                .title("결제 모듈 리팩터링")
+                .description("PG 연동부를 포트/어댑터로 분리합니다.")
+                .position(3)
+                .listId(new ListId().getId())
+                .dueDate(now.plusSeconds(86_400))
+                .priority("high")
+                .createdBy(new UserId().getId())
+                .createdAt(now)
+                .updatedAt(now)
+                .assignedMembers(members)
+                .build();
+
+        // CardEntity.from은 담당자 엔티티를 별도로 추가하므로 담당자 없는 카드로 측정합니다.
+        card = Card.create("결제 모듈 리팩터링", "PG 연동부를 포트/어댑터로 분리합니다.", 3,
+                new ListId(), new UserId());
+    }
+
+    @Benchmark
+    public Card mapperToDomain() {
+        return cardMapper.toDomain(cardEntity);
+    }
+
+    @Benchmark
+    public Card entityToDomainEntity() {
+        return cardEntity.toDomainEntity();
+    }
+
+    @Benchmark
+    public CardEntity entityFromDomain() {
+        return CardEntity.from(card);
+    }
+}
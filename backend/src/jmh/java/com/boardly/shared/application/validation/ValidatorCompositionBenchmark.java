@@ -0,0 +1,64 @@
+package com.boardly.shared.application.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link Validator#combine}/{@link Validator#chain} 합성 비용 벤치마크
+ */
+@State(Scope.Benchmark)
+public class ValidatorCompositionBenchmark {
+
+    record CardInput(String title, String description, int position, String listId) {
+    }
+
+    private static final Validator<CardInput> TITLE_REQUIRED = Validator.field(
+            CardInput::title, title -> title != null && !title.isBlank(), "title", "제목은 필수입니다.");
+    private static final Validator<CardInput> TITLE_LENGTH = Validator.field(
+            CardInput::title, title -> title == null || title.length() <= 200, "title", "제목은 200자 이하입니다.");
+    private static final Validator<CardInput> DESCRIPTION_LENGTH = Validator.field(
+            CardInput::description, description -> description == null || description.length() <= 2000,
+            "description", "설명은 2000자 이하입니다.");
+    private static final Validator<CardInput> POSITION_RANGE = Validator.field(
+            CardInput::position, position -> position >= 0, "position", "위치는 0 이상입니다.");
+    private static final Validator<CardInput> LIST_ID_REQUIRED = Validator.field(
+            CardInput::listId, listId -> listId != null && !listId.isBlank(), "listId", "리스트 ID는 필수입니다.");
+
+    private static final Validator<CardInput> COMBINED = Validator.combine(
+            TITLE_REQUIRED, TITLE_LENGTH, DESCRIPTION_LENGTH, POSITION_RANGE, LIST_ID_REQUIRED);
+    private static final Validator<CardInput> CHAINED = Validator.chain(
+            TITLE_REQUIRED, TITLE_LENGTH, DESCRIPTION_LENGTH, POSITION_RANGE, LIST_ID_REQUIRED);
+
+    private final CardInput validInput = new CardInput("결제 모듈 리팩터링", "설명", 3, "01J2ZK8Q6T6M2V3R9Y4H5N7B8C");
+    private final CardInput invalidInput = new CardInput(" ", "설명", -1, null);
+
+    @Benchmark
+    public ValidationResult<CardInput> combineValid() {
+        return COMBINED.validate(validInput);
+    }
+
+    @Benchmark
+    public ValidationResult<CardInput> combineInvalid() {
+        return COMBINED.validate(invalidInput);
+    }
+
+    @Benchmark
+    public ValidationResult<CardInput> chainValid() {
+        return CHAINED.validate(validInput);
+    }
+
+    @Benchmark
+    public ValidationResult<CardInput> chainInvalid() {
+        return CHAINED.validate(invalidInput);
+    }
+
+    /**
+     * 호출마다 검증기를 다시 합성하는 경우 (서비스 메서드 안에서 조립하는 패턴)
+     */
+    @Benchmark
+    public ValidationResult<CardInput> combineRebuiltPerCall() {
+        return Validator.combine(TITLE_REQUIRED, TITLE_LENGTH, DESCRIPTION_LENGTH, POSITION_RANGE, LIST_ID_REQUIRED)
+                .validate(validInput);
+    }
+}
@@ -0,0 +1,45 @@
+package com.boardly.shared.domain.common;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.boardly.shared.application.validation.ValidationResult;
+
+import io.vavr.control.Either;
+
+/**
+ * {@link Failure} 생성 및 Either 실패 경로 벤치마크
+ */
+@State(Scope.Benchmark)
+public class FailureBenchmark {
+
+    private final List<Failure.FieldViolation> violations = List.of(
+            Failure.FieldViolation.builder().field("title").message("제목은 필수입니다.").rejectedValue("").build(),
+            Failure.FieldViolation.builder().field("position").message("위치는 0 이상입니다.").rejectedValue(-1).build());
+
+    private final ValidationResult<Object> invalidResult = ValidationResult.invalid(
+            io.vavr.collection.List.ofAll(violations));
+
+    @Benchmark
+    public Failure notFound() {
+        return Failure.ofNotFound("카드를 찾을 수 없습니다.", "CARD_NOT_FOUND", null);
+    }
+
+    @Benchmark
+    public Either<Failure, Object> conflictAsEither() {
+        return Either.left(Failure.ofConflict("다른 사용자가 먼저 수정했습니다."));
+    }
+
+    @Benchmark
+    public Failure validationFailure() {
+        return Failure.ofValidation("입력값이 올바르지 않습니다.", violations);
+    }
+
+    @Benchmark
+    public Failure validationResultToFailure() {
+        return invalidResult.toFailure("입력값이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.boardly.shared.infrastructure.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * bcrypt 작업 계수별 해싱 비용과, 로그인이 몰릴 때 전용 스레드 풀이 지연 시간에 주는 영향을 비교하는 벤치마크
+ *
+ * <p>
+ * {@code burst*} 벤치마크는 8개 스레드가 동시에 검증을 요청하는 상황입니다. 스레드 풀로 감싼 쪽은
+ * 처리량이 스레드 수로 제한되는 대신 요청 스레드가 CPU를 나눠 쓰지 않으며, 대기열을 넘친 요청은 바로 거절됩니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Password123!";
+
+    @Param({ "8", "10", "12" })
+    public int strength;
+
+    private BCryptPasswordEncoder direct;
+    private BoundedPasswordEncoder bounded;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        direct = new BCryptPasswordEncoder(strength);
+        bounded = new BoundedPasswordEncoder(direct, 2, 64, 1000, new SimpleMeterRegistry());
+        hash = direct.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.destroy();
+    }
+
+    @Benchmark
+    public String encode() {
+        return direct.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchesDirect() {
+        return direct.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean matchesBounded() {
+        return bounded.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean burstDirect() {
+        return direct.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean burstBounded() {
+        try {
+            return bounded.matches(PASSWORD, hash);
+        } catch (TaskRejectedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.boardly.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP 부하 테스트 진입점 ({@code gradle loadTest})
+ *
+ * <p>
+ * 따로 띄워 둔 인스턴스에 가상 사용자별로 로그인한 뒤, 가중치에 따라 보드 열기, 카드 이동, 카드 수정, 대시보드,
+ * 활동 폴링을 반복합니다. 워밍업 구간을 뺀 응답 시간으로 p50/p95/p99와 오류율을 계산해 SLO와 비교하고,
+ * 위반이 있으면 종료 코드 1로 끝납니다. 설정은 {@link LoadTestConfig}를 봅니다.
+ * </p>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        TokenClient tokenClient = new TokenClient(config, objectMapper);
+
+        System.out.printf("부하 테스트: baseUrl=%s, virtualUsers=%d, users=%d, warmup=%ds, duration=%ds%n",
+                config.baseUrl(), config.virtualUsers(), config.users(),
+                config.warmup().toSeconds(), config.duration().toSeconds());
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            virtualUsers.add(new VirtualUser(i, config, client, tokenClient, objectMapper));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long prepareStarted = System.nanoTime();
+            Semaphore logins = new Semaphore(config.loginConcurrency());
+            List<Future<?>> prepared = new ArrayList<>();
+            for (VirtualUser virtualUser : virtualUsers) {
+                prepared.add(executor.submit(() -> {
+                    logins.acquire();
+                    try {
+                        virtualUser.prepare();
+                    } finally {
+                        logins.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : prepared) {
+                future.get();
+            }
+            System.out.printf("로그인 완료: %d명, %dms%n", virtualUsers.size(),
+                    Duration.ofNanos(System.nanoTime() - prepareStarted).toMillis());
+
+            long measureFrom = System.nanoTime() + config.warmup().toNanos();
+            long end = measureFrom + config.duration().toNanos();
+            List<Future<?>> running = new ArrayList<>();
+            for (VirtualUser virtualUser : virtualUsers) {
+                virtualUser.schedule(measureFrom, end);
+                running.add(executor.submit(virtualUser));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+
+        Recording recording = new Recording();
+        virtualUsers.forEach(virtualUser -> recording.merge(virtualUser.recording()));
+        LoadTestReport report = LoadTestReport.evaluate(config, recording, config.duration());
+        System.out.println(report.format());
+        report.write(config, objectMapper);
+        System.out.println("결과: " + config.report().toAbsolutePath());
+
+        System.exit(report.passed() ? 0 : 1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.boardly.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ *
+ * <p>
+ * 클래스패스의 {@code load-test.properties}를 기본값으로 읽고, {@code loadTest.} 접두사가 붙은
+ * 시스템 프로퍼티로 덮어씁니다. ({@code gradle loadTest -PloadTest.virtualUsers=50})
+ * </p>
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        String clientId,
+        String clientSecret,
+        String redirectUri,
+        int users,
+        String userEmailPattern,
+        String password,
+        int virtualUsers,
+        int loginConcurrency,
+        Duration warmup,
+        Duration duration,
+        long thinkTimeMs,
+        long seed,
+        Path report,
+        Map<Scenario, Integer> weights,
+        Map<Scenario, Slo> slos,
+        double maxErrorRate) {
+
+    static final String SYSTEM_PROPERTY_PREFIX = "loadTest.";
+
+    /**
+     * 시나리오별 지연 시간 목표 (ms, 0이면 확인하지 않음)
+     */
+    record Slo(long p95Ms, long p99Ms) {
+    }
+
+    static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/load-test.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+                .forEach(name -> properties.setProperty(name.substring(SYSTEM_PROPERTY_PREFIX.length()),
+                        System.getProperty(name)));
+        return from(properties);
+    }
+
+    static LoadTestConfig from(Properties properties) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        Map<Scenario, Slo> slos = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, intValue(properties, "scenario." + scenario.key() + ".weight", 0));
+            slos.put(scenario, new Slo(
+                    longValue(properties, "slo." + scenario.key() + ".p95", 0),
+                    longValue(properties, "slo." + scenario.key() + ".p99", 0)));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("시나리오 가중치 합이 0입니다");
+        }
+
+        String baseUrl = properties.getProperty("baseUrl", "http://localhost:8080");
+        return new LoadTestConfig(
+                URI.create(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl),
+                properties.getProperty("clientId", "boardly-client"),
+                properties.getProperty("clientSecret", "secret"),
+                properties.getProperty("redirectUri", "http://localhost:5173/callback"),
+                Math.max(1, intValue(properties, "users", 20)),
+                properties.getProperty("userEmailPattern", "load-%05d@load.boardly.test"),
+                properties.getProperty("password", "Password1!"),
+                Math.max(1, intValue(properties, "virtualUsers", 20)),
+                Math.max(1, intValue(properties, "loginConcurrency", 2)),
+                Duration.ofSeconds(longValue(properties, "warmupSeconds", 10)),
+                Duration.ofSeconds(Math.max(1, longValue(properties, "durationSeconds", 60))),
+                longValue(properties, "thinkTimeMs", 1000),
+                longValue(properties, "seed", 42),
+                Path.of(properties.getProperty("report", "build/reports/load-test/summary.json")),
+                weights,
+                slos,
+                Double.parseDouble(properties.getProperty("slo.errorRate", "0.01").trim()));
+    }
+
+    /**
+     * 가상 사용자 번호(0부터)에 대응하는 계정 이메일. 가상 사용자가 계정 수보다 많으면 계정을 나눠 씁니다.
+     */
+    String emailFor(int virtualUser) {
+        return String.format(userEmailPattern, virtualUser % users + 1);
+    }
+
+    private static int intValue(Properties properties, String key, int defaultValue) {
+        return (int) longValue(properties, key, defaultValue);
+    }
+
+    private static long longValue(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+}
@@ -0,0 +1,102 @@
+package com.boardly.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 측정 결과를 SLO와 비교해 표로 출력하고 JSON으로 저장합니다.
+ *
+ * @param violations SLO를 넘은 항목 (비어 있으면 통과)
+ */
+record LoadTestReport(Duration measured, Map<Scenario, Recording.Stats> stats, List<String> violations) {
+
+    static LoadTestReport evaluate(LoadTestConfig config, Recording recording, Duration measured) {
+        Map<Scenario, Recording.Stats> stats = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        long total = 0;
+        long errors = 0;
+        for (Scenario scenario : Scenario.values()) {
+            Recording.Stats scenarioStats = recording.stats(scenario);
+            stats.put(scenario, scenarioStats);
+            total += scenarioStats.count();
+            errors += scenarioStats.errorCount();
+            if (scenarioStats.count() == 0) {
+                continue;
+            }
+
+            LoadTestConfig.Slo slo = config.slos().get(scenario);
+            if (slo.p95Ms() > 0 && scenarioStats.p95Ms() > slo.p95Ms()) {
+                violations.add("%s p95 %.1fms > %dms".formatted(scenario.key(), scenarioStats.p95Ms(), slo.p95Ms()));
+            }
+            if (slo.p99Ms() > 0 && scenarioStats.p99Ms() > slo.p99Ms()) {
+                violations.add("%s p99 %.1fms > %dms".formatted(scenario.key(), scenarioStats.p99Ms(), slo.p99Ms()));
+            }
+        }
+
+        if (total == 0) {
+            violations.add("측정된 요청이 없습니다");
+        } else if ((double) errors / total > config.maxErrorRate()) {
+            violations.add("오류율 %.2f%% > %.2f%%".formatted(100.0 * errors / total, 100 * config.maxErrorRate()));
+        }
+        return new LoadTestReport(measured, stats, violations);
+    }
+
+    boolean passed() {
+        return violations.isEmpty();
+    }
+
+    String format() {
+        double seconds = Math.max(measured.toMillis(), 1) / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append("%-16s %9s %8s %8s %9s %9s %9s %9s%n".formatted(
+                "scenario", "requests", "rps", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        stats.forEach((scenario, s) -> out.append("%-16s %9d %8.1f %8d %9.1f %9.1f %9.1f %9.1f%n".formatted(
+                scenario.key(), s.count(), s.count() / seconds, s.errorCount(), s.p50Ms(), s.p95Ms(), s.p99Ms(),
+                s.maxMs())));
+        stats.forEach((scenario, s) -> s.errors().forEach((outcome, count) -> out.append(
+                "  %s %s: %d%n".formatted(scenario.key(), outcome, count))));
+        if (passed()) {
+            out.append("SLO 통과");
+        } else {
+            out.append("SLO 위반:");
+            violations.forEach(violation -> out.append(System.lineSeparator()).append("  - ").append(violation));
+        }
+        return out.toString();
+    }
+
+    void write(LoadTestConfig config, ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        stats.forEach((scenario, s) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", s.count());
+            entry.put("errors", s.errors());
+            entry.put("p50Ms", s.p50Ms());
+            entry.put("p95Ms", s.p95Ms());
+            entry.put("p99Ms", s.p99Ms());
+            entry.put("maxMs", s.maxMs());
+            entry.put("slo", config.slos().get(scenario));
+            scenarios.put(scenario.key(), entry);
+        });
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("baseUrl", config.baseUrl().toString());
+        summary.put("virtualUsers", config.virtualUsers());
+        summary.put("measuredSeconds", measured.toMillis() / 1000.0);
+        summary.put("passed", passed());
+        summary.put("violations", violations);
+        summary.put("scenarios", scenarios);
+
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), summary);
+    }
+}
@@ -0,0 +1,95 @@
+package com.boardly.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시나리오별 응답 시간과 오류 기록
+ *
+ * <p>
+ * 가상 사용자마다 하나씩 두고 측정이 끝난 뒤 {@link #merge}로 합치므로 기록 중에는 동기화하지 않습니다.
+ * 표본을 모두 보관해 정확한 백분위를 계산합니다. (요청 100만 건에 약 8MB)
+ * </p>
+ */
+final class Recording {
+
+    private final Map<Scenario, Samples> samples = new EnumMap<>(Scenario.class);
+
+    /**
+     * @param outcome 성공이면 null, 실패면 {@code HTTP 409}나 예외 이름 같은 분류
+     */
+    void record(Scenario scenario, long elapsedNanos, String outcome) {
+        samples.computeIfAbsent(scenario, s -> new Samples()).add(elapsedNanos, outcome);
+    }
+
+    void merge(Recording other) {
+        other.samples.forEach((scenario, theirs) -> samples.computeIfAbsent(scenario, s -> new Samples()).addAll(theirs));
+    }
+
+    Stats stats(Scenario scenario) {
+        Samples scenarioSamples = samples.get(scenario);
+        return scenarioSamples == null ? Stats.EMPTY : scenarioSamples.stats();
+    }
+
+    /**
+     * 시나리오 집계
+     *
+     * @param count  요청 수 (오류 포함)
+     * @param errors 오류 분류별 횟수
+     */
+    record Stats(long count, Map<String, Long> errors, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        static final Stats EMPTY = new Stats(0, Map.of(), 0, 0, 0, 0);
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private final Map<String, Long> errors = new TreeMap<>();
+
+        void add(long elapsedNanos, String outcome) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+            if (outcome != null) {
+                errors.merge(outcome, 1L, Long::sum);
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            other.errors.forEach((outcome, count) -> errors.merge(outcome, count, Long::sum));
+        }
+
+        Stats stats() {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Stats(size, Map.copyOf(errors),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+    }
+
+    /**
+     * nearest-rank 백분위 (ms)
+     */
+    static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sortedNanos.length);
+        return sortedNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.boardly.loadtest;
+
+/**
+ * 부하 테스트 시나리오
+ *
+ * <p>
+ * 가상 사용자는 가중치에 따라 시나리오를 하나씩 골라 실행합니다. 보드, 리스트, 카드 ID는 로그인 직후와
+ * {@link #OPEN_BOARD} 응답에서 얻은 값을 재사용합니다.
+ * </p>
+ */
+enum Scenario {
+
+    /** 보드 상세 조회 ({@code GET /api/boards/{boardId}}) */
+    OPEN_BOARD("open-board"),
+    /** 같은 리스트 안에서 카드 순서 변경 ({@code PUT /api/cards/{cardId}/move}) */
+    DRAG_CARD("drag-card"),
+    /** 카드 설명 수정 ({@code PUT /api/cards/{cardId}}) */
+    EDIT_CARD("edit-card"),
+    /** 대시보드 조회 ({@code GET /api/dashboard}) */
+    LOAD_DASHBOARD("load-dashboard"),
+    /** 보드 활동 폴링 ({@code GET /api/activities/boards/{boardId}?since=}) */
+    POLL_ACTIVITIES("poll-activities");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+}
@@ -0,0 +1,197 @@
+package com.boardly.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 내장 인가 서버에서 액세스 토큰을 발급받는 클라이언트
+ *
+ * <p>
+ * 브라우저와 같은 경로를 그대로 밟습니다. PKCE 인가 요청 → 로그인 폼(CSRF 토큰 포함) 제출 → 저장된 인가 요청으로
+ * 되돌아가 리다이렉트 URI의 {@code code}를 받고, 토큰 엔드포인트에서 교환합니다. 리다이렉트 URI(프론트엔드)는
+ * 호출하지 않고 {@code Location} 헤더에서 코드만 꺼냅니다.
+ * </p>
+ */
+final class TokenClient {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final int MAX_REDIRECTS = 5;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+
+    TokenClient(LoadTestConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 발급받은 토큰
+     */
+    record Tokens(String accessToken, String refreshToken, Instant expiresAt) {
+
+        boolean expiresWithin(Duration margin) {
+            return Instant.now().plus(margin).isAfter(expiresAt);
+        }
+    }
+
+    /**
+     * 인가 코드 흐름으로 로그인해 토큰을 발급받습니다.
+     */
+    Tokens login(String email) throws IOException, InterruptedException {
+        // 로그인 세션은 사용자마다 따로 둡니다.
+        HttpClient browser = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String verifier = randomToken();
+        String state = randomToken();
+        URI authorize = config.baseUrl().resolve("/oauth2/authorize?" + form(Map.of(
+                "response_type", "code",
+                "client_id", config.clientId(),
+                "scope", "openid read write",
+                "redirect_uri", config.redirectUri(),
+                "code_challenge", challenge(verifier),
+                "code_challenge_method", "S256",
+                "state", state)));
+        // 인증되지 않은 인가 요청을 세션에 저장하고 로그인 페이지로 보냅니다.
+        send(browser, html(authorize).GET().build());
+
+        HttpResponse<String> loginPage = send(browser, html(config.baseUrl().resolve("/login")).GET().build());
+        Matcher csrf = CSRF_INPUT.matcher(loginPage.body());
+        if (!csrf.find()) {
+            throw new IllegalStateException("로그인 페이지에서 CSRF 토큰을 찾지 못했습니다: status=" + loginPage.statusCode());
+        }
+
+        HttpResponse<String> response = send(browser, html(config.baseUrl().resolve("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form(Map.of(
+                        "username", email,
+                        "password", config.password(),
+                        "_csrf", csrf.group(1)))))
+                .build());
+
+        for (int redirects = 0; redirects < MAX_REDIRECTS; redirects++) {
+            String location = response.headers().firstValue("Location")
+                    .orElseThrow(() -> new IllegalStateException("로그인 후 리다이렉트가 없습니다: " + email));
+            if (location.startsWith(config.redirectUri())) {
+                Map<String, String> params = query(URI.create(location));
+                if (!state.equals(params.get("state")) || params.get("code") == null) {
+                    throw new IllegalStateException("인가 코드를 받지 못했습니다: " + location);
+                }
+                return exchange(browser, params.get("code"), verifier);
+            }
+            if (location.contains("/login?")) {
+                throw new IllegalStateException("로그인 실패: email=" + email + ", location=" + location);
+            }
+            response = send(browser, html(config.baseUrl().resolve(location)).GET().build());
+        }
+        throw new IllegalStateException("리다이렉트가 너무 많습니다: " + email);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰을 갱신합니다.
+     */
+    Tokens refresh(HttpClient client, Tokens tokens) throws IOException, InterruptedException {
+        return requestToken(client, Map.of(
+                "grant_type", "refresh_token",
+                "refresh_token", tokens.refreshToken()), tokens.refreshToken());
+    }
+
+    private Tokens exchange(HttpClient client, String code, String verifier) throws IOException, InterruptedException {
+        return requestToken(client, Map.of(
+                "grant_type", "authorization_code",
+                "code", code,
+                "redirect_uri", config.redirectUri(),
+                "code_verifier", verifier), null);
+    }
+
+    private Tokens requestToken(HttpClient client, Map<String, String> params, String previousRefreshToken)
+            throws IOException, InterruptedException {
+        String credentials = Base64.getEncoder().encodeToString(
+                (config.clientId() + ":" + config.clientSecret()).getBytes(StandardCharsets.UTF_8));
+        HttpResponse<String> response = send(client, HttpRequest.newBuilder(config.baseUrl().resolve("/oauth2/token"))
+                .header("Authorization", "Basic " + credentials)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form(params)))
+                .build());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("토큰 발급 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        // 리프레시 토큰을 재사용하도록 설정된 경우 응답에 새 값이 없습니다.
+        String refreshToken = body.hasNonNull("refresh_token") ? body.get("refresh_token").asText() : previousRefreshToken;
+        return new Tokens(body.get("access_token").asText(), refreshToken,
+                Instant.now().plusSeconds(body.path("expires_in").asLong(300)));
+    }
+
+    private static HttpResponse<String> send(HttpClient client, HttpRequest request)
+            throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder html(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Accept", "text/html");
+    }
+
+    private static String form(Map<String, String> params) {
+        return params.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (uri.getRawQuery() == null) {
+            return params;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(pair.substring(0, separator),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String randomToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String challenge(String verifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
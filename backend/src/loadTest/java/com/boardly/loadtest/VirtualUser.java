@@ -0,0 +1,270 @@
+package com.boardly.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 계정 하나로 로그인해 시나리오를 반복하는 가상 사용자
+ *
+ * <p>
+ * 응답을 기다린 뒤 다음 요청을 보내는 닫힌 루프입니다. 서버가 느려지면 요청 수도 줄어들기 때문에
+ * 처리량은 결과표의 rps로, 지연 시간은 같은 부하에서의 비교로만 읽습니다.
+ * </p>
+ */
+final class VirtualUser implements Runnable {
+
+    private static final Duration TOKEN_REFRESH_MARGIN = Duration.ofSeconds(30);
+
+    private final int id;
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final TokenClient tokenClient;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random;
+    private final int[] cumulativeWeights;
+    private final Recording recording = new Recording();
+
+    private final List<String> boardIds = new ArrayList<>();
+    private final Map<String, List<BoardColumn>> boards = new HashMap<>();
+    private final Map<String, Instant> lastPolled = new HashMap<>();
+    private TokenClient.Tokens tokens;
+    private long measureFromNanos;
+    private long endNanos;
+    private long edits;
+
+    /**
+     * 보드 상세 응답에서 뽑아 둔 리스트와 카드 순서
+     */
+    private record BoardColumn(String listId, List<BoardCard> cards) {
+    }
+
+    private record BoardCard(String cardId, String title) {
+    }
+
+    VirtualUser(int id, LoadTestConfig config, HttpClient client, TokenClient tokenClient, ObjectMapper objectMapper) {
+        this.id = id;
+        this.config = config;
+        this.client = client;
+        this.tokenClient = tokenClient;
+        this.objectMapper = objectMapper;
+        this.random = new SplittableRandom(config.seed() + id);
+        this.cumulativeWeights = new int[Scenario.values().length];
+        int sum = 0;
+        for (Scenario scenario : Scenario.values()) {
+            sum += config.weights().get(scenario);
+            cumulativeWeights[scenario.ordinal()] = sum;
+        }
+    }
+
+    /**
+     * 로그인하고 참여 중인 보드 목록과 첫 보드 상세를 미리 읽습니다. (측정하지 않음)
+     */
+    void prepare() throws IOException, InterruptedException {
+        tokens = tokenClient.login(config.emailFor(id));
+        HttpResponse<String> response = send(get("/api/boards"));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("보드 목록 조회 실패: status=" + response.statusCode());
+        }
+        objectMapper.readTree(response.body()).forEach(board -> boardIds.add(board.get("boardId").asText()));
+        if (!boardIds.isEmpty()) {
+            openBoard(randomBoard());
+        }
+    }
+
+    /**
+     * @param measureFromNanos 이 시각({@link System#nanoTime}) 이후 요청만 기록합니다 (워밍업 제외)
+     * @param endNanos         종료 시각
+     */
+    void schedule(long measureFromNanos, long endNanos) {
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+    }
+
+    Recording recording() {
+        return recording;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = boardIds.isEmpty() ? Scenario.LOAD_DASHBOARD : pick();
+            long started = System.nanoTime();
+            String outcome;
+            try {
+                refreshTokenIfNeeded();
+                started = System.nanoTime();
+                outcome = execute(scenario);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                outcome = e.getClass().getSimpleName();
+            }
+            if (started >= measureFromNanos) {
+                recording.record(scenario, System.nanoTime() - started, outcome);
+            }
+            if (config.thinkTimeMs() > 0) {
+                try {
+                    Thread.sleep(config.thinkTimeMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 성공이면 null, 실패면 오류 분류
+     */
+    private String execute(Scenario scenario) throws IOException, InterruptedException {
+        return switch (scenario) {
+            case OPEN_BOARD -> openBoard(randomBoard());
+            case DRAG_CARD -> dragCard();
+            case EDIT_CARD -> editCard();
+            case LOAD_DASHBOARD -> outcome(send(get("/api/dashboard")));
+            case POLL_ACTIVITIES -> pollActivities(randomBoard());
+        };
+    }
+
+    private String openBoard(String boardId) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(get("/api/boards/" + boardId));
+        if (response.statusCode() == 200) {
+            List<BoardColumn> columns = new ArrayList<>();
+            for (JsonNode column : objectMapper.readTree(response.body()).path("columns")) {
+                List<BoardCard> cards = new ArrayList<>();
+                column.path("cards").forEach(card -> cards.add(
+                        new BoardCard(card.get("cardId").asText(), card.get("title").asText())));
+                columns.add(new BoardColumn(column.get("columnId").asText(), cards));
+            }
+            boards.put(boardId, columns);
+        }
+        return outcome(response);
+    }
+
+    /**
+     * 카드 하나를 같은 리스트의 다른 위치로 옮깁니다.
+     * 리스트를 옮기면 리스트당 카드 수 정책에 걸릴 수 있으므로 리스트 안에서만 이동합니다.
+     */
+    private String dragCard() throws IOException, InterruptedException {
+        BoardColumn column = randomColumn(2);
+        if (column == null) {
+            return openBoard(randomBoard());
+        }
+        int from = random.nextInt(column.cards().size());
+        int to = random.nextInt(column.cards().size() - 1);
+        if (to >= from) {
+            to++;
+        }
+        BoardCard card = column.cards().get(from);
+        HttpResponse<String> response = send(json("/api/cards/" + card.cardId() + "/move",
+                Map.of("targetListId", column.listId(), "newPosition", to)));
+        if (response.statusCode() == 200) {
+            column.cards().remove(from);
+            column.cards().add(to, card);
+        }
+        return outcome(response);
+    }
+
+    private String editCard() throws IOException, InterruptedException {
+        BoardColumn column = randomColumn(1);
+        if (column == null) {
+            return openBoard(randomBoard());
+        }
+        BoardCard card = column.cards().get(random.nextInt(column.cards().size()));
+        return outcome(send(json("/api/cards/" + card.cardId(), Map.of(
+                "title", card.title(),
+                "description", "load test vu-%d #%d".formatted(id, ++edits)))));
+    }
+
+    /**
+     * 직전 폴링 이후의 활동을 조회합니다. 처음 폴링하는 보드는 최근 1분부터 읽습니다.
+     */
+    private String pollActivities(String boardId) throws IOException, InterruptedException {
+        Instant since = lastPolled.getOrDefault(boardId, Instant.now().minusSeconds(60));
+        Instant now = Instant.now();
+        String outcome = outcome(send(get("/api/activities/boards/" + boardId + "?size=50&since="
+                + URLEncoder.encode(since.toString(), StandardCharsets.UTF_8))));
+        if (outcome == null) {
+            lastPolled.put(boardId, now);
+        }
+        return outcome;
+    }
+
+    private void refreshTokenIfNeeded() throws IOException, InterruptedException {
+        if (tokens.expiresWithin(TOKEN_REFRESH_MARGIN)) {
+            tokens = tokens.refreshToken() != null
+                    ? tokenClient.refresh(client, tokens)
+                    : tokenClient.login(config.emailFor(id));
+        }
+    }
+
+    private Scenario pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (Scenario scenario : Scenario.values()) {
+            if (value < cumulativeWeights[scenario.ordinal()]) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("가중치 범위를 벗어났습니다: " + value);
+    }
+
+    private String randomBoard() {
+        return boardIds.get(random.nextInt(boardIds.size()));
+    }
+
+    /**
+     * 이미 열어 본 보드에서 카드가 {@code minCards}장 이상인 리스트를 고릅니다.
+     */
+    private BoardColumn randomColumn(int minCards) {
+        if (boards.isEmpty()) {
+            return null;
+        }
+        List<List<BoardColumn>> opened = new ArrayList<>(boards.values());
+        List<BoardColumn> candidates = opened.get(random.nextInt(opened.size())).stream()
+                .filter(column -> column.cards().size() >= minCards)
+                .toList();
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest json(String path, Map<String, Object> body) throws IOException {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + tokens.accessToken());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String outcome(HttpResponse<?> response) {
+        return response.statusCode() < 400 ? null : "HTTP " + response.statusCode();
+    }
+}
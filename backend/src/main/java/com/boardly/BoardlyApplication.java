@@ -2,24 +2,60 @@ package com.boardly;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 import com.boardly.features.attachment.infrastructure.config.AttachmentPolicyProperties;
+import com.boardly.features.board.infrastructure.config.BoardDetailCacheProperties;
+import com.boardly.features.board.infrastructure.config.BoardRosterProperties;
 import com.boardly.features.boardlist.infrastructure.config.BoardListPolicyConfigImpl;
 import com.boardly.features.card.infrastructure.config.CardPolicyProperties;
+import com.boardly.features.card.infrastructure.config.CardReminderProperties;
+import com.boardly.features.label.infrastructure.config.LabelCatalogCacheProperties;
 import com.boardly.shared.application.config.properties.AppProperties;
+import com.boardly.shared.infrastructure.concurrency.ConflictRetryProperties;
+import com.boardly.shared.infrastructure.concurrency.VirtualThreadProperties;
+import com.boardly.shared.infrastructure.dataset.DatasetProperties;
+import com.boardly.shared.infrastructure.idempotency.IdempotencyProperties;
+import com.boardly.shared.infrastructure.metrics.SqlBudgetProperties;
+import com.boardly.shared.infrastructure.outbox.OutboxProperties;
+import com.boardly.shared.infrastructure.persistence.PersistenceProperties;
+import com.boardly.shared.infrastructure.ratelimit.RateLimitProperties;
+import com.boardly.shared.infrastructure.security.PasswordHashingProperties;
+import com.boardly.shared.infrastructure.startup.StartupProperties;
 
 @SpringBootApplication
 @EnableConfigurationProperties({
         AppProperties.class,
         CardPolicyProperties.class,
+        CardReminderProperties.class,
         BoardListPolicyConfigImpl.class,
-        AttachmentPolicyProperties.class
+        AttachmentPolicyProperties.class,
+        PersistenceProperties.class,
+        OutboxProperties.class,
+        SqlBudgetProperties.class,
+        VirtualThreadProperties.class,
+        BoardRosterProperties.class,
+        BoardDetailCacheProperties.class,
+        LabelCatalogCacheProperties.class,
+        ConflictRetryProperties.class,
+        IdempotencyProperties.class,
+        RateLimitProperties.class,
+        PasswordHashingProperties.class,
+        StartupProperties.class,
+        DatasetProperties.class
 })
 public class BoardlyApplication {
 
+    /**
+     * 기동 단계별 소요 시간을 기록해 두었다가 준비 완료 시 {@code StartupReporter}가 리포트로 남깁니다.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(BoardlyApplication.class, args);
+        SpringApplication application = new SpringApplication(BoardlyApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
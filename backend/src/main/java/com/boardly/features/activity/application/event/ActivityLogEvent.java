@@ -0,0 +1,102 @@
+package com.boardly.features.activity.application.event;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.boardly.features.activity.application.port.input.CreateActivityCommand;
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 활동 로그 아웃박스 이벤트 본문
+ *
+ * <p>
+ * 식별자를 문자열로 평탄화해 JSON으로 저장하고, 릴레이 시점에 {@link CreateActivityCommand}로 복원합니다.
+ * 활동 시각은 릴레이가 처리한 시각이 아니라 이벤트를 기록한 시각({@code occurredAt})을 씁니다.
+ * 재시도되거나 밀린 이벤트도 피드와 {@code since=} 폴링에서 원래 순서를 유지합니다.
+ * </p>
+ */
+public record ActivityLogEvent(
+        ActivityType type,
+        String actorId,
+        Map<String, Object> payload,
+        String boardName,
+        String boardId,
+        String listId,
+        String cardId,
+        Instant occurredAt) {
+
+    public static final String EVENT_TYPE = "ACTIVITY_LOG";
+
+    public static ActivityLogEvent of(ActivityType type, UserId actorId, Map<String, Object> payload,
+            String boardName, BoardId boardId, ListId listId, CardId cardId) {
+        return new ActivityLogEvent(
+                type,
+                actorId.getId(),
+                payload,
+                boardName,
+                boardId != null ? boardId.getId() : null,
+                listId != null ? listId.getId() : null,
+                cardId != null ? cardId.getId() : null,
+                Instant.now());
+    }
+
+    /**
+     * 활동 생성 커맨드로 변환
+     *
+     * @param fallbackOccurredAt 본문에 발생 시각이 없을 때 쓸 시각 (발생 시각 도입 전에 기록된 이벤트)
+     */
+    public CreateActivityCommand toCommand(Instant fallbackOccurredAt) {
+        return CreateActivityCommand.of(
+                type,
+                new UserId(actorId),
+                payload != null ? payload : Map.of(),
+                boardName,
+                boardId != null ? new BoardId(boardId) : null,
+                listId != null ? new ListId(listId) : null,
+                cardId != null ? new CardId(cardId) : null)
+                .withOccurredAt(occurredAt != null ? occurredAt : fallbackOccurredAt);
+    }
+
+    /**
+     * 아웃박스 애그리거트 타입 (가장 구체적인 대상 기준)
+     */
+    public String aggregateType() {
+        if (cardId != null) {
+            return "CARD";
+        }
+        if (listId != null) {
+            return "LIST";
+        }
+        if (boardId != null) {
+            return "BOARD";
+        }
+        return "USER";
+    }
+
+    /**
+     * 아웃박스 애그리거트 ID
+     */
+    public String aggregateId() {
+        if (cardId != null) {
+            return cardId;
+        }
+        if (listId != null) {
+            return listId;
+        }
+        if (boardId != null) {
+            return boardId;
+        }
+        return actorId;
+    }
+
+    /**
+     * 순서 보장 단위 (보드, 보드가 없으면 활동 생성자)
+     */
+    public String partitionKey() {
+        return boardId != null ? boardId : actorId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.boardly.features.activity.application.event;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.activity.application.usecase.CreateActivityUseCase;
+import com.boardly.shared.application.outbox.OutboxEvent;
+import com.boardly.shared.application.outbox.OutboxEventHandler;
+import com.boardly.shared.domain.common.Failure;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활동 로그 아웃박스 이벤트 핸들러
+ *
+ * <p>
+ * 릴레이 트랜잭션 안에서 활동 로그를 저장하므로, 활동 저장과 이벤트 전달 완료 표시가 함께 커밋됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityLogEventHandler implements OutboxEventHandler {
+
+    private final CreateActivityUseCase createActivityUseCase;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String eventType) {
+        return ActivityLogEvent.EVENT_TYPE.equals(eventType);
+    }
+
+    @Override
+    public Either<Failure, Void> handle(OutboxEvent event) {
+        return Try.of(() -> objectMapper.readValue(event.payload(), ActivityLogEvent.class))
+                .toEither()
+                .mapLeft(throwable -> (Failure) Failure.ofInternalServerError(
+                        "활동 로그 이벤트 역직렬화 실패: " + throwable.getMessage()))
+                .flatMap(activityLogEvent -> createActivityUseCase
+                        .createActivity(activityLogEvent.toCommand(event.occurredAt())))
+                .peek(activity -> log.debug("Activity log created from outbox: eventId={}, activityId={}",
+                        event.id(), activity.getId()))
+                .map(activity -> null);
+    }
+}
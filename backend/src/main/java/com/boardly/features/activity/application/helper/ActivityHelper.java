@@ -2,16 +2,18 @@ package com.boardly.features.activity.application.helper;
 
 import java.util.Map;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.boardly.features.activity.application.event.ActivityLogEvent;
 import com.boardly.features.activity.application.port.input.CreateActivityCommand;
 import com.boardly.features.activity.application.usecase.CreateActivityUseCase;
 import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.application.outbox.OutboxEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,22 +24,24 @@ import lombok.extern.slf4j.Slf4j;
 public class ActivityHelper {
 
     private final CreateActivityUseCase createActivityUseCase;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final BoardDetailCache boardDetailCache;
 
     /**
-     * 활동 로그 비동기 생성
+     * 활동 로그 기록 (트랜잭셔널 아웃박스)
+     * 호출한 서비스의 트랜잭션 안에서 아웃박스 이벤트로 기록되고,
+     * 커밋 이후 OutboxRelay가 보드 단위 순서대로 활동 로그를 생성합니다.
      */
-    @Async
     public void logActivity(ActivityType type, UserId actorId, Map<String, Object> payload,
             String boardName, BoardId boardId, ListId listId, CardId cardId) {
-
-        try {
-            var command = CreateActivityCommand.of(type, actorId, payload, boardName, boardId, listId, cardId);
-            createActivityUseCase.createActivity(command)
-                    .peek(activity -> log.debug("Activity log created: {}", activity.getId()))
-                    .peekLeft(failure -> log.error("Failed to create activity log: {}", failure.getMessage()));
-        } catch (Exception e) {
-            log.error("Failed to log activity: {}", e.getMessage(), e);
-        }
+        var event = ActivityLogEvent.of(type, actorId, payload, boardName, boardId, listId, cardId);
+        outboxEventPublisher.publish(
+                ActivityLogEvent.EVENT_TYPE,
+                event.aggregateType(),
+                event.aggregateId(),
+                event.partitionKey(),
+                event);
+        invalidateBoardDetail(boardId);
     }
 
     /**
@@ -53,6 +57,16 @@ public class ActivityHelper {
         } catch (Exception e) {
             log.error("Failed to log activity: {}", e.getMessage(), e);
         }
+        invalidateBoardDetail(boardId);
+    }
+
+    /**
+     * 활동 로그를 남기는 작업은 보드 내용을 바꾼 작업이므로 캐시된 보드 상세 응답을 커밋 이후에 무효화합니다.
+     */
+    private void invalidateBoardDetail(BoardId boardId) {
+        if (boardId != null) {
+            boardDetailCache.invalidate(boardId);
+        }
     }
 
     // 자주 사용되는 활동 로그 생성 메서드
@@ -60,7 +74,6 @@ public class ActivityHelper {
     /**
      * 카드 생성 활동 로그
      */
-    @Async
     public void logCardCreate(UserId actorId, String listName, String cardTitle,
             String boardName, BoardId boardId, ListId listId, CardId cardId) {
         var payload = Map.<String, Object>of(
@@ -75,7 +88,6 @@ public class ActivityHelper {
     /**
      * 카드 이동 활동 로그
      */
-    @Async
     public void logCardMove(UserId actorId, String cardTitle, String sourceListName, String destListName,
             String boardName, BoardId boardId, ListId sourceListId, ListId destListId, CardId cardId) {
         var payload = Map.<String, Object>of(
@@ -92,7 +104,6 @@ public class ActivityHelper {
     /**
      * 리스트 생성 활동 로그
      */
-    @Async
     public void logListCreate(UserId actorId, String listName, String boardName,
             BoardId boardId, ListId listId) {
         var payload = Map.<String, Object>of(
@@ -106,7 +117,6 @@ public class ActivityHelper {
     /**
      * 보드 생성 활동 로그
      */
-    @Async
     public void logBoardCreate(UserId actorId, String boardName, BoardId boardId) {
         var payload = Map.<String, Object>of(
                 "boardName", boardName,
@@ -118,7 +128,6 @@ public class ActivityHelper {
     /**
      * 카드 활동 로그
      */
-    @Async
     public void logCardActivity(ActivityType type, UserId actorId, Map<String, Object> payload,
             String boardName, BoardId boardId, ListId listId, CardId cardId) {
         logActivity(type, actorId, payload, boardName, boardId, listId, cardId);
@@ -127,7 +136,6 @@ public class ActivityHelper {
     /**
      * 리스트 활동 로그
      */
-    @Async
     public void logListActivity(ActivityType type, UserId actorId, Map<String, Object> payload,
             String boardName, BoardId boardId, ListId listId) {
         logActivity(type, actorId, payload, boardName, boardId, listId, null);
@@ -136,7 +144,6 @@ public class ActivityHelper {
     /**
      * 보드 활동 로그
      */
-    @Async
     public void logBoardActivity(ActivityType type, UserId actorId, Map<String, Object> payload,
             String boardName, BoardId boardId) {
         logActivity(type, actorId, payload, boardName, boardId, null, null);
@@ -145,7 +152,6 @@ public class ActivityHelper {
     /**
      * 사용자 활동 로그
      */
-    @Async
     public void logUserActivity(ActivityType type, UserId actorId, Map<String, Object> payload, String boardName) {
         logActivity(type, actorId, payload, boardName, null, null, null);
     }
@@ -1,5 +1,6 @@
 package com.boardly.features.activity.application.port.input;
 
+import java.time.Instant;
 import java.util.Map;
 
 import com.boardly.features.board.domain.model.BoardId;
@@ -17,6 +18,7 @@ import com.boardly.features.user.domain.model.UserId;
  * @param boardId 보드 ID (선택)
  * @param listId  리스트 ID (선택)
  * @param cardId  카드 ID (선택)
+ * @param occurredAt 활동 발생 시각 (선택, 없으면 저장 시각)
  */
 public record CreateActivityCommand(
         ActivityType type,
@@ -25,7 +27,8 @@ public record CreateActivityCommand(
         String boardName,
         BoardId boardId, // optional
         ListId listId, // optional
-        CardId cardId // optional
+        CardId cardId, // optional
+        Instant occurredAt // optional
 ) {
 
     public static CreateActivityCommand of(
@@ -36,7 +39,7 @@ public record CreateActivityCommand(
             BoardId boardId,
             ListId listId,
             CardId cardId) {
-        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, cardId);
+        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, cardId, null);
     }
 
     public static CreateActivityCommand forCard(
@@ -47,7 +50,7 @@ public record CreateActivityCommand(
             BoardId boardId,
             ListId listId,
             CardId cardId) {
-        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, cardId);
+        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, cardId, null);
     }
 
     public static CreateActivityCommand forList(
@@ -57,7 +60,7 @@ public record CreateActivityCommand(
             String boardName,
             BoardId boardId,
             ListId listId) {
-        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, null);
+        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, null, null);
     }
 
     public static CreateActivityCommand forBoard(
@@ -66,7 +69,7 @@ public record CreateActivityCommand(
             Map<String, Object> payload,
             String boardName,
             BoardId boardId) {
-        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, null, null);
+        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, null, null, null);
     }
 
     public static CreateActivityCommand forUser(
@@ -75,6 +78,13 @@ public record CreateActivityCommand(
             Map<String, Object> payload,
             String boardName,
             UserId userId) {
-        return new CreateActivityCommand(type, actorId, payload, boardName, null, null, null);
+        return new CreateActivityCommand(type, actorId, payload, boardName, null, null, null, null);
+    }
+
+    /**
+     * 아웃박스처럼 나중에 저장되는 경우 원래 발생 시각을 지정합니다.
+     */
+    public CreateActivityCommand withOccurredAt(Instant occurredAt) {
+        return new CreateActivityCommand(type, actorId, payload, boardName, boardId, listId, cardId, occurredAt);
     }
 }
@@ -19,6 +19,7 @@ import io.vavr.control.Either;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -121,6 +122,7 @@ public class ActivityCreateService implements CreateActivityUseCase {
      * Activity 도메인 객체 생성
      */
     private Either<Failure, ActivityCreationContext> createActivity(ActivityCreationContext context) {
+        Instant occurredAt = context.getCommand().occurredAt();
         Activity activity = Activity.create(
                 context.getCommand().type(),
                 context.getActor(),
@@ -128,7 +130,8 @@ public class ActivityCreateService implements CreateActivityUseCase {
                 context.getBoardName(),
                 context.getCommand().boardId(),
                 context.getCommand().listId(),
-                context.getCommand().cardId());
+                context.getCommand().cardId(),
+                occurredAt != null ? occurredAt : Instant.now());
         return Either.right(new ActivityCreationContext(context.getCommand(), context.getUser(), context.getActor(),
                 context.getPayload(), activity, context.getBoardName()));
     }
@@ -1,6 +1,9 @@
 package com.boardly.features.activity.application.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -14,6 +17,7 @@ import com.boardly.features.activity.application.usecase.GetActivityUseCase;
 import com.boardly.features.activity.domain.model.Activity;
 import com.boardly.features.activity.domain.repository.ActivityRepository;
 import com.boardly.features.board.application.dto.BoardNameDto;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
@@ -152,8 +156,10 @@ public class ActivityReadService implements GetActivityUseCase {
      * 응답 생성
      */
     private ActivityListResponse createResponse(List<Activity> activities, GetActivityQuery query) {
+        // 같은 보드의 활동이 여러 건이어도 보드 이름은 응답마다 한 번만 조회합니다
+        Map<BoardId, Optional<String>> boardNames = new HashMap<>();
         List<ActivityResponse> activityResponses = activities.stream()
-                .map(this::toActivityResponse)
+                .map(activity -> toActivityResponse(activity, boardNames))
                 .collect(Collectors.toList());
 
         int page = query.getPageOrDefault();
@@ -190,7 +196,7 @@ public class ActivityReadService implements GetActivityUseCase {
     /**
      * Activity 도메인 객체를 ActivityResponse로 변환
      */
-    private ActivityResponse toActivityResponse(Activity activity) {
+    private ActivityResponse toActivityResponse(Activity activity, Map<BoardId, Optional<String>> boardNames) {
         ActorResponse actorResponse = ActorResponse.builder()
                 .id(activity.getActor().getId())
                 .firstName(activity.getActor().getFirstName())
@@ -203,8 +209,8 @@ public class ActivityReadService implements GetActivityUseCase {
         String boardId = null;
         if (activity.getBoardId() != null) {
             boardId = activity.getBoardId().getId();
-            boardName = boardRepository.findBoardNameById(activity.getBoardId())
-                    .map(BoardNameDto::title)
+            boardName = boardNames.computeIfAbsent(activity.getBoardId(),
+                    id -> boardRepository.findBoardNameById(id).map(BoardNameDto::title))
                     .orElse(null);
         }
 
@@ -13,6 +13,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -36,18 +37,21 @@ public class ActivityValidator {
     private static final int MAX_PAGE_SIZE = 100; // 최대 페이지 크기
     private static final int MIN_PAGE_SIZE = 1; // 최소 페이지 크기
 
+    private final Lazy<Validator<CreateActivityCommand>> createValidator = Lazy.of(this::getCreateValidator);
+    private final Lazy<Validator<GetActivityQuery>> queryValidator = Lazy.of(this::getGetValidator);
+
     /**
      * 활동 생성 커맨드 검증
      */
     public ValidationResult<CreateActivityCommand> validateCreate(CreateActivityCommand command) {
-        return getCreateValidator().validate(command);
+        return createValidator.get().validate(command);
     }
 
     /**
      * 활동 조회 쿼리 검증
      */
     public ValidationResult<GetActivityQuery> validateGet(GetActivityQuery query) {
-        return getGetValidator().validate(query);
+        return queryValidator.get().validate(query);
     }
 
     /**
@@ -259,7 +263,8 @@ public class ActivityValidator {
                 type == ActivityType.CARD_ADD_ATTACHMENT ||
                 type == ActivityType.CARD_ADD_CHECKLIST ||
                 type == ActivityType.CARD_DUPLICATE ||
-                type == ActivityType.CARD_UPDATE_DESCRIPTION);
+                type == ActivityType.CARD_UPDATE_DESCRIPTION ||
+                type == ActivityType.CARD_DUE_REMINDER);
     }
 
     /**
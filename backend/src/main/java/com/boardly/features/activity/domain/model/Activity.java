@@ -58,11 +58,26 @@ public class Activity {
             BoardId boardId,
             ListId listId,
             CardId cardId) {
+        return create(type, actor, payload, boardName, boardId, listId, cardId, Instant.now());
+    }
+
+    /**
+     * 발생 시각을 지정해 활동을 생성합니다. (아웃박스 릴레이처럼 기록 시점과 발생 시점이 다른 경우)
+     */
+    public static Activity create(
+            ActivityType type,
+            Actor actor,
+            Payload payload,
+            String boardName,
+            BoardId boardId,
+            ListId listId,
+            CardId cardId,
+            Instant occurredAt) {
         return Activity.builder()
                 .id(new ActivityId())
                 .type(type)
                 .actor(actor)
-                .timestamp(Instant.now())
+                .timestamp(occurredAt)
                 .payload(payload)
                 .boardName(boardName)
                 .boardId(boardId)
@@ -20,6 +20,7 @@ public enum ActivityType {
     CARD_REMOVE_LABEL,
     CARD_DUPLICATE,
     CARD_UPDATE_DESCRIPTION,
+    CARD_DUE_REMINDER,
 
     // 리스트 관련
     LIST_CREATE,
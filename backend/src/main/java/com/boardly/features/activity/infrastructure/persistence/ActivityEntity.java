@@ -3,9 +3,6 @@ package com.boardly.features.activity.infrastructure.persistence;
 import java.time.Instant;
 import java.util.Map;
 
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
 import com.boardly.features.activity.domain.model.Activity;
 import com.boardly.features.activity.domain.model.ActivityId;
 import com.boardly.features.activity.domain.model.ActivityType;
@@ -14,22 +11,24 @@ import com.boardly.features.activity.domain.model.Payload;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "user_activity", indexes = {
@@ -42,21 +41,25 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
 public class ActivityEntity {
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "activity_id", nullable = false, length = 50)
     private String activityId; // 활동 ID
 
+    @Type(UlidIdType.class)
     @Column(name = "actor_id", nullable = false, length = 50)
     private String actorId; // 활동 생성자 ID
 
+    @Type(UlidIdType.class)
     @Column(name = "board_id", length = 50)
     private String boardId; // 보드 ID
 
+    @Type(UlidIdType.class)
     @Column(name = "list_id", length = 50)
     private String listId; // 리스트 ID
 
+    @Type(UlidIdType.class)
     @Column(name = "card_id", length = 50)
     private String cardId; // 카드 ID
 
@@ -76,9 +79,19 @@ public class ActivityEntity {
     @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
     private String payload;
 
-    @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
-    private Instant createdAt;
+    private Instant createdAt; // 활동 발생 시각 (도메인 timestamp)
+
+    /**
+     * 활동 발생 시각을 그대로 저장하고, 값이 없을 때만 저장 시각으로 채웁니다.
+     * 아웃박스로 늦게 기록되는 활동도 발생 시각 순서를 유지합니다.
+     */
+    @PrePersist
+    void defaultCreatedAt() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -20,6 +20,7 @@ import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.presentation.ApiFailureHandler;
 import com.boardly.shared.presentation.Path;
+import com.boardly.shared.presentation.SqlBudget;
 import com.boardly.shared.presentation.response.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,6 +60,7 @@ public class ActivityController {
     })
     @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
     @GetMapping("/boards/{boardId}")
+    @SqlBudget(15)
     public ResponseEntity<?> getBoardActivities(
             @Parameter(description = "조회할 보드 ID", required = true) @PathVariable String boardId,
             @Parameter(description = "페이지 번호 (0부터 시작, 기본값: 0)") @RequestParam(defaultValue = "0") int page,
@@ -95,6 +97,7 @@ public class ActivityController {
     })
     @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
     @GetMapping("/me")
+    @SqlBudget(15)
     public ResponseEntity<?> getMyActivities(
             @Parameter(description = "페이지 번호 (0부터 시작, 기본값: 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기 (기본값: 50, 최대: 100)") @RequestParam(defaultValue = "50") int size,
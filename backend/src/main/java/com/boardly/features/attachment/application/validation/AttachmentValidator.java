@@ -14,6 +14,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -54,13 +55,17 @@ public class AttachmentValidator {
             // 기타
             "application/json", "application/xml");
 
+    private final Lazy<Validator<UploadAttachmentCommand>> uploadValidator = Lazy.of(this::getUploadValidator);
+    private final Lazy<Validator<UpdateAttachmentCommand>> updateValidator = Lazy.of(this::getUpdateValidator);
+    private final Lazy<Validator<DeleteAttachmentCommand>> deleteValidator = Lazy.of(this::getDeleteValidator);
+
     // ==================== Upload Attachment Validation ====================
 
     /**
      * 첨부파일 업로드 커맨드 검증
      */
     public ValidationResult<UploadAttachmentCommand> validateUpload(UploadAttachmentCommand command) {
-        return getUploadValidator().validate(command);
+        return uploadValidator.get().validate(command);
     }
 
     /**
@@ -88,7 +93,7 @@ public class AttachmentValidator {
      * 첨부파일 수정 커맨드 검증
      */
     public ValidationResult<UpdateAttachmentCommand> validateUpdate(UpdateAttachmentCommand command) {
-        return getUpdateValidator().validate(command);
+        return updateValidator.get().validate(command);
     }
 
     /**
@@ -113,7 +118,7 @@ public class AttachmentValidator {
      * 첨부파일 삭제 커맨드 검증
      */
     public ValidationResult<DeleteAttachmentCommand> validateDelete(DeleteAttachmentCommand command) {
-        return getDeleteValidator().validate(command);
+        return deleteValidator.get().validate(command);
     }
 
     /**
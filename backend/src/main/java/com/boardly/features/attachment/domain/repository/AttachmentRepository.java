@@ -1,10 +1,12 @@
 package com.boardly.features.attachment.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.boardly.features.attachment.domain.model.Attachment;
 import com.boardly.features.attachment.domain.model.AttachmentId;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
@@ -46,6 +48,11 @@ public interface AttachmentRepository {
      */
     int countByCardId(CardId cardId);
 
+    /**
+     * 보드에 속한 카드별 첨부파일 수 조회 (첨부파일이 없는 카드는 포함하지 않음)
+     */
+    Map<CardId, Integer> countByBoardIdGroupByCardId(BoardId boardId);
+
     /**
      * 카드별 총 파일 크기 조회
      */
@@ -6,6 +6,7 @@ import com.boardly.features.attachment.domain.model.Attachment;
 import com.boardly.features.attachment.domain.model.AttachmentId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
+import org.hibernate.annotations.Type;
 
 /**
  * 첨부파일 JPA 엔티티
@@ -26,12 +28,15 @@ import jakarta.persistence.Version;
 public class AttachmentEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "attachment_id", nullable = false, length = 36)
     private String attachmentId;
 
+    @Type(UlidIdType.class)
     @Column(name = "card_id", nullable = false, length = 36)
     private String cardId;
 
+    @Type(UlidIdType.class)
     @Column(name = "uploader_id", nullable = false, length = 36)
     private String uploaderId;
 
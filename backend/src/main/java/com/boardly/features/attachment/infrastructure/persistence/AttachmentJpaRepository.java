@@ -22,6 +22,15 @@ public interface AttachmentJpaRepository extends JpaRepository<AttachmentEntity,
     @Query("SELECT COUNT(a) FROM AttachmentEntity a WHERE a.cardId = :cardId")
     int countByCardId(@Param("cardId") String cardId);
 
+    /**
+     * 보드에 속한 카드별 첨부파일 수 조회 ([cardId, count])
+     */
+    @Query("SELECT a.cardId, COUNT(a) FROM AttachmentEntity a "
+            + "JOIN CardEntity card ON card.cardId = a.cardId "
+            + "JOIN BoardListEntity l ON l.listId = card.listId "
+            + "WHERE l.boardId = :boardId GROUP BY a.cardId")
+    List<Object[]> countByBoardIdGroupByCardId(@Param("boardId") String boardId);
+
     /**
      * 업로더별 첨부파일 조회
      */
@@ -1,6 +1,8 @@
 package com.boardly.features.attachment.infrastructure.persistence;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
@@ -11,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import com.boardly.features.attachment.domain.repository.AttachmentRepository;
 import com.boardly.features.attachment.domain.model.Attachment;
 import com.boardly.features.attachment.domain.model.AttachmentId;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
@@ -104,6 +107,15 @@ public class AttachmentRepositoryImpl implements AttachmentRepository {
         return attachmentJpaRepository.countByCardId(cardId.getId());
     }
 
+    @Override
+    public Map<CardId, Integer> countByBoardIdGroupByCardId(BoardId boardId) {
+        Map<CardId, Integer> counts = new HashMap<>();
+        for (Object[] row : attachmentJpaRepository.countByBoardIdGroupByCardId(boardId.getId())) {
+            counts.put(new CardId((String) row[0]), ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
     @Override
     public long sumFileSizeByCardId(CardId cardId) {
         return attachmentJpaRepository.sumFileSizeByCardId(cardId.getId());
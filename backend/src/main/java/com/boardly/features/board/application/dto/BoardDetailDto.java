@@ -6,12 +6,14 @@ import java.util.Map;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardMember;
 import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.valueobject.CardMember;
 import com.boardly.features.label.domain.model.Label;
 import com.boardly.features.label.domain.model.LabelId;
 import com.boardly.features.user.domain.model.User;
+import com.boardly.features.user.domain.model.UserId;
 
 /**
  * 보드 상세 정보 DTO
@@ -19,6 +21,7 @@ import com.boardly.features.user.domain.model.User;
  * <p>
  * 보드의 상세 정보를 담는 Application Layer DTO입니다.
  * 컬럼, 카드, 멤버, 라벨 등의 모든 정보를 포함합니다.
+ * 카드와 사용자는 조회 결과의 그룹/색인을 복사하지 않고 그대로 담습니다.
  * 
  * @since 1.0.0
  */
@@ -27,12 +30,12 @@ public record BoardDetailDto(
         List<BoardList> columns,
         List<BoardMember> boardMembers,
         List<Label> labels,
-        List<Card> cards,
+        Map<ListId, List<Card>> cards,
         Map<CardId, List<CardMember>> cardMembers,
         Map<CardId, List<LabelId>> cardLabels,
         Map<CardId, Integer> cardCommentCounts,
         Map<CardId, Integer> cardAttachmentCounts,
-        List<User> users) {
+        Map<UserId, User> users) {
 
     /**
      * BoardDetailDto를 생성합니다.
@@ -41,20 +44,20 @@ public record BoardDetailDto(
      * @param columns              컬럼 목록
      * @param boardMembers         보드 멤버 목록
      * @param labels               라벨 목록
-     * @param cards                카드 목록
+     * @param cards                카드 목록 (리스트별로 그룹화)
      * @param cardMembers          카드 멤버 목록 (카드별로 그룹화)
      * @param cardLabels           카드 라벨 목록 (카드별로 그룹화)
      * @param cardCommentCounts    카드별 댓글 수
      * @param cardAttachmentCounts 카드별 첨부파일 수
-     * @param users                사용자 목록
+     * @param users                사용자 (ID로 색인)
      * @return BoardDetailDto 객체
      */
     public static BoardDetailDto of(Board board, List<BoardList> columns,
             List<BoardMember> boardMembers, List<Label> labels,
-            List<Card> cards, Map<CardId, List<CardMember>> cardMembers,
+            Map<ListId, List<Card>> cards, Map<CardId, List<CardMember>> cardMembers,
             Map<CardId, List<LabelId>> cardLabels,
             Map<CardId, Integer> cardCommentCounts, Map<CardId, Integer> cardAttachmentCounts,
-            List<User> users) {
+            Map<UserId, User> users) {
         return new BoardDetailDto(board, columns, boardMembers, labels, cards, cardMembers,
                 cardLabels, cardCommentCounts, cardAttachmentCounts, users);
     }
@@ -0,0 +1,218 @@
+package com.boardly.features.board.application.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.board.infrastructure.config.BoardDetailCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드 상세 응답 캐시
+ *
+ * <p>
+ * 직렬화와 gzip 압축까지 끝낸 응답 바이트를 (보드, 보드 버전, 조회자 역할) 단위로 보관합니다.
+ * 같은 보드를 여러 팀원이 열어도 보드 상세 조회와 직렬화는 보드가 바뀐 뒤 첫 요청에서만 일어납니다.
+ * </p>
+ *
+ * <p>
+ * 보드 버전은 보드 ID 해시로 고른 슬롯의 카운터입니다. 보드를 바꾸는 트랜잭션이 커밋되면 {@link #invalidate(BoardId)}가
+ * 슬롯 카운터를 올리고, 저장된 응답은 조회 시점의 버전과 다르면 쓰지 않습니다. 슬롯이 겹치는 다른 보드도 함께
+ * 무효화될 수 있지만 보드마다 카운터를 두지 않아 메모리가 보드 수에 비례해 늘지 않습니다.
+ * 조회를 시작하기 전에 {@link #version(BoardId)}로 받은 버전을 {@link #put}에 넘기므로,
+ * 조회 도중 커밋된 변경이 있으면 그 응답은 저장하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 버전과 무효화는 노드 안에서만 유지되므로 다른 노드의 변경은 보관 시간({@code ttlSeconds})이 지나야 반영됩니다.
+ * 그래서 기본값은 꺼져 있고, 애플리케이션 노드가 하나일 때만 켜야 합니다.
+ * 무효화는 보드 ID를 아는 애플리케이션 서비스가 호출합니다. 활동 로그를 남기는 변경은 {@code ActivityHelper}가 대신합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class BoardDetailCache {
+
+    static final String REQUESTS_METRIC = "boardly.board.detail_cache.requests";
+    static final String BYTES_METRIC = "boardly.board.detail_cache.bytes";
+
+    private static final int VERSION_SLOTS = 4096;
+
+    private final BoardDetailCacheProperties properties;
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLongArray slotVersions = new AtomicLongArray(VERSION_SLOTS);
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public BoardDetailCache(BoardDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = Counter.builder(REQUESTS_METRIC)
+                .description("보드 상세 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(REQUESTS_METRIC)
+                .description("보드 상세 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(BYTES_METRIC, cachedBytes, AtomicLong::get)
+                .description("보드 상세 응답 캐시가 보관 중인 압축 응답 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 현재 보드 버전을 반환합니다. 보드 상세를 조회하기 전에 받아 두었다가 {@link #put}에 넘깁니다.
+     */
+    public Version version(BoardId boardId) {
+        return new Version(epoch.get(), slotVersions.get(slot(boardId)));
+    }
+
+    /**
+     * 현재 보드 버전과 역할에 맞는 압축 응답을 조회합니다.
+     *
+     * @param role 조회자 역할 (소유자는 {@link BoardRole#OWNER})
+     */
+    public Optional<byte[]> find(BoardId boardId, BoardRole role) {
+        Snapshot snapshot = snapshots.get(key(boardId, role));
+        if (snapshot == null || !snapshot.version().equals(version(boardId)) || isExpired(snapshot)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(snapshot.gzippedJson());
+    }
+
+    /**
+     * 압축 응답을 저장합니다. 조회를 시작한 뒤 보드가 바뀌었거나 응답이 너무 크면 저장하지 않습니다.
+     *
+     * @param version 조회 전에 {@link #version(BoardId)}로 받은 버전
+     */
+    public void put(BoardId boardId, BoardRole role, Version version, byte[] gzippedJson) {
+        if (!version.equals(version(boardId))) {
+            log.debug("보드 상세 조회 중 보드가 바뀌어 캐시하지 않음: boardId={}", boardId.getId());
+            return;
+        }
+        // 응답 하나가 캐시 대부분을 차지하지 않도록 총 용량의 1/8을 넘는 응답은 보관하지 않습니다.
+        if (gzippedJson.length > properties.getMaxBytes() / 8) {
+            log.debug("보드 상세 응답이 커서 캐시하지 않음: boardId={}, bytes={}", boardId.getId(), gzippedJson.length);
+            return;
+        }
+
+        Snapshot snapshot = new Snapshot(version, System.nanoTime(), gzippedJson);
+        Snapshot previous = snapshots.put(key(boardId, role), snapshot);
+        cachedBytes.addAndGet(gzippedJson.length - (previous != null ? previous.gzippedJson().length : 0));
+        trimToSize();
+    }
+
+    /**
+     * 보드의 캐시된 응답을 무효화합니다. 트랜잭션 안에서는 커밋 이후에 무효화합니다.
+     */
+    public void invalidate(BoardId boardId) {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            slotVersions.incrementAndGet(slot(boardId));
+            remove(boardId.getId());
+        });
+    }
+
+    /**
+     * 모든 보드의 캐시된 응답을 무효화합니다 (여러 보드에 걸쳐 보이는 사용자 정보 변경 등).
+     * 트랜잭션 안에서는 커밋 이후에 무효화합니다.
+     */
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            epoch.incrementAndGet();
+            snapshots.keySet().forEach(this::removeKey);
+        });
+    }
+
+    long cachedBytes() {
+        return cachedBytes.get();
+    }
+
+    private boolean isExpired(Snapshot snapshot) {
+        return System.nanoTime() - snapshot.createdAtNanos() >= TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, Snapshot>> entries = snapshots.entrySet().iterator();
+        while (cachedBytes.get() > properties.getMaxBytes() && entries.hasNext()) {
+            Map.Entry<String, Snapshot> entry = entries.next();
+            if (snapshots.remove(entry.getKey(), entry.getValue())) {
+                cachedBytes.addAndGet(-entry.getValue().gzippedJson().length);
+            }
+        }
+    }
+
+    private void remove(String boardId) {
+        for (BoardRole role : BoardRole.values()) {
+            removeKey(boardId + ':' + role.name());
+        }
+    }
+
+    private void removeKey(String key) {
+        Snapshot removed = snapshots.remove(key);
+        if (removed != null) {
+            cachedBytes.addAndGet(-removed.gzippedJson().length);
+        }
+    }
+
+    /**
+     * 롤백된 트랜잭션은 보드를 바꾸지 않았으므로 무효화하지 않습니다.
+     */
+    private void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+            return;
+        }
+        invalidation.run();
+    }
+
+    private static int slot(BoardId boardId) {
+        int hash = boardId.getId().hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_SLOTS - 1);
+    }
+
+    private static String key(BoardId boardId, BoardRole role) {
+        return boardId.getId() + ':' + role.name();
+    }
+
+    /**
+     * 보드 버전 (전체 무효화 세대, 보드 슬롯 카운터)
+     */
+    public record Version(long epoch, long slot) {
+    }
+
+    private record Snapshot(Version version, long createdAtNanos, byte[] gzippedJson) {
+    }
+}
@@ -36,6 +36,7 @@ public class BoardInteractionService implements ToggleStarBoardUseCase {
     private final BoardRepository boardRepository;
     private final ValidationMessageResolver messageResolver;
     private final UserFinder userFinder;
+    private final BoardDetailCache boardDetailCache;
 
     // ==================== TOGGLE STAR BOARD ====================
 
@@ -148,6 +149,7 @@ public class BoardInteractionService implements ToggleStarBoardUseCase {
                         saveResult -> {
                             if (saveResult.isRight()) {
                                 Board savedBoard = saveResult.get();
+                                boardDetailCache.invalidate(savedBoard.getBoardId());
                                 log.info("보드 즐겨찾기 변경 완료: boardId={}, 최종상태={}",
                                         savedBoard.getBoardId().getId(), savedBoard.isStarred());
                                 return Either.right(savedBoard);
@@ -61,6 +61,7 @@ public class BoardManagementService implements
     private final UserFinder userFinder;
     private final ValidationMessageResolver validationMessageResolver;
     private final ActivityHelper activityHelper;
+    private final BoardRosterCache boardRosterCache;
 
     // ==================== CREATE BOARD ====================
 
@@ -443,6 +444,7 @@ public class BoardManagementService implements
                     boardId.getId(), result.getLeft().getMessage());
             return Either.left(result.getLeft());
         }
+        boardRosterCache.evict(boardId);
         log.debug("보드 엔티티 삭제 완료: boardId={}", boardId.getId());
         return Either.right(null);
     }
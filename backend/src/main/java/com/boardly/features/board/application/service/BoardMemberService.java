@@ -58,6 +58,7 @@ public class BoardMemberService implements
     private final UserRepository userRepository;
     private final BoardValidator boardValidator;
     private final ActivityHelper activityHelper;
+    private final BoardRosterCache boardRosterCache;
 
     // ==================== CACHE METHODS ====================
 
@@ -189,6 +190,7 @@ public class BoardMemberService implements
     private Either<Failure, BoardMember> saveBoardMember(BoardMember boardMember) {
         return boardMemberRepository.save(boardMember)
                 .peek(savedMember -> {
+                    boardRosterCache.memberSaved(savedMember);
                     log.info("보드 멤버 추가 완료: memberId={}, boardId={}, userId={}, role={}",
                             savedMember.getMemberId().getId(),
                             savedMember.getBoardId().getId(),
@@ -338,6 +340,7 @@ public class BoardMemberService implements
     private Either<Failure, Void> deleteBoardMember(BoardMember member) {
         return boardMemberRepository.delete(member.getMemberId())
                 .peek(deletedMember -> {
+                    boardRosterCache.memberRemoved(member.getBoardId(), member.getUserId());
                     log.info("보드 멤버 제거 완료: memberId={}, boardId={}, userId={}",
                             member.getMemberId().getId(),
                             member.getBoardId().getId(),
@@ -509,6 +512,7 @@ public class BoardMemberService implements
             UpdateBoardMemberRoleCommand command) {
         return boardMemberRepository.save(member)
                 .peek(savedMember -> {
+                    boardRosterCache.memberSaved(savedMember);
                     log.info("보드 멤버 역할 변경 완료: memberId={}, boardId={}, userId={}, oldRole={}, newRole={}",
                             savedMember.getMemberId().getId(),
                             savedMember.getBoardId().getId(),
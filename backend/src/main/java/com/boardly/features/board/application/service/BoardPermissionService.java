@@ -6,9 +6,8 @@ import org.springframework.stereotype.Service;
 
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.model.BoardMember;
 import com.boardly.features.board.domain.model.BoardRole;
-import com.boardly.features.board.domain.repository.BoardMemberRepository;
+import com.boardly.features.board.domain.model.BoardRoster.Membership;
 import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
@@ -27,7 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class BoardPermissionService {
 
     private final BoardRepository boardRepository;
-    private final BoardMemberRepository boardMemberRepository;
+    private final BoardRosterCache boardRosterCache;
     private final ValidationMessageResolver messageResolver;
 
     /**
@@ -53,22 +52,22 @@ public class BoardPermissionService {
             return Either.right(null); // 소유자는 null 반환 (기존 로직과 호환)
         }
 
-        // 3. 멤버인지 확인
-        Optional<BoardMember> memberOpt = boardMemberRepository.findByBoardIdAndUserId(boardId, userId);
-        if (memberOpt.isEmpty()) {
+        // 3. 멤버인지 확인 (보드 명단 캐시)
+        Optional<Membership> membershipOpt = boardRosterCache.findMembership(boardId, userId);
+        if (membershipOpt.isEmpty()) {
             log.warn("보드 멤버가 아님: boardId={}, userId={}", boardId.getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     messageResolver.getMessage("validation.board.access.denied")));
         }
 
-        BoardMember member = memberOpt.get();
-        if (!member.isActive()) {
+        Membership membership = membershipOpt.get();
+        if (!membership.active()) {
             log.warn("비활성화된 보드 멤버: boardId={}, userId={}", boardId.getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     messageResolver.getMessage("validation.board.member.inactive")));
         }
 
-        return Either.right(member.getRole());
+        return Either.right(membership.role());
     }
 
     /**
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -195,33 +194,25 @@ public class BoardQueryService implements GetUserBoardsUseCase, GetBoardDetailUs
 
     private Either<Failure, BoardDetailDto> createBoardDetailDto(BoardDetailData data, GetBoardDetailCommand command) {
         try {
-            // 카드별 댓글 수와 첨부파일 수 조회
-            List<CardId> cardIds = data.cards().values().stream()
-                    .flatMap(List::stream)
-                    .map(card -> card.getCardId())
-                    .collect(Collectors.toList());
-
-            Map<CardId, Integer> cardCommentCounts = cardIds.stream()
-                    .collect(Collectors.toMap(
-                            cardId -> cardId,
-                            cardId -> commentRepository.countByCardId(cardId)));
-
-            Map<CardId, Integer> cardAttachmentCounts = cardIds.stream()
-                    .collect(Collectors.toMap(
-                            cardId -> cardId,
-                            cardId -> attachmentRepository.countByCardId(cardId)));
-
+            // 카드별 댓글 수와 첨부파일 수는 카드 수와 관계없이 보드 단위 집계 쿼리 한 번씩으로 조회합니다.
+            // 댓글/첨부파일이 없는 카드는 맵에 없으며 응답에서 0으로 채웁니다.
+            Map<CardId, Integer> cardCommentCounts = commentRepository
+                    .countByBoardIdGroupByCardId(command.boardId());
+            Map<CardId, Integer> cardAttachmentCounts = attachmentRepository
+                    .countByBoardIdGroupByCardId(command.boardId());
+
+            // 카드 그룹과 사용자 색인은 응답 직렬화에서 그대로 순회하므로 복사하지 않습니다.
             BoardDetailDto boardDetailDto = BoardDetailDto.of(
                     data.board(),
                     data.boardLists(),
                     data.boardMembers(),
                     data.labels(),
-                    data.cards().values().stream().flatMap(List::stream).collect(Collectors.toList()),
+                    data.cards(),
                     data.cardMembers(),
                     data.cardLabels(),
                     cardCommentCounts,
                     cardAttachmentCounts,
-                    data.users().values().stream().collect(Collectors.toList()));
+                    data.users());
 
             log.info("보드 상세 조회 완료: boardId={}", command.boardId().getId());
             return Either.right(boardDetailDto);
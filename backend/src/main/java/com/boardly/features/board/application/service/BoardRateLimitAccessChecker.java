@@ -0,0 +1,29 @@
+package com.boardly.features.board.application.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.ratelimit.BoardAccessChecker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 한도의 보드 버킷 차감 대상 확인
+ * 보드 소유자와 활성 멤버만 보드 예산을 씁니다. 소유자와 멤버십 모두 보드 명단 캐시에서 확인해 요청마다 보드를 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardRateLimitAccessChecker implements BoardAccessChecker {
+
+    private final BoardRosterCache boardRosterCache;
+
+    @Override
+    public Optional<String> findRole(String boardId, String userId) {
+        return boardRosterCache.findActiveRole(new BoardId(boardId), new UserId(userId))
+                .map(BoardRole::name);
+    }
+}
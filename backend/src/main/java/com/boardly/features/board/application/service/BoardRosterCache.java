@@ -0,0 +1,242 @@
+package com.boardly.features.board.application.service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardMember;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.board.domain.model.BoardRoster;
+import com.boardly.features.board.domain.model.BoardRoster.Membership;
+import com.boardly.features.board.domain.repository.BoardMemberRepository;
+import com.boardly.features.board.domain.repository.BoardRepository;
+import com.boardly.features.board.infrastructure.config.BoardRosterProperties;
+import com.boardly.features.user.domain.model.UserId;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드별 멤버 명단 캐시
+ *
+ * <p>
+ * 보드 명단은 처음 조회될 때 한 번 적재하고, 이후에는 {@link BoardMemberService}가 멤버를 저장/삭제할 때
+ * 커밋 이후 변경분만 반영합니다. 권한 확인은 캐시된 {@link BoardRoster}의 해시 조회로 끝납니다.
+ * 소유자는 멤버 행이 없으므로 처음 역할을 물을 때 보드 소유자 ID를 따로 읽어 둡니다. 소유자는 바뀌지 않으므로 보관 시간이 없습니다.
+ * </p>
+ *
+ * <p>
+ * 다른 노드나 SQL 직접 변경으로 빠진 멤버는 이 노드의 명단에 반영되지 않으므로, 명단은 적재 후
+ * {@code boardly.board.roster.ttl-seconds}가 지나면 다시 적재합니다. 변경분 반영은 적재 시각을 늦추지 않아
+ * 멤버 변경이 잦은 보드도 보관 시간 안에 한 번은 멤버 행과 맞춰집니다.
+ * </p>
+ *
+ * <p>
+ * 메모리 상한:
+ * - 보관하는 보드 수(명단, 소유자 ID 각각)는 {@code boardly.board.roster.max-boards}를 넘지 않으며, 넘으면 해시 순서상 첫 보드를 제거합니다.
+ * - 멤버가 {@code max-members}보다 많은 보드는 명단 대신 표식만 남기고 멤버 행을 직접 조회합니다.
+ * </p>
+ *
+ * <p>
+ * 적재 중에 멤버 변경 트랜잭션이 끝나면 적재한 명단이 이미 낡았을 수 있으므로 캐시하지 않습니다.
+ * 끝난 변경 트랜잭션 수를 세는 카운터를 적재 전후로 비교하는 방식이라, 다른 보드의 변경이 겹쳐도 그 회차는 캐시를 건너뜁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardRosterCache {
+
+    /**
+     * 멤버 수 상한을 넘은 보드의 표식
+     */
+    private static final BoardRoster OVERSIZED = BoardRoster.of(new BoardId("oversized"), List.of());
+
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardRepository boardRepository;
+    private final BoardRosterProperties properties;
+
+    private final ConcurrentHashMap<String, CachedRoster> rosters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> ownerIds = new ConcurrentHashMap<>();
+    private final AtomicLong completedWrites = new AtomicLong();
+
+    /**
+     * 사용자의 보드 멤버십을 조회합니다. 멤버 행이 없으면 비어 있습니다.
+     */
+    public Optional<Membership> findMembership(BoardId boardId, UserId userId) {
+        if (!properties.isEnabled()) {
+            return findMembershipFromRepository(boardId, userId);
+        }
+        BoardRoster roster = cachedRoster(boardId).roster();
+        if (roster == OVERSIZED) {
+            return findMembershipFromRepository(boardId, userId);
+        }
+        return roster.find(userId);
+    }
+
+    /**
+     * 사용자의 활성 보드 역할을 조회합니다. 소유자는 {@link BoardRole#OWNER}이고,
+     * 보드가 없거나 멤버가 아니거나 비활성 멤버면 비어 있습니다.
+     */
+    public Optional<BoardRole> findActiveRole(BoardId boardId, UserId userId) {
+        if (userId.getId().equals(ownerId(boardId))) {
+            return Optional.of(BoardRole.OWNER);
+        }
+        return findMembership(boardId, userId)
+                .filter(Membership::active)
+                .map(Membership::role);
+    }
+
+    /**
+     * 멤버 추가/역할 변경/활성 여부 변경을 명단에 반영합니다. 트랜잭션 안에서는 커밋 이후에 반영합니다.
+     */
+    public void memberSaved(BoardMember member) {
+        onCompletion(member.getBoardId(), () -> rosters.computeIfPresent(member.getBoardId().getId(),
+                (boardId, cached) -> cached.roster() == OVERSIZED
+                        ? cached
+                        : cached.with(limit(cached.roster().with(member.getUserId(), member.getRole(),
+                                member.isActive())))));
+    }
+
+    /**
+     * 멤버 삭제를 명단에 반영합니다. 트랜잭션 안에서는 커밋 이후에 반영합니다.
+     */
+    public void memberRemoved(BoardId boardId, UserId userId) {
+        onCompletion(boardId, () -> rosters.computeIfPresent(boardId.getId(),
+                (id, cached) -> cached.roster() == OVERSIZED ? cached : cached.with(cached.roster().without(userId))));
+    }
+
+    /**
+     * 보드 명단과 소유자 ID를 캐시에서 제거합니다 (보드 삭제 등). 트랜잭션 안에서는 커밋 이후에 제거합니다.
+     */
+    public void evict(BoardId boardId) {
+        onCompletion(boardId, () -> {
+            rosters.remove(boardId.getId());
+            ownerIds.remove(boardId.getId());
+        });
+    }
+
+    int cachedBoardCount() {
+        return rosters.size();
+    }
+
+    private CachedRoster cachedRoster(BoardId boardId) {
+        CachedRoster cached = rosters.get(boardId.getId());
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        long writesBeforeLoad = completedWrites.get();
+        BoardRoster loaded = limit(BoardRoster.of(boardId, boardMemberRepository.findByBoardId(boardId)));
+
+        if (rosters.size() >= properties.getMaxBoards()) {
+            evictOne(rosters);
+        }
+        // 카운터 비교와 저장을 같은 compute 안에서 해야 커밋 반영(computeIfPresent)과 엇갈리지 않습니다.
+        CachedRoster cachedRoster = rosters.compute(boardId.getId(), (id, existing) -> {
+            if (existing != null && !isExpired(existing)) {
+                return existing;
+            }
+            return completedWrites.get() == writesBeforeLoad ? new CachedRoster(loaded, System.nanoTime()) : null;
+        });
+        if (cachedRoster == null) {
+            log.debug("명단 적재 중 멤버 변경이 끝나 캐시하지 않음: boardId={}", boardId.getId());
+            return new CachedRoster(loaded, System.nanoTime());
+        }
+        log.debug("보드 명단 적재: boardId={}, 멤버 수={}", boardId.getId(),
+                loaded == OVERSIZED ? "상한 초과" : loaded.size());
+        return cachedRoster;
+    }
+
+    private boolean isExpired(CachedRoster cached) {
+        return System.nanoTime() - cached.loadedAtNanos() >= TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+    }
+
+    private BoardRoster limit(BoardRoster roster) {
+        return roster.size() > properties.getMaxMembers() ? OVERSIZED : roster;
+    }
+
+    private static void evictOne(ConcurrentHashMap<String, ?> cache) {
+        Iterator<String> boardIds = cache.keySet().iterator();
+        if (boardIds.hasNext()) {
+            boardIds.next();
+            boardIds.remove();
+        }
+    }
+
+    /**
+     * 보드 소유자 ID (보드가 없으면 null). 없는 보드는 캐시하지 않습니다.
+     */
+    private String ownerId(BoardId boardId) {
+        if (!properties.isEnabled()) {
+            return findOwnerIdFromRepository(boardId);
+        }
+        String cached = ownerIds.get(boardId.getId());
+        if (cached != null) {
+            return cached;
+        }
+        String ownerId = findOwnerIdFromRepository(boardId);
+        if (ownerId != null) {
+            if (ownerIds.size() >= properties.getMaxBoards()) {
+                evictOne(ownerIds);
+            }
+            ownerIds.put(boardId.getId(), ownerId);
+        }
+        return ownerId;
+    }
+
+    private String findOwnerIdFromRepository(BoardId boardId) {
+        return boardRepository.findById(boardId)
+                .map(Board::getOwnerId)
+                .map(UserId::getId)
+                .orElse(null);
+    }
+
+    private Optional<Membership> findMembershipFromRepository(BoardId boardId, UserId userId) {
+        return boardMemberRepository.findByBoardIdAndUserId(boardId, userId)
+                .map(member -> new Membership(member.getRole(), member.isActive()));
+    }
+
+    /**
+     * 멤버 변경 트랜잭션이 끝나면 카운터를 먼저 올린 뒤 명단을 고칩니다.
+     * 순서가 바뀌면 커밋 전 상태를 읽은 적재가 카운터 비교를 통과해 낡은 명단을 캐시할 수 있습니다.
+     * 롤백되면 같은 트랜잭션 안에서 커밋되지 않은 멤버 행으로 적재했을 수 있으므로 보드 명단을 버립니다.
+     */
+    private void onCompletion(BoardId boardId, Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    completedWrites.incrementAndGet();
+                    if (status == STATUS_COMMITTED) {
+                        change.run();
+                    } else {
+                        rosters.remove(boardId.getId());
+                    }
+                }
+            });
+            return;
+        }
+        completedWrites.incrementAndGet();
+        change.run();
+    }
+
+    /**
+     * 캐시된 명단과 멤버 행에서 적재한 시각 (변경분을 반영해도 적재 시각은 그대로 둡니다)
+     */
+    private record CachedRoster(BoardRoster roster, long loadedAtNanos) {
+
+        CachedRoster with(BoardRoster updated) {
+            return new CachedRoster(updated, loadedAtNanos);
+        }
+    }
+}
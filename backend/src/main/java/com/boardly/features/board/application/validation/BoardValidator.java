@@ -15,6 +15,7 @@ import com.boardly.shared.application.validation.CommonValidationRules;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -31,45 +32,57 @@ public class BoardValidator {
 
     private final CommonValidationRules commonValidationRules;
 
+    private final Lazy<Validator<CreateBoardCommand>> createValidator = Lazy.of(this::getCreateValidator);
+    private final Lazy<Validator<UpdateBoardCommand>> updateValidator = Lazy.of(this::getUpdateValidator);
+    private final Lazy<Validator<DeleteBoardCommand>> deleteValidator = Lazy.of(this::getDeleteValidator);
+    private final Lazy<Validator<ArchiveBoardCommand>> archiveValidator = Lazy.of(this::getArchiveValidator);
+    private final Lazy<Validator<GetBoardDetailCommand>> getDetailValidator = Lazy.of(this::getGetDetailValidator);
+    private final Lazy<Validator<ToggleStarBoardCommand>> toggleStarValidator = Lazy.of(this::getToggleStarValidator);
+    private final Lazy<Validator<AddBoardMemberCommand>> addMemberValidator = Lazy.of(this::getAddMemberValidator);
+    private final Lazy<Validator<RemoveBoardMemberCommand>> removeMemberValidator =
+            Lazy.of(this::getRemoveMemberValidator);
+    private final Lazy<Validator<UpdateBoardMemberRoleCommand>> updateMemberRoleValidator =
+            Lazy.of(this::getUpdateMemberRoleValidator);
+
     public ValidationResult<CreateBoardCommand> validateCreate(CreateBoardCommand command) {
-        return getCreateValidator().validate(command);
+        return createValidator.get().validate(command);
     }
 
     public ValidationResult<UpdateBoardCommand> validateUpdate(UpdateBoardCommand command) {
-        return getUpdateValidator().validate(command);
+        return updateValidator.get().validate(command);
     }
 
     public ValidationResult<DeleteBoardCommand> validateDelete(DeleteBoardCommand command) {
-        return getDeleteValidator().validate(command);
+        return deleteValidator.get().validate(command);
     }
 
     public ValidationResult<ArchiveBoardCommand> validateArchive(ArchiveBoardCommand command) {
-        return getArchiveValidator().validate(command);
+        return archiveValidator.get().validate(command);
     }
 
     public ValidationResult<GetBoardDetailCommand> validateGetDetail(GetBoardDetailCommand command) {
-        return getGetDetailValidator().validate(command);
+        return getDetailValidator.get().validate(command);
     }
 
     // ==================== TOGGLE STAR BOARD ====================
 
     public ValidationResult<ToggleStarBoardCommand> validateToggleStar(ToggleStarBoardCommand command) {
-        return getToggleStarValidator().validate(command);
+        return toggleStarValidator.get().validate(command);
     }
 
     // ==================== BOARD MEMBER MANAGEMENT ====================
 
     public ValidationResult<AddBoardMemberCommand> validateAddMember(AddBoardMemberCommand command) {
-        return getAddMemberValidator().validate(command);
+        return addMemberValidator.get().validate(command);
     }
 
     public ValidationResult<RemoveBoardMemberCommand> validateRemoveMember(RemoveBoardMemberCommand command) {
-        return getRemoveMemberValidator().validate(command);
+        return removeMemberValidator.get().validate(command);
     }
 
     public ValidationResult<UpdateBoardMemberRoleCommand> validateUpdateMemberRole(
             UpdateBoardMemberRoleCommand command) {
-        return getUpdateMemberRoleValidator().validate(command);
+        return updateMemberRoleValidator.get().validate(command);
     }
 
     private Validator<CreateBoardCommand> getCreateValidator() {
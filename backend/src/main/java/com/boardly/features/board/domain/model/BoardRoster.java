@@ -0,0 +1,182 @@
+package com.boardly.features.board.domain.model;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 보드 하나의 멤버십 스냅샷 (사용자 → 역할, 활성 여부)
+ *
+ * <p>
+ * 권한 확인마다 멤버 행을 읽지 않도록 보드 단위로 캐시되는 불변 객체입니다.
+ * 멤버가 수천 명인 보드도 작게 유지되도록 {@code HashMap} 대신 사용자 ID 배열과
+ * 상태 바이트 배열로 된 개방 주소법 해시 테이블을 사용합니다.
+ * 멤버 한 명당 슬롯 참조 두 칸과 상태 1바이트 정도만 차지하며, 사용자 ID 문자열은 로딩한 엔티티의 것을 그대로 공유합니다.
+ * </p>
+ *
+ * <p>
+ * 상태 바이트는 하위 비트에 {@code 역할 ordinal + 1}, 최상위 비트에 활성 여부를 담습니다.
+ * 변경은 {@link #with}/{@link #without}으로 새 스냅샷을 만들어 반영합니다.
+ * </p>
+ */
+public final class BoardRoster {
+
+    private static final int ACTIVE_BIT = 0x80;
+    private static final Membership[] MEMBERSHIPS = memberships();
+
+    private final BoardId boardId;
+    private final String[] userIds;
+    private final byte[] states;
+    private final int size;
+    private final int activeCount;
+
+    private BoardRoster(BoardId boardId, String[] userIds, byte[] states, int size) {
+        this.boardId = boardId;
+        this.userIds = userIds;
+        this.states = states;
+        this.size = size;
+        int active = 0;
+        for (int i = 0; i < userIds.length; i++) {
+            if (userIds[i] != null && (states[i] & ACTIVE_BIT) != 0) {
+                active++;
+            }
+        }
+        this.activeCount = active;
+    }
+
+    /**
+     * 보드 멤버 목록(비활성 멤버 포함)으로 스냅샷을 만듭니다.
+     */
+    public static BoardRoster of(BoardId boardId, Collection<BoardMember> members) {
+        String[] userIds = new String[capacityFor(members.size())];
+        byte[] states = new byte[userIds.length];
+        int size = 0;
+        for (BoardMember member : members) {
+            if (insert(userIds, states, member.getUserId().getId(), encode(member.getRole(), member.isActive()))) {
+                size++;
+            }
+        }
+        return new BoardRoster(boardId, userIds, states, size);
+    }
+
+    public BoardId boardId() {
+        return boardId;
+    }
+
+    /**
+     * 사용자의 멤버십을 조회합니다. 멤버 행이 없으면 비어 있습니다.
+     */
+    public Optional<Membership> find(UserId userId) {
+        int slot = slotOf(userIds, userId.getId());
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(MEMBERSHIPS[states[slot] & 0xFF]);
+    }
+
+    /**
+     * 멤버를 추가하거나 역할/활성 여부를 바꾼 새 스냅샷을 반환합니다.
+     */
+    public BoardRoster with(UserId userId, BoardRole role, boolean active) {
+        boolean exists = slotOf(userIds, userId.getId()) >= 0;
+        int newSize = exists ? size : size + 1;
+        String[] newUserIds = new String[Math.max(userIds.length, capacityFor(newSize))];
+        byte[] newStates = new byte[newUserIds.length];
+        copyInto(newUserIds, newStates, null);
+        insert(newUserIds, newStates, userId.getId(), encode(role, active));
+        return new BoardRoster(boardId, newUserIds, newStates, newSize);
+    }
+
+    /**
+     * 멤버를 제거한 새 스냅샷을 반환합니다. 없는 멤버라면 자기 자신을 반환합니다.
+     */
+    public BoardRoster without(UserId userId) {
+        if (slotOf(userIds, userId.getId()) < 0) {
+            return this;
+        }
+        String[] newUserIds = new String[capacityFor(size - 1)];
+        byte[] newStates = new byte[newUserIds.length];
+        copyInto(newUserIds, newStates, userId.getId());
+        return new BoardRoster(boardId, newUserIds, newStates, size - 1);
+    }
+
+    /**
+     * 비활성 멤버를 포함한 멤버 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public int activeCount() {
+        return activeCount;
+    }
+
+    private void copyInto(String[] targetUserIds, byte[] targetStates, String excludedUserId) {
+        for (int i = 0; i < userIds.length; i++) {
+            if (userIds[i] != null && !userIds[i].equals(excludedUserId)) {
+                insert(targetUserIds, targetStates, userIds[i], states[i]);
+            }
+        }
+    }
+
+    /**
+     * @return 새 슬롯을 차지했으면 true, 기존 사용자의 상태를 덮어썼으면 false
+     */
+    private static boolean insert(String[] userIds, byte[] states, String userId, byte state) {
+        int mask = userIds.length - 1;
+        int slot = spread(userId.hashCode()) & mask;
+        while (userIds[slot] != null) {
+            if (userIds[slot].equals(userId)) {
+                states[slot] = state;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        userIds[slot] = userId;
+        states[slot] = state;
+        return true;
+    }
+
+    private static int slotOf(String[] userIds, String userId) {
+        int mask = userIds.length - 1;
+        int slot = spread(userId.hashCode()) & mask;
+        while (userIds[slot] != null) {
+            if (userIds[slot].equals(userId)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 부하율 0.5 이하를 유지하는 2의 거듭제곱 크기 (빈 슬롯이 항상 남아 탐색이 끝나도록 최소 2)
+     */
+    private static int capacityFor(int size) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+    }
+
+    private static byte encode(BoardRole role, boolean active) {
+        return (byte) ((role.ordinal() + 1) | (active ? ACTIVE_BIT : 0));
+    }
+
+    private static Membership[] memberships() {
+        Membership[] memberships = new Membership[256];
+        for (BoardRole role : BoardRole.values()) {
+            memberships[encode(role, false) & 0xFF] = new Membership(role, false);
+            memberships[encode(role, true) & 0xFF] = new Membership(role, true);
+        }
+        return memberships;
+    }
+
+    /**
+     * 한 사용자의 멤버십. 역할 × 활성 여부 조합마다 인스턴스 하나를 공유합니다.
+     */
+    public record Membership(BoardRole role, boolean active) {
+    }
+}
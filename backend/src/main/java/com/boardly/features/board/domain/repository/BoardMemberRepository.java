@@ -36,6 +36,11 @@ public interface BoardMemberRepository {
      */
     List<BoardMember> findActiveByBoardId(BoardId boardId);
 
+    /**
+     * 보드 ID로 비활성 멤버를 포함한 모든 멤버를 조회합니다.
+     */
+    List<BoardMember> findByBoardId(BoardId boardId);
+
     /**
      * 사용자 ID로 해당 사용자가 멤버로 있는 모든 보드 멤버를 조회합니다.
      */
@@ -0,0 +1,30 @@
+package com.boardly.features.board.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 보드 상세 응답 캐시 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.board.detail-cache")
+public class BoardDetailCacheProperties {
+
+    /**
+     * 응답 캐시 사용 여부 (무효화가 노드 안에서만 전파되므로 단일 노드에서만 켭니다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐시에 보관할 압축 응답의 총 바이트 수 (초과 시 임의의 응답을 제거)
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * 캐시한 응답의 최대 보관 시간(초) (무효화 누락에 대비한 안전장치)
+     */
+    private long ttlSeconds = 300;
+}
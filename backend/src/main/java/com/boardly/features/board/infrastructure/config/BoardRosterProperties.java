@@ -0,0 +1,35 @@
+package com.boardly.features.board.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 보드 멤버 명단 캐시 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.board.roster")
+public class BoardRosterProperties {
+
+    /**
+     * 명단 캐시 사용 여부 (끄면 권한 확인마다 멤버 행을 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 보드 수 (초과 시 임의의 보드 명단을 제거)
+     */
+    private int maxBoards = 10_000;
+
+    /**
+     * 캐시할 보드의 최대 멤버 수 (비활성 멤버 포함, 초과하는 보드는 멤버 행을 직접 조회)
+     */
+    private int maxMembers = 5_000;
+
+    /**
+     * 명단을 적재한 뒤 멤버 행에서 다시 적재하기까지의 시간(초) (다른 노드나 SQL로 빠진 멤버의 권한이 남는 최대 시간)
+     */
+    private long ttlSeconds = 30;
+}
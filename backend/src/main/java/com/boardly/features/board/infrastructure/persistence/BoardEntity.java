@@ -8,16 +8,22 @@ import lombok.NoArgsConstructor;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import java.time.Instant;
+import java.util.Objects;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 @Entity
+@DynamicUpdate
 @Table(name = "boards")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "board_id", nullable = false)
     private String boardId;
 
@@ -30,12 +36,20 @@ public class BoardEntity {
     @Column(name = "is_archived", nullable = false)
     private boolean isArchived;
 
+    @Type(UlidIdType.class)
     @Column(name = "owner_id", nullable = false)
     private String ownerId;
 
     @Column(name = "is_starred", nullable = false)
     private boolean isStarred;
 
+    /**
+     * 보드의 리스트 수 (리스트 저장/삭제 시 BoardListRepositoryImpl이 증감)
+     * 엔티티 저장으로는 덮어쓰지 않도록 읽기 전용으로 매핑합니다.
+     */
+    @Column(name = "list_count", nullable = false, insertable = false, updatable = false)
+    private int listCount;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -95,8 +109,16 @@ public class BoardEntity {
 
     /**
      * 도메인 객체의 변경사항을 반영
+     * 바뀐 컬럼만 UPDATE 되며, 바뀐 값이 없으면 수정 시간도 그대로 두어 UPDATE가 나가지 않습니다.
      */
     public void updateFromDomainEntity(Board board) {
+        if (Objects.equals(title, board.getTitle())
+                && Objects.equals(description, board.getDescription())
+                && isArchived == board.isArchived()
+                && Objects.equals(ownerId, board.getOwnerId().getId())
+                && isStarred == board.isStarred()) {
+            return;
+        }
         this.title = board.getTitle();
         this.description = board.getDescription();
         this.isArchived = board.isArchived();
@@ -10,9 +10,11 @@ import com.boardly.features.board.domain.model.BoardMemberId;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.model.BoardRole;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import java.time.Instant;
 import java.util.Objects;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "board_members")
@@ -21,12 +23,15 @@ import java.util.Objects;
 public class BoardMemberEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "member_id", nullable = false)
     private String memberId;
 
+    @Type(UlidIdType.class)
     @Column(name = "board_id", nullable = false)
     private String boardId;
 
+    @Type(UlidIdType.class)
     @Column(name = "user_id", nullable = false)
     private String userId;
 
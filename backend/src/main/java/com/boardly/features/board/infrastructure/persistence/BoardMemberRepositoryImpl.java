@@ -59,6 +59,15 @@ public class BoardMemberRepositoryImpl implements BoardMemberRepository {
                 .toList();
     }
 
+    @Override
+    public List<BoardMember> findByBoardId(BoardId boardId) {
+        log.debug("findByBoardId: boardId={}", boardId.getId());
+        return boardMemberJpaRepository.findByBoardId(boardId.getId())
+                .stream()
+                .map(BoardMemberEntity::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public List<BoardMember> findByUserId(UserId userId) {
         log.debug("findByUserId: userId={}", userId.getId());
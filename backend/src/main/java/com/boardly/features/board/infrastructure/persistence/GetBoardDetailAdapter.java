@@ -1,7 +1,9 @@
 package com.boardly.features.board.infrastructure.persistence;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -21,9 +23,9 @@ import com.boardly.features.card.domain.repository.CardLabelRepository;
 import com.boardly.features.card.domain.repository.CardMemberRepository;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.card.domain.valueobject.CardMember;
+import com.boardly.features.label.application.service.LabelCatalogFinder;
 import com.boardly.features.label.domain.model.Label;
 import com.boardly.features.label.domain.model.LabelId;
-import com.boardly.features.label.domain.repository.LabelRepository;
 import com.boardly.features.user.application.service.UserFinder;
 import com.boardly.features.user.domain.model.User;
 import com.boardly.features.user.domain.model.UserId;
@@ -49,7 +51,7 @@ public class GetBoardDetailAdapter implements GetBoardDetailPort {
     private final BoardRepository boardRepository;
     private final BoardListRepository boardListRepository;
     private final BoardMemberRepository boardMemberRepository;
-    private final LabelRepository labelRepository;
+    private final LabelCatalogFinder labelCatalogFinder;
     private final CardRepository cardRepository;
     private final CardMemberRepository cardMemberRepository;
     private final CardLabelRepository cardLabelRepository;
@@ -72,20 +74,20 @@ public class GetBoardDetailAdapter implements GetBoardDetailPort {
             // 3. 보드 멤버 조회
             List<BoardMember> boardMembers = boardMemberRepository.findActiveByBoardId(boardId);
 
-            // 4. 라벨 조회
-            List<Label> labels = labelRepository.findByBoardIdOrderByName(boardId);
+            // 4. 라벨 조회 (보드별 카탈로그 캐시)
+            List<Label> labels = labelCatalogFinder.findByBoardId(boardId).labels();
 
             // 5. 카드 조회 (리스트별로 그룹화)
             Map<ListId, List<Card>> cards = loadCardsByList(boardLists);
 
             // 6. 카드 멤버 조회 (카드별로 그룹화)
-            Map<CardId, List<CardMember>> cardMembers = loadCardMembers(cards);
+            Map<CardId, List<CardMember>> cardMembers = loadCardMembers(boardId, cards);
 
             // 7. 카드 라벨 조회 (카드별로 그룹화)
-            Map<CardId, List<LabelId>> cardLabels = loadCardLabels(cards);
+            Map<CardId, List<LabelId>> cardLabels = loadCardLabels(boardId, cards);
 
             // 8. 사용자 조회 (카드 담당자, 생성자 등)
-            Map<UserId, User> users = loadUsers(boardMembers, cards, cardMembers);
+            Map<UserId, User> users = loadUsers(boardMembers, cardMembers);
 
             BoardDetailData data = new BoardDetailData(
                     board, boardLists, boardMembers, labels, cards, cardMembers, cardLabels, users);
@@ -120,99 +122,60 @@ public class GetBoardDetailAdapter implements GetBoardDetailPort {
 
     /**
      * 카드별 멤버를 로드합니다.
+     * 카드 수와 관계없이 보드 단위 조회 한 번으로 읽고, 담당자가 없는 카드는 빈 목록으로 채웁니다.
      */
-    private Map<CardId, List<CardMember>> loadCardMembers(Map<ListId, List<Card>> cards) {
+    private Map<CardId, List<CardMember>> loadCardMembers(BoardId boardId, Map<ListId, List<Card>> cards) {
         if (cards.isEmpty()) {
             return Map.of();
         }
 
-        // 모든 카드 ID 수집
-        List<CardId> cardIds = cards.values().stream()
+        Map<CardId, List<CardMember>> boardCardMembers = cardMemberRepository.findByBoardIdGroupByCardId(boardId);
+        return cards.values().stream()
                 .flatMap(List::stream)
                 .map(Card::getCardId)
-                .collect(Collectors.toList());
-
-        if (cardIds.isEmpty()) {
-            return Map.of();
-        }
-
-        // 카드별 멤버 조회
-        Map<CardId, List<CardMember>> cardMembers = cardIds.stream()
                 .collect(Collectors.toMap(
                         cardId -> cardId,
-                        cardId -> cardMemberRepository.findByCardIdOrderByAssignedAt(cardId)));
-
-        return cardMembers;
+                        cardId -> boardCardMembers.getOrDefault(cardId, List.of()),
+                        (first, second) -> first));
     }
 
     /**
      * 카드별 라벨을 로드합니다.
+     * 카드 수와 관계없이 보드 단위 조회 한 번으로 읽고, 라벨이 없는 카드는 빈 목록으로 채웁니다.
      */
-    private Map<CardId, List<LabelId>> loadCardLabels(Map<ListId, List<Card>> cards) {
+    private Map<CardId, List<LabelId>> loadCardLabels(BoardId boardId, Map<ListId, List<Card>> cards) {
         if (cards.isEmpty()) {
             return Map.of();
         }
 
-        // 모든 카드 ID 수집
-        List<CardId> cardIds = cards.values().stream()
+        Map<CardId, List<LabelId>> boardCardLabels = cardLabelRepository.findLabelIdsByBoardIdGroupByCardId(boardId);
+        return cards.values().stream()
                 .flatMap(List::stream)
                 .map(Card::getCardId)
-                .collect(Collectors.toList());
-
-        if (cardIds.isEmpty()) {
-            return Map.of();
-        }
-
-        // 카드별 라벨 조회
-        Map<CardId, List<LabelId>> cardLabels = cardIds.stream()
                 .collect(Collectors.toMap(
                         cardId -> cardId,
-                        cardId -> cardLabelRepository.findLabelIdsByCardId(cardId)));
-
-        return cardLabels;
+                        cardId -> boardCardLabels.getOrDefault(cardId, List.of()),
+                        (first, second) -> first));
     }
 
     /**
      * 필요한 사용자들을 로드합니다.
      */
-    private Map<UserId, User> loadUsers(List<BoardMember> boardMembers,
-            Map<ListId, List<Card>> cards, Map<CardId, List<CardMember>> cardMembers) {
-
-        // 보드 멤버들의 사용자 ID 수집
-        List<UserId> userIds = boardMembers.stream()
-                .map(BoardMember::getUserId)
-                .collect(Collectors.toList());
-
-        // 카드 담당자들의 사용자 ID 수집
-        List<UserId> cardMemberUserIds = cardMembers.values().stream()
-                .flatMap(List::stream)
-                .map(CardMember::getUserId)
-                .collect(Collectors.toList());
-
-        // 모든 사용자 ID 합치기
-        userIds.addAll(cardMemberUserIds);
-
-        // 중복 제거
-        userIds = userIds.stream().distinct().collect(Collectors.toList());
-
-        // 사용자 조회 (개별 조회)
-        Map<UserId, User> users = userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        userId -> {
-                            try {
-                                return userFinder.findUserOrThrow(userId);
-                            } catch (Exception e) {
-                                log.warn("사용자를 찾을 수 없음: userId={}", userId.getId());
-                                return null;
-                            }
-                        }));
-
-        // null 값 제거
-        users = users.entrySet().stream()
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
+    private Map<UserId, User> loadUsers(List<BoardMember> boardMembers, Map<CardId, List<CardMember>> cardMembers) {
+
+        // 보드 멤버와 카드 담당자의 사용자 ID 수집 (중복 제거)
+        Set<UserId> userIds = new LinkedHashSet<>();
+        boardMembers.forEach(boardMember -> userIds.add(boardMember.getUserId()));
+        cardMembers.values().forEach(members -> members.forEach(member -> userIds.add(member.getUserId())));
+
+        // 사용자 조회 (IN 조회 한 번, 없는 사용자는 빠짐)
+        Map<UserId, User> users = userFinder.findUsersByIds(userIds);
+        if (users.size() < userIds.size()) {
+            log.warn("사용자를 찾을 수 없음: userIds={}", userIds.stream()
+                    .filter(userId -> !users.containsKey(userId))
+                    .map(UserId::getId)
+                    .toList());
+        }
         return users;
     }
-}
\ No newline at end of file
+}
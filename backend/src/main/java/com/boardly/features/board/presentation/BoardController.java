@@ -2,7 +2,9 @@ package com.boardly.features.board.presentation;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,21 +30,29 @@ import com.boardly.features.board.application.port.input.GetUserBoardsCommand;
 import com.boardly.features.board.application.port.input.RemoveBoardMemberCommand;
 import com.boardly.features.board.application.port.input.ToggleStarBoardCommand;
 import com.boardly.features.board.application.port.input.UpdateBoardCommand;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardInteractionService;
 import com.boardly.features.board.application.service.BoardManagementService;
 import com.boardly.features.board.application.service.BoardMemberService;
+import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.application.service.BoardQueryService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardRole;
 import com.boardly.features.board.presentation.request.CreateBoardRequest;
 import com.boardly.features.board.presentation.request.UpdateBoardRequest;
 import com.boardly.features.board.presentation.response.BoardDetailResponse;
 import com.boardly.features.board.presentation.response.BoardResponse;
+import com.boardly.features.board.presentation.response.StreamingBoardDetailResponse;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.presentation.ApiFailureHandler;
+import com.boardly.shared.presentation.GzipJsonResponse;
 import com.boardly.shared.presentation.Path;
+import com.boardly.shared.presentation.RateLimit;
+import com.boardly.shared.presentation.SqlBudget;
 import com.boardly.shared.presentation.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -72,6 +82,9 @@ public class BoardController {
     private final BoardQueryService boardQueryService;
     private final BoardInteractionService boardInteractionService;
     private final ApiFailureHandler failureHandler;
+    private final BoardPermissionService boardPermissionService;
+    private final BoardDetailCache boardDetailCache;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "내 보드 목록 조회", description = "현재 사용자가 소유한 보드 목록을 조회합니다. 쿼리 파라미터로 아카이브된 보드 포함 여부를 설정할 수 있습니다.", tags = {
             TAGS }, security = @SecurityRequirement(name = "oauth2", scopes = { "read", "openid" }))
@@ -114,10 +127,13 @@ public class BoardController {
             @ApiResponse(responseCode = "200", description = "보드 상세 조회 성공", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = BoardDetailResponse.class))),
             @ApiResponse(responseCode = "403", description = "보드 접근 권한 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "보드를 찾을 수 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
     @GetMapping("/{boardId}")
+    @SqlBudget(20)
+    @RateLimit("board-detail")
     public ResponseEntity<?> getBoardDetail(
             @Parameter(description = "조회할 보드 ID", required = true) @PathVariable String boardId,
             HttpServletRequest httpRequest,
@@ -130,6 +146,17 @@ public class BoardController {
                 new BoardId(boardId),
                 new UserId(userId));
 
+        // 멤버가 아니거나 보드가 없으면 캐시를 거치지 않고 기존 조회 흐름을 따릅니다
+        BoardRole viewerRole = boardDetailCache.isEnabled() ? viewerRoleOf(httpRequest, command) : null;
+        if (viewerRole != null) {
+            Optional<byte[]> cached = boardDetailCache.find(command.boardId(), viewerRole);
+            if (cached.isPresent()) {
+                log.info("보드 상세 조회 성공 (캐시): boardId={}, userId={}", boardId, userId);
+                return GzipJsonResponse.ok(cached.get(), httpRequest);
+            }
+        }
+        BoardDetailCache.Version version = boardDetailCache.version(command.boardId());
+
         Either<Failure, BoardDetailDto> result = boardQueryService.getBoardDetail(command);
 
         return result.fold(
@@ -138,11 +165,34 @@ public class BoardController {
                     log.info("보드 상세 조회 성공: boardId={}, userId={}, boardTitle={}",
                             boardId, userId, boardDetailDto.board().getTitle());
 
-                    BoardDetailResponse response = BoardDetailResponse.from(boardDetailDto);
-                    return ResponseEntity.ok(response);
+                    // 응답 트리를 만들지 않고 직렬화 시점에 조회 결과를 바로 씁니다 (형식은 BoardDetailResponse와 동일)
+                    StreamingBoardDetailResponse response = StreamingBoardDetailResponse.from(boardDetailDto);
+                    if (viewerRole == null) {
+                        return ResponseEntity.ok(response);
+                    }
+                    try {
+                        byte[] gzippedJson = GzipJsonResponse.compress(objectMapper, response);
+                        boardDetailCache.put(command.boardId(), viewerRole, version, gzippedJson);
+                        return GzipJsonResponse.ok(gzippedJson, httpRequest);
+                    } catch (IOException e) {
+                        log.warn("보드 상세 응답 압축 실패, 캐시 없이 응답: boardId={}", boardId, e);
+                        return ResponseEntity.ok(response);
+                    }
                 });
     }
 
+    /**
+     * 요청 한도 확인에서 이미 찾은 역할을 쓰고, 보드 예산을 확인하지 않은 요청만 다시 조회합니다.
+     */
+    private BoardRole viewerRoleOf(HttpServletRequest httpRequest, GetBoardDetailCommand command) {
+        if (httpRequest.getAttribute(RateLimit.BOARD_ROLE_ATTRIBUTE) instanceof String role) {
+            return BoardRole.valueOf(role);
+        }
+        return boardPermissionService.getUserBoardRole(command.boardId(), command.userId())
+                .map(role -> role != null ? role : BoardRole.OWNER)
+                .getOrNull();
+    }
+
     @Operation(summary = "보드 생성", description = "새로운 보드를 생성합니다.", tags = {
             TAGS }, security = @SecurityRequirement(name = "oauth2", scopes = { "write", "openid" }))
     @ApiResponses(value = {
@@ -46,13 +46,8 @@ public record BoardDetailResponse(
      * @return BoardDetailResponse 객체
      */
     public static BoardDetailResponse from(BoardDetailDto boardDetailDto) {
-        // 사용자 맵 생성 (ID로 빠른 조회를 위해)
-        Map<String, User> userMap = boardDetailDto
-            .users()
-            .stream()
-            .collect(
-                Collectors.toMap(user -> user.getUserId().getId(), user -> user)
-            );
+        // 사용자 색인 (ID로 빠른 조회를 위해)
+        Map<UserId, User> userMap = boardDetailDto.users();
 
         // 라벨 맵 생성 (ID로 빠른 조회를 위해)
         Map<String, Label> labelMap = boardDetailDto
@@ -71,13 +66,11 @@ public record BoardDetailResponse(
             .stream()
             .sorted((a, b) -> Integer.compare(a.getPosition(), b.getPosition()))
             .map(boardList -> {
-                // 해당 리스트의 카드들 필터링
+                // 해당 리스트의 카드들 정렬
                 List<Card> listCards = boardDetailDto
                     .cards()
+                    .getOrDefault(boardList.getListId(), List.of())
                     .stream()
-                    .filter(card ->
-                        card.getListId().equals(boardList.getListId())
-                    )
                     .sorted((a, b) ->
                         Integer.compare(a.getPosition(), b.getPosition())
                     )
@@ -107,7 +100,7 @@ public record BoardDetailResponse(
             .boardMembers()
             .stream()
             .map(boardMember -> {
-                User user = userMap.get(boardMember.getUserId().getId());
+                User user = userMap.get(boardMember.getUserId());
                 return BoardMemberResponse.from(boardMember, user);
             })
             .collect(Collectors.toList());
@@ -138,7 +131,7 @@ public record BoardDetailResponse(
      */
     private static BoardCardResponse convertToBoardCardResponse(
         com.boardly.features.card.domain.model.Card card,
-        Map<String, User> userMap,
+        Map<UserId, User> userMap,
         Map<String, Label> labelMap,
         Map<CardId, List<CardMember>> cardMembers,
         Map<CardId, List<LabelId>> cardLabels,
@@ -174,7 +167,7 @@ public record BoardDetailResponse(
             .getOrDefault(card.getCardId(), List.of())
             .stream()
             .map(cardMember -> {
-                User user = userMap.get(cardMember.getUserId().getId());
+                User user = userMap.get(cardMember.getUserId());
                 if (user != null) {
                     return CardAssigneeResponse.of(
                         user.getUserId().getId(),
@@ -208,7 +201,7 @@ public record BoardDetailResponse(
     /**
      * 보드 ID를 기반으로 색상을 생성합니다.
      */
-    private static String generateBoardColor(String boardId) {
+    static String generateBoardColor(String boardId) {
         String[] colors = {
             "bg-blue-600",
             "bg-green-600",
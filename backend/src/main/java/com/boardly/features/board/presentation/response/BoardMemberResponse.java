@@ -56,7 +56,7 @@ public record BoardMemberResponse(
     /**
      * 역할에 따른 권한 목록을 반환합니다.
      */
-    private static List<String> getPermissions(com.boardly.features.board.domain.model.BoardRole role) {
+    static List<String> getPermissions(com.boardly.features.board.domain.model.BoardRole role) {
         return switch (role) {
             case OWNER -> List.of("all");
             case ADMIN -> List.of("edit", "delete", "invite");
@@ -0,0 +1,207 @@
+package com.boardly.features.board.presentation.response;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.boardly.features.board.application.dto.BoardDetailDto;
+import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.domain.model.BoardMember;
+import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.valueobject.CardMember;
+import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelId;
+import com.boardly.features.user.domain.model.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * 보드 상세 조회 스트리밍 응답
+ *
+ * <p>
+ * {@link BoardDetailResponse}와 같은 JSON을 만들지만, 응답 객체 트리를 먼저 조립하지 않고
+ * 조회 결과({@link BoardDetailDto})를 순회하며 {@link JsonGenerator}로 바로 씁니다.
+ * 응답 트리가 없어질 뿐 조회 결과는 보드 전체 분량이 메모리에 있고, 직렬화 중 할당도 카드 수에 비례합니다.
+ * 보드 상세 캐시가 켜져 있으면 출력은 압축 버퍼에 모두 담긴 뒤 전송됩니다.
+ * 필드 순서와 형식은 {@link BoardDetailResponse} 레코드 정의를 따르며, 바꿀 때는 두 곳을 함께 고쳐야 합니다.
+ * </p>
+ */
+@JsonSerialize(using = StreamingBoardDetailResponse.Serializer.class)
+public record StreamingBoardDetailResponse(BoardDetailDto boardDetail) {
+
+    private static final Comparator<BoardList> COLUMN_ORDER = Comparator.comparingInt(BoardList::getPosition);
+    private static final Comparator<Card> CARD_ORDER = Comparator.comparingInt(Card::getPosition);
+
+    public static StreamingBoardDetailResponse from(BoardDetailDto boardDetailDto) {
+        return new StreamingBoardDetailResponse(boardDetailDto);
+    }
+
+    static class Serializer extends StdSerializer<StreamingBoardDetailResponse> {
+
+        Serializer() {
+            super(StreamingBoardDetailResponse.class);
+        }
+
+        @Override
+        public void serialize(StreamingBoardDetailResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            BoardDetailDto detail = value.boardDetail();
+            Board board = detail.board();
+            String boardId = board.getBoardId().getId();
+
+            Map<LabelId, Label> labels = new HashMap<>();
+            for (Label label : detail.labels()) {
+                labels.put(label.getLabelId(), label);
+            }
+
+            gen.writeStartObject();
+            gen.writeStringField("boardId", boardId);
+            gen.writeStringField("boardName", board.getTitle());
+            gen.writeStringField("boardDescription", board.getDescription());
+            gen.writeBooleanField("isStarred", board.isStarred());
+            gen.writeStringField("boardColor", BoardDetailResponse.generateBoardColor(boardId));
+
+            gen.writeArrayFieldStart("columns");
+            for (BoardList column : sorted(detail.columns(), COLUMN_ORDER)) {
+                writeColumn(gen, detail, column, labels);
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("boardMembers");
+            for (BoardMember member : detail.boardMembers()) {
+                writeMember(gen, member, detail.users().get(member.getUserId()));
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("labels");
+            for (Label label : detail.labels()) {
+                gen.writeStartObject();
+                gen.writeStringField("id", label.getLabelId().getId());
+                gen.writeStringField("name", label.getName());
+                gen.writeStringField("color", label.getColor());
+                gen.writeStringField("description", "");
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            writeInstantField(gen, "createdAt", board.getCreatedAt());
+            writeInstantField(gen, "updatedAt", board.getUpdatedAt());
+            gen.writeEndObject();
+        }
+
+        private void writeColumn(JsonGenerator gen, BoardDetailDto detail, BoardList column,
+                Map<LabelId, Label> labels) throws IOException {
+            List<Card> cards = sorted(detail.cards().getOrDefault(column.getListId(), List.of()), CARD_ORDER);
+
+            gen.writeStartObject();
+            gen.writeStringField("columnId", column.getListId().getId());
+            gen.writeStringField("columnName", column.getTitle());
+            gen.writeStringField("columnColor", column.getColor().color());
+            gen.writeNumberField("position", column.getPosition());
+            gen.writeNumberField("cardCount", cards.size());
+            gen.writeArrayFieldStart("cards");
+            for (Card card : cards) {
+                writeCard(gen, detail, card, labels);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private void writeCard(JsonGenerator gen, BoardDetailDto detail, Card card,
+                Map<LabelId, Label> labels) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("cardId", card.getCardId().getId());
+            gen.writeStringField("title", card.getTitle());
+            gen.writeStringField("description", card.getDescription());
+            gen.writeNumberField("position", card.getPosition());
+            gen.writeStringField("priority", card.getPriority() != null ? card.getPriority().getValue() : null);
+            gen.writeBooleanField("isCompleted", card.isCompleted());
+            gen.writeBooleanField("isArchived", card.isArchived());
+            writeInstantField(gen, "dueDate", card.getDueDate());
+            writeInstantField(gen, "startDate", card.getStartDate());
+
+            gen.writeArrayFieldStart("labels");
+            for (LabelId labelId : detail.cardLabels().getOrDefault(card.getCardId(), List.of())) {
+                Label label = labels.get(labelId);
+                gen.writeStartObject();
+                gen.writeStringField("id", labelId.getId());
+                gen.writeStringField("name", label != null ? label.getName() : "Unknown Label");
+                gen.writeStringField("color", label != null ? label.getColor() : "#000000");
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("assignees");
+            for (CardMember cardMember : detail.cardMembers().getOrDefault(card.getCardId(), List.of())) {
+                User user = detail.users().get(cardMember.getUserId());
+                if (user == null) {
+                    continue;
+                }
+                gen.writeStartObject();
+                gen.writeStringField("userId", user.getUserId().getId());
+                gen.writeStringField("firstName", user.getUserProfile().firstName());
+                gen.writeStringField("lastName", user.getUserProfile().lastName());
+                gen.writeStringField("email", user.getEmail());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            gen.writeNumberField("attachmentCount", detail.cardAttachmentCounts().getOrDefault(card.getCardId(), 0));
+            gen.writeNumberField("commentCount", detail.cardCommentCounts().getOrDefault(card.getCardId(), 0));
+            writeInstantField(gen, "lastCommentAt", null);
+            writeInstantField(gen, "createdAt", card.getCreatedAt());
+            writeInstantField(gen, "updatedAt", card.getUpdatedAt());
+            gen.writeEndObject();
+        }
+
+        private void writeMember(JsonGenerator gen, BoardMember member, User user) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("userId", member.getUserId().getId());
+            gen.writeStringField("firstName", user.getUserProfile().firstName());
+            gen.writeStringField("lastName", user.getUserProfile().lastName());
+            gen.writeStringField("email", user.getEmail());
+            gen.writeStringField("role", member.getRole().name().toLowerCase());
+            gen.writeArrayFieldStart("permissions");
+            for (String permission : BoardMemberResponse.getPermissions(member.getRole())) {
+                gen.writeString(permission);
+            }
+            gen.writeEndArray();
+            writeInstantField(gen, "joinedAt", member.getCreatedAt());
+            writeInstantField(gen, "lastActiveAt", member.getUpdatedAt());
+            gen.writeBooleanField("isActive", member.isActive());
+            gen.writeEndObject();
+        }
+
+        /**
+         * {@code @JsonFormat(shape = STRING)}이 붙은 {@link Instant}와 같은 ISO-8601 문자열로 씁니다.
+         */
+        private void writeInstantField(JsonGenerator gen, String name, Instant value) throws IOException {
+            if (value == null) {
+                gen.writeNullField(name);
+                return;
+            }
+            gen.writeStringField(name, value.toString());
+        }
+
+        /**
+         * 조회 결과가 이미 정렬되어 있으면 그대로 쓰고, 아닐 때만 복사해서 정렬합니다.
+         */
+        private static <T> List<T> sorted(List<T> items, Comparator<T> order) {
+            for (int i = 1; i < items.size(); i++) {
+                if (order.compare(items.get(i - 1), items.get(i)) > 0) {
+                    List<T> copy = new ArrayList<>(items);
+                    copy.sort(order);
+                    return copy;
+                }
+            }
+            return items;
+        }
+    }
+}
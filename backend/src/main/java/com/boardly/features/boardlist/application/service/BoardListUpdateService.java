@@ -12,12 +12,14 @@ import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.policy.BoardListMovePolicy;
 import com.boardly.features.boardlist.domain.policy.BoardListPolicyConfig;
 import com.boardly.features.boardlist.domain.repository.BoardListRepository;
+import com.boardly.shared.application.concurrency.RetryOnConflict;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.application.validation.ValidationResult;
 
 import io.vavr.control.Either;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -174,6 +176,7 @@ public class BoardListUpdateService implements UpdateBoardListUseCase, UpdateBoa
     // ==================== Position Update Methods ====================
 
     @Override
+    @RetryOnConflict
     public Either<Failure, List<BoardList>> updateBoardListPosition(UpdateBoardListPositionCommand command) {
         log.info("BoardListUpdateService.updateBoardListPosition() called with command: {}", command);
 
@@ -271,6 +274,9 @@ public class BoardListUpdateService implements UpdateBoardListUseCase, UpdateBoa
                     command.listId().getId(), currentPosition, command.newPosition(), savedLists.size());
             return Either.right(savedLists);
 
+        } catch (OptimisticLockingFailureException e) {
+            // 버전 충돌은 트랜잭션을 롤백하고 다시 실행하도록 그대로 던집니다
+            throw e;
         } catch (Exception e) {
             log.error("보드 리스트 위치 변경 중 예외 발생: listId={}, error={}",
                     command.listId().getId(), e.getMessage(), e);
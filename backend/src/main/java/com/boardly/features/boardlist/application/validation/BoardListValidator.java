@@ -10,6 +10,7 @@ import com.boardly.shared.application.validation.CommonValidationRules;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -27,13 +28,24 @@ public class BoardListValidator {
     private static final int DESCRIPTION_MAX_LENGTH = 500;
     private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
 
+    private final Lazy<Validator<CreateBoardListCommand>> createBoardListValidator =
+            Lazy.of(this::getCreateBoardListValidator);
+    private final Lazy<Validator<DeleteBoardListCommand>> deleteBoardListValidator =
+            Lazy.of(this::getDeleteBoardListValidator);
+    private final Lazy<Validator<GetBoardListsCommand>> getBoardListsValidator =
+            Lazy.of(this::getGetBoardListsValidator);
+    private final Lazy<Validator<UpdateBoardListCommand>> updateBoardListValidator =
+            Lazy.of(this::getUpdateBoardListValidator);
+    private final Lazy<Validator<UpdateBoardListPositionCommand>> updateBoardListPositionValidator =
+            Lazy.of(this::getUpdateBoardListPositionValidator);
+
     // ==================== Create BoardList Validation ====================
 
     /**
      * 보드 리스트 생성 검증
      */
     public ValidationResult<CreateBoardListCommand> validateCreateBoardList(CreateBoardListCommand command) {
-        return getCreateBoardListValidator().validate(command);
+        return createBoardListValidator.get().validate(command);
     }
 
     /**
@@ -58,7 +70,7 @@ public class BoardListValidator {
      * 보드 리스트 삭제 검증
      */
     public ValidationResult<DeleteBoardListCommand> validateDeleteBoardList(DeleteBoardListCommand command) {
-        return getDeleteBoardListValidator().validate(command);
+        return deleteBoardListValidator.get().validate(command);
     }
 
     private Validator<DeleteBoardListCommand> getDeleteBoardListValidator() {
@@ -73,7 +85,7 @@ public class BoardListValidator {
      * 보드 리스트 조회 검증
      */
     public ValidationResult<GetBoardListsCommand> validateGetBoardLists(GetBoardListsCommand command) {
-        return getGetBoardListsValidator().validate(command);
+        return getBoardListsValidator.get().validate(command);
     }
 
     private Validator<GetBoardListsCommand> getGetBoardListsValidator() {
@@ -88,7 +100,7 @@ public class BoardListValidator {
      * 보드 리스트 수정 검증
      */
     public ValidationResult<UpdateBoardListCommand> validateUpdateBoardList(UpdateBoardListCommand command) {
-        return getUpdateBoardListValidator().validate(command);
+        return updateBoardListValidator.get().validate(command);
     }
 
     private Validator<UpdateBoardListCommand> getUpdateBoardListValidator() {
@@ -108,7 +120,7 @@ public class BoardListValidator {
      */
     public ValidationResult<UpdateBoardListPositionCommand> validateUpdateBoardListPosition(
             UpdateBoardListPositionCommand command) {
-        return getUpdateBoardListPositionValidator().validate(command);
+        return updateBoardListPositionValidator.get().validate(command);
     }
 
     private Validator<UpdateBoardListPositionCommand> getUpdateBoardListPositionValidator() {
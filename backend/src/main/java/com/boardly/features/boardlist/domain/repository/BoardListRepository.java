@@ -5,6 +5,7 @@ import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BoardListRepository {
@@ -63,12 +64,21 @@ public interface BoardListRepository {
 
   /**
    * 보드 ID로 해당 보드의 리스트 개수를 조회합니다.
+   * 리스트 저장/삭제 시 함께 갱신되는 보드의 리스트 수 카운터를 읽습니다.
    * 
    * @param boardId 보드 ID
    * @return 리스트 개수
    */
   Long countByBoardId(BoardId boardId);
 
+  /**
+   * 여러 보드의 리스트 개수를 한 번에 조회합니다.
+   * 
+   * @param boardIds 보드 ID 목록
+   * @return 보드 ID별 리스트 개수
+   */
+  Map<BoardId, Long> countByBoardIds(List<BoardId> boardIds);
+
   /**
    * 보드 내에서 가장 높은 position 값을 조회합니다.
    * 새 리스트 추가 시 position 계산에 사용됩니다.
@@ -8,16 +8,22 @@ import lombok.NoArgsConstructor;
 import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import java.time.Instant;
+import java.util.Objects;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 @Entity
+@DynamicUpdate
 @Table(name = "board_lists")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardListEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "list_id", nullable = false)
     private String listId;
 
@@ -33,9 +39,17 @@ public class BoardListEntity {
     @Column(name = "color", nullable = false, length = 7)
     private String color;
 
+    @Type(UlidIdType.class)
     @Column(name = "board_id", nullable = false)
     private String boardId;
 
+    /**
+     * 리스트의 카드 수 (카드 저장/삭제 시 CardRepositoryImpl이 증감)
+     * 엔티티 저장으로는 덮어쓰지 않도록 읽기 전용으로 매핑합니다.
+     */
+    @Column(name = "card_count", nullable = false, insertable = false, updatable = false)
+    private int cardCount;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -94,12 +108,20 @@ public class BoardListEntity {
 
     /**
      * 도메인 객체의 변경사항을 반영
+     * 바뀐 컬럼만 UPDATE 되며, 바뀐 값이 없으면 수정 시간도 그대로 두어 UPDATE가 나가지 않습니다.
      */
     public void updateFromDomainEntity(BoardList boardList) {
+        String newColor = boardList.getColor().color();
+        if (Objects.equals(title, boardList.getTitle())
+                && Objects.equals(description, boardList.getDescription())
+                && position == boardList.getPosition()
+                && Objects.equals(color, newColor)) {
+            return;
+        }
         this.title = boardList.getTitle();
         this.description = boardList.getDescription();
         this.position = boardList.getPosition();
-        this.color = boardList.getColor().color();
+        this.color = newColor;
         this.updatedAt = Instant.now();
     }
 
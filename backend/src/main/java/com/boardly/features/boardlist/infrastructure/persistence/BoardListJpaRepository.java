@@ -1,6 +1,7 @@
 package com.boardly.features.boardlist.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,9 +33,36 @@ public interface BoardListJpaRepository extends JpaRepository<BoardListEntity, S
   List<BoardListEntity> findByBoardIdAndPositionBetween(String boardId, int startPosition, int endPosition);
 
   /**
-   * 보드 ID로 리스트 개수를 조회합니다.
+   * 리스트가 속한 보드 ID를 조회합니다 (카운터 증감 대상 확인용).
    */
-  Long countByBoardId(String boardId);
+  @Query("SELECT bl.boardId FROM BoardListEntity bl WHERE bl.listId = :listId")
+  Optional<String> findBoardIdByListId(@Param("listId") String listId);
+
+  /**
+   * 보드의 리스트 수 카운터를 조회합니다.
+   */
+  @Query("SELECT b.listCount FROM BoardEntity b WHERE b.boardId = :boardId")
+  Optional<Integer> findListCountByBoardId(@Param("boardId") String boardId);
+
+  /**
+   * 여러 보드의 리스트 수 카운터를 조회합니다 ([boardId, listCount]).
+   */
+  @Query("SELECT b.boardId, b.listCount FROM BoardEntity b WHERE b.boardId IN :boardIds")
+  List<Object[]> findListCountsByBoardIds(@Param("boardIds") List<String> boardIds);
+
+  /**
+   * 보드의 리스트 수 카운터를 증감합니다.
+   */
+  @Modifying
+  @Query("UPDATE BoardEntity b SET b.listCount = b.listCount + :delta WHERE b.boardId = :boardId")
+  int adjustListCount(@Param("boardId") String boardId, @Param("delta") int delta);
+
+  /**
+   * 보드의 리스트 수 카운터를 초기화합니다 (보드의 모든 리스트 삭제 시).
+   */
+  @Modifying
+  @Query("UPDATE BoardEntity b SET b.listCount = 0 WHERE b.boardId = :boardId")
+  int resetListCount(@Param("boardId") String boardId);
 
   /**
    * 보드 내에서 가장 높은 position 값을 조회합니다.
@@ -9,7 +9,9 @@ import org.springframework.stereotype.Repository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -25,8 +27,9 @@ public class BoardListRepositoryImpl implements BoardListRepository {
     log.debug("리스트 저장 시작: listId={}, title={}",
         boardList.getListId().getId(), boardList.getTitle());
 
-    var entity = boardListMapper.toEntity(boardList);
-    var savedEntity = boardListJpaRepository.save(entity);
+    Map<String, Integer> newListCounts = new HashMap<>();
+    var savedEntity = saveEntity(boardList, newListCounts);
+    newListCounts.forEach(boardListJpaRepository::adjustListCount);
 
     return boardListMapper.toDomain(savedEntity);
   }
@@ -124,10 +127,11 @@ public class BoardListRepositoryImpl implements BoardListRepository {
   public List<BoardList> saveAll(List<BoardList> boardLists) {
     log.debug("리스트 목록 저장 시작: 리스트 개수={}", boardLists.size());
 
-    var entities = boardLists.stream()
-        .map(boardListMapper::toEntity)
+    Map<String, Integer> newListCounts = new HashMap<>();
+    var savedEntities = boardLists.stream()
+        .map(boardList -> saveEntity(boardList, newListCounts))
         .toList();
-    var savedEntities = boardListJpaRepository.saveAll(entities);
+    newListCounts.forEach(boardListJpaRepository::adjustListCount);
     var savedBoardLists = savedEntities.stream()
         .map(boardListMapper::toDomain)
         .toList();
@@ -138,11 +142,25 @@ public class BoardListRepositoryImpl implements BoardListRepository {
   @Override
   public Long countByBoardId(BoardId boardId) {
     log.debug("보드 ID로 리스트 개수 조회 시작: boardId={}", boardId.getId());
-    var count = boardListJpaRepository.countByBoardId(boardId.getId());
+    var count = boardListJpaRepository.findListCountByBoardId(boardId.getId()).orElse(0).longValue();
     log.debug("보드 ID로 리스트 개수 조회 완료: boardId={}, 개수={}", boardId.getId(), count);
     return count;
   }
 
+  @Override
+  public Map<BoardId, Long> countByBoardIds(List<BoardId> boardIds) {
+    if (boardIds.isEmpty()) {
+      return Map.of();
+    }
+    var ids = boardIds.stream().map(BoardId::getId).toList();
+    Map<BoardId, Long> counts = new HashMap<>();
+    for (Object[] row : boardListJpaRepository.findListCountsByBoardIds(ids)) {
+      counts.put(new BoardId((String) row[0]), ((Number) row[1]).longValue());
+    }
+    log.debug("보드별 리스트 개수 조회 완료: 보드 개수={}", counts.size());
+    return counts;
+  }
+
   @Override
   public Optional<Integer> findMaxPositionByBoardId(BoardId boardId) {
     log.debug("보드 ID로 가장 높은 위치 조회 시작: boardId={}", boardId.getId());
@@ -154,14 +172,20 @@ public class BoardListRepositoryImpl implements BoardListRepository {
   @Override
   public void deleteById(ListId listId) {
     log.debug("리스트 삭제 시작: listId={}", listId.getId());
-    boardListJpaRepository.deleteById(listId.getId());
+    boardListJpaRepository.findBoardIdByListId(listId.getId()).ifPresent(boardId -> {
+      boardListJpaRepository.deleteById(listId.getId());
+      boardListJpaRepository.adjustListCount(boardId, -1);
+    });
     log.debug("리스트 삭제 완료: listId={}", listId.getId());
   }
 
   @Override
   public void delete(BoardList boardList) {
     log.debug("리스트 삭제 시작: listId={}", boardList.getListId().getId());
-    boardListJpaRepository.delete(boardListMapper.toEntity(boardList));
+    boardListJpaRepository.findBoardIdByListId(boardList.getListId().getId()).ifPresent(boardId -> {
+      boardListJpaRepository.delete(boardListMapper.toEntity(boardList));
+      boardListJpaRepository.adjustListCount(boardId, -1);
+    });
     log.debug("리스트 삭제 완료: listId={}", boardList.getListId().getId());
   }
 
@@ -169,6 +193,23 @@ public class BoardListRepositoryImpl implements BoardListRepository {
   public void deleteByBoardId(BoardId boardId) {
     log.debug("보드 ID로 리스트 삭제 시작: boardId={}", boardId.getId());
     boardListJpaRepository.deleteByBoardId(boardId.getId());
+    boardListJpaRepository.resetListCount(boardId.getId());
     log.debug("보드 ID로 리스트 삭제 완료: boardId={}", boardId.getId());
   }
+
+  /**
+   * 기존 리스트는 영속 엔티티에 바뀐 값만 반영하고(같은 트랜잭션에서 조회했다면 SELECT 없이),
+   * 새 리스트만 INSERT 하면서 보드별 새 리스트 수를 모읍니다.
+   */
+  private BoardListEntity saveEntity(BoardList boardList, Map<String, Integer> newListCounts) {
+    var existing = boardListJpaRepository.findById(boardList.getListId().getId());
+    if (existing.isPresent()) {
+      var entity = existing.get();
+      entity.updateFromDomainEntity(boardList);
+      return entity;
+    }
+    var savedEntity = boardListJpaRepository.save(boardListMapper.toEntity(boardList));
+    newListCounts.merge(savedEntity.getBoardId(), 1, Integer::sum);
+    return savedEntity;
+  }
 }
@@ -0,0 +1,41 @@
+package com.boardly.features.card.application.port.input;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 할당된 카드 목록 필터
+ */
+public enum AssignedCardFilter {
+    /** 보관되지 않은 모든 카드 */
+    ALL("all"),
+    /** 완료되지 않은 카드 */
+    INCOMPLETE("incomplete"),
+    /** 마감일이 지났고 완료되지 않은 카드 */
+    OVERDUE("overdue"),
+    /** 지금부터 7일 안에 마감이고 완료되지 않은 카드 */
+    DUE_THIS_WEEK("due-this-week");
+
+    private final String value;
+
+    AssignedCardFilter(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 요청 값으로 필터 찾기 (비어 있으면 {@link #ALL})
+     */
+    public static Optional<AssignedCardFilter> fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(ALL);
+        }
+        String normalized = value.trim().toLowerCase();
+        return Arrays.stream(values())
+                .filter(filter -> filter.value.equals(normalized))
+                .findFirst();
+    }
+}
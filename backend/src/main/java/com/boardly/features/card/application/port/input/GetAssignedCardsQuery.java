@@ -0,0 +1,18 @@
+package com.boardly.features.card.application.port.input;
+
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 할당된 카드 목록 조회 쿼리
+ *
+ * @param userId 조회하는 사용자 (담당자)
+ * @param filter 필터 값 ({@link AssignedCardFilter}, 비어 있으면 전체)
+ * @param cursor 이전 페이지 응답의 {@code nextCursor} (첫 페이지면 null)
+ * @param size   페이지 크기 (null이면 기본값)
+ */
+public record GetAssignedCardsQuery(
+        UserId userId,
+        String filter,
+        String cursor,
+        Integer size) {
+}
@@ -0,0 +1,29 @@
+package com.boardly.features.card.application.port.output;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.boardly.features.card.application.port.input.AssignedCardFilter;
+import com.boardly.features.card.domain.model.AssignedCard;
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 할당된 카드 목록 조회 포트
+ */
+public interface AssignedCardQueryPort {
+
+    /**
+     * 키셋 위치: 이 (할당 시각, 담당 관계 ID) 다음부터 읽습니다.
+     */
+    record Cursor(Instant assignedAt, long assignmentId) {
+    }
+
+    /**
+     * 사용자가 소유하거나 활성 멤버인 보드에서, 보관되지 않은 담당 카드를 (할당 시각, 담당 관계 ID) 역순으로 조회
+     *
+     * @param now   마감 관련 필터의 기준 시각
+     * @param after 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     */
+    List<AssignedCard> findAssignedCards(UserId userId, AssignedCardFilter filter, Instant now, Cursor after,
+            int limit);
+}
@@ -0,0 +1,29 @@
+package com.boardly.features.card.application.port.output;
+
+import java.util.Optional;
+
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.CardAncestry;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
+
+/**
+ * 카드/리스트 계층 정보 조회 포트
+ *
+ * <p>
+ * 쓰기 경로에서 보드 ID, 소유자, 아카이브 여부, 제목만 필요할 때 사용합니다.
+ * 권한 판단에 쓰이므로 캐시하지 않고 매번 조회합니다.
+ * </p>
+ */
+public interface CardAncestryPort {
+
+    /**
+     * 카드 ID로 카드 → 리스트 → 보드 계층 조회
+     */
+    Optional<CardAncestry> findByCardId(CardId cardId);
+
+    /**
+     * 리스트 ID로 리스트 → 보드 계층 조회
+     */
+    Optional<ListAncestry> findByListId(ListId listId);
+}
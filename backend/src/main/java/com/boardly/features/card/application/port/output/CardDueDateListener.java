@@ -0,0 +1,21 @@
+package com.boardly.features.card.application.port.output;
+
+import java.time.Instant;
+
+import com.boardly.features.card.domain.model.CardId;
+
+/**
+ * 카드 마감일 변경 통지 포트
+ *
+ * <p>
+ * 마감 알림 스케줄러가 다음 재적재를 기다리지 않고 바뀐 마감일로 다시 예약하도록 알립니다.
+ * 트랜잭션 안에서 호출되며, 구현체는 커밋 후에 반영합니다.
+ * </p>
+ */
+public interface CardDueDateListener {
+
+    /**
+     * @param dueDate 새 마감일 (삭제되었으면 null)
+     */
+    void dueDateChanged(CardId cardId, Instant dueDate);
+}
@@ -0,0 +1,42 @@
+package com.boardly.features.card.application.port.output;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import com.boardly.features.card.domain.model.CardId;
+
+/**
+ * 카드 마감 알림 포트
+ *
+ * <p>
+ * 알림 대상 카드를 마감일 인덱스 범위로 나눠 읽고, 알림 발송을 카드별로 한 번만 기록합니다.
+ * </p>
+ */
+public interface CardDueReminderPort {
+
+    /**
+     * 알림 대상 카드
+     */
+    record DueCard(CardId cardId, Instant dueDate) {
+    }
+
+    /**
+     * 아직 알림을 보내지 않은 미완료·미보관 카드를 (마감일, 카드 ID) 순으로 조회
+     *
+     * <p>
+     * {@code (afterDueDate, afterCardId)} 다음부터 {@code until}까지를 읽는 키셋 페이지입니다.
+     * 전체 {@code shardCount}개 샤드 중 {@code shards}에 속한 카드만 읽되, 샤드를 아직 알 수 없는 카드는 함께 돌려주므로
+     * 호출자가 샤드를 다시 확인해야 합니다.
+     * </p>
+     */
+    List<DueCard> findUnreminded(Instant afterDueDate, CardId afterCardId, Instant until, int shardCount,
+            Set<Integer> shards, int limit);
+
+    /**
+     * 알림 발송 기록 (카드의 마감일이 {@code dueDate}이고 아직 기록되지 않은 경우에만)
+     *
+     * @return 기록에 성공하면 true. 다른 노드가 먼저 기록했거나 마감일이 바뀌었으면 false
+     */
+    boolean markReminded(CardId cardId, Instant dueDate);
+}
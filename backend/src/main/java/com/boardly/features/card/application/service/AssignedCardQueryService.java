@@ -0,0 +1,120 @@
+package com.boardly.features.card.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardly.features.card.application.port.input.AssignedCardFilter;
+import com.boardly.features.card.application.port.input.GetAssignedCardsQuery;
+import com.boardly.features.card.application.port.output.AssignedCardQueryPort;
+import com.boardly.features.card.application.port.output.AssignedCardQueryPort.Cursor;
+import com.boardly.features.card.application.usecase.GetAssignedCardsUseCase;
+import com.boardly.features.card.domain.model.AssignedCard;
+import com.boardly.features.card.domain.model.AssignedCardPage;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내게 할당된 카드 목록 조회 서비스
+ *
+ * <p>
+ * 오프셋 대신 마지막 행의 (할당 시각, 담당 관계 ID)를 커서로 돌려주므로, 뒤 페이지로 갈수록 느려지지 않고
+ * 페이지를 넘기는 사이 새로 할당된 카드 때문에 행이 밀리거나 중복되지 않습니다.
+ * 커서는 클라이언트가 해석하지 않도록 Base64URL로 감쌉니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AssignedCardQueryService implements GetAssignedCardsUseCase {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final AssignedCardQueryPort assignedCardQueryPort;
+    private final ValidationMessageResolver validationMessageResolver;
+
+    @Override
+    public Either<Failure, AssignedCardPage> getAssignedCards(GetAssignedCardsQuery query) {
+        log.info("할당된 카드 목록 조회: userId={}, filter={}, cursor={}, size={}",
+                query.userId().getId(), query.filter(), query.cursor(), query.size());
+
+        Optional<AssignedCardFilter> filter = AssignedCardFilter.fromValue(query.filter());
+        if (filter.isEmpty()) {
+            return Either.left(invalidInput("filter", "validation.card.assigned.filter.invalid", query.filter()));
+        }
+
+        Cursor after = null;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            Optional<Cursor> decoded = decodeCursor(query.cursor());
+            if (decoded.isEmpty()) {
+                return Either.left(invalidInput("cursor", "validation.card.assigned.cursor.invalid", query.cursor()));
+            }
+            after = decoded.get();
+        }
+
+        int size = pageSize(query.size());
+        List<AssignedCard> rows = assignedCardQueryPort.findAssignedCards(
+                query.userId(), filter.get(), Instant.now(), after, size + 1);
+
+        if (rows.size() <= size) {
+            return Either.right(new AssignedCardPage(rows, null));
+        }
+        List<AssignedCard> cards = rows.subList(0, size);
+        return Either.right(new AssignedCardPage(List.copyOf(cards), encodeCursor(cards.get(size - 1))));
+    }
+
+    /**
+     * 요청 크기를 1 ~ {@value #MAX_PAGE_SIZE}로 맞춥니다. 없거나 0 이하면 기본값을 씁니다.
+     */
+    static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    static String encodeCursor(AssignedCard last) {
+        String raw = last.assignedAt() + CURSOR_SEPARATOR + last.assignmentId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Optional<Cursor> decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new Cursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Failure invalidInput(String field, String messageKey, String rejectedValue) {
+        log.warn("할당된 카드 목록 조회 검증 실패: field={}, value={}", field, rejectedValue);
+        var violation = Failure.FieldViolation.builder()
+                .field(field)
+                .message(validationMessageResolver.getMessage(messageKey))
+                .rejectedValue(rejectedValue)
+                .build();
+        return Failure.ofInputError(
+                validationMessageResolver.getMessage("validation.input.invalid"),
+                "INVALID_INPUT",
+                List.of(violation));
+    }
+}
@@ -0,0 +1,100 @@
+package com.boardly.features.card.application.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardly.features.activity.application.helper.ActivityHelper;
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.application.port.output.CardDueReminderPort;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
+import com.boardly.features.card.domain.repository.CardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 마감 알림 서비스
+ *
+ * <p>
+ * 예약 시각이 된 카드를 다시 읽어 아직 알릴 대상인지 확인하고, 발송을 기록한 뒤 {@code CARD_DUE_REMINDER} 활동을 남깁니다.
+ * 활동은 아웃박스로 전달되므로 발송 기록과 함께 커밋되거나 함께 롤백됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CardDueReminderService {
+
+    private final CardRepository cardRepository;
+    private final CardAncestryPort cardAncestryPort;
+    private final CardDueReminderPort cardDueReminderPort;
+    private final ActivityHelper activityHelper;
+
+    /**
+     * 마감 알림 발송
+     *
+     * @param dueDate 예약할 때 읽은 마감일. 그 사이 바뀌었으면 보내지 않습니다.
+     * @return 알림을 보냈으면 true. 카드가 없거나, 완료·보관되었거나, 마감일이 바뀌었거나, 이미 보냈으면 false
+     */
+    public boolean remind(CardId cardId, Instant dueDate) {
+        Optional<Card> found = cardRepository.findById(cardId);
+        if (found.isEmpty()) {
+            log.debug("마감 알림 건너뜀 (카드 없음): cardId={}", cardId.getId());
+            return false;
+        }
+
+        Card card = found.get();
+        if (card.isCompleted() || card.isArchived() || !dueDate.equals(card.getDueDate())) {
+            log.debug("마감 알림 건너뜀: cardId={}, dueDate={}, currentDueDate={}, completed={}, archived={}",
+                    cardId.getId(), dueDate, card.getDueDate(), card.isCompleted(), card.isArchived());
+            return false;
+        }
+
+        Optional<ListAncestry> list = cardAncestryPort.findByListId(card.getListId());
+        if (list.isEmpty() || list.get().boardArchived()) {
+            log.debug("마감 알림 건너뜀 (보드 없음 또는 아카이브): cardId={}", cardId.getId());
+            return false;
+        }
+
+        if (!cardDueReminderPort.markReminded(cardId, dueDate)) {
+            log.debug("마감 알림 건너뜀 (이미 발송): cardId={}, dueDate={}", cardId.getId(), dueDate);
+            return false;
+        }
+
+        logDueReminderActivity(card, list.get());
+        log.info("카드 마감 알림 발송: cardId={}, dueDate={}", cardId.getId(), dueDate);
+        return true;
+    }
+
+    /**
+     * 마감 알림 활동 로그 (행위자는 카드 생성자)
+     */
+    private void logDueReminderActivity(Card card, ListAncestry list) {
+        var payload = Map.<String, Object>of(
+                "cardTitle", card.getTitle(),
+                "cardId", card.getCardId().getId(),
+                "listName", list.listTitle(),
+                "dueDate", card.getDueDate().toString(),
+                "assigneeIds", card.getAssignedMembers().stream()
+                        .map(member -> member.getUserId().getId())
+                        .toList(),
+                "boardName", list.boardTitle());
+
+        activityHelper.logCardActivity(
+                ActivityType.CARD_DUE_REMINDER,
+                card.getCreatedBy(),
+                payload,
+                list.boardTitle(),
+                list.boardId(),
+                card.getListId(),
+                card.getCardId());
+    }
+}
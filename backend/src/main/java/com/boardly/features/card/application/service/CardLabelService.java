@@ -22,7 +22,9 @@ import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.repository.CardLabelRepository;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.label.application.service.LabelCatalogFinder;
 import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelId;
 import com.boardly.features.label.domain.repository.LabelRepository;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
@@ -46,6 +48,7 @@ public class CardLabelService implements ManageCardLabelUseCase {
     private final ActivityHelper activityHelper;
     private final BoardRepository boardRepository;
     private final BoardListRepository boardListRepository;
+    private final LabelCatalogFinder labelCatalogFinder;
 
     @Override
     public Either<Failure, Void> addLabel(AddCardLabelCommand command) {
@@ -89,13 +92,18 @@ public class CardLabelService implements ManageCardLabelUseCase {
         Card card = cardOpt.get();
 
         // 카드 접근 권한 확인 (간단한 검증)
-        if (!hasCardAccess(card, requesterId)) {
+        Optional<BoardId> boardIdOpt = findAccessibleBoardId(card, requesterId);
+        if (boardIdOpt.isEmpty()) {
             log.warn("카드 접근 권한 없음: cardId={}, requesterId={}", cardId.getId(), requesterId.getId());
             return List.of();
         }
 
-        // 라벨 목록 조회 (Label 객체 반환)
-        List<Label> labels = cardLabelRepository.findLabelsByCardId(cardId);
+        // 라벨 ID만 조회한 뒤 보드 라벨 카탈로그에서 변환 (labels 테이블 조인 없음)
+        List<LabelId> labelIds = cardLabelRepository.findLabelIdsByCardId(cardId);
+        if (labelIds.isEmpty()) {
+            return List.of();
+        }
+        List<Label> labels = labelCatalogFinder.findByBoardId(boardIdOpt.get()).resolve(labelIds);
         log.debug("카드 라벨 조회 완료: cardId={}, 라벨 수={}", cardId.getId(), labels.size());
         return labels;
     }
@@ -244,11 +252,18 @@ public class CardLabelService implements ManageCardLabelUseCase {
      * 카드 접근 권한 확인 (간단한 검증)
      */
     private boolean hasCardAccess(Card card, UserId requesterId) {
+        return findAccessibleBoardId(card, requesterId).isPresent();
+    }
+
+    /**
+     * 요청자가 접근할 수 있는 카드라면 카드가 속한 보드 ID를 반환합니다.
+     */
+    private Optional<BoardId> findAccessibleBoardId(Card card, UserId requesterId) {
         // 카드의 리스트를 통해 보드 ID 조회
         Optional<BoardList> listOpt = boardListRepository
                 .findById(card.getListId());
         if (listOpt.isEmpty()) {
-            return false;
+            return Optional.empty();
         }
 
         BoardList list = listOpt.get();
@@ -257,11 +272,11 @@ public class CardLabelService implements ManageCardLabelUseCase {
         // 보드 소유자 확인
         Optional<com.boardly.features.board.domain.model.Board> boardOpt = boardRepository.findById(boardId);
         if (boardOpt.isEmpty()) {
-            return false;
+            return Optional.empty();
         }
 
         com.boardly.features.board.domain.model.Board board = boardOpt.get();
-        return board.getOwnerId().equals(requesterId);
+        return board.getOwnerId().equals(requesterId) ? Optional.of(boardId) : Optional.empty();
     }
 
     /**
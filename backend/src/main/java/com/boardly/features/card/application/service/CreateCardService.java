@@ -8,20 +8,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.CloneCardCommand;
 import com.boardly.features.card.application.port.input.CreateCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.usecase.CloneCardUseCase;
 import com.boardly.features.card.application.usecase.CreateCardUseCase;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.policy.CardClonePolicy;
 import com.boardly.features.card.domain.policy.CardCreationPolicy;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
 
@@ -48,8 +48,7 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
     private final CardCreationPolicy cardCreationPolicy;
     private final CardClonePolicy cardClonePolicy;
     private final CardRepository cardRepository;
-    private final BoardListRepository boardListRepository;
-    private final BoardRepository boardRepository;
+    private final CardAncestryPort cardAncestryPort;
     private final ValidationMessageResolver validationMessageResolver;
     private final ActivityHelper activityHelper;
 
@@ -61,7 +60,7 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
         // 1. 입력 검증
         return validateCreateInput(command)
                 .flatMap(v -> validateBoardAccess(command.listId(), command.userId()))
-                .flatMap(boardList -> createAndSaveCard(command, boardList));
+                .flatMap(list -> createAndSaveCard(command, list));
     }
 
     @Override
@@ -75,8 +74,8 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
         // 1. 입력 검증
         return validateCloneInput(command)
                 .flatMap(v -> findOriginalCard(command.cardId()))
-                .flatMap(originalCard -> validateCloneAccess(originalCard, command))
-                .flatMap(originalCard -> cloneAndSaveCard(command, originalCard));
+                .flatMap(originalCard -> validateCloneAccess(originalCard, command)
+                        .flatMap(targetList -> cloneAndSaveCard(command, originalCard, targetList)));
     }
 
     // =================================================================
@@ -100,41 +99,45 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
 
     /**
      * 카드 생성 시 보드 접근 권한 확인
+     *
+     * <p>
+     * 리스트와 보드를 한 번의 조인으로 조회하고, 활동 로그에서도 그 결과를 재사용합니다.
+     * </p>
      */
-    private Either<Failure, BoardList> validateBoardAccess(ListId listId,
-            com.boardly.features.user.domain.model.UserId userId) {
-        // 리스트 존재 확인
-        var boardList = boardListRepository.findById(listId);
-        if (boardList.isEmpty()) {
+    private Either<Failure, ListAncestry> validateBoardAccess(ListId listId, UserId userId) {
+        // 리스트 → 보드 계층 조회
+        var listOpt = cardAncestryPort.findByListId(listId);
+        if (listOpt.isEmpty()) {
             log.warn("리스트를 찾을 수 없음: listId={}", listId.getId());
             return Either.left(Failure.ofNotFound(
                     validationMessageResolver.getMessage("error.service.card.create.list_not_found")));
         }
 
-        // 보드 존재 및 권한 확인
-        var board = boardRepository.findByIdAndOwnerId(boardList.get().getBoardId(), userId);
-        if (board.isEmpty()) {
+        var list = listOpt.get();
+
+        // 보드 소유권 확인
+        if (!list.isOwnedBy(userId)) {
             log.warn("보드 접근 권한 없음: boardId={}, userId={}",
-                    boardList.get().getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     validationMessageResolver.getMessage("error.service.card.create.access_denied")));
         }
 
         // 활성 보드인지 확인
-        if (board.get().isArchived()) {
+        if (list.boardArchived()) {
             log.warn("아카이브된 보드에 카드 생성 시도: boardId={}, userId={}",
-                    board.get().getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofBusinessRuleViolation(
                     validationMessageResolver.getMessage("error.service.card.create.archived_board")));
         }
 
-        return Either.right(boardList.get());
+        return Either.right(list);
     }
 
     /**
      * 카드 생성 및 저장
      */
-    private Either<Failure, Card> createAndSaveCard(CreateCardCommand command, BoardList boardList) {
+    private Either<Failure, Card> createAndSaveCard(CreateCardCommand command, ListAncestry list) {
         return cardCreationPolicy.canCreateCard(command.listId())
                 .flatMap(v -> {
                     // 새 카드의 위치 계산 (맨 마지막)
@@ -147,7 +150,7 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
                             card.getCreatedBy().getId());
 
                     return cardRepository.save(card)
-                            .peek(savedCard -> logCardCreateActivity(command, boardList, savedCard));
+                            .peek(savedCard -> logCardCreateActivity(command, list, savedCard));
                 });
     }
 
@@ -163,17 +166,13 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
     /**
      * 카드 생성 활동 로그 기록
      */
-    private void logCardCreateActivity(CreateCardCommand command, BoardList boardList, Card savedCard) {
-        // 보드 정보 조회
-        var boardOpt = boardRepository.findById(boardList.getBoardId());
-        String boardName = boardOpt.map(board -> board.getTitle()).orElse("알 수 없는 보드");
-
+    private void logCardCreateActivity(CreateCardCommand command, ListAncestry list, Card savedCard) {
         activityHelper.logCardCreate(
                 command.userId(),
-                boardList.getTitle(),
+                list.listTitle(),
                 savedCard.getTitle(),
-                boardName,
-                boardList.getBoardId(),
+                list.boardTitle(),
+                list.boardId(),
                 savedCard.getListId(),
                 savedCard.getCardId());
     }
@@ -212,12 +211,14 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
 
     /**
      * 카드 복제 접근 권한 확인
+     *
+     * @return 복제 대상 리스트의 계층 정보
      */
-    private Either<Failure, Card> validateCloneAccess(Card originalCard, CloneCardCommand command) {
+    private Either<Failure, ListAncestry> validateCloneAccess(Card originalCard, CloneCardCommand command) {
         // 원본 카드 접근 권한 확인
         var sourceBoardAccessResult = validateBoardAccessForClone(originalCard.getListId(), command.userId());
         if (sourceBoardAccessResult.isLeft()) {
-            return Either.left(sourceBoardAccessResult.getLeft());
+            return sourceBoardAccessResult;
         }
 
         // 복제 대상 리스트 결정 및 검증
@@ -225,19 +226,17 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
 
         // 다른 리스트로 복제하는 경우 대상 리스트 접근 권한 확인
         if (!targetListId.equals(originalCard.getListId())) {
-            var targetBoardAccessResult = validateBoardAccessForClone(targetListId, command.userId());
-            if (targetBoardAccessResult.isLeft()) {
-                return Either.left(targetBoardAccessResult.getLeft());
-            }
+            return validateBoardAccessForClone(targetListId, command.userId());
         }
 
-        return Either.right(originalCard);
+        return sourceBoardAccessResult;
     }
 
     /**
      * 카드 복제 및 저장
      */
-    private Either<Failure, Card> cloneAndSaveCard(CloneCardCommand command, Card originalCard) {
+    private Either<Failure, Card> cloneAndSaveCard(CloneCardCommand command, Card originalCard,
+            ListAncestry targetList) {
         // 복제 대상 리스트 결정
         ListId targetListId = command.targetListId() != null ? command.targetListId() : originalCard.getListId();
 
@@ -263,25 +262,22 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
                 clonedCard.getTitle(), clonedCard.getListId().getId(), clonedCard.getCreatedBy().getId());
 
         return cardRepository.save(clonedCard)
-                .peek(savedClonedCard -> logCardDuplicateActivity(command, originalCard, savedClonedCard));
+                .peek(savedClonedCard -> logCardDuplicateActivity(command, originalCard, savedClonedCard, targetList));
     }
 
     /**
      * 카드 복제 활동 로그 기록
      */
-    private void logCardDuplicateActivity(CloneCardCommand command, Card originalCard, Card savedClonedCard) {
-        BoardList targetList = boardListRepository.findById(savedClonedCard.getListId()).get();
-
-        // 보드 정보 조회
-        var boardOpt = boardRepository.findById(targetList.getBoardId());
-        String boardName = boardOpt.map(board -> board.getTitle()).orElse("알 수 없는 보드");
+    private void logCardDuplicateActivity(CloneCardCommand command, Card originalCard, Card savedClonedCard,
+            ListAncestry targetList) {
+        String boardName = targetList.boardTitle();
 
         Map<String, Object> payload = Map.of(
                 "originalCardTitle", originalCard.getTitle(),
                 "newCardTitle", savedClonedCard.getTitle(),
                 "originalCardId", originalCard.getCardId().getId(),
                 "newCardId", savedClonedCard.getCardId().getId(),
-                "listName", targetList.getTitle(),
+                "listName", targetList.listTitle(),
                 "boardName", boardName);
 
         activityHelper.logCardActivity(
@@ -289,7 +285,7 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
                 command.userId(),
                 payload,
                 boardName,
-                targetList.getBoardId(),
+                targetList.boardId(),
                 savedClonedCard.getListId(),
                 savedClonedCard.getCardId());
     }
@@ -301,37 +297,33 @@ public class CreateCardService implements CreateCardUseCase, CloneCardUseCase {
     /**
      * 카드 복제용 보드 접근 권한 확인
      */
-    private Either<Failure, Void> validateBoardAccessForClone(ListId listId,
-            com.boardly.features.user.domain.model.UserId userId) {
-        // 1. 리스트 존재 확인
-        var boardListOpt = boardListRepository.findById(listId);
-        if (boardListOpt.isEmpty()) {
+    private Either<Failure, ListAncestry> validateBoardAccessForClone(ListId listId, UserId userId) {
+        // 1. 리스트 → 보드 계층 조회
+        var listOpt = cardAncestryPort.findByListId(listId);
+        if (listOpt.isEmpty()) {
             log.warn("리스트를 찾을 수 없음: listId={}", listId.getId());
             return Either.left(Failure.ofNotFound(
                     validationMessageResolver.getMessage("error.service.card.clone.list_not_found")));
         }
 
-        var boardList = boardListOpt.get();
+        var list = listOpt.get();
 
-        // 2. 보드 존재 및 권한 확인
-        var boardOpt = boardRepository.findByIdAndOwnerId(boardList.getBoardId(), userId);
-        if (boardOpt.isEmpty()) {
+        // 2. 보드 소유권 확인
+        if (!list.isOwnedBy(userId)) {
             log.warn("보드 접근 권한 없음: boardId={}, userId={}",
-                    boardList.getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     validationMessageResolver.getMessage("error.service.card.clone.access_denied")));
         }
 
-        var board = boardOpt.get();
-
         // 3. 활성 보드인지 확인
-        if (board.isArchived()) {
+        if (list.boardArchived()) {
             log.warn("아카이브된 보드에서 카드 복제 시도: boardId={}, userId={}",
-                    board.getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofBusinessRuleViolation(
                     validationMessageResolver.getMessage("error.service.card.clone.archived_board")));
         }
 
-        return Either.right(null);
+        return Either.right(list);
     }
 }
@@ -2,22 +2,20 @@ package com.boardly.features.card.application.service;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.usecase.DeleteCardUseCase;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.domain.repository.CommentRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -44,8 +42,7 @@ public class DeleteCardService implements DeleteCardUseCase {
 
     private final CardValidator cardValidator;
     private final CardRepository cardRepository;
-    private final BoardListRepository boardListRepository;
-    private final BoardRepository boardRepository;
+    private final CardAncestryPort cardAncestryPort;
     private final CommentRepository commentRepository;
     private final ValidationMessageResolver validationMessageResolver;
     private final ActivityHelper activityHelper;
@@ -72,7 +69,7 @@ public class DeleteCardService implements DeleteCardUseCase {
         // 3. 권한 검증
         var permissionResult = validatePermissions(cardToDelete, command.userId());
         if (permissionResult.isLeft()) {
-            return permissionResult;
+            return Either.left(permissionResult.getLeft());
         }
 
         // 4. 카드 삭제 실행
@@ -82,7 +79,7 @@ public class DeleteCardService implements DeleteCardUseCase {
         }
 
         // 5. 후처리 작업
-        performPostDeletionTasks(cardToDelete, command.userId());
+        performPostDeletionTasks(cardToDelete, permissionResult.get(), command.userId());
 
         log.info("카드 삭제 완료: cardId={}, title={}, listId={}",
                 cardToDelete.getCardId().getId(), cardToDelete.getTitle(), cardToDelete.getListId().getId());
@@ -121,7 +118,7 @@ public class DeleteCardService implements DeleteCardUseCase {
     /**
      * 보드 접근 권한을 확인합니다.
      */
-    private Either<Failure, Void> validatePermissions(Card card, UserId userId) {
+    private Either<Failure, ListAncestry> validatePermissions(Card card, UserId userId) {
         return validateBoardAccess(card.getListId(), userId);
     }
 
@@ -150,69 +147,66 @@ public class DeleteCardService implements DeleteCardUseCase {
     /**
      * 카드 삭제 후 필요한 후처리 작업을 수행합니다.
      */
-    private void performPostDeletionTasks(Card card, UserId userId) {
+    private void performPostDeletionTasks(Card card, ListAncestry list, UserId userId) {
         reorderRemainingCards(card.getListId(), card.getPosition());
-        logCardDeleteActivity(userId, card);
+        logCardDeleteActivity(userId, card, list);
     }
 
     /**
      * 보드 접근 권한을 확인합니다.
      */
-    private Either<Failure, Void> validateBoardAccess(ListId listId,
+    private Either<Failure, ListAncestry> validateBoardAccess(ListId listId,
             UserId userId) {
 
-        // 1. 리스트 존재 확인
-        var boardListResult = findBoardList(listId);
-        if (boardListResult.isLeft()) {
-            return Either.left(boardListResult.getLeft());
+        // 1. 리스트 → 보드 계층 조회
+        var listResult = findListAncestry(listId);
+        if (listResult.isLeft()) {
+            return listResult;
         }
 
-        var boardList = boardListResult.get();
+        var list = listResult.get();
 
         // 2. 보드 권한 확인
-        var boardResult = validateBoardPermissions(boardList, userId);
+        var boardResult = validateBoardPermissions(list, userId);
         if (boardResult.isLeft()) {
-            return boardResult;
+            return Either.left(boardResult.getLeft());
         }
 
-        return Either.right(null);
+        return Either.right(list);
     }
 
     /**
-     * 리스트를 조회합니다.
+     * 리스트와 소속 보드 정보를 조회합니다.
      */
-    private Either<Failure, BoardList> findBoardList(ListId listId) {
-        var boardListOpt = boardListRepository.findById(listId);
-        if (boardListOpt.isEmpty()) {
+    private Either<Failure, ListAncestry> findListAncestry(ListId listId) {
+        var listOpt = cardAncestryPort.findByListId(listId);
+        if (listOpt.isEmpty()) {
             log.warn("리스트를 찾을 수 없음: listId={}", listId.getId());
             return Either.left(Failure.ofNotFound(
                     validationMessageResolver.getMessage("error.service.card.delete.list_not_found")));
         }
-        return Either.right(boardListOpt.get());
+        return Either.right(listOpt.get());
     }
 
     /**
      * 보드 권한을 확인합니다.
      */
     private Either<Failure, Void> validateBoardPermissions(
-            BoardList boardList,
+            ListAncestry list,
             UserId userId) {
 
-        // 보드 존재 및 소유권 확인
-        var boardOpt = boardRepository.findByIdAndOwnerId(boardList.getBoardId(), userId);
-        if (boardOpt.isEmpty()) {
+        // 보드 소유권 확인
+        if (!list.isOwnedBy(userId)) {
             log.warn("보드 접근 권한 없음: boardId={}, userId={}",
-                    boardList.getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     validationMessageResolver.getMessage("error.service.card.delete.access_denied")));
         }
 
-        var board = boardOpt.get();
-
         // 활성 보드인지 확인
-        if (board.isArchived()) {
+        if (list.boardArchived()) {
             log.warn("아카이브된 보드에서 카드 삭제 시도: boardId={}, userId={}",
-                    board.getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofBusinessRuleViolation(
                     validationMessageResolver.getMessage("error.service.card.delete.archived_board")));
         }
@@ -222,18 +216,26 @@ public class DeleteCardService implements DeleteCardUseCase {
 
     /**
      * 카드 삭제 활동 로그를 기록합니다.
+     *
+     * <p>
+     * 권한 확인 때 조회한 리스트/보드 정보를 재사용합니다.
+     * </p>
      */
-    private void logCardDeleteActivity(UserId userId, Card card) {
+    private void logCardDeleteActivity(UserId userId, Card card, ListAncestry list) {
         try {
-            var boardListResult = findBoardListForActivity(card.getListId());
-            if (boardListResult.isEmpty()) {
-                return;
-            }
+            var payload = createActivityPayload(card, list);
 
-            var boardList = boardListResult.get();
-            var payload = createActivityPayload(card, boardList);
+            activityHelper.logCardActivity(
+                    ActivityType.CARD_DELETE,
+                    userId,
+                    payload,
+                    list.boardTitle(),
+                    list.boardId(),
+                    card.getListId(),
+                    card.getCardId());
 
-            recordActivityLog(userId, card, boardList, payload);
+            log.debug("카드 삭제 활동 로그 기록 완료: cardId={}, title={}",
+                    card.getCardId().getId(), card.getTitle());
 
         } catch (Exception e) {
             log.error("카드 삭제 활동 로그 기록 중 오류 발생: cardId={}, error={}",
@@ -241,53 +243,18 @@ public class DeleteCardService implements DeleteCardUseCase {
         }
     }
 
-    /**
-     * 활동 로그용 리스트 정보를 조회합니다.
-     */
-    private Optional<BoardList> findBoardListForActivity(
-            ListId listId) {
-        var boardListOpt = boardListRepository.findById(listId);
-        if (boardListOpt.isEmpty()) {
-            log.warn("활동 로그 기록을 위한 리스트 정보를 찾을 수 없음: listId={}", listId.getId());
-        }
-        return boardListOpt;
-    }
-
     /**
      * 활동 로그 payload를 생성합니다.
      */
     private Map<String, Object> createActivityPayload(Card card,
-            BoardList boardList) {
+            ListAncestry list) {
         return Map.<String, Object>of(
                 "cardTitle", card.getTitle(),
-                "listName", boardList.getTitle(),
+                "listName", list.listTitle(),
                 "cardId", card.getCardId().getId(),
                 "listId", card.getListId().getId());
     }
 
-    /**
-     * 활동 로그를 기록합니다.
-     */
-    private void recordActivityLog(UserId userId, Card card,
-            BoardList boardList, Map<String, Object> payload) {
-
-        // 보드 정보 조회
-        var boardOpt = boardRepository.findById(boardList.getBoardId());
-        String boardName = boardOpt.map(board -> board.getTitle()).orElse("알 수 없는 보드");
-
-        activityHelper.logCardActivity(
-                ActivityType.CARD_DELETE,
-                userId,
-                payload,
-                boardName,
-                boardList.getBoardId(),
-                card.getListId(),
-                card.getCardId());
-
-        log.debug("카드 삭제 활동 로그 기록 완료: cardId={}, title={}",
-                card.getCardId().getId(), card.getTitle());
-    }
-
     /**
      * 삭제된 카드 이후의 모든 카드들의 position을 재정렬합니다.
      */
@@ -10,23 +10,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
-import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.MoveCardCommand;
 import com.boardly.features.card.application.port.input.UpdateCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.application.port.output.CardDueDateListener;
 import com.boardly.features.card.application.usecase.MoveCardUseCase;
 import com.boardly.features.card.application.usecase.UpdateCardUseCase;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.model.CardPriority;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.policy.CardMovePolicy;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.application.concurrency.RetryOnConflict;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.domain.common.Failure;
@@ -53,10 +53,11 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
     private final CardValidator cardValidator;
     private final CardMovePolicy cardMovePolicy;
     private final CardRepository cardRepository;
-    private final BoardListRepository boardListRepository;
-    private final BoardRepository boardRepository;
+    private final CardAncestryPort cardAncestryPort;
     private final ValidationMessageResolver validationMessageResolver;
     private final ActivityHelper activityHelper;
+    private final CardDueDateListener cardDueDateListener;
+    private final BoardDetailCache boardDetailCache;
 
     @Override
     public Either<Failure, Card> updateCard(UpdateCardCommand command) {
@@ -65,12 +66,11 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
 
         return validateInput(command)
                 .flatMap(this::findExistingCard)
-                .flatMap(context -> findBoardList(context.card().getListId())
-                        .flatMap(boardList -> findBoardByList(boardList)
-                                .flatMap(board -> verifyBoardAccessForList(boardList, context.command().userId())
-                                        .flatMap(v -> checkBoardArchiveStatus(board))
-                                        .map(v -> new CardUpdateContext(context.command(), context.card(),
-                                                context.oldTitle(), boardList, board)))))
+                .flatMap(context -> findListAncestry(context.card().getListId())
+                        .flatMap(list -> verifyBoardAccessForList(list, context.command().userId()))
+                        .flatMap(this::checkBoardArchiveStatus)
+                        .map(list -> new CardUpdateContext(context.command(), context.card(),
+                                context.oldTitle(), list)))
                 .flatMap(this::applyChangesToCard)
                 .flatMap(this::saveUpdatedCard);
     }
@@ -81,12 +81,9 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
 
         return validateCardId(cardId)
                 .flatMap(this::findCardById)
-                .flatMap(context -> findBoardList(context.card().getListId())
-                        .flatMap(boardList -> findBoardByList(boardList)
-                                .flatMap(board -> verifyBoardAccessForList(boardList, null)
-                                        .flatMap(v -> checkBoardArchiveStatus(board))
-                                        .map(v -> context)))
-                        .map(v -> context))
+                .flatMap(context -> findListAncestry(context.card().getListId())
+                        .flatMap(this::checkBoardArchiveStatus)
+                        .map(list -> new CardUpdateContext(null, context.card(), null, list)))
                 .flatMap(context -> applyCompletedChange(context, isCompleted))
                 .flatMap(this::saveUpdatedCardForCompleted);
     }
@@ -97,12 +94,9 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
 
         return validateCardId(cardId)
                 .flatMap(this::findCardById)
-                .flatMap(context -> findBoardList(context.card().getListId())
-                        .flatMap(boardList -> findBoardByList(boardList)
-                                .flatMap(board -> verifyBoardAccessForList(boardList, null)
-                                        .flatMap(v -> checkBoardArchiveStatus(board))
-                                        .map(v -> context)))
-                        .map(v -> context))
+                .flatMap(context -> findListAncestry(context.card().getListId())
+                        .flatMap(this::checkBoardArchiveStatus)
+                        .map(list -> new CardUpdateContext(null, context.card(), null, list)))
                 .flatMap(context -> applyDueDateChange(context, dueDate))
                 .flatMap(this::saveUpdatedCardForDueDate);
     }
@@ -113,12 +107,9 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
 
         return validateCardId(cardId)
                 .flatMap(this::findCardById)
-                .flatMap(context -> findBoardList(context.card().getListId())
-                        .flatMap(boardList -> findBoardByList(boardList)
-                                .flatMap(board -> verifyBoardAccessForList(boardList, null)
-                                        .flatMap(v -> checkBoardArchiveStatus(board))
-                                        .map(v -> context)))
-                        .map(v -> context))
+                .flatMap(context -> findListAncestry(context.card().getListId())
+                        .flatMap(this::checkBoardArchiveStatus)
+                        .map(list -> new CardUpdateContext(null, context.card(), null, list)))
                 .flatMap(context -> applyPriorityChange(context, priority))
                 .flatMap(this::saveUpdatedCardForPriority);
     }
@@ -129,17 +120,15 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
 
         return validateCardId(cardId)
                 .flatMap(this::findCardById)
-                .flatMap(context -> findBoardList(context.card().getListId())
-                        .flatMap(boardList -> findBoardByList(boardList)
-                                .flatMap(board -> verifyBoardAccessForList(boardList, null)
-                                        .flatMap(v -> checkBoardArchiveStatus(board))
-                                        .map(v -> context)))
-                        .map(v -> context))
+                .flatMap(context -> findListAncestry(context.card().getListId())
+                        .flatMap(this::checkBoardArchiveStatus)
+                        .map(list -> new CardUpdateContext(null, context.card(), null, list)))
                 .flatMap(context -> applyStartDateChange(context, startDate))
                 .flatMap(this::saveUpdatedCardForStartDate);
     }
 
     @Override
+    @RetryOnConflict
     public Either<Failure, Card> moveCard(MoveCardCommand command) {
         log.info(
                 "UpdateCardService.moveCard() called with command: cardId={}, targetListId={}, newPosition={}, userId={}",
@@ -184,7 +173,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
         }
 
         Card existingCard = existingCardOpt.get();
-        return Either.right(new CardUpdateContext(command, existingCard, null, null, null));
+        return Either.right(new CardUpdateContext(command, existingCard, null, null));
     }
 
     /**
@@ -199,8 +188,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
             log.debug("카드 변경사항 적용 완료: cardId={}, oldTitle={}, newTitle={}",
                     context.command().cardId().getId(), oldTitle, context.command().title());
 
-            return Either.right(new CardUpdateContext(context.command(), context.card(), oldTitle, context.boardList(),
-                    context.board()));
+            return Either.right(new CardUpdateContext(context.command(), context.card(), oldTitle, context.list()));
         } catch (Exception e) {
             log.error("카드 변경 중 오류 발생: cardId={}, error={}",
                     context.command().cardId().getId(), e.getMessage(), e);
@@ -245,7 +233,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
             return Either.left(Failure.ofNotFound(
                     validationMessageResolver.getMessage("error.service.card.update.not_found")));
         }
-        return Either.right(new CardUpdateContext(null, cardOpt.get(), null, null, null));
+        return Either.right(new CardUpdateContext(null, cardOpt.get(), null, null));
     }
 
     /**
@@ -277,6 +265,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
     private Either<Failure, Card> saveUpdatedCardForCompleted(CardUpdateContext context) {
         return cardRepository.save(context.card())
                 .peek(card -> {
+                    invalidateBoardDetail(context.list());
                     log.info("카드 완료 상태 변경 완료: cardId={}, isCompleted={}",
                             card.getCardId().getId(), card.isCompleted());
                     logCardCompletedActivity(context, card);
@@ -314,9 +303,11 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
     private Either<Failure, Card> saveUpdatedCardForDueDate(CardUpdateContext context) {
         return cardRepository.save(context.card())
                 .peek(card -> {
+                    invalidateBoardDetail(context.list());
                     log.info("카드 마감일 변경 완료: cardId={}, dueDate={}",
                             card.getCardId().getId(), card.getDueDate());
                     logCardDueDateActivity(context, card);
+                    cardDueDateListener.dueDateChanged(card.getCardId(), card.getDueDate());
                 });
     }
 
@@ -348,6 +339,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
     private Either<Failure, Card> saveUpdatedCardForPriority(CardUpdateContext context) {
         return cardRepository.save(context.card())
                 .peek(card -> {
+                    invalidateBoardDetail(context.list());
                     String priorityValue = card.getPriority() != null ? card.getPriority().getValue() : "null";
                     log.info("카드 우선순위 변경 완료: cardId={}, priority={}",
                             card.getCardId().getId(), priorityValue);
@@ -386,6 +378,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
     private Either<Failure, Card> saveUpdatedCardForStartDate(CardUpdateContext context) {
         return cardRepository.save(context.card())
                 .peek(card -> {
+                    invalidateBoardDetail(context.list());
                     log.info("카드 시작일 변경 완료: cardId={}, startDate={}",
                             card.getCardId().getId(), card.getStartDate());
                     logCardStartDateActivity(context, card);
@@ -419,15 +412,16 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
             return Either.left(Failure.ofNotFound(
                     validationMessageResolver.getMessage("error.service.card.move.not_found")));
         }
-        return Either.right(new CardMoveContext(command, cardOpt.get()));
+        return Either.right(new CardMoveContext(command, cardOpt.get(), null));
     }
 
     /**
      * 이동에 대한 보드 접근 권한 확인
      */
     private Either<Failure, CardMoveContext> verifyBoardAccessForMove(CardMoveContext context) {
-        return validateBoardAccess(context.card().getListId(), context.command().userId())
-                .map(v -> context);
+        return findListAncestry(context.card().getListId())
+                .flatMap(list -> verifyMoveAccess(list, context.command().userId()))
+                .map(list -> new CardMoveContext(context.command(), context.card(), list));
     }
 
     /**
@@ -435,101 +429,86 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
      */
     private Either<Failure, Card> executeCardMove(CardMoveContext context) {
         if (context.command().targetListId() == null) {
-            return moveWithinSameList(context.card(), context.command().newPosition(), context.command().userId());
+            return moveWithinSameList(context.card(), context.command().newPosition(), context.command().userId())
+                    .peek(card -> invalidateBoardDetail(context.sourceList()));
         } else {
-            return moveToAnotherList(context.card(), context.command().targetListId(), context.command().newPosition(),
-                    context.command().userId());
+            return moveToAnotherList(context.card(), context.sourceList(), context.command().targetListId(),
+                    context.command().newPosition(), context.command().userId());
         }
     }
 
     // ==================== 공통 헬퍼 메서드들 ====================
 
     /**
-     * 리스트 조회
+     * 리스트 → 보드 계층 조회
      */
-    private Either<Failure, BoardList> findBoardList(ListId listId) {
-        Optional<BoardList> boardList = boardListRepository
-                .findById(listId);
-        if (boardList.isEmpty()) {
-            log.warn("리스트를 찾을 수 없음: listId={}", listId.getId());
-            return Either.left(Failure.ofNotFound(
-                    validationMessageResolver.getMessage("error.service.card.update.list_not_found")));
-        }
-        return Either.right(boardList.get());
+    private Either<Failure, ListAncestry> findListAncestry(ListId listId) {
+        return findListAncestry(listId, "error.service.card.update.list_not_found");
     }
 
-    /**
-     * 리스트로부터 보드 조회
-     */
-    private Either<Failure, Board> findBoardByList(BoardList boardList) {
-        Optional<Board> board = boardRepository
-                .findById(boardList.getBoardId());
-        if (board.isEmpty()) {
-            log.warn("보드를 찾을 수 없음: boardId={}", boardList.getBoardId().getId());
+    private Either<Failure, ListAncestry> findListAncestry(ListId listId, String notFoundMessageKey) {
+        Optional<ListAncestry> list = cardAncestryPort.findByListId(listId);
+        if (list.isEmpty()) {
+            log.warn("리스트를 찾을 수 없음: listId={}", listId.getId());
             return Either.left(Failure.ofNotFound(
-                    validationMessageResolver.getMessage("error.service.card.update.board_not_found")));
+                    validationMessageResolver.getMessage(notFoundMessageKey)));
         }
-        return Either.right(board.get());
+        return Either.right(list.get());
     }
 
     /**
      * 보드 접근 권한 확인 (리스트 기반)
      */
-    private Either<Failure, Object> verifyBoardAccessForList(
-            BoardList boardList, UserId userId) {
-        if (userId == null) {
-            // userId가 null인 경우 (단순 조회용)는 성공으로 처리
-            return Either.right(new Object());
-        }
-
-        Optional<Board> board = boardRepository
-                .findByIdAndOwnerId(boardList.getBoardId(), userId);
-        if (board.isEmpty()) {
+    private Either<Failure, ListAncestry> verifyBoardAccessForList(ListAncestry list, UserId userId) {
+        if (!list.isOwnedBy(userId)) {
             log.warn("보드 접근 권한 없음: boardId={}, userId={}",
-                    boardList.getBoardId().getId(), userId.getId());
+                    list.boardId().getId(), userId.getId());
             return Either.left(Failure.ofPermissionDenied(
                     validationMessageResolver.getMessage("error.service.card.update.access_denied")));
         }
-        return Either.right(new Object());
+        return Either.right(list);
     }
 
     /**
      * 보드 아카이브 상태 확인
      */
-    private Either<Failure, Object> checkBoardArchiveStatus(Board board) {
-        if (board.isArchived()) {
+    private Either<Failure, ListAncestry> checkBoardArchiveStatus(ListAncestry list) {
+        if (list.boardArchived()) {
             log.warn("아카이브된 보드의 카드 수정 시도: boardId={}",
-                    board.getBoardId().getId());
+                    list.boardId().getId());
             return Either.left(Failure.ofConflict(
                     validationMessageResolver.getMessage("error.service.card.update.archived_board")));
         }
-        return Either.right(new Object());
+        return Either.right(list);
     }
 
     /**
-     * 보드 접근 권한을 확인합니다.
+     * 카드 이동에 대한 보드 접근 권한을 확인합니다.
      */
-    private Either<Failure, Object> validateBoardAccess(ListId listId, UserId userId) {
-        return findBoardList(listId)
-                .flatMap(boardList -> {
-                    Optional<Board> board = boardRepository
-                            .findByIdAndOwnerId(boardList.getBoardId(), userId);
-                    if (board.isEmpty()) {
-                        log.warn("보드 접근 권한 없음: boardId={}, userId={}",
-                                boardList.getBoardId().getId(), userId.getId());
-                        return Either.left(Failure.ofPermissionDenied(
-                                validationMessageResolver.getMessage("error.service.card.move.access_denied")));
-                    }
+    private Either<Failure, ListAncestry> verifyMoveAccess(ListAncestry list, UserId userId) {
+        if (!list.isOwnedBy(userId)) {
+            log.warn("보드 접근 권한 없음: boardId={}, userId={}",
+                    list.boardId().getId(), userId.getId());
+            return Either.left(Failure.ofPermissionDenied(
+                    validationMessageResolver.getMessage("error.service.card.move.access_denied")));
+        }
 
-                    if (board.get().isArchived()) {
-                        log.warn("아카이브된 보드에서 카드 이동 시도: boardId={}, userId={}",
-                                board.get().getBoardId().getId(), userId.getId());
-                        return Either.left(Failure.ofConflict(
-                                validationMessageResolver.getMessage("error.service.card.move.archived_board")));
-                    }
+        if (list.boardArchived()) {
+            log.warn("아카이브된 보드에서 카드 이동 시도: boardId={}, userId={}",
+                    list.boardId().getId(), userId.getId());
+            return Either.left(Failure.ofConflict(
+                    validationMessageResolver.getMessage("error.service.card.move.archived_board")));
+        }
 
-                    return Either.right(new Object());
-                });
+        return Either.right(list);
+    }
+
+    /**
+     * 활동 로그를 남기지 않는 변경(완료, 마감일, 우선순위, 시작일, 같은 리스트 내 이동)은
+     * 보드 상세 캐시를 직접 무효화합니다. 활동 로그를 남기는 변경은 {@link ActivityHelper}가 무효화합니다.
+     */
+    private void invalidateBoardDetail(ListAncestry list) {
+        boardDetailCache.invalidate(list.boardId());
     }
 
     // ==================== 활동 로그 메서드들 ====================
@@ -538,10 +517,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
      * 카드 수정 활동 로그
      */
     private void logCardUpdateActivity(CardUpdateContext context, Card card) {
-        String boardName = context.board() != null ? context.board().getTitle()
-                : validationMessageResolver.getMessage("error.service.board.unknown");
-        BoardId boardId = context.board() != null ? context.board().getBoardId()
-                : getBoardIdFromListId(card.getListId());
+        String boardName = context.list().boardTitle();
 
         var payload = Map.<String, Object>of(
                 "oldTitle", context.oldTitle() != null ? context.oldTitle() : context.command().title(),
@@ -554,7 +530,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
                 context.command().userId(),
                 payload,
                 boardName,
-                boardId,
+                context.list().boardId(),
                 card.getListId(),
                 card.getCardId());
     }
@@ -629,6 +605,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
      * 다른 리스트로 카드를 이동합니다.
      */
     private Either<Failure, Card> moveToAnotherList(Card card,
+            ListAncestry sourceList,
             ListId targetListId,
             int newPosition,
             UserId userId) {
@@ -636,39 +613,18 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
         log.debug("다른 리스트로 카드 이동: cardId={}, sourceListId={}, targetListId={}, newPosition={}",
                 card.getCardId().getId(), card.getListId().getId(), targetListId.getId(), newPosition);
 
-        return findTargetList(targetListId)
-                .flatMap(v -> validateTargetBoardAccess(targetListId, userId))
-                .flatMap(v -> cardMovePolicy.canMoveToAnotherList(card, targetListId, newPosition))
-                .flatMap(v -> executeMoveToAnotherList(card, targetListId, newPosition, userId));
-    }
-
-    /**
-     * 대상 리스트 조회
-     */
-    private Either<Failure, Object> findTargetList(ListId targetListId) {
-        Optional<BoardList> targetListOpt = boardListRepository
-                .findById(targetListId);
-        if (targetListOpt.isEmpty()) {
-            log.warn("대상 리스트를 찾을 수 없음: targetListId={}", targetListId.getId());
-            return Either.left(Failure.ofNotFound(
-                    validationMessageResolver.getMessage("error.service.card.move.target_list_not_found")));
-        }
-        return Either.right(new Object());
-    }
-
-    /**
-     * 대상 보드 접근 권한 확인
-     */
-    private Either<Failure, Object> validateTargetBoardAccess(ListId targetListId, UserId userId) {
-        return validateBoardAccess(targetListId, userId);
+        return findListAncestry(targetListId, "error.service.card.move.target_list_not_found")
+                .flatMap(targetList -> verifyMoveAccess(targetList, userId))
+                .flatMap(targetList -> cardMovePolicy.canMoveToAnotherList(card, targetListId, newPosition)
+                        .flatMap(v -> executeMoveToAnotherList(card, sourceList, targetList, newPosition, userId)));
     }
 
     /**
      * 다른 리스트로 이동 실행
      */
-    private Either<Failure, Card> executeMoveToAnotherList(Card card, ListId targetListId, int newPosition,
-            UserId userId) {
-        ListId sourceListId = card.getListId();
+    private Either<Failure, Card> executeMoveToAnotherList(Card card, ListAncestry sourceList,
+            ListAncestry targetList, int newPosition, UserId userId) {
+        ListId targetListId = targetList.listId();
 
         adjustCardPositionsForRemoval(card.getListId(), card.getPosition());
         adjustCardPositionsForInsertion(targetListId, newPosition);
@@ -678,34 +634,28 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
                 card.getCardId().getId(), targetListId.getId(), newPosition);
 
         return cardRepository.save(card)
-                .peek(savedCard -> {
-                    logCardMoveActivity(userId, savedCard, sourceListId, targetListId);
-                });
+                .peek(savedCard -> logCardMoveActivity(userId, savedCard, sourceList, targetList));
     }
 
     /**
      * 카드 이동 활동 로그
-     */
-    private void logCardMoveActivity(UserId userId, Card savedCard, ListId sourceListId, ListId targetListId) {
-        var sourceList = boardListRepository.findById(sourceListId).orElse(null);
-        var targetList = boardListRepository.findById(targetListId).orElse(null);
-
-        if (sourceList != null && targetList != null) {
-            var boardOpt = boardRepository.findById(getBoardIdFromListId(targetListId));
-            String boardName = boardOpt.map(board -> board.getTitle()).orElse(
-                    validationMessageResolver.getMessage("error.service.board.unknown"));
-
-            activityHelper.logCardMove(
-                    userId,
-                    savedCard.getTitle(),
-                    sourceList.getTitle(),
-                    targetList.getTitle(),
-                    boardName,
-                    getBoardIdFromListId(targetListId),
-                    sourceList.getListId(),
-                    targetList.getListId(),
-                    savedCard.getCardId());
-        }
+     *
+     * <p>
+     * 권한 확인 때 조회한 원본/대상 리스트 계층 정보를 그대로 사용합니다.
+     * </p>
+     */
+    private void logCardMoveActivity(UserId userId, Card savedCard, ListAncestry sourceList,
+            ListAncestry targetList) {
+        activityHelper.logCardMove(
+                userId,
+                savedCard.getTitle(),
+                sourceList.listTitle(),
+                targetList.listTitle(),
+                targetList.boardTitle(),
+                targetList.boardId(),
+                sourceList.listId(),
+                targetList.listId(),
+                savedCard.getCardId());
     }
 
     /**
@@ -756,15 +706,6 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
         }
     }
 
-    /**
-     * 리스트 ID로부터 보드 ID를 조회하는 헬퍼 메서드
-     */
-    private BoardId getBoardIdFromListId(ListId listId) {
-        return boardListRepository.findById(listId)
-                .map(list -> list.getBoardId())
-                .orElse(null);
-    }
-
     // ==================== 컨텍스트 클래스들 ====================
 
     /**
@@ -774,21 +715,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
             UpdateCardCommand command,
             Card card,
             String oldTitle,
-            BoardList boardList,
-            Board board) {
-
-        /**
-         * BoardList와 Board 정보를 포함한 생성자
-         */
-        CardUpdateContext(UpdateCardCommand command, Card card, String oldTitle,
-                BoardList boardList,
-                Board board) {
-            this.command = command;
-            this.card = card;
-            this.oldTitle = oldTitle;
-            this.boardList = boardList;
-            this.board = board;
-        }
+            ListAncestry list) {
     }
 
     /**
@@ -796,6 +723,7 @@ public class UpdateCardService implements UpdateCardUseCase, MoveCardUseCase {
      */
     private record CardMoveContext(
             MoveCardCommand command,
-            Card card) {
+            Card card,
+            ListAncestry sourceList) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.boardly.features.card.application.usecase;
+
+import com.boardly.features.card.application.port.input.GetAssignedCardsQuery;
+import com.boardly.features.card.domain.model.AssignedCardPage;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+
+/**
+ * 내게 할당된 카드 목록 조회 유스케이스
+ */
+public interface GetAssignedCardsUseCase {
+
+    /**
+     * 접근 가능한 모든 보드에서 사용자에게 할당된 카드를 할당 시각 역순으로 조회
+     */
+    Either<Failure, AssignedCardPage> getAssignedCards(GetAssignedCardsQuery query);
+}
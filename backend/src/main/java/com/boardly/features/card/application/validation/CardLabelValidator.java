@@ -9,6 +9,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -27,18 +28,21 @@ public class CardLabelValidator {
     private final CommonValidationRules commonValidationRules;
     private final ValidationMessageResolver messageResolver;
 
+    private final Lazy<Validator<AddCardLabelCommand>> addValidator = Lazy.of(this::getAddValidator);
+    private final Lazy<Validator<RemoveCardLabelCommand>> removeValidator = Lazy.of(this::getRemoveValidator);
+
     /**
      * 카드 라벨 추가 커맨드 검증
      */
     public ValidationResult<AddCardLabelCommand> validateAdd(AddCardLabelCommand command) {
-        return getAddValidator().validate(command);
+        return addValidator.get().validate(command);
     }
 
     /**
      * 카드 라벨 제거 커맨드 검증
      */
     public ValidationResult<RemoveCardLabelCommand> validateRemove(RemoveCardLabelCommand command) {
-        return getRemoveValidator().validate(command);
+        return removeValidator.get().validate(command);
     }
 
     /**
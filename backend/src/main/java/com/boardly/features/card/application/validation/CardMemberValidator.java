@@ -9,6 +9,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -27,18 +28,21 @@ public class CardMemberValidator {
     private final CommonValidationRules commonValidationRules;
     private final ValidationMessageResolver messageResolver;
 
+    private final Lazy<Validator<AssignCardMemberCommand>> assignValidator = Lazy.of(this::getAssignValidator);
+    private final Lazy<Validator<UnassignCardMemberCommand>> unassignValidator = Lazy.of(this::getUnassignValidator);
+
     /**
      * 카드 멤버 할당 커맨드 검증
      */
     public ValidationResult<AssignCardMemberCommand> validateAssign(AssignCardMemberCommand command) {
-        return getAssignValidator().validate(command);
+        return assignValidator.get().validate(command);
     }
 
     /**
      * 카드 멤버 해제 커맨드 검증
      */
     public ValidationResult<UnassignCardMemberCommand> validateUnassign(UnassignCardMemberCommand command) {
-        return getUnassignValidator().validate(command);
+        return unassignValidator.get().validate(command);
     }
 
     /**
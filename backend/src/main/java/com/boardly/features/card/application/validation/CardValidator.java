@@ -12,6 +12,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -30,39 +31,45 @@ public class CardValidator {
     private final CommonValidationRules commonValidationRules;
     private final ValidationMessageResolver messageResolver;
 
+    private final Lazy<Validator<CreateCardCommand>> createValidator = Lazy.of(this::getCreateValidator);
+    private final Lazy<Validator<UpdateCardCommand>> updateValidator = Lazy.of(this::getUpdateValidator);
+    private final Lazy<Validator<DeleteCardCommand>> deleteValidator = Lazy.of(this::getDeleteValidator);
+    private final Lazy<Validator<MoveCardCommand>> moveValidator = Lazy.of(this::getMoveValidator);
+    private final Lazy<Validator<CloneCardCommand>> cloneValidator = Lazy.of(this::getCloneValidator);
+
     /**
      * 카드 생성 커맨드 검증
      */
     public ValidationResult<CreateCardCommand> validateCreate(CreateCardCommand command) {
-        return getCreateValidator().validate(command);
+        return createValidator.get().validate(command);
     }
 
     /**
      * 카드 수정 커맨드 검증
      */
     public ValidationResult<UpdateCardCommand> validateUpdate(UpdateCardCommand command) {
-        return getUpdateValidator().validate(command);
+        return updateValidator.get().validate(command);
     }
 
     /**
      * 카드 삭제 커맨드 검증
      */
     public ValidationResult<DeleteCardCommand> validateDelete(DeleteCardCommand command) {
-        return getDeleteValidator().validate(command);
+        return deleteValidator.get().validate(command);
     }
 
     /**
      * 카드 이동 커맨드 검증
      */
     public ValidationResult<MoveCardCommand> validateMove(MoveCardCommand command) {
-        return getMoveValidator().validate(command);
+        return moveValidator.get().validate(command);
     }
 
     /**
      * 카드 복제 커맨드 검증
      */
     public ValidationResult<CloneCardCommand> validateClone(CloneCardCommand command) {
-        return getCloneValidator().validate(command);
+        return cloneValidator.get().validate(command);
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.boardly.features.card.domain.model;
+
+import java.time.Instant;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+
+/**
+ * 사용자에게 할당된 카드 한 줄
+ *
+ * <p>
+ * 보드를 가로지르는 "내게 할당된 카드" 목록에 필요한 값만 담은 읽기 전용 모델입니다.
+ * 카드, 리스트, 보드 엔티티를 불러오지 않고 담당 관계에서 한 번의 조인으로 조회합니다.
+ * </p>
+ *
+ * @param assignmentId 담당 관계 행 ID (페이지 커서의 동점 구분용)
+ * @param assignedAt   할당 시각
+ * @param cardId       카드 ID
+ * @param title        카드 제목
+ * @param listId       리스트 ID
+ * @param listTitle    리스트 제목
+ * @param boardId      보드 ID
+ * @param boardTitle   보드 제목
+ * @param dueDate      마감일 (없으면 null)
+ * @param priority     우선순위 (없으면 null)
+ * @param completed    완료 여부
+ */
+public record AssignedCard(
+        long assignmentId,
+        Instant assignedAt,
+        CardId cardId,
+        String title,
+        ListId listId,
+        String listTitle,
+        BoardId boardId,
+        String boardTitle,
+        Instant dueDate,
+        CardPriority priority,
+        boolean completed) {
+
+    /**
+     * 기준 시각에 마감일이 지났고 아직 완료되지 않았는지 확인
+     */
+    public boolean isOverdue(Instant now) {
+        return !completed && dueDate != null && dueDate.isBefore(now);
+    }
+}
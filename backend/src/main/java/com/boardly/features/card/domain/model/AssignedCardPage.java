@@ -0,0 +1,16 @@
+package com.boardly.features.card.domain.model;
+
+import java.util.List;
+
+/**
+ * 할당된 카드 목록의 한 페이지
+ *
+ * @param cards      할당 시각 역순 카드 목록
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record AssignedCardPage(List<AssignedCard> cards, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.boardly.features.card.domain.model;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+
+/**
+ * 카드 → 리스트 → 보드 계층 정보
+ *
+ * @param cardId    카드 ID
+ * @param cardTitle 카드 제목
+ * @param list      카드가 속한 리스트와 보드 정보
+ */
+public record CardAncestry(
+        CardId cardId,
+        String cardTitle,
+        ListAncestry list) {
+
+    public ListId listId() {
+        return list.listId();
+    }
+
+    public BoardId boardId() {
+        return list.boardId();
+    }
+
+    public String boardTitle() {
+        return list.boardTitle();
+    }
+}
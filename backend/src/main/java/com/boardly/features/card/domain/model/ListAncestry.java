@@ -0,0 +1,36 @@
+package com.boardly.features.card.domain.model;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.user.domain.model.UserId;
+
+/**
+ * 리스트 → 보드 계층 정보
+ *
+ * <p>
+ * 권한 확인과 활동 로그 이름 표시에 필요한 값만 담은 읽기 전용 모델입니다.
+ * 리스트와 보드 엔티티를 각각 불러오는 대신 한 번의 조인으로 조회합니다.
+ * </p>
+ *
+ * @param listId        리스트 ID
+ * @param listTitle     리스트 제목
+ * @param boardId       보드 ID
+ * @param boardTitle    보드 제목
+ * @param ownerId       보드 소유자 ID
+ * @param boardArchived 보드 아카이브 여부
+ */
+public record ListAncestry(
+        ListId listId,
+        String listTitle,
+        BoardId boardId,
+        String boardTitle,
+        UserId ownerId,
+        boolean boardArchived) {
+
+    /**
+     * 보드 소유자인지 확인
+     */
+    public boolean isOwnedBy(UserId userId) {
+        return ownerId.equals(userId);
+    }
+}
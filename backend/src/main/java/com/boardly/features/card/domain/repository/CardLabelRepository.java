@@ -1,6 +1,7 @@
 package com.boardly.features.card.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
@@ -26,6 +27,11 @@ public interface CardLabelRepository {
      */
     List<LabelId> findLabelIdsByCardId(CardId cardId);
 
+    /**
+     * 보드에 속한 카드별 라벨 ID 조회 (라벨이 없는 카드는 포함하지 않음)
+     */
+    Map<CardId, List<LabelId>> findLabelIdsByBoardIdGroupByCardId(BoardId boardId);
+
     /**
      * 카드별 라벨 목록 조회 (Label 객체 반환)
      */
@@ -1,9 +1,11 @@
 package com.boardly.features.card.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.valueobject.CardMember;
 import com.boardly.features.user.domain.model.UserId;
@@ -27,6 +29,11 @@ public interface CardMemberRepository {
      */
     List<CardMember> findByCardIdOrderByAssignedAt(CardId cardId);
 
+    /**
+     * 보드에 속한 카드별 담당자 조회 (담당자가 없는 카드는 포함하지 않음)
+     */
+    Map<CardId, List<CardMember>> findByBoardIdGroupByCardId(BoardId boardId);
+
     /**
      * 사용자별 담당 카드 조회
      */
@@ -1,8 +1,10 @@
 package com.boardly.features.card.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.boardlist.domain.model.ListId;
@@ -58,9 +60,16 @@ public interface CardRepository {
 
   /**
    * 리스트별 카드 개수를 조회합니다.
+   * 카드 저장/삭제 시 함께 갱신되는 리스트의 카드 수 카운터를 읽습니다.
    */
   long countByListId(ListId listId);
 
+  /**
+   * 보드별 카드 개수를 조회합니다 (리스트 카운터 합계).
+   * 카드가 없는 보드는 결과에 포함되지 않을 수 있습니다.
+   */
+  Map<BoardId, Long> countByBoardIds(List<BoardId> boardIds);
+
   /**
    * 제목으로 카드를 검색합니다.
    */
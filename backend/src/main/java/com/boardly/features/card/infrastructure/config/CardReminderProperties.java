@@ -0,0 +1,55 @@
+package com.boardly.features.card.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 카드 마감 알림 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.card.reminder")
+public class CardReminderProperties {
+
+    /**
+     * 마감 알림 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 마감 몇 분 전에 알림을 보낼지
+     */
+    private long leadMinutes = 60;
+
+    /**
+     * 알림 시각 기준으로 미리 적재해 둘 구간(분). 재적재 주기보다 길어야 알림이 늦지 않습니다.
+     */
+    private long windowMinutes = 10;
+
+    /**
+     * 알림 대상 재적재 주기(ms). 다른 노드에서 바뀐 마감일도 이 주기 안에 반영됩니다.
+     */
+    private long reloadIntervalMs = 30_000;
+
+    /**
+     * 타이밍 휠 한 칸의 길이이자 만료 확인 주기(ms)
+     */
+    private long tickMs = 1_000;
+
+    /**
+     * 적재 쿼리 한 번에 읽을 카드 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 샤드 리스 유지 시간(초). 노드가 내려가면 이 시간이 지난 뒤 다른 노드가 샤드를 넘겨받습니다.
+     */
+    private long leaseSeconds = 90;
+
+    /**
+     * 노드 하나가 맡을 최대 샤드 수 (0이면 샤드 수를 살아 있는 노드 수로 나눈 몫을 올림해 맡음)
+     */
+    private int maxShardsPerNode = 0;
+}
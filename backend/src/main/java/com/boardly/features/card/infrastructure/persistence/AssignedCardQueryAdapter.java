@@ -0,0 +1,118 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.input.AssignedCardFilter;
+import com.boardly.features.card.application.port.output.AssignedCardQueryPort;
+import com.boardly.features.card.domain.model.AssignedCard;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.CardPriority;
+import com.boardly.features.user.domain.model.UserId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 할당된 카드 목록 조회 어댑터
+ *
+ * <p>
+ * {@code idx_card_members_user_assigned (user_id, assigned_at, id, card_id)}를 역방향으로 훑으면서
+ * 카드, 리스트, 보드를 기본 키로 조인하는 쿼리 한 번으로 페이지를 만듭니다. 보드 접근 권한(소유자 또는 활성 멤버)과
+ * 마감 필터도 같은 쿼리의 조건이라, 걸러지는 행 때문에 페이지를 다시 채우는 왕복이 없습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AssignedCardQueryAdapter implements AssignedCardQueryPort {
+
+    static final Duration WEEK = Duration.ofDays(7);
+
+    private static final String SELECT = """
+            SELECT cm.id AS assignmentId, cm.assignedAt AS assignedAt,
+                   c.cardId AS cardId, c.title AS title, c.dueDate AS dueDate,
+                   c.priority AS priority, c.isCompleted AS completed,
+                   l.listId AS listId, l.title AS listTitle,
+                   b.boardId AS boardId, b.title AS boardTitle
+            FROM CardMemberEntity cm
+            JOIN CardEntity c ON c.cardId = cm.cardId
+            JOIN BoardListEntity l ON l.listId = c.listId
+            JOIN BoardEntity b ON b.boardId = l.boardId
+            WHERE cm.userId = :userId
+              AND c.archived = false AND b.isArchived = false
+              AND (b.ownerId = :userId OR EXISTS (
+                    SELECT 1 FROM BoardMemberEntity m
+                    WHERE m.boardId = b.boardId AND m.userId = :userId AND m.isActive = true))
+            """;
+
+    private static final String AFTER_CURSOR = """
+              AND cm.assignedAt <= :afterAssignedAt
+              AND (cm.assignedAt < :afterAssignedAt OR cm.id < :afterAssignmentId)
+            """;
+
+    private static final String ORDER_BY = "ORDER BY cm.assignedAt DESC, cm.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AssignedCard> findAssignedCards(UserId userId, AssignedCardFilter filter, Instant now, Cursor after,
+            int limit) {
+        log.debug("할당된 카드 조회: userId={}, filter={}, after={}, limit={}", userId.getId(), filter, after, limit);
+
+        StringBuilder jpql = new StringBuilder(SELECT);
+        switch (filter) {
+            case ALL -> {
+            }
+            case INCOMPLETE -> jpql.append("  AND c.isCompleted = false\n");
+            case OVERDUE -> jpql.append("  AND c.isCompleted = false AND c.dueDate < :now\n");
+            case DUE_THIS_WEEK ->
+                jpql.append("  AND c.isCompleted = false AND c.dueDate >= :now AND c.dueDate < :weekEnd\n");
+        }
+        if (after != null) {
+            jpql.append(AFTER_CURSOR);
+        }
+        jpql.append(ORDER_BY);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("userId", userId.getId())
+                .setMaxResults(limit);
+        if (filter == AssignedCardFilter.OVERDUE || filter == AssignedCardFilter.DUE_THIS_WEEK) {
+            query.setParameter("now", now);
+        }
+        if (filter == AssignedCardFilter.DUE_THIS_WEEK) {
+            query.setParameter("weekEnd", now.plus(WEEK));
+        }
+        if (after != null) {
+            query.setParameter("afterAssignedAt", after.assignedAt())
+                    .setParameter("afterAssignmentId", after.assignmentId());
+        }
+
+        return query.getResultStream()
+                .map(this::toAssignedCard)
+                .toList();
+    }
+
+    private AssignedCard toAssignedCard(Tuple row) {
+        return new AssignedCard(
+                row.get("assignmentId", Long.class),
+                row.get("assignedAt", Instant.class),
+                new CardId(row.get("cardId", String.class)),
+                row.get("title", String.class),
+                new ListId(row.get("listId", String.class)),
+                row.get("listTitle", String.class),
+                new BoardId(row.get("boardId", String.class)),
+                row.get("boardTitle", String.class),
+                row.get("dueDate", Instant.class),
+                CardPriority.fromValue(row.get("priority", String.class)),
+                row.get("completed", Boolean.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.domain.model.CardAncestry;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
+import com.boardly.features.user.domain.model.UserId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드/리스트 계층 정보 조회 어댑터
+ *
+ * <p>
+ * 엔티티를 로딩하지 않고 기본 키 조인 한 번으로 필요한 컬럼만 읽습니다.
+ * 카드의 담당자 컬렉션 같은 연관 관계도 건드리지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CardAncestryAdapter implements CardAncestryPort {
+
+    private static final String CARD_ANCESTRY = """
+            SELECT c.cardId AS cardId, c.title AS cardTitle,
+                   l.listId AS listId, l.title AS listTitle,
+                   b.boardId AS boardId, b.title AS boardTitle, b.ownerId AS ownerId, b.isArchived AS archived
+            FROM CardEntity c
+            JOIN BoardListEntity l ON l.listId = c.listId
+            JOIN BoardEntity b ON b.boardId = l.boardId
+            WHERE c.cardId = :cardId
+            """;
+
+    private static final String LIST_ANCESTRY = """
+            SELECT l.listId AS listId, l.title AS listTitle,
+                   b.boardId AS boardId, b.title AS boardTitle, b.ownerId AS ownerId, b.isArchived AS archived
+            FROM BoardListEntity l
+            JOIN BoardEntity b ON b.boardId = l.boardId
+            WHERE l.listId = :listId
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<CardAncestry> findByCardId(CardId cardId) {
+        log.debug("카드 계층 조회: cardId={}", cardId.getId());
+        return entityManager.createQuery(CARD_ANCESTRY, Tuple.class)
+                .setParameter("cardId", cardId.getId())
+                .getResultStream()
+                .findFirst()
+                .map(row -> new CardAncestry(
+                        new CardId(row.get("cardId", String.class)),
+                        row.get("cardTitle", String.class),
+                        toListAncestry(row)));
+    }
+
+    @Override
+    public Optional<ListAncestry> findByListId(ListId listId) {
+        log.debug("리스트 계층 조회: listId={}", listId.getId());
+        return entityManager.createQuery(LIST_ANCESTRY, Tuple.class)
+                .setParameter("listId", listId.getId())
+                .getResultStream()
+                .findFirst()
+                .map(this::toListAncestry);
+    }
+
+    private ListAncestry toListAncestry(Tuple row) {
+        return new ListAncestry(
+                new ListId(row.get("listId", String.class)),
+                row.get("listTitle", String.class),
+                new BoardId(row.get("boardId", String.class)),
+                row.get("boardTitle", String.class),
+                new UserId(row.get("ownerId", String.class)),
+                row.get("archived", Boolean.class));
+    }
+}
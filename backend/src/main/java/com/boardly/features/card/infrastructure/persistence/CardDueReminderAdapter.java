@@ -0,0 +1,121 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.card.application.port.output.CardDueReminderPort;
+import com.boardly.features.card.domain.model.CardId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 마감 알림 어댑터
+ *
+ * <p>
+ * 조회는 {@code idx_cards_due_date}의 마감일 범위만 훑도록 마감일 조건을 앞에 두고,
+ * 완료/보관/발송 여부는 범위 안에서 거릅니다. 발송 기록은 엔티티를 로딩하지 않는 조건부 UPDATE라
+ * 카드의 {@code version}을 올리지 않으며, 동시에 수정 중인 사용자의 낙관적 잠금과 부딪히지 않습니다.
+ * </p>
+ * <p>
+ * 샤드 조건은 저장된 {@code reminder_bucket}으로 데이터베이스에서 거릅니다. 버킷이 비어 있는 카드(버킷 컬럼 추가 전에 만든 카드)는
+ * 샤드와 관계없이 읽어 그 자리에서 버킷을 채우므로, 한 번 읽힌 뒤에는 맡은 노드만 읽습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CardDueReminderAdapter implements CardDueReminderPort {
+
+    private static final String UNREMINDED = """
+            SELECT c.cardId AS cardId, c.dueDate AS dueDate, c.reminderBucket AS reminderBucket
+            FROM CardEntity c
+            WHERE c.dueDate > :afterDueDate AND c.dueDate <= :until
+              AND c.isCompleted = false AND c.archived = false
+              AND (c.remindedDueDate IS NULL OR c.remindedDueDate <> c.dueDate)
+              AND (c.reminderBucket IS NULL OR MOD(c.reminderBucket, :shardCount) IN :shards)
+            ORDER BY c.dueDate, c.cardId
+            """;
+
+    private static final String UNREMINDED_AFTER = """
+            SELECT c.cardId AS cardId, c.dueDate AS dueDate, c.reminderBucket AS reminderBucket
+            FROM CardEntity c
+            WHERE c.dueDate >= :afterDueDate AND c.dueDate <= :until
+              AND (c.dueDate > :afterDueDate OR c.cardId > :afterCardId)
+              AND c.isCompleted = false AND c.archived = false
+              AND (c.remindedDueDate IS NULL OR c.remindedDueDate <> c.dueDate)
+              AND (c.reminderBucket IS NULL OR MOD(c.reminderBucket, :shardCount) IN :shards)
+            ORDER BY c.dueDate, c.cardId
+            """;
+
+    private static final String MARK_REMINDED = """
+            UPDATE CardEntity c SET c.remindedDueDate = :dueDate
+            WHERE c.cardId = :cardId AND c.dueDate = :dueDate
+              AND c.isCompleted = false AND c.archived = false
+              AND (c.remindedDueDate IS NULL OR c.remindedDueDate <> :dueDate)
+            """;
+
+    private static final String FILL_REMINDER_BUCKET = """
+            UPDATE CardEntity c SET c.reminderBucket = :bucket
+            WHERE c.cardId IN :cardIds AND c.reminderBucket IS NULL
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<DueCard> findUnreminded(Instant afterDueDate, CardId afterCardId, Instant until, int shardCount,
+            Set<Integer> shards, int limit) {
+        TypedQuery<Tuple> query = afterCardId == null
+                ? entityManager.createQuery(UNREMINDED, Tuple.class)
+                : entityManager.createQuery(UNREMINDED_AFTER, Tuple.class)
+                        .setParameter("afterCardId", afterCardId.getId());
+        List<Tuple> rows = query
+                .setParameter("afterDueDate", afterDueDate)
+                .setParameter("until", until)
+                .setParameter("shardCount", shardCount)
+                .setParameter("shards", shards)
+                .setMaxResults(limit)
+                .getResultList();
+        fillReminderBuckets(rows);
+        return rows.stream()
+                .map(row -> new DueCard(
+                        new CardId(row.get("cardId", String.class)),
+                        row.get("dueDate", Instant.class)))
+                .toList();
+    }
+
+    /**
+     * 버킷이 비어 있던 카드의 버킷을 채웁니다. 같은 버킷끼리 묶어 UPDATE 하며, 다른 노드가 먼저 채웠으면 건너뜁니다.
+     */
+    private void fillReminderBuckets(List<Tuple> rows) {
+        Map<Integer, List<String>> cardIdsByBucket = rows.stream()
+                .filter(row -> row.get("reminderBucket") == null)
+                .map(row -> row.get("cardId", String.class))
+                .collect(Collectors.groupingBy(CardEntity::reminderBucketOf));
+        cardIdsByBucket.forEach((bucket, cardIds) -> entityManager.createQuery(FILL_REMINDER_BUCKET)
+                .setParameter("bucket", bucket)
+                .setParameter("cardIds", cardIds)
+                .executeUpdate());
+        if (!cardIdsByBucket.isEmpty()) {
+            log.debug("카드 마감 알림 버킷 채움: buckets={}", cardIdsByBucket.size());
+        }
+    }
+
+    @Override
+    public boolean markReminded(CardId cardId, Instant dueDate) {
+        int updated = entityManager.createQuery(MARK_REMINDED)
+                .setParameter("cardId", cardId.getId())
+                .setParameter("dueDate", dueDate)
+                .executeUpdate();
+        log.debug("카드 마감 알림 기록: cardId={}, dueDate={}, updated={}", cardId.getId(), dueDate, updated);
+        return updated > 0;
+    }
+}
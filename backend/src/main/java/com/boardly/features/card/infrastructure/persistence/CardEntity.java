@@ -2,6 +2,7 @@ package com.boardly.features.card.infrastructure.persistence;
 
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -11,6 +12,7 @@ import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.model.CardPriority;
 import com.boardly.features.card.domain.valueobject.CardMember;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -25,8 +27,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 @Entity
+@DynamicUpdate
 @Table(name = "cards", indexes = {
         @Index(name = "idx_card_list_id", columnList = "list_id"),
         @Index(name = "idx_card_position", columnList = "list_id, position"),
@@ -37,7 +42,11 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardEntity {
+    /** 마감 알림 버킷 수. 샤드 수는 이 값보다 작아야 고르게 나뉩니다. */
+    public static final int REMINDER_BUCKETS = 1024;
+
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "card_id", nullable = false, length = 36)
     private String cardId;
 
@@ -56,6 +65,18 @@ public class CardEntity {
     @Column(name = "start_date")
     private Instant startDate;
 
+    /**
+     * 마감 알림을 보낸 마감일. 알림 스케줄러가 조건부 UPDATE로만 기록하고 엔티티 저장에서는 쓰지 않습니다.
+     */
+    @Column(name = "reminded_due_date", insertable = false, updatable = false)
+    private Instant remindedDueDate;
+
+    /**
+     * 마감 알림 버킷 ({@link #reminderBucketOf(String)}). 알림 대상 조회가 맡은 샤드의 카드만 읽는 데 씁니다.
+     */
+    @Column(name = "reminder_bucket", updatable = false)
+    private Integer reminderBucket;
+
     @Column(name = "archived", nullable = false, columnDefinition = "boolean default false")
     private boolean archived = false;
 
@@ -65,9 +86,11 @@ public class CardEntity {
     @Column(name = "is_completed", nullable = false, columnDefinition = "boolean default false")
     private boolean isCompleted = false;
 
+    @Type(UlidIdType.class)
     @Column(name = "list_id", nullable = false)
     private String listId;
 
+    @Type(UlidIdType.class)
     @Column(name = "created_by", nullable = false)
     private String createdBy;
 
@@ -92,6 +115,7 @@ public class CardEntity {
             String createdBy, Instant createdAt, Instant updatedAt,
             Set<CardMemberEntity> assignedMembers) {
         this.cardId = cardId;
+        this.reminderBucket = cardId != null ? reminderBucketOf(cardId) : null;
         this.title = title;
         this.description = description;
         this.position = position;
@@ -107,6 +131,13 @@ public class CardEntity {
         this.assignedMembers = assignedMembers;
     }
 
+    /**
+     * 카드 ID 해시로 정한 마감 알림 버킷. 샤드 번호는 이 값을 샤드 수로 나눈 나머지입니다.
+     */
+    public static int reminderBucketOf(String cardId) {
+        return Math.floorMod(cardId.hashCode(), REMINDER_BUCKETS);
+    }
+
     /**
      * Domain Card 객체로 변환
      */
@@ -161,33 +192,50 @@ public class CardEntity {
 
     /**
      * 도메인 객체의 변경사항을 반영
+     * 바뀐 컬럼만 UPDATE 되며, 바뀐 값이 없으면 수정 시간도 그대로 두어 UPDATE가 나가지 않습니다.
      */
     public void updateFromDomainEntity(Card card) {
-        this.title = card.getTitle();
-        this.description = card.getDescription();
-        this.position = card.getPosition();
-        this.listId = card.getListId().getId();
-        this.dueDate = card.getDueDate();
-        this.startDate = card.getStartDate();
-        this.priority = card.getPriority() != null ? card.getPriority().getValue() : null;
-        this.isCompleted = card.isCompleted();
-        this.updatedAt = Instant.now();
+        String newPriority = card.getPriority() != null ? card.getPriority().getValue() : null;
+        boolean changed = !Objects.equals(title, card.getTitle())
+                || !Objects.equals(description, card.getDescription())
+                || position != card.getPosition()
+                || !Objects.equals(listId, card.getListId().getId())
+                || !Objects.equals(dueDate, card.getDueDate())
+                || !Objects.equals(startDate, card.getStartDate())
+                || archived != card.isArchived()
+                || !Objects.equals(priority, newPriority)
+                || isCompleted != card.isCompleted();
+        if (changed) {
+            this.title = card.getTitle();
+            this.description = card.getDescription();
+            this.position = card.getPosition();
+            this.listId = card.getListId().getId();
+            this.dueDate = card.getDueDate();
+            this.startDate = card.getStartDate();
+            this.archived = card.isArchived();
+            this.priority = newPriority;
+            this.isCompleted = card.isCompleted();
+            this.updatedAt = Instant.now();
+        }
         updateAssignedMembers(card.getAssignedMembers());
     }
 
     /**
      * 담당자 정보 업데이트
+     * 빠진 담당자만 지우고 새 담당자만 추가합니다.
      */
     private void updateAssignedMembers(Set<CardMember> newMembers) {
-        // 기존 담당자 제거
-        assignedMembers.clear();
-
-        // 새 담당자 추가
-        Set<CardMemberEntity> newMemberEntities = newMembers.stream()
-                .map(member -> CardMemberEntity.from(cardId, member))
+        Set<String> newUserIds = newMembers.stream()
+                .map(member -> member.getUserId().getId())
                 .collect(Collectors.toSet());
+        assignedMembers.removeIf(member -> !newUserIds.contains(member.getUserId()));
 
-        assignedMembers.addAll(newMemberEntities);
+        Set<String> currentUserIds = assignedMembers.stream()
+                .map(CardMemberEntity::getUserId)
+                .collect(Collectors.toSet());
+        newMembers.stream()
+                .filter(member -> !currentUserIds.contains(member.getUserId().getId()))
+                .forEach(member -> assignedMembers.add(CardMemberEntity.from(cardId, member)));
     }
 
     /**
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -58,9 +59,36 @@ public interface CardJpaRepository extends JpaRepository<CardEntity, String> {
   List<CardEntity> findByListIdAndPositionBetween(String listId, int startPosition, int endPosition);
 
   /**
-   * 리스트별 카드 개수를 조회
+   * 카드가 속한 리스트 ID 조회 (카운터 증감 대상 확인용)
    */
-  long countByListId(String listId);
+  @Query("SELECT c.listId FROM CardEntity c WHERE c.cardId = :cardId")
+  Optional<String> findListIdByCardId(@Param("cardId") String cardId);
+
+  /**
+   * 리스트의 카드 수 카운터 조회
+   */
+  @Query("SELECT l.cardCount FROM BoardListEntity l WHERE l.listId = :listId")
+  Optional<Integer> findCardCountByListId(@Param("listId") String listId);
+
+  /**
+   * 보드별 카드 수 합계 조회 ([boardId, cardCount])
+   */
+  @Query("SELECT l.boardId, SUM(l.cardCount) FROM BoardListEntity l WHERE l.boardId IN :boardIds GROUP BY l.boardId")
+  List<Object[]> sumCardCountsByBoardIds(@Param("boardIds") List<String> boardIds);
+
+  /**
+   * 리스트의 카드 수 카운터 증감
+   */
+  @Modifying
+  @Query("UPDATE BoardListEntity l SET l.cardCount = l.cardCount + :delta WHERE l.listId = :listId")
+  int adjustCardCount(@Param("listId") String listId, @Param("delta") int delta);
+
+  /**
+   * 리스트의 카드 수 카운터 초기화 (리스트의 모든 카드 삭제 시)
+   */
+  @Modifying
+  @Query("UPDATE BoardListEntity l SET l.cardCount = 0 WHERE l.listId = :listId")
+  int resetCardCount(@Param("listId") String listId);
 
   /**
    * 제목으로 카드를 검색 (담당자 정보 포함)
@@ -1,5 +1,6 @@
 package com.boardly.features.card.infrastructure.persistence;
 
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 import java.time.Instant;
 
 import jakarta.persistence.Entity;
@@ -10,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import org.hibernate.annotations.Type;
 
 /**
  * 카드-라벨 연결 JPA 엔티티 (Many-to-Many 연결 테이블)
@@ -25,9 +27,11 @@ public class CardLabelEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Type(UlidIdType.class)
     @Column(name = "card_id", nullable = false, length = 50)
     private String cardId;
 
+    @Type(UlidIdType.class)
     @Column(name = "label_id", nullable = false, length = 50)
     private String labelId;
 
@@ -19,6 +19,15 @@ public interface CardLabelJpaRepository extends JpaRepository<CardLabelEntity, L
     @Query("SELECT cl.labelId FROM CardLabelEntity cl WHERE cl.cardId = :cardId ORDER BY cl.appliedAt ASC")
     List<String> findLabelIdsByCardId(@Param("cardId") String cardId);
 
+    /**
+     * 보드에 속한 카드의 라벨 조회 ([cardId, labelId], 적용 순)
+     */
+    @Query("SELECT cl.cardId, cl.labelId FROM CardLabelEntity cl " +
+            "JOIN CardEntity c ON c.cardId = cl.cardId " +
+            "JOIN BoardListEntity l ON l.listId = c.listId " +
+            "WHERE l.boardId = :boardId ORDER BY cl.appliedAt ASC")
+    List<Object[]> findCardLabelIdsByBoardId(@Param("boardId") String boardId);
+
     /**
      * 카드별 라벨 정보 조회 (JOIN으로 한 번에 조회)
      */
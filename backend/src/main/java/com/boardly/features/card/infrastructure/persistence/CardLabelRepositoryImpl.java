@@ -1,6 +1,9 @@
 package com.boardly.features.card.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
@@ -74,6 +77,16 @@ public class CardLabelRepositoryImpl implements CardLabelRepository {
         return labelIds;
     }
 
+    @Override
+    public Map<CardId, List<LabelId>> findLabelIdsByBoardIdGroupByCardId(BoardId boardId) {
+        Map<CardId, List<LabelId>> cardLabels = new HashMap<>();
+        for (Object[] row : cardLabelJpaRepository.findCardLabelIdsByBoardId(boardId.getId())) {
+            cardLabels.computeIfAbsent(new CardId((String) row[0]), cardId -> new ArrayList<>())
+                    .add(new LabelId((String) row[1]));
+        }
+        return cardLabels;
+    }
+
     @Override
     public List<Label> findLabelsByCardId(CardId cardId) {
         log.debug("카드별 라벨 조회 시작: cardId={}", cardId.getId());
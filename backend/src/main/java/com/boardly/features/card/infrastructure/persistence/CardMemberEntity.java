@@ -4,6 +4,7 @@ import java.time.Instant;
 
 import com.boardly.features.card.domain.valueobject.CardMember;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,11 +15,12 @@ import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "card_members", uniqueConstraints = @UniqueConstraint(columnNames = { "card_id", "user_id" }), indexes = {
         @Index(name = "idx_card_member_card_id", columnList = "card_id"),
-        @Index(name = "idx_card_member_user_id", columnList = "user_id")
+        @Index(name = "idx_card_members_user_assigned", columnList = "user_id, assigned_at, id, card_id")
 })
 @Getter
 public class CardMemberEntity {
@@ -27,9 +29,11 @@ public class CardMemberEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Type(UlidIdType.class)
     @Column(name = "card_id", nullable = false, length = 36)
     private String cardId;
 
+    @Type(UlidIdType.class)
     @Column(name = "user_id", nullable = false, length = 36)
     private String userId;
 
@@ -16,6 +16,15 @@ public interface CardMemberJpaRepository extends JpaRepository<CardMemberEntity,
     @Query("SELECT cm FROM CardMemberEntity cm WHERE cm.cardId = :cardId ORDER BY cm.assignedAt ASC")
     List<CardMemberEntity> findByCardIdOrderByAssignedAt(@Param("cardId") String cardId);
 
+    /**
+     * 보드에 속한 카드의 담당자 조회 (할당 순)
+     */
+    @Query("SELECT cm FROM CardMemberEntity cm " +
+            "JOIN CardEntity c ON c.cardId = cm.cardId " +
+            "JOIN BoardListEntity l ON l.listId = c.listId " +
+            "WHERE l.boardId = :boardId ORDER BY cm.assignedAt ASC")
+    List<CardMemberEntity> findByBoardIdOrderByAssignedAt(@Param("boardId") String boardId);
+
     /**
      * 사용자별 담당 카드 조회
      */
@@ -1,11 +1,15 @@
 package com.boardly.features.card.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
 import com.boardly.features.card.domain.repository.CardMemberRepository;
 import com.boardly.features.card.domain.valueobject.CardMember;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
@@ -70,6 +74,16 @@ public class CardMemberRepositoryImpl implements CardMemberRepository {
         return cardMembers;
     }
 
+    @Override
+    public Map<CardId, List<CardMember>> findByBoardIdGroupByCardId(BoardId boardId) {
+        Map<CardId, List<CardMember>> cardMembers = new HashMap<>();
+        for (CardMemberEntity entity : cardMemberJpaRepository.findByBoardIdOrderByAssignedAt(boardId.getId())) {
+            cardMembers.computeIfAbsent(new CardId(entity.getCardId()), cardId -> new ArrayList<>())
+                    .add(cardMemberMapper.toDomain(entity));
+        }
+        return cardMembers;
+    }
+
     @Override
     public List<CardMember> findByUserIdOrderByAssignedAtDesc(UserId userId) {
         log.debug("사용자별 담당 카드 조회 시작: userId={}", userId.getId());
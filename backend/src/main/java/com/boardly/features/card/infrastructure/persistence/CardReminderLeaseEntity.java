@@ -0,0 +1,36 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감 알림 샤드 리스
+ *
+ * <p>
+ * 샤드마다 한 행이며, 리스를 잡은 노드 하나만 그 샤드의 카드를 적재합니다.
+ * 샤드 번호는 리스 이름순 순번입니다.
+ * </p>
+ */
+@Entity
+@Table(name = "card_reminder_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardReminderLeaseEntity {
+
+    @Id
+    @Column(name = "lease_name", nullable = false, length = 50)
+    private String leaseName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private Instant leaseUntil;
+}
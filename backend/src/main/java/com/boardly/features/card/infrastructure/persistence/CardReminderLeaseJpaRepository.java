@@ -0,0 +1,41 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardReminderLeaseJpaRepository extends JpaRepository<CardReminderLeaseEntity, String> {
+
+    /**
+     * 샤드 리스 목록 (이름순 순번이 샤드 번호)
+     */
+    List<CardReminderLeaseEntity> findAllByOrderByLeaseNameAsc();
+
+    /**
+     * 리스 획득 또는 연장 (만료되었거나 이미 소유한 경우에만 갱신)
+     *
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Modifying
+    @Query("UPDATE CardReminderLeaseEntity l SET l.owner = :owner, l.leaseUntil = :leaseUntil "
+            + "WHERE l.leaseName = :leaseName AND (l.leaseUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("leaseName") String leaseName, @Param("owner") String owner,
+            @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * 소유한 리스를 바로 만료시켜 다른 노드가 다음 획득 시도에서 가져가게 합니다.
+     *
+     * @return 갱신된 행 수 (0이면 이미 다른 노드가 소유)
+     */
+    @Modifying
+    @Query("UPDATE CardReminderLeaseEntity l SET l.leaseUntil = :expiredAt "
+            + "WHERE l.leaseName = :leaseName AND l.owner = :owner")
+    int release(@Param("leaseName") String leaseName, @Param("owner") String owner,
+            @Param("expiredAt") Instant expiredAt);
+}
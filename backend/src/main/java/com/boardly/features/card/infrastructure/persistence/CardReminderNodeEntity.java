@@ -0,0 +1,35 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감 알림 스케줄러를 실행 중인 노드의 하트비트
+ */
+@Entity
+@Table(name = "card_reminder_nodes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardReminderNodeEntity {
+
+    @Id
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Instant heartbeatAt;
+
+    public static CardReminderNodeEntity create(String nodeId, Instant heartbeatAt) {
+        CardReminderNodeEntity entity = new CardReminderNodeEntity();
+        entity.nodeId = nodeId;
+        entity.heartbeatAt = heartbeatAt;
+        return entity;
+    }
+}
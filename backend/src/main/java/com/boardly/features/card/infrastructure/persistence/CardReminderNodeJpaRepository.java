@@ -0,0 +1,34 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardReminderNodeJpaRepository extends JpaRepository<CardReminderNodeEntity, String> {
+
+    /**
+     * 노드 하트비트 갱신
+     *
+     * @return 갱신된 행 수 (0이면 아직 등록되지 않은 노드)
+     */
+    @Modifying
+    @Query("UPDATE CardReminderNodeEntity n SET n.heartbeatAt = :now WHERE n.nodeId = :nodeId")
+    int touch(@Param("nodeId") String nodeId, @Param("now") Instant now);
+
+    /**
+     * 기준 시각 이후 하트비트를 남긴 노드 수
+     */
+    long countByHeartbeatAtAfter(Instant since);
+
+    /**
+     * 기준 시각 전에 마지막 하트비트를 남긴(내려간) 노드 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CardReminderNodeEntity n WHERE n.heartbeatAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
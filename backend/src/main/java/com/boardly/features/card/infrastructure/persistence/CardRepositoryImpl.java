@@ -1,10 +1,15 @@
 package com.boardly.features.card.infrastructure.persistence;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
@@ -28,13 +33,17 @@ public class CardRepositoryImpl implements CardRepository {
     log.debug("카드 저장 시작: cardId={}, title={}", card.getCardId(), card.getTitle());
 
     try {
-      var entity = cardMapper.toEntity(card);
-      var savedEntity = cardJpaRepository.save(entity);
+      Map<String, Integer> countDeltas = new HashMap<>();
+      var savedEntity = saveEntity(card, countDeltas);
+      applyCardCountDeltas(countDeltas);
       var savedCard = cardMapper.toDomain(savedEntity);
       log.debug("카드 저장 성공: cardId={}, title={}",
           savedCard.getCardId(), savedCard.getTitle());
 
       return Either.right(savedCard);
+    } catch (OptimisticLockingFailureException e) {
+      // 버전 충돌은 실패 값으로 바꾸지 않고 던져서 트랜잭션이 롤백되고 유스케이스가 재시도되게 합니다
+      throw e;
     } catch (Exception e) {
       log.error("카드 저장 실패: cardId={}, title={}, 예외={}", card.getCardId(), card.getTitle(), e.getMessage());
       return Either.left(Failure.ofInternalServerError("카드 저장 실패: " + e.getMessage()));
@@ -112,12 +121,14 @@ public class CardRepositoryImpl implements CardRepository {
     try {
       log.debug("카드 삭제 시작: cardId={}", cardId.getId());
 
-      if (!cardJpaRepository.existsById(cardId.getId())) {
+      var listId = cardJpaRepository.findListIdByCardId(cardId.getId());
+      if (listId.isEmpty()) {
         log.warn("삭제할 카드가 존재하지 않음: cardId={}", cardId.getId());
         return Either.left(Failure.ofNotFound("카드를 찾을 수 없습니다."));
       }
 
       cardJpaRepository.deleteById(cardId.getId());
+      cardJpaRepository.adjustCardCount(listId.get(), -1);
       log.debug("카드 삭제 완료: cardId={}", cardId.getId());
 
       return Either.right(null);
@@ -138,11 +149,25 @@ public class CardRepositoryImpl implements CardRepository {
   @Override
   public long countByListId(ListId listId) {
     log.debug("리스트별 카드 개수 조회 시작: listId={}", listId.getId());
-    long count = cardJpaRepository.countByListId(listId.getId());
+    long count = cardJpaRepository.findCardCountByListId(listId.getId()).orElse(0);
     log.debug("리스트별 카드 개수 조회 완료: listId={}, count={}", listId.getId(), count);
     return count;
   }
 
+  @Override
+  public Map<BoardId, Long> countByBoardIds(List<BoardId> boardIds) {
+    if (boardIds.isEmpty()) {
+      return Map.of();
+    }
+    var ids = boardIds.stream().map(BoardId::getId).toList();
+    Map<BoardId, Long> counts = new HashMap<>();
+    for (Object[] row : cardJpaRepository.sumCardCountsByBoardIds(ids)) {
+      counts.put(new BoardId((String) row[0]), ((Number) row[1]).longValue());
+    }
+    log.debug("보드별 카드 개수 조회 완료: 보드 개수={}", counts.size());
+    return counts;
+  }
+
   @Override
   public List<Card> findByListIdAndTitleContaining(ListId listId, String title) {
     log.debug("리스트 ID와 제목으로 카드 조회 시작: listId={}, title={}",
@@ -173,11 +198,11 @@ public class CardRepositoryImpl implements CardRepository {
   public List<Card> saveAll(List<Card> cards) {
     log.debug("카드 목록 저장 시작: 카드 개수={}", cards.size());
 
-    var entities = cards.stream()
-        .map(cardMapper::toEntity)
+    Map<String, Integer> countDeltas = new HashMap<>();
+    var savedEntities = cards.stream()
+        .map(card -> saveEntity(card, countDeltas))
         .toList();
-
-    var savedEntities = cardJpaRepository.saveAll(entities);
+    applyCardCountDeltas(countDeltas);
     var savedCards = savedEntities.stream()
         .map(cardMapper::toDomain)
         .toList();
@@ -229,6 +254,7 @@ public class CardRepositoryImpl implements CardRepository {
     try {
       log.debug("리스트의 모든 카드 삭제 시작: listId={}", listId.getId());
       cardJpaRepository.deleteByListId(listId.getId());
+      cardJpaRepository.resetCardCount(listId.getId());
       log.debug("리스트의 모든 카드 삭제 완료: listId={}", listId.getId());
       return Either.right(null);
     } catch (Exception e) {
@@ -238,7 +264,7 @@ public class CardRepositoryImpl implements CardRepository {
   }
 
   @Override
-  public Either<Failure, Void> deleteByBoardId(com.boardly.features.board.domain.model.BoardId boardId) {
+  public Either<Failure, Void> deleteByBoardId(BoardId boardId) {
     try {
       log.debug("보드의 모든 카드 삭제 시작: boardId={}", boardId.getId());
       // 보드의 모든 리스트 ID를 가져와서 해당 리스트의 모든 카드를 삭제
@@ -252,4 +278,38 @@ public class CardRepositoryImpl implements CardRepository {
       return Either.left(Failure.ofInternalServerError("보드의 카드 삭제에 실패했습니다: " + e.getMessage()));
     }
   }
+
+  /**
+   * 기존 카드는 영속 엔티티에 바뀐 값만 반영하고, 새 카드만 INSERT 합니다.
+   * 같은 트랜잭션에서 조회한 카드는 영속성 컨텍스트에서 꺼내므로 다시 SELECT 하지 않으며,
+   * 플러시 때 바뀐 컬럼만 버전 조건과 함께 UPDATE 됩니다.
+   * 카드가 다른 리스트로 옮겨졌거나 새로 생성되면 리스트 카드 수 증감량을 모읍니다.
+   */
+  private CardEntity saveEntity(Card card, Map<String, Integer> countDeltas) {
+    var existing = cardJpaRepository.findById(card.getCardId().getId());
+    if (existing.isPresent()) {
+      var entity = existing.get();
+      var previousListId = entity.getListId();
+      entity.updateFromDomainEntity(card);
+      if (!Objects.equals(previousListId, entity.getListId())) {
+        countDeltas.merge(previousListId, -1, Integer::sum);
+        countDeltas.merge(entity.getListId(), 1, Integer::sum);
+      }
+      return entity;
+    }
+    var savedEntity = cardJpaRepository.save(cardMapper.toEntity(card));
+    countDeltas.merge(savedEntity.getListId(), 1, Integer::sum);
+    return savedEntity;
+  }
+
+  /**
+   * 리스트별 카드 수 증감량을 한 번씩 반영합니다.
+   */
+  private void applyCardCountDeltas(Map<String, Integer> countDeltas) {
+    countDeltas.forEach((listId, delta) -> {
+      if (delta != 0) {
+        cardJpaRepository.adjustCardCount(listId, delta);
+      }
+    });
+  }
 }
@@ -0,0 +1,451 @@
+package com.boardly.features.card.infrastructure.reminder;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.features.card.application.port.output.CardDueDateListener;
+import com.boardly.features.card.application.port.output.CardDueReminderPort;
+import com.boardly.features.card.application.port.output.CardDueReminderPort.DueCard;
+import com.boardly.features.card.application.service.CardDueReminderService;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.infrastructure.config.CardReminderProperties;
+import com.boardly.features.card.infrastructure.persistence.CardEntity;
+import com.boardly.features.card.infrastructure.persistence.CardReminderLeaseEntity;
+import com.boardly.features.card.infrastructure.persistence.CardReminderLeaseJpaRepository;
+import com.boardly.features.card.infrastructure.persistence.CardReminderNodeEntity;
+import com.boardly.features.card.infrastructure.persistence.CardReminderNodeJpaRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 마감 알림 스케줄러
+ *
+ * <p>
+ * 카드 테이블을 주기마다 전부 훑는 대신, 알림 시각(마감일 - {@code lead-minutes})이 가까운 카드만
+ * 마감일 인덱스 범위로 읽어 메모리의 {@link TimingWheel}에 올려 두고, 만료된 칸만 꺼내 보냅니다.
+ * </p>
+ * <ul>
+ * <li>재적재: {@code reload-interval-ms}마다 (지금, 지금 + lead + window] 마감 범위를 키셋 배치로 읽습니다.
+ * 알림 시각이 이미 지났지만 아직 보내지 않은 카드(다운타임, 마감일을 앞당긴 경우)는 바로 보냅니다.
+ * 조회하는 동안 다시 예약되거나 발송된 카드는 조회 결과보다 그 사이 바뀐 예약을 따릅니다.</li>
+ * <li>마감일 변경: 이 노드에서 바뀐 마감일은 커밋 직후 다시 예약하고, 다른 노드에서 바뀐 것은 다음 재적재에 반영됩니다.
+ * 휠에 남은 예전 항목은 지우지 않고 꺼낼 때 최신 예약과 달라 버립니다.</li>
+ * <li>다중 노드: 카드는 ID 해시로 정한 버킷({@code reminder_bucket})에 따라 {@code card_reminder_leases}의 샤드에 나뉘고,
+ * 리스를 잡은 노드만 그 샤드를 적재합니다. 샤드 조건은 조회 쿼리에서 거릅니다.
+ * 리스가 넘어가는 사이 두 노드가 같은 카드를 잡더라도 {@code reminded_due_date} 조건부 UPDATE로 한 번만 보냅니다.
+ * 노드는 재적재마다 하트비트를 남기고, {@code max-shards-per-node}가 0이면 살아 있는 노드 수로 나눈 몫만 맡습니다.</li>
+ * <li>실행 스레드: 재적재와 만료 확인은 전용 스케줄러({@code card-reminder-} 스레드)에서 돌아,
+ * 스프링 기본 스케줄러를 함께 쓰는 아웃박스 릴레이나 카운터 보정이 길어져도 알림이 밀리지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DueDateReminderScheduler implements CardDueDateListener, SmartLifecycle {
+
+    static final String REMINDER_METRIC = "boardly.card.reminder";
+    private static final int WHEEL_SIZE = 60;
+    /** 재적재와 만료 확인이 서로 기다리지 않도록 작업마다 스레드 하나 */
+    private static final int SCHEDULER_THREADS = 2;
+
+    private final CardDueReminderPort cardDueReminderPort;
+    private final CardDueReminderService cardDueReminderService;
+    private final CardReminderLeaseJpaRepository leaseJpaRepository;
+    private final CardReminderNodeJpaRepository nodeJpaRepository;
+    private final CardReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    /**
+     * 휠, 예약 목록, 재적재 중 변경 목록을 지키는 잠금. 가상 스레드에서 커밋 후 재예약이 불려도
+     * 캐리어 스레드를 붙잡지 않도록 {@code synchronized} 대신 씁니다.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimingWheel<DueCard> wheel;
+    /** 카드 ID → 예약된 마감일. 휠에서 꺼낸 항목이 이 값과 다르면 예전 예약입니다. */
+    private final Map<String, Instant> scheduled = new HashMap<>();
+    /** 재적재가 조회하는 동안 재예약되거나 발송된 카드 ID. 교체할 때 조회 결과 대신 현재 예약을 남깁니다. */
+    private final Set<String> changedDuringReload = new HashSet<>();
+    private boolean reloading;
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile int shardCount;
+    private volatile Instant loadedUntil = Instant.EPOCH;
+    private volatile ThreadPoolTaskScheduler taskScheduler;
+
+    public DueDateReminderScheduler(CardDueReminderPort cardDueReminderPort,
+            CardDueReminderService cardDueReminderService,
+            CardReminderLeaseJpaRepository leaseJpaRepository,
+            CardReminderNodeJpaRepository nodeJpaRepository,
+            CardReminderProperties properties,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.cardDueReminderPort = cardDueReminderPort;
+        this.cardDueReminderService = cardDueReminderService;
+        this.leaseJpaRepository = leaseJpaRepository;
+        this.nodeJpaRepository = nodeJpaRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = resolveNodeId();
+        this.wheel = new TimingWheel<>(Math.max(1, properties.getTickMs()), WHEEL_SIZE, System.currentTimeMillis());
+
+        Gauge.builder(REMINDER_METRIC + ".scheduled", this, DueDateReminderScheduler::scheduledCount)
+                .description("타이밍 휠에 예약된 마감 알림 수")
+                .register(meterRegistry);
+        Gauge.builder(REMINDER_METRIC + ".shards", this, scheduler -> scheduler.ownedShards.size())
+                .description("이 노드가 맡은 마감 알림 샤드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || taskScheduler != null) {
+            return;
+        }
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(SCHEDULER_THREADS);
+        scheduler.setThreadNamePrefix("card-reminder-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::reload,
+                Duration.ofMillis(Math.max(1, properties.getReloadIntervalMs())));
+        scheduler.scheduleWithFixedDelay(this::tick, Duration.ofMillis(Math.max(1, properties.getTickMs())));
+        taskScheduler = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ThreadPoolTaskScheduler scheduler = taskScheduler;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            taskScheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskScheduler != null;
+    }
+
+    /**
+     * 샤드 리스를 갱신하고 알림 대상 카드를 다시 적재
+     */
+    public void reload() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Set<Integer> owned = acquireShards();
+        ownedShards = owned;
+        if (owned.isEmpty()) {
+            lock.lock();
+            try {
+                scheduled.clear();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        int shards = shardCount;
+        Instant now = Instant.now();
+        Instant until = now.plus(lead()).plusSeconds(properties.getWindowMinutes() * 60);
+        Map<String, Instant> loaded = new HashMap<>();
+        List<DueCard> added = new ArrayList<>();
+        int batches = 0;
+        beginReload();
+        try {
+            try {
+                Instant afterDueDate = now;
+                CardId afterCardId = null;
+                List<DueCard> batch;
+                do {
+                    Instant fromDueDate = afterDueDate;
+                    CardId fromCardId = afterCardId;
+                    batch = transactionTemplate.execute(status -> cardDueReminderPort.findUnreminded(
+                            fromDueDate, fromCardId, until, shards, owned, properties.getBatchSize()));
+                    if (batch == null || batch.isEmpty()) {
+                        break;
+                    }
+                    batches++;
+                    for (DueCard card : batch) {
+                        // 버킷을 처음 채운 카드는 샤드와 관계없이 돌아오므로 다시 확인합니다.
+                        if (owned.contains(shardOf(card.cardId()))) {
+                            loaded.put(card.cardId().getId(), card.dueDate());
+                            added.add(card);
+                        }
+                    }
+                    DueCard last = batch.get(batch.size() - 1);
+                    afterDueDate = last.dueDate();
+                    afterCardId = last.cardId();
+                } while (batch.size() >= properties.getBatchSize());
+            } catch (Exception e) {
+                log.warn("마감 알림 대상 적재 실패: {}", e.getMessage());
+                return;
+            }
+
+            lock.lock();
+            try {
+                swapScheduled(loaded, added);
+                loadedUntil = until;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            endReload();
+        }
+        log.debug("마감 알림 대상 적재: 샤드={}/{}, 예약={}, 배치={}, 범위=({}, {}]",
+                owned.size(), shards, loaded.size(), batches, now, until);
+    }
+
+    private void beginReload() {
+        lock.lock();
+        try {
+            reloading = true;
+            changedDuringReload.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endReload() {
+        lock.lock();
+        try {
+            reloading = false;
+            changedDuringReload.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약 목록을 조회 결과로 바꾸되, 조회하는 동안 바뀐 카드는 현재 예약(또는 예약 없음)을 그대로 둡니다.
+     * 잠금을 잡은 채로 부릅니다.
+     */
+    private void swapScheduled(Map<String, Instant> loaded, List<DueCard> added) {
+        Map<String, Instant> merged = new HashMap<>(loaded);
+        for (String cardId : changedDuringReload) {
+            Instant current = scheduled.get(cardId);
+            if (current == null) {
+                merged.remove(cardId);
+            } else {
+                merged.put(cardId, current);
+            }
+        }
+        for (DueCard card : added) {
+            String cardId = card.cardId().getId();
+            if (!changedDuringReload.contains(cardId) && !card.dueDate().equals(scheduled.get(cardId))) {
+                wheel.add(fireAt(card.dueDate()), card);
+            }
+        }
+        scheduled.clear();
+        scheduled.putAll(merged);
+    }
+
+    /**
+     * 알림 시각이 된 카드 발송
+     */
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<DueCard> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(System.currentTimeMillis(), card -> {
+                if (card.dueDate().equals(scheduled.get(card.cardId().getId()))) {
+                    scheduled.remove(card.cardId().getId());
+                    markChanged(card.cardId());
+                    due.add(card);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::fire);
+    }
+
+    /**
+     * 이 노드에서 바뀐 마감일을 커밋 후 다시 예약합니다. 롤백되면 아무것도 하지 않습니다.
+     */
+    @Override
+    public void dueDateChanged(CardId cardId, Instant dueDate) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reschedule(cardId, dueDate);
+                }
+            });
+            return;
+        }
+        reschedule(cardId, dueDate);
+    }
+
+    private void reschedule(CardId cardId, Instant dueDate) {
+        lock.lock();
+        try {
+            markChanged(cardId);
+            if (dueDate == null || !dueDate.isAfter(Instant.now()) || dueDate.isAfter(loadedUntil)
+                    || !ownedShards.contains(shardOf(cardId))) {
+                // 맡지 않은 카드이거나 적재 범위 밖이면 예전 예약만 무효화하고, 필요하면 재적재가 다시 올립니다.
+                scheduled.remove(cardId.getId());
+                return;
+            }
+            if (dueDate.equals(scheduled.put(cardId.getId(), dueDate))) {
+                return;
+            }
+            wheel.add(fireAt(dueDate), new DueCard(cardId, dueDate));
+        } finally {
+            lock.unlock();
+        }
+        log.debug("마감 알림 재예약: cardId={}, dueDate={}", cardId.getId(), dueDate);
+    }
+
+    /**
+     * 재적재가 조회 중이면 바뀐 카드로 기록해 조회 결과가 덮어쓰지 않게 합니다. 잠금을 잡은 채로 부릅니다.
+     */
+    private void markChanged(CardId cardId) {
+        if (reloading) {
+            changedDuringReload.add(cardId.getId());
+        }
+    }
+
+    /**
+     * 발송에 실패하면 예약에서 빠진 상태로 남아 다음 재적재에서 다시 올라가고, 알림 시각이 지났으므로 바로 재시도됩니다.
+     */
+    private void fire(DueCard card) {
+        String outcome;
+        try {
+            outcome = cardDueReminderService.remind(card.cardId(), card.dueDate()) ? "sent" : "skipped";
+        } catch (Exception e) {
+            outcome = "failed";
+            log.warn("카드 마감 알림 발송 실패: cardId={}, dueDate={}, error={}",
+                    card.cardId().getId(), card.dueDate(), e.getMessage());
+        }
+        meterRegistry.counter(REMINDER_METRIC, "outcome", outcome).increment();
+    }
+
+    /**
+     * 이미 맡은 샤드를 먼저 연장하고, 한도 안에서 만료된 샤드를 가져옵니다.
+     * 한도를 넘는 샤드는 바로 내려놓아 새로 뜬 노드가 다음 재적재에서 가져갑니다.
+     */
+    Set<Integer> acquireShards() {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plusSeconds(properties.getLeaseSeconds());
+        Set<Integer> owned = new TreeSet<>();
+        try {
+            List<CardReminderLeaseEntity> leases = transactionTemplate.execute(
+                    status -> leaseJpaRepository.findAllByOrderByLeaseNameAsc());
+            if (leases == null || leases.isEmpty()) {
+                if (shardCount != 0) {
+                    log.warn("마감 알림 샤드 리스가 없습니다");
+                }
+                shardCount = 0;
+                return owned;
+            }
+            shardCount = leases.size();
+            int limit = properties.getMaxShardsPerNode() > 0
+                    ? properties.getMaxShardsPerNode()
+                    : Math.ceilDiv(leases.size(), liveNodes(now));
+
+            List<CardReminderLeaseEntity> candidates = leases.stream()
+                    .sorted(Comparator.comparing((CardReminderLeaseEntity lease) -> !nodeId.equals(lease.getOwner())))
+                    .filter(lease -> nodeId.equals(lease.getOwner()) || lease.getLeaseUntil().isBefore(now))
+                    .toList();
+            for (CardReminderLeaseEntity lease : candidates) {
+                if (owned.size() >= limit) {
+                    if (nodeId.equals(lease.getOwner()) && !lease.getLeaseUntil().isBefore(now)) {
+                        transactionTemplate.execute(status -> leaseJpaRepository
+                                .release(lease.getLeaseName(), nodeId, Instant.EPOCH));
+                        log.debug("마감 알림 샤드 반납: lease={}, limit={}", lease.getLeaseName(), limit);
+                    }
+                    continue;
+                }
+                Integer updated = transactionTemplate.execute(status -> leaseJpaRepository
+                        .tryAcquire(lease.getLeaseName(), nodeId, now, leaseUntil));
+                if (updated != null && updated > 0) {
+                    owned.add(leases.indexOf(lease));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("마감 알림 샤드 리스 획득 실패: {}", e.getMessage());
+            return Set.of();
+        }
+        return owned;
+    }
+
+    /**
+     * 이 노드의 하트비트를 남기고, {@code lease-seconds} 안에 하트비트를 남긴 노드 수를 셉니다.
+     */
+    private int liveNodes(Instant now) {
+        Instant since = now.minusSeconds(properties.getLeaseSeconds());
+        Long live = transactionTemplate.execute(status -> {
+            if (nodeJpaRepository.touch(nodeId, now) == 0) {
+                nodeJpaRepository.save(CardReminderNodeEntity.create(nodeId, now));
+            }
+            nodeJpaRepository.deleteExpired(since);
+            return nodeJpaRepository.countByHeartbeatAtAfter(since);
+        });
+        return live == null ? 1 : (int) Math.max(1, live);
+    }
+
+    /**
+     * 카드의 샤드 번호. 샤드 리스를 이름순으로 센 순번과 대응하며, 조회 쿼리의 {@code MOD(reminder_bucket, 샤드 수)}와 같습니다.
+     */
+    int shardOf(CardId cardId) {
+        int shards = shardCount;
+        return shards <= 0 ? -1 : CardEntity.reminderBucketOf(cardId.getId()) % shards;
+    }
+
+    private long fireAt(Instant dueDate) {
+        return dueDate.minus(lead()).toEpochMilli();
+    }
+
+    private Duration lead() {
+        return Duration.ofMinutes(properties.getLeadMinutes());
+    }
+
+    private int scheduledCount() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
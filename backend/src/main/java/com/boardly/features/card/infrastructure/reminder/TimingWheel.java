@@ -0,0 +1,161 @@
+package com.boardly.features.card.infrastructure.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * <p>
+ * 한 칸이 {@code tickMs}인 휠 {@code wheelSize}칸으로 {@code tickMs * wheelSize} 안의 만료를 담고,
+ * 그보다 먼 만료는 한 칸이 하위 휠 한 바퀴인 상위 휠에 넣었다가 시간이 다가오면 하위 휠로 내려보냅니다.
+ * 항목 추가는 O(1)이고, 만료 확인은 비어 있지 않은 칸만 만료 시각 순으로 담은 큐를 보므로
+ * 기다리는 항목 수와 관계없이 만료된 칸만 처리합니다.
+ * </p>
+ *
+ * <p>
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화합니다.
+ * </p>
+ *
+ * @param <T> 만료 시 돌려줄 값
+ */
+final class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<T>[] buckets;
+    private final PriorityQueue<Bucket<T>> queue;
+    private final List<T> overdue;
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+
+    /**
+     * @param startMs 시작 시각 (epoch ms)
+     */
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs,
+                new PriorityQueue<>((a, b) -> Long.compare(a.expiration, b.expiration)), new ArrayList<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<T>> queue, List<T> overdue) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs와 wheelSize는 0보다 커야 합니다");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.queue = queue;
+        this.overdue = overdue;
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /**
+     * 항목 추가. 이미 만료된 시각이면 다음 {@link #advance} 때 바로 돌려줍니다.
+     *
+     * @param expirationMs 만료 시각 (epoch ms)
+     */
+    void add(long expirationMs, T value) {
+        if (!place(new Entry<>(expirationMs, value))) {
+            overdue.add(value);
+        }
+    }
+
+    /**
+     * {@code nowMs}까지 만료된 항목을 만료 순서대로 {@code expired}에 넘깁니다.
+     * 같은 칸 안에서는 순서를 보장하지 않습니다.
+     */
+    void advance(long nowMs, Consumer<T> expired) {
+        if (!overdue.isEmpty()) {
+            List<T> drained = new ArrayList<>(overdue);
+            overdue.clear();
+            drained.forEach(expired);
+        }
+
+        Bucket<T> bucket;
+        while ((bucket = queue.peek()) != null && bucket.expiration <= nowMs) {
+            queue.poll();
+            advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.flush()) {
+                if (!place(entry)) {
+                    expired.accept(entry.value());
+                }
+            }
+        }
+        advanceClock(nowMs);
+    }
+
+    /**
+     * 휠에 남아 있는 항목 수 (상위 휠 포함)
+     */
+    int size() {
+        int size = overdue.size();
+        for (TimingWheel<T> wheel = this; wheel != null; wheel = wheel.overflowWheel) {
+            for (Bucket<T> bucket : wheel.buckets) {
+                size += bucket.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 이 휠 또는 상위 휠의 칸에 넣습니다.
+     *
+     * @return 이미 만료되어 넣지 않았으면 false
+     */
+    private boolean place(Entry<T> entry) {
+        if (entry.expirationMs() < currentTime + tickMs) {
+            return false;
+        }
+        if (entry.expirationMs() < currentTime + interval) {
+            long virtualId = entry.expirationMs() / tickMs;
+            Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.entries.add(entry);
+            long bucketExpiration = virtualId * tickMs;
+            if (bucket.expiration != bucketExpiration) {
+                bucket.expiration = bucketExpiration;
+                queue.add(bucket);
+            }
+            return true;
+        }
+        return overflowWheel().place(entry);
+    }
+
+    private void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTime);
+            }
+        }
+    }
+
+    private TimingWheel<T> overflowWheel() {
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime, queue, overdue);
+        }
+        return overflowWheel;
+    }
+
+    private record Entry<T>(long expirationMs, T value) {
+    }
+
+    private static final class Bucket<T> {
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private long expiration = -1;
+
+        private List<Entry<T>> flush() {
+            List<Entry<T>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+    }
+}
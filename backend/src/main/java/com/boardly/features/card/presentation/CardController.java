@@ -25,6 +25,7 @@ import com.boardly.features.card.application.port.input.AssignCardMemberCommand;
 import com.boardly.features.card.application.port.input.CloneCardCommand;
 import com.boardly.features.card.application.port.input.CreateCardCommand;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.input.GetAssignedCardsQuery;
 import com.boardly.features.card.application.port.input.MoveCardCommand;
 import com.boardly.features.card.application.port.input.RemoveCardLabelCommand;
 import com.boardly.features.card.application.port.input.UnassignCardMemberCommand;
@@ -33,11 +34,13 @@ import com.boardly.features.card.application.usecase.CardQueryUseCase;
 import com.boardly.features.card.application.usecase.CloneCardUseCase;
 import com.boardly.features.card.application.usecase.CreateCardUseCase;
 import com.boardly.features.card.application.usecase.DeleteCardUseCase;
+import com.boardly.features.card.application.usecase.GetAssignedCardsUseCase;
 import com.boardly.features.card.application.usecase.GetCardDetailUseCase;
 import com.boardly.features.card.application.usecase.ManageCardLabelUseCase;
 import com.boardly.features.card.application.usecase.ManageCardMemberUseCase;
 import com.boardly.features.card.application.usecase.MoveCardUseCase;
 import com.boardly.features.card.application.usecase.UpdateCardUseCase;
+import com.boardly.features.card.domain.model.AssignedCardPage;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.valueobject.CardMember;
@@ -52,6 +55,7 @@ import com.boardly.features.card.presentation.request.UpdateCardCompletedRequest
 import com.boardly.features.card.presentation.request.UpdateCardPriorityRequest;
 import com.boardly.features.card.presentation.request.UpdateCardRequest;
 import com.boardly.features.card.presentation.request.UpdateCardStartDateRequest;
+import com.boardly.features.card.presentation.response.AssignedCardPageResponse;
 import com.boardly.features.card.presentation.response.CardDetailResponse;
 import com.boardly.features.card.presentation.response.CardResponse;
 import com.boardly.features.label.domain.model.Label;
@@ -60,6 +64,8 @@ import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.presentation.ApiFailureHandler;
 import com.boardly.shared.presentation.Path;
+import com.boardly.shared.presentation.RateLimit;
+import com.boardly.shared.presentation.SqlBudget;
 import com.boardly.shared.presentation.response.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -92,6 +98,7 @@ public class CardController {
         private final DeleteCardUseCase deleteCardUseCase;
         private final ManageCardMemberUseCase manageCardMemberUseCase;
         private final ManageCardLabelUseCase manageCardLabelUseCase;
+        private final GetAssignedCardsUseCase getAssignedCardsUseCase;
         private final ApiFailureHandler failureHandler;
 
         @Operation(summary = "카드 생성", description = "새로운 카드를 생성합니다.", tags = {
@@ -196,6 +203,38 @@ public class CardController {
                                 });
         }
 
+        @Operation(summary = "내게 할당된 카드 목록 조회", description = "접근 가능한 모든 보드에서 나에게 할당된 카드를 할당 시각 역순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 요청합니다.", tags = {
+                        "Cards" }, security = @SecurityRequirement(name = "oauth2", scopes = { "read", "openid" }))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "할당된 카드 목록 조회 성공", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = AssignedCardPageResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "필터 또는 커서가 올바르지 않음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
+        @GetMapping("/assigned")
+        @SqlBudget(5)
+        public ResponseEntity<?> getAssignedCards(
+                        @Parameter(description = "필터 (all, incomplete, overdue, due-this-week, 기본값: all)") @RequestParam(required = false) String filter,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)") @RequestParam(required = false) Integer size,
+                        HttpServletRequest httpRequest,
+                        @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+
+                String userId = jwt.getSubject();
+                log.info("할당된 카드 목록 조회 요청: userId={}, filter={}, size={}", userId, filter, size);
+
+                Either<Failure, AssignedCardPage> result = getAssignedCardsUseCase.getAssignedCards(
+                                new GetAssignedCardsQuery(new UserId(userId), filter, cursor, size));
+
+                return result.fold(
+                                failureHandler::handleFailure,
+                                page -> {
+                                        log.info("할당된 카드 목록 조회 성공: userId={}, count={}, hasNext={}", userId,
+                                                        page.cards().size(), page.hasNext());
+                                        return ResponseEntity.ok(AssignedCardPageResponse.from(page));
+                                });
+        }
+
         @Operation(summary = "리스트별 카드 목록 조회", description = "특정 리스트에 속한 모든 카드를 위치 순서대로 조회합니다.", tags = {
                         "Cards" }, security = @SecurityRequirement(name = "oauth2", scopes = { "read", "openid" }))
         @ApiResponses(value = {
@@ -394,10 +433,12 @@ public class CardController {
                         @ApiResponse(responseCode = "403", description = "카드 검색 권한 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
                         @ApiResponse(responseCode = "404", description = "리스트를 찾을 수 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
                         @ApiResponse(responseCode = "422", description = "입력 값이 유효하지 않음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "429", description = "요청 한도 초과", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
                         @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
         })
         @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
         @GetMapping("/lists/{listId}/search")
+        @RateLimit("card-search")
         public ResponseEntity<?> searchCards(
                         @Parameter(description = "검색할 리스트 ID", required = true) @PathVariable String listId,
                         @Parameter(description = "검색어", required = true) @RequestParam String searchTerm,
@@ -0,0 +1,30 @@
+package com.boardly.features.card.presentation.response;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.boardly.features.card.domain.model.AssignedCardPage;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 할당된 카드 목록 응답 DTO
+ */
+@Schema(description = "할당된 카드 목록 (할당 시각 역순)")
+public record AssignedCardPageResponse(
+        @Schema(description = "카드 목록") List<AssignedCardResponse> cards,
+
+        @Schema(description = "다음 페이지 커서. 다음 요청의 cursor 파라미터로 그대로 보냅니다", example = "MjAyNS0wOC0xMFQwMjowMDowMFp8NDI") String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {
+
+    public static AssignedCardPageResponse from(AssignedCardPage page) {
+        Instant now = Instant.now();
+        return new AssignedCardPageResponse(
+                page.cards().stream()
+                        .map(card -> AssignedCardResponse.from(card, now))
+                        .toList(),
+                page.nextCursor(),
+                page.hasNext());
+    }
+}
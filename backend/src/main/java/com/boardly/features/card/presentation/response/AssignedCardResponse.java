@@ -0,0 +1,53 @@
+package com.boardly.features.card.presentation.response;
+
+import java.time.Instant;
+
+import com.boardly.features.card.domain.model.AssignedCard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 할당된 카드 응답 DTO
+ */
+@Schema(description = "할당된 카드")
+public record AssignedCardResponse(
+        @Schema(description = "카드 ID", example = "card-1") String cardId,
+
+        @Schema(description = "카드 제목", example = "메인 페이지 디자인") String title,
+
+        @Schema(description = "리스트 ID", example = "list-1") String listId,
+
+        @Schema(description = "리스트 제목", example = "할 일") String listTitle,
+
+        @Schema(description = "보드 ID", example = "board-1") String boardId,
+
+        @Schema(description = "보드 제목", example = "웹 개발 프로젝트") String boardTitle,
+
+        @Schema(description = "마감일", example = "2025-08-13T09:21:33.436705Z") Instant dueDate,
+
+        @Schema(description = "우선순위", example = "high") String priority,
+
+        @Schema(description = "완료 여부", example = "false") boolean isCompleted,
+
+        @Schema(description = "마감일이 지났고 완료되지 않았는지 여부", example = "false") boolean isOverdue,
+
+        @Schema(description = "할당 시각", example = "2025-08-10T02:00:00Z") Instant assignedAt) {
+
+    /**
+     * AssignedCard 읽기 모델로부터 Response 생성
+     */
+    public static AssignedCardResponse from(AssignedCard card, Instant now) {
+        return new AssignedCardResponse(
+                card.cardId().getId(),
+                card.title(),
+                card.listId().getId(),
+                card.listTitle(),
+                card.boardId().getId(),
+                card.boardTitle(),
+                card.dueDate(),
+                card.priority() != null ? card.priority().getValue() : null,
+                card.completed(),
+                card.isOverdue(now),
+                card.assignedAt());
+    }
+}
@@ -8,13 +8,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
-import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
-import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.domain.model.CardAncestry;
 import com.boardly.features.card.domain.model.CardId;
-import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.application.port.input.CreateCommentCommand;
 import com.boardly.features.comment.application.usecase.CreateCommentUseCase;
 import com.boardly.features.comment.application.validation.CommentValidator;
@@ -36,9 +32,7 @@ public class CommentCreateService implements CreateCommentUseCase {
     private final CommentValidator commentValidator;
     private final ValidationMessageResolver validationMessageResolver;
     private final CommentRepository commentRepository;
-    private final CardRepository cardRepository;
-    private final BoardListRepository boardListRepository;
-    private final BoardRepository boardRepository;
+    private final CardAncestryPort cardAncestryPort;
     private final ActivityHelper activityHelper;
 
     @Override
@@ -49,29 +43,22 @@ public class CommentCreateService implements CreateCommentUseCase {
             return Either.left(validationResult.getLeft());
         }
 
-        // 2. 카드 조회
+        // 2. 카드 → 리스트 → 보드 계층 조회 (BoardId, 보드 이름 획득용)
         var cardResult = findCard(command.cardId());
         if (cardResult.isLeft()) {
             return Either.left(cardResult.getLeft());
         }
         var card = cardResult.get();
 
-        // 3. 보드 리스트 조회 (BoardId 획득용)
-        var boardListResult = findBoardList(card.getListId());
-        if (boardListResult.isLeft()) {
-            return Either.left(boardListResult.getLeft());
-        }
-        var boardList = boardListResult.get();
-
-        // 4. 댓글 생성 및 저장
-        var saveResult = createAndSaveComment(command, card);
+        // 3. 댓글 생성 및 저장
+        var saveResult = createAndSaveComment(command);
         if (saveResult.isLeft()) {
             return saveResult;
         }
         var savedComment = saveResult.get();
 
-        // 5. 활동 로그 기록
-        logActivity(command, card, boardList, savedComment);
+        // 4. 활동 로그 기록
+        logActivity(command, card, savedComment);
 
         log.debug("Comment created successfully: {}", savedComment.getCommentId());
         return Either.right(savedComment);
@@ -92,11 +79,11 @@ public class CommentCreateService implements CreateCommentUseCase {
     }
 
     /**
-     * 카드를 조회합니다.
+     * 카드와 상위 리스트/보드 정보를 한 번에 조회합니다.
      */
-    private Either<Failure, Card> findCard(CardId cardId) {
+    private Either<Failure, CardAncestry> findCard(CardId cardId) {
         try {
-            var cardOptional = cardRepository.findById(cardId);
+            var cardOptional = cardAncestryPort.findByCardId(cardId);
             if (cardOptional.isEmpty()) {
                 return Either.left(Failure.ofNotFound(
                         validationMessageResolver.getMessage("error.service.comment.create.card.not.found")));
@@ -109,28 +96,10 @@ public class CommentCreateService implements CreateCommentUseCase {
         }
     }
 
-    /**
-     * 보드 리스트를 조회합니다.
-     */
-    private Either<Failure, BoardList> findBoardList(ListId listId) {
-        try {
-            var boardListOptional = boardListRepository.findById(listId);
-            if (boardListOptional.isEmpty()) {
-                return Either.left(Failure.ofNotFound(
-                        validationMessageResolver.getMessage("error.service.comment.create.boardlist.not.found")));
-            }
-            return Either.right(boardListOptional.get());
-        } catch (Exception e) {
-            log.error("Failed to fetch board list: {}", e.getMessage(), e);
-            return Either.left(Failure.ofInternalServerError(
-                    validationMessageResolver.getMessage("error.service.comment.create.boardlist.fetch.failed")));
-        }
-    }
-
     /**
      * 댓글을 생성하고 저장합니다.
      */
-    private Either<Failure, Comment> createAndSaveComment(CreateCommentCommand command, Card card) {
+    private Either<Failure, Comment> createAndSaveComment(CreateCommentCommand command) {
         var comment = Comment.create(command.cardId(), command.authorId(), command.content());
 
         var saveResult = commentRepository.save(comment);
@@ -146,24 +115,20 @@ public class CommentCreateService implements CreateCommentUseCase {
     /**
      * 활동 로그를 기록합니다.
      */
-    private void logActivity(CreateCommentCommand command, Card card, BoardList boardList, Comment savedComment) {
-        // 보드 정보 조회
-        var boardOpt = boardRepository.findById(boardList.getBoardId());
-        String boardName = boardOpt.map(board -> board.getTitle()).orElse("알 수 없는 보드");
-
+    private void logActivity(CreateCommentCommand command, CardAncestry card, Comment savedComment) {
         var payload = Map.<String, Object>of(
                 "commentId", savedComment.getCommentId().getId(),
                 "content", command.content(),
-                "cardTitle", card.getTitle(),
+                "cardTitle", card.cardTitle(),
                 "cardId", command.cardId().getId());
 
         activityHelper.logCardActivity(
                 ActivityType.CARD_ADD_COMMENT,
                 command.authorId(),
                 payload,
-                boardName,
-                boardList.getBoardId(),
-                card.getListId(),
+                card.boardTitle(),
+                card.boardId(),
+                card.listId(),
                 command.cardId());
     }
 }
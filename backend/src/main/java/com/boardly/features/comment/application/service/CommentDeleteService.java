@@ -3,6 +3,8 @@ package com.boardly.features.comment.application.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.comment.application.port.input.DeleteCommentCommand;
 import com.boardly.features.comment.application.usecase.DeleteCommentUseCase;
 import com.boardly.features.comment.application.validation.CommentValidator;
@@ -24,6 +26,8 @@ public class CommentDeleteService implements DeleteCommentUseCase {
         private final CommentValidator commentValidator;
         private final ValidationMessageResolver validationMessageResolver;
         private final CommentRepository commentRepository;
+        private final CardAncestryPort cardAncestryPort;
+        private final BoardDetailCache boardDetailCache;
 
         @Override
         public Either<Failure, Void> deleteComment(DeleteCommentCommand command) {
@@ -91,6 +95,10 @@ public class CommentDeleteService implements DeleteCommentUseCase {
                         return deleteResult;
                 }
 
+                // 보드 상세의 카드별 댓글 수가 바뀌므로 캐시된 응답을 무효화
+                cardAncestryPort.findByCardId(comment.getCardId())
+                                .ifPresent(ancestry -> boardDetailCache.invalidate(ancestry.boardId()));
+
                 log.info("댓글 삭제 성공: commentId={}", comment.getCommentId());
                 return Either.right(null);
         }
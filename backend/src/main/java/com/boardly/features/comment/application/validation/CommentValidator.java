@@ -10,6 +10,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -31,25 +32,29 @@ public class CommentValidator {
     // 상수 정의
     private static final int COMMENT_CONTENT_MAX_LENGTH = 1000;
 
+    private final Lazy<Validator<CreateCommentCommand>> createValidator = Lazy.of(this::getCreateValidator);
+    private final Lazy<Validator<UpdateCommentCommand>> updateValidator = Lazy.of(this::getUpdateValidator);
+    private final Lazy<Validator<DeleteCommentCommand>> deleteValidator = Lazy.of(this::getDeleteValidator);
+
     /**
      * 댓글 생성 커맨드 검증
      */
     public ValidationResult<CreateCommentCommand> validateCreate(CreateCommentCommand command) {
-        return getCreateValidator().validate(command);
+        return createValidator.get().validate(command);
     }
 
     /**
      * 댓글 수정 커맨드 검증
      */
     public ValidationResult<UpdateCommentCommand> validateUpdate(UpdateCommentCommand command) {
-        return getUpdateValidator().validate(command);
+        return updateValidator.get().validate(command);
     }
 
     /**
      * 댓글 삭제 커맨드 검증
      */
     public ValidationResult<DeleteCommentCommand> validateDelete(DeleteCommentCommand command) {
-        return getDeleteValidator().validate(command);
+        return deleteValidator.get().validate(command);
     }
 
     /**
@@ -1,10 +1,12 @@
 package com.boardly.features.comment.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.boardly.features.comment.domain.model.Comment;
 import com.boardly.features.comment.domain.model.CommentId;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
@@ -47,6 +49,11 @@ public interface CommentRepository {
      */
     int countByCardId(CardId cardId);
 
+    /**
+     * 보드에 속한 카드별 댓글 수 조회 (댓글이 없는 카드는 포함하지 않음)
+     */
+    Map<CardId, Integer> countByBoardIdGroupByCardId(BoardId boardId);
+
     /**
      * 카드 삭제 시 관련 댓글 모두 삭제
      */
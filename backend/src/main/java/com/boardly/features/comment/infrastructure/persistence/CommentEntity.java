@@ -1,12 +1,14 @@
 package com.boardly.features.comment.infrastructure.persistence;
 
 import java.time.Instant;
+import java.util.Objects;
 
 import com.boardly.features.comment.domain.model.Comment;
 
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.comment.domain.model.CommentId;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,11 +16,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 /**
  * 댓글 JPA 엔티티
  */
 @Entity
+@DynamicUpdate
 @Table(name = "comments", indexes = {
         @Index(name = "idx_comment_card_id", columnList = "card_id"),
         @Index(name = "idx_comment_author_id", columnList = "author_id"),
@@ -27,12 +32,15 @@ import jakarta.persistence.Version;
 public class CommentEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "comment_id", nullable = false)
     private String commentId;
 
+    @Type(UlidIdType.class)
     @Column(name = "card_id", nullable = false)
     private String cardId;
 
+    @Type(UlidIdType.class)
     @Column(name = "author_id", nullable = false)
     private String authorId;
 
@@ -87,8 +95,12 @@ public class CommentEntity {
 
     /**
      * 도메인 객체의 변경사항을 반영
+     * 바뀐 컬럼만 UPDATE 되며, 바뀐 값이 없으면 수정 시간도 그대로 두어 UPDATE가 나가지 않습니다.
      */
     public void updateFromDomainEntity(Comment comment) {
+        if (Objects.equals(content, comment.getContent()) && edited == comment.isEdited()) {
+            return;
+        }
         this.content = comment.getContent();
         this.edited = comment.isEdited();
         this.updatedAt = Instant.now();
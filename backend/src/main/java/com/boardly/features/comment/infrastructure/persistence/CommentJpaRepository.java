@@ -21,6 +21,15 @@ public interface CommentJpaRepository extends JpaRepository<CommentEntity, Strin
     @Query("SELECT COUNT(c) FROM CommentEntity c WHERE c.cardId = :cardId")
     int countByCardId(@Param("cardId") String cardId);
 
+    /**
+     * 보드에 속한 카드별 댓글 수 조회 ([cardId, count])
+     */
+    @Query("SELECT c.cardId, COUNT(c) FROM CommentEntity c "
+            + "JOIN CardEntity card ON card.cardId = c.cardId "
+            + "JOIN BoardListEntity l ON l.listId = card.listId "
+            + "WHERE l.boardId = :boardId GROUP BY c.cardId")
+    List<Object[]> countByBoardIdGroupByCardId(@Param("boardId") String boardId);
+
     /**
      * 작성자별 댓글 조회
      */
@@ -1,6 +1,8 @@
 package com.boardly.features.comment.infrastructure.persistence;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import com.boardly.features.comment.domain.model.Comment;
 import com.boardly.features.comment.domain.model.CommentId;
 import com.boardly.features.comment.domain.repository.CommentRepository;
+import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
@@ -29,8 +32,13 @@ public class CommentRepositoryImpl implements CommentRepository {
         log.debug("댓글 저장 시작: commentId={}, cardId={}", comment.getCommentId(), comment.getCardId());
 
         try {
-            var entity = commentMapper.toEntity(comment);
-            var savedEntity = commentJpaRepository.save(entity);
+            // 같은 트랜잭션에서 조회한 엔티티는 SELECT 없이 꺼내 바뀐 컬럼만 UPDATE 합니다
+            var savedEntity = commentJpaRepository.findById(comment.getCommentId().getId())
+                    .map(entity -> {
+                        entity.updateFromDomainEntity(comment);
+                        return entity;
+                    })
+                    .orElseGet(() -> commentJpaRepository.save(commentMapper.toEntity(comment)));
             var savedComment = commentMapper.toDomain(savedEntity);
             log.debug("댓글 저장 성공: commentId={}", savedComment.getCommentId());
 
@@ -101,6 +109,15 @@ public class CommentRepositoryImpl implements CommentRepository {
         return commentJpaRepository.countByCardId(cardId.getId());
     }
 
+    @Override
+    public Map<CardId, Integer> countByBoardIdGroupByCardId(BoardId boardId) {
+        Map<CardId, Integer> counts = new HashMap<>();
+        for (Object[] row : commentJpaRepository.countByBoardIdGroupByCardId(boardId.getId())) {
+            counts.put(new CardId((String) row[0]), ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
     @Override
     public Either<Failure, Void> deleteByCardId(CardId cardId) {
         log.debug("카드별 댓글 삭제 시작: cardId={}", cardId.getId());
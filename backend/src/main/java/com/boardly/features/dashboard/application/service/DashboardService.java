@@ -1,9 +1,9 @@
 package com.boardly.features.dashboard.application.service;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -19,10 +19,7 @@ import com.boardly.features.board.application.service.BoardQueryService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.model.BoardRole;
-import com.boardly.features.boardlist.domain.model.BoardList;
-import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.boardlist.domain.repository.BoardListRepository;
-import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.dashboard.application.dto.DashboardResponse;
 import com.boardly.features.dashboard.application.dto.DashboardStatisticsDto;
@@ -115,12 +112,19 @@ public class DashboardService implements GetDashboardUseCase {
 
             List<ActivityResponse> activities = activitiesResult.get();
 
-            // 3-3. 통계 정보 계산
-            DashboardStatisticsDto statistics = calculateStatistics(boards);
+            // 3-3. 보드별 리스트/카드 수 카운터 조회
+            List<BoardId> boardIds = boards.stream()
+                    .map(Board::getBoardId)
+                    .toList();
+            Map<BoardId, Long> listCounts = loadCounts(boardIds, boardListRepository::countByBoardIds, "리스트 수");
+            Map<BoardId, Long> cardCounts = loadCounts(boardIds, cardRepository::countByBoardIds, "카드 수");
 
-            // 3-4. 응답 생성
+            // 3-4. 통계 정보 계산
+            DashboardStatisticsDto statistics = calculateStatistics(boards, cardCounts);
+
+            // 3-5. 응답 생성
             DashboardResponse response = DashboardResponse.builder()
-                    .boards(convertToBoardSummaryDtos(boards))
+                    .boards(convertToBoardSummaryDtos(boards, listCounts, cardCounts))
                     .recentActivity(activities)
                     .statistics(statistics)
                     .build();
@@ -155,9 +159,11 @@ public class DashboardService implements GetDashboardUseCase {
     /**
      * 통계 정보를 계산합니다.
      */
-    private DashboardStatisticsDto calculateStatistics(List<Board> boards) {
+    private DashboardStatisticsDto calculateStatistics(List<Board> boards, Map<BoardId, Long> cardCounts) {
         int totalBoards = boards.size();
-        int totalCards = calculateTotalCards(boards);
+        int totalCards = (int) cardCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
         int starredBoards = (int) boards.stream()
                 .filter(Board::isStarred)
                 .count();
@@ -171,66 +177,19 @@ public class DashboardService implements GetDashboardUseCase {
                 .build();
     }
 
-    /**
-     * 모든 보드의 카드 수 합계를 계산합니다.
-     */
-    private int calculateTotalCards(List<Board> boards) {
-        if (boards.isEmpty()) {
-            return 0;
-        }
-
-        try {
-            // 1. 모든 보드 ID 수집
-            List<BoardId> boardIds = boards.stream()
-                    .map(Board::getBoardId)
-                    .collect(Collectors.toList());
-
-            // 2. 모든 보드의 리스트들을 한 번에 조회
-            List<BoardList> allBoardLists = new ArrayList<>();
-            for (BoardId boardId : boardIds) {
-                List<BoardList> boardLists = boardListRepository.findByBoardId(boardId);
-                allBoardLists.addAll(boardLists);
-            }
-
-            if (allBoardLists.isEmpty()) {
-                return 0;
-            }
-
-            // 3. 모든 리스트의 카드들을 한 번에 조회
-            List<ListId> listIds = allBoardLists.stream()
-                    .map(BoardList::getListId)
-                    .collect(Collectors.toList());
-
-            List<Card> allCards = cardRepository.findByListIdIn(listIds);
-
-            log.info("전체 카드 수 계산 완료: boardCount={}, listCount={}, totalCards={}",
-                    boards.size(), allBoardLists.size(), allCards.size());
-
-            return allCards.size();
-
-        } catch (Exception e) {
-            log.error("전체 카드 수 계산 중 오류 발생: error={}", e.getMessage(), e);
-            return 0;
-        }
-    }
-
     /**
      * Board 엔티티를 BoardSummaryDto로 변환합니다.
      */
-    private List<BoardSummaryDto> convertToBoardSummaryDtos(List<Board> boards) {
-        // 모든 보드의 리스트와 카드 데이터를 미리 로드
-        Map<BoardId, List<BoardList>> boardListsMap = loadBoardListsMap(boards);
-        Map<ListId, List<Card>> listCardsMap = loadListCardsMap(boardListsMap);
-
+    private List<BoardSummaryDto> convertToBoardSummaryDtos(List<Board> boards,
+            Map<BoardId, Long> listCounts, Map<BoardId, Long> cardCounts) {
         // 모든 보드의 사용자 역할을 미리 로드
         Map<BoardId, String> boardRoleMap = loadBoardRoleMap(boards);
 
         return boards.stream()
                 .map(board -> {
-                    // 보드별 리스트 수와 카드 수 계산
-                    List<BoardList> boardLists = boardListsMap.getOrDefault(board.getBoardId(), List.of());
-                    int listCount = boardLists.size();
-                    int cardCount = calculateBoardCardCountFromMap(boardLists, listCardsMap);
+                    // 보드별 리스트 수와 카드 수는 유지되는 카운터에서 읽음
+                    int listCount = listCounts.getOrDefault(board.getBoardId(), 0L).intValue();
+                    int cardCount = cardCounts.getOrDefault(board.getBoardId(), 0L).intValue();
 
                     // 사용자의 보드 역할 조회
                     String userRole = boardRoleMap.getOrDefault(board.getBoardId(), "unknown");
@@ -251,70 +210,21 @@ public class DashboardService implements GetDashboardUseCase {
     }
 
     /**
-     * 모든 보드의 리스트 데이터를 맵으로 로드합니다.
+     * 보드별 카운터를 조회합니다. 조회에 실패하면 대시보드는 0으로 표시합니다.
      */
-    private Map<BoardId, List<BoardList>> loadBoardListsMap(
-            List<Board> boards) {
-        Map<BoardId, List<BoardList>> boardListsMap = new HashMap<>();
-
-        for (Board board : boards) {
-            try {
-                List<BoardList> boardLists = boardListRepository.findByBoardId(board.getBoardId());
-                boardListsMap.put(board.getBoardId(), boardLists);
-            } catch (Exception e) {
-                log.warn("보드 리스트 조회 중 오류 발생: boardId={}, error={}",
-                        board.getBoardId().getId(), e.getMessage());
-                boardListsMap.put(board.getBoardId(), List.of());
-            }
-        }
-
-        return boardListsMap;
-    }
-
-    /**
-     * 모든 리스트의 카드 데이터를 맵으로 로드합니다.
-     */
-    private Map<ListId, List<Card>> loadListCardsMap(
-            Map<BoardId, List<BoardList>> boardListsMap) {
-
-        // 모든 리스트 ID 수집
-        List<ListId> allListIds = boardListsMap.values().stream()
-                .flatMap(List::stream)
-                .map(BoardList::getListId)
-                .collect(Collectors.toList());
-
-        if (allListIds.isEmpty()) {
+    private Map<BoardId, Long> loadCounts(List<BoardId> boardIds,
+            Function<List<BoardId>, Map<BoardId, Long>> loader, String name) {
+        if (boardIds.isEmpty()) {
             return Map.of();
         }
-
         try {
-            // 모든 카드를 한 번에 조회
-            List<Card> allCards = cardRepository.findByListIdIn(allListIds);
-
-            // 리스트 ID별로 카드들을 그룹화
-            return allCards.stream()
-                    .collect(Collectors.groupingBy(Card::getListId));
-
+            return loader.apply(boardIds);
         } catch (Exception e) {
-            log.warn("리스트 카드 조회 중 오류 발생: error={}", e.getMessage());
+            log.warn("보드 {} 조회 중 오류 발생: error={}", name, e.getMessage());
             return Map.of();
         }
     }
 
-    /**
-     * 맵에서 보드의 카드 수를 계산합니다.
-     */
-    private int calculateBoardCardCountFromMap(List<BoardList> boardLists,
-            Map<ListId, List<Card>> listCardsMap) {
-
-        return boardLists.stream()
-                .mapToInt(boardList -> {
-                    List<Card> cards = listCardsMap.getOrDefault(boardList.getListId(), List.of());
-                    return cards.size();
-                })
-                .sum();
-    }
-
     /**
      * 모든 보드의 사용자 역할을 맵으로 로드합니다.
      */
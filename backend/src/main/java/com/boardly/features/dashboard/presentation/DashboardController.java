@@ -15,6 +15,8 @@ import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.presentation.ApiFailureHandler;
 import com.boardly.shared.presentation.Path;
+import com.boardly.shared.presentation.RateLimit;
+import com.boardly.shared.presentation.SqlBudget;
 import com.boardly.shared.presentation.response.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,10 +62,13 @@ public class DashboardController {
             @ApiResponse(responseCode = "403", description = "대시보드 조회 권한 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "422", description = "입력 값이 유효하지 않음", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PreAuthorize("hasAuthority('SCOPE_read') and hasAuthority('SCOPE_openid')")
     @GetMapping
+    @SqlBudget(20)
+    @RateLimit("dashboard")
     public ResponseEntity<?> getDashboard(
             HttpServletRequest httpRequest,
             @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
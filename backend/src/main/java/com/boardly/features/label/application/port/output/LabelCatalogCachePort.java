@@ -0,0 +1,37 @@
+package com.boardly.features.label.application.port.output;
+
+import java.util.Optional;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.domain.model.LabelCatalog;
+
+/**
+ * 보드별 라벨 카탈로그 캐시 포트
+ *
+ * <p>
+ * 보관 개수와 보관 시간 상한은 구현체가 정합니다.
+ * 무효화 시점과 적재 중 변경 감지는 {@code LabelCatalogFinder}가 담당합니다.
+ * </p>
+ */
+public interface LabelCatalogCachePort {
+
+    /**
+     * 캐시된 카탈로그 조회
+     */
+    Optional<LabelCatalog> find(BoardId boardId);
+
+    /**
+     * 카탈로그 저장
+     */
+    void put(BoardId boardId, LabelCatalog catalog);
+
+    /**
+     * 캐시된 카탈로그가 {@code catalog}와 같은 인스턴스일 때만 제거
+     */
+    void remove(BoardId boardId, LabelCatalog catalog);
+
+    /**
+     * 보드의 카탈로그 제거
+     */
+    void evict(BoardId boardId);
+}
@@ -0,0 +1,98 @@
+package com.boardly.features.label.application.service;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.application.port.output.LabelCatalogCachePort;
+import com.boardly.features.label.domain.model.LabelCatalog;
+import com.boardly.features.label.domain.repository.LabelRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드별 라벨 카탈로그 조회
+ *
+ * <p>
+ * 라벨은 보드 상세/카드 라벨 조회마다 읽히지만 거의 바뀌지 않으므로 보드 단위로 {@link LabelCatalogCachePort}에 캐시합니다.
+ * 라벨 생성/수정/삭제 서비스는 저장에 성공하면 {@link #evict(BoardId)}를 호출해야 합니다.
+ * 캐시 구현체는 보드 수와 보관 시간에 상한이 있어, 제거가 닿지 않는 변경도 보관 시간이 지나면 반영됩니다.
+ * </p>
+ *
+ * <p>
+ * 조회는 적재 전에 보드 ID 해시로 고른 슬롯의 세대를 읽어 두고, 캐시에 넣은 뒤 세대가 바뀌었으면 방금 넣은 값을 지웁니다.
+ * 제거는 세대를 먼저 올린 뒤 캐시를 지우므로, 제거 전에 읽은 이전 카탈로그가 제거 뒤에 다시 채워진 채 남지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LabelCatalogFinder {
+
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final LabelRepository labelRepository;
+    private final LabelCatalogCachePort labelCatalogCachePort;
+    private final AtomicLongArray slotGenerations = new AtomicLongArray(GENERATION_SLOTS);
+
+    public LabelCatalog findByBoardId(BoardId boardId) {
+        Optional<LabelCatalog> cached = labelCatalogCachePort.find(boardId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        int slot = slot(boardId);
+        long generation = slotGenerations.get(slot);
+        LabelCatalog catalog = LabelCatalog.of(boardId, labelRepository.findByBoardIdOrderByName(boardId));
+        labelCatalogCachePort.put(boardId, catalog);
+        if (slotGenerations.get(slot) != generation) {
+            labelCatalogCachePort.remove(boardId, catalog);
+            log.debug("라벨 카탈로그 적재 중 라벨이 바뀌어 캐시하지 않음: boardId={}", boardId.getId());
+            return catalog;
+        }
+        log.debug("라벨 카탈로그 적재: boardId={}, 라벨 수={}", boardId.getId(), catalog.size());
+        return catalog;
+    }
+
+    /**
+     * 보드의 라벨 카탈로그를 캐시에서 제거합니다.
+     *
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다.
+     * 커밋 전에 지우면 동시에 들어온 조회가 아직 커밋되지 않은 이전 상태로 캐시를 다시 채울 수 있기 때문입니다.
+     * 롤백되면 제거하지 않습니다.
+     * </p>
+     */
+    public void evict(BoardId boardId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(boardId);
+                }
+            });
+            return;
+        }
+        evictNow(boardId);
+    }
+
+    boolean isCached(BoardId boardId) {
+        return labelCatalogCachePort.find(boardId).isPresent();
+    }
+
+    private void evictNow(BoardId boardId) {
+        slotGenerations.incrementAndGet(slot(boardId));
+        labelCatalogCachePort.evict(boardId);
+        log.debug("라벨 카탈로그 캐시 제거: boardId={}", boardId.getId());
+    }
+
+    private static int slot(BoardId boardId) {
+        int hash = boardId.getId().hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_SLOTS - 1);
+    }
+}
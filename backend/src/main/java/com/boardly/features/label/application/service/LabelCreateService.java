@@ -3,6 +3,7 @@ package com.boardly.features.label.application.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.features.label.application.port.input.CreateLabelCommand;
 import com.boardly.features.label.application.usecase.CreateLabelUseCase;
@@ -26,6 +27,8 @@ public class LabelCreateService implements CreateLabelUseCase {
     private final LabelValidator labelValidator;
     private final ValidationMessageResolver validationMessageResolver;
     private final BoardRepository boardRepository;
+    private final LabelCatalogFinder labelCatalogFinder;
+    private final BoardDetailCache boardDetailCache;
 
     @Override
     public Either<Failure, Label> createLabel(CreateLabelCommand command) {
@@ -112,8 +115,12 @@ public class LabelCreateService implements CreateLabelUseCase {
      */
     private Either<Failure, Label> saveLabel(Label label) {
         return labelRepository.save(label)
-                .peek(savedLabel -> log.info("라벨 저장 완료: labelId={}, name={}",
-                        savedLabel.getLabelId().getId(), savedLabel.getName()))
+                .peek(savedLabel -> {
+                    labelCatalogFinder.evict(savedLabel.getBoardId());
+                    boardDetailCache.invalidate(savedLabel.getBoardId());
+                    log.info("라벨 저장 완료: labelId={}, name={}",
+                            savedLabel.getLabelId().getId(), savedLabel.getName());
+                })
                 .peekLeft(failure -> log.error("라벨 저장 실패: name={}, 오류={}",
                         label.getName(), failure.getMessage()));
     }
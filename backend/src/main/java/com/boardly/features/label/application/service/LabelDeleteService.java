@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.repository.BoardRepository;
@@ -35,6 +36,8 @@ public class LabelDeleteService implements DeleteLabelUseCase {
     private final BoardRepository boardRepository;
     private final CardLabelRepository cardLabelRepository;
     private final BoardPermissionService boardPermissionService;
+    private final LabelCatalogFinder labelCatalogFinder;
+    private final BoardDetailCache boardDetailCache;
 
     @Override
     public Either<Failure, Void> deleteLabel(DeleteLabelCommand command) {
@@ -150,7 +153,11 @@ public class LabelDeleteService implements DeleteLabelUseCase {
         log.debug("라벨 엔티티 삭제 시작: labelId={}", label.getLabelId());
 
         return labelRepository.delete(label.getLabelId())
-                .peek(result -> log.debug("라벨 엔티티 삭제 완료: labelId={}", label.getLabelId().getId()))
+                .peek(result -> {
+                    labelCatalogFinder.evict(label.getBoardId());
+                    boardDetailCache.invalidate(label.getBoardId());
+                    log.debug("라벨 엔티티 삭제 완료: labelId={}", label.getLabelId().getId());
+                })
                 .peekLeft(failure -> log.error("라벨 엔티티 삭제 실패: labelId={}, 오류={}",
                         label.getLabelId().getId(), failure.getMessage()))
                 .mapLeft(failure -> Failure.ofInternalServerError(
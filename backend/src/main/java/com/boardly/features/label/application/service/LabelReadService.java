@@ -30,6 +30,7 @@ public class LabelReadService implements GetLabelUseCase {
     private final LabelRepository labelRepository;
     private final BoardRepository boardRepository;
     private final ValidationMessageResolver validationMessageResolver;
+    private final LabelCatalogFinder labelCatalogFinder;
 
     @Override
     public Either<Failure, Label> getLabel(LabelId labelId, UserId requesterId) {
@@ -70,7 +71,7 @@ public class LabelReadService implements GetLabelUseCase {
         }
 
         // 2. 보드별 라벨 조회
-        List<Label> labels = labelRepository.findByBoardIdOrderByName(boardId);
+        List<Label> labels = labelCatalogFinder.findByBoardId(boardId).labels();
         log.debug("보드별 라벨 조회 완료: boardId={}, 라벨 개수={}", boardId.getId(), labels.size());
 
         return Either.right(labels);
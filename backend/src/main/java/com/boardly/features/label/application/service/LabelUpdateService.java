@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.features.label.application.port.input.UpdateLabelCommand;
@@ -31,6 +32,8 @@ public class LabelUpdateService implements UpdateLabelUseCase {
     private final LabelRepository labelRepository;
     private final BoardRepository boardRepository;
     private final BoardPermissionService boardPermissionService;
+    private final LabelCatalogFinder labelCatalogFinder;
+    private final BoardDetailCache boardDetailCache;
 
     @Override
     public Either<Failure, Label> updateLabel(UpdateLabelCommand command) {
@@ -160,7 +163,11 @@ public class LabelUpdateService implements UpdateLabelUseCase {
         log.debug("라벨 저장 시작: {}", label.getLabelId());
 
         return labelRepository.save(label)
-                .peek(savedLabel -> log.info("라벨 수정 완료: {}", savedLabel.getLabelId()))
+                .peek(savedLabel -> {
+                    labelCatalogFinder.evict(savedLabel.getBoardId());
+                    boardDetailCache.invalidate(savedLabel.getBoardId());
+                    log.info("라벨 수정 완료: {}", savedLabel.getLabelId());
+                })
                 .peekLeft(failure -> log.error("라벨 저장 실패: {}", failure.getMessage()));
     }
 }
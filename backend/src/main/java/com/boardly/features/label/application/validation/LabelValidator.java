@@ -12,6 +12,7 @@ import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.application.validation.ValidationResult;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -25,13 +26,17 @@ public class LabelValidator {
     private static final int LABEL_NAME_MAX_LENGTH = 50;
     private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^#([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$");
 
+    private final Lazy<Validator<CreateLabelCommand>> createLabelValidator = Lazy.of(this::getCreateLabelValidator);
+    private final Lazy<Validator<UpdateLabelCommand>> updateLabelValidator = Lazy.of(this::getUpdateLabelValidator);
+    private final Lazy<Validator<DeleteLabelCommand>> deleteLabelValidator = Lazy.of(this::getDeleteLabelValidator);
+
     // ==================== Create Label Validation ====================
 
     /**
      * 라벨 생성 검증
      */
     public ValidationResult<CreateLabelCommand> validateCreateLabel(CreateLabelCommand command) {
-        return getCreateLabelValidator().validate(command);
+        return createLabelValidator.get().validate(command);
     }
 
     /**
@@ -55,7 +60,7 @@ public class LabelValidator {
      * 라벨 수정 검증
      */
     public ValidationResult<UpdateLabelCommand> validateUpdateLabel(UpdateLabelCommand command) {
-        return getUpdateLabelValidator().validate(command);
+        return updateLabelValidator.get().validate(command);
     }
 
     /**
@@ -79,7 +84,7 @@ public class LabelValidator {
      * 라벨 삭제 검증
      */
     public ValidationResult<DeleteLabelCommand> validateDeleteLabel(DeleteLabelCommand command) {
-        return getDeleteLabelValidator().validate(command);
+        return deleteLabelValidator.get().validate(command);
     }
 
     /**
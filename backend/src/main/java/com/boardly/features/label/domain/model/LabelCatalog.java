@@ -0,0 +1,72 @@
+package com.boardly.features.label.domain.model;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.boardly.features.board.domain.model.BoardId;
+
+/**
+ * 보드 하나의 라벨 목록 스냅샷
+ *
+ * <p>
+ * 이름순 라벨 목록과 ID 색인을 함께 들고 있는 불변 객체로, 보드 단위 캐시에 그대로 저장됩니다.
+ * 캐시를 통해 여러 요청이 같은 인스턴스를 공유하므로 꺼낸 {@link Label}을 수정하면 안 됩니다.
+ * 라벨을 변경할 때는 리포지토리에서 다시 조회하세요.
+ * </p>
+ */
+public final class LabelCatalog {
+
+    private final BoardId boardId;
+    private final List<Label> labels;
+    private final Map<LabelId, Label> labelsById;
+
+    private LabelCatalog(BoardId boardId, List<Label> labels) {
+        this.boardId = boardId;
+        this.labels = List.copyOf(labels);
+        Map<LabelId, Label> byId = new LinkedHashMap<>();
+        for (Label label : this.labels) {
+            byId.put(label.getLabelId(), label);
+        }
+        this.labelsById = Map.copyOf(byId);
+    }
+
+    /**
+     * @param labels 이름순으로 정렬된 보드 라벨 목록
+     */
+    public static LabelCatalog of(BoardId boardId, List<Label> labels) {
+        return new LabelCatalog(boardId, labels);
+    }
+
+    public BoardId boardId() {
+        return boardId;
+    }
+
+    /**
+     * 보드의 전체 라벨 (이름순)
+     */
+    public List<Label> labels() {
+        return labels;
+    }
+
+    public Optional<Label> find(LabelId labelId) {
+        return Optional.ofNullable(labelsById.get(labelId));
+    }
+
+    /**
+     * 라벨 ID 목록을 주어진 순서대로 라벨로 변환합니다.
+     * 카탈로그에 없는 ID(다른 보드의 라벨, 삭제 직후의 라벨)는 건너뜁니다.
+     */
+    public List<Label> resolve(Collection<LabelId> labelIds) {
+        return labelIds.stream()
+                .map(labelsById::get)
+                .filter(label -> label != null)
+                .toList();
+    }
+
+    public int size() {
+        return labels.size();
+    }
+}
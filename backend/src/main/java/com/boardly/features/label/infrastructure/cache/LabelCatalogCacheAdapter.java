@@ -0,0 +1,53 @@
+package com.boardly.features.label.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.application.port.output.LabelCatalogCachePort;
+import com.boardly.features.label.domain.model.LabelCatalog;
+import com.boardly.features.label.infrastructure.config.LabelCatalogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caffeine 기반 라벨 카탈로그 캐시
+ *
+ * <p>
+ * 보드 수({@code maxBoards})와 적재 후 보관 시간({@code ttlSeconds})에 상한을 둡니다.
+ * </p>
+ */
+@Component
+public class LabelCatalogCacheAdapter implements LabelCatalogCachePort {
+
+    private final Cache<String, LabelCatalog> catalogs;
+
+    public LabelCatalogCacheAdapter(LabelCatalogCacheProperties properties) {
+        this.catalogs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBoards())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .build();
+    }
+
+    @Override
+    public Optional<LabelCatalog> find(BoardId boardId) {
+        return Optional.ofNullable(catalogs.getIfPresent(boardId.getId()));
+    }
+
+    @Override
+    public void put(BoardId boardId, LabelCatalog catalog) {
+        catalogs.put(boardId.getId(), catalog);
+    }
+
+    @Override
+    public void remove(BoardId boardId, LabelCatalog catalog) {
+        catalogs.asMap().remove(boardId.getId(), catalog);
+    }
+
+    @Override
+    public void evict(BoardId boardId) {
+        catalogs.invalidate(boardId.getId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.boardly.features.label.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 보드별 라벨 카탈로그 캐시 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.label.catalog-cache")
+public class LabelCatalogCacheProperties {
+
+    /**
+     * 카탈로그를 보관할 최대 보드 수 (초과 시 오래 쓰이지 않은 보드부터 제거)
+     */
+    private long maxBoards = 10_000;
+
+    /**
+     * 적재한 카탈로그의 최대 보관 시간(초) (다른 노드의 변경이나 SQL 직접 변경도 이 시간 안에 반영)
+     */
+    private long ttlSeconds = 600;
+}
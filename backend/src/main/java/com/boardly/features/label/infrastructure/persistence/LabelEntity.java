@@ -1,10 +1,12 @@
 package com.boardly.features.label.infrastructure.persistence;
 
 import java.time.Instant;
+import java.util.Objects;
 
 import com.boardly.features.label.domain.model.Label;
 import com.boardly.features.label.domain.model.LabelId;
 import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,8 +15,11 @@ import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Index;
 import jakarta.persistence.Id;
 import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 @Entity
+@DynamicUpdate
 @Table(name = "labels", uniqueConstraints = @UniqueConstraint(columnNames = { "board_id", "name" }), indexes = {
         @Index(name = "idx_label_board_id", columnList = "board_id"),
         @Index(name = "idx_label_name", columnList = "board_id, name")
@@ -22,9 +27,11 @@ import jakarta.persistence.Version;
 public class LabelEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "label_id", nullable = false, length = 50)
     private String labelId;
 
+    @Type(UlidIdType.class)
     @Column(name = "board_id", nullable = false, length = 50)
     private String boardId;
 
@@ -77,8 +84,12 @@ public class LabelEntity {
 
     /**
      * 도메인 객체의 변경사항을 반영
+     * 바뀐 컬럼만 UPDATE 되며, 바뀐 값이 없으면 수정 시간도 그대로 두어 UPDATE가 나가지 않습니다.
      */
     public void updateFromDomainEntity(Label label) {
+        if (Objects.equals(name, label.getName()) && Objects.equals(color, label.getColor())) {
+            return;
+        }
         this.name = label.getName();
         this.color = label.getColor();
         this.updatedAt = Instant.now();
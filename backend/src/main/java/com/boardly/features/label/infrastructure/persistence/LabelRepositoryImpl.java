@@ -29,8 +29,13 @@ public class LabelRepositoryImpl implements LabelRepository {
                 label.getLabelId(), label.getBoardId(), label.getName());
 
         try {
-            var entity = labelMapper.toEntity(label);
-            var savedEntity = labelJpaRepository.save(entity);
+            // 같은 트랜잭션에서 조회한 엔티티는 SELECT 없이 꺼내 바뀐 컬럼만 UPDATE 합니다
+            var savedEntity = labelJpaRepository.findById(label.getLabelId().getId())
+                    .map(entity -> {
+                        entity.updateFromDomainEntity(label);
+                        return entity;
+                    })
+                    .orElseGet(() -> labelJpaRepository.save(labelMapper.toEntity(label)));
             var savedLabel = labelMapper.toDomain(savedEntity);
             log.debug("라벨 저장 성공: labelId={}, name={}", savedLabel.getLabelId(), savedLabel.getName());
 
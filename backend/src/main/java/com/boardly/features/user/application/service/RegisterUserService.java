@@ -13,6 +13,7 @@ import io.vavr.control.Either;
 import io.vavr.control.Try;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -59,8 +60,17 @@ public class RegisterUserService implements RegisterUserUseCase {
                     context));
         }
 
-        // 3. 비밀번호 해싱
-        String hashedPassword = passwordEncoder.encode(command.password());
+        // 3. 비밀번호 해싱 (해싱 대기열이 가득 차면 기다리지 않고 실패)
+        String hashedPassword;
+        try {
+            hashedPassword = passwordEncoder.encode(command.password());
+        } catch (TaskRejectedException e) {
+            log.warn("비밀번호 해싱 대기열 초과로 등록 거절: email={}", command.email());
+            return Either.left(Failure.ofInternalError(
+                    validationMessageResolver.getMessage("error.password.hashing.busy"),
+                    "PASSWORD_HASHING_BUSY",
+                    null));
+        }
 
         // 4. 도메인 객체 생성
         UserProfile userProfile = new UserProfile(command.firstName(), command.lastName());
@@ -1,5 +1,6 @@
 package com.boardly.features.user.application.service;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.user.application.port.input.UpdateUserCommand;
 import com.boardly.features.user.application.usecase.UpdateUserUseCase;
 import com.boardly.features.user.application.validation.UserValidator;
@@ -27,6 +28,7 @@ public class UpdateUserService implements UpdateUserUseCase {
     private final UserRepository userRepository;
     private final UserValidator userValidator;
     private final ValidationMessageResolver validationMessageResolver;
+    private final BoardDetailCache boardDetailCache;
 
     @Override
     @Transactional
@@ -69,6 +71,8 @@ public class UpdateUserService implements UpdateUserUseCase {
                             return Either.left(failure);
                         },
                         user -> {
+                            // 이름은 사용자가 속한 모든 보드의 상세 응답에 들어갑니다
+                            boardDetailCache.invalidateAll();
                             log.info("사용자 업데이트 완료: userId={}", command.userId().getId());
                             return Either.right(user);
                         });
@@ -1,5 +1,8 @@
 package com.boardly.features.user.application.service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.cache.annotation.Cacheable;
@@ -27,6 +30,17 @@ public class UserFinder {
                 .orElseThrow(() -> new UsernameNotFoundException(userId.getId()));
     }
 
+    /**
+     * 여러 사용자를 쿼리 한 번으로 조회합니다. 없는 사용자는 결과에 포함하지 않습니다.
+     */
+    public Map<UserId, User> findUsersByIds(Collection<UserId> userIds) {
+        Map<UserId, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getUserId(), user);
+        }
+        return users;
+    }
+
     public boolean checkUserExists(UserId userId) {
         log.info("사용자 존재 확인: userId={}", userId.getId());
         try {
@@ -8,6 +8,7 @@ import com.boardly.features.user.application.port.input.UpdateUserCommand;
 import com.boardly.shared.application.validation.CommonValidationRules;
 import com.boardly.shared.application.validation.Validator;
 
+import io.vavr.Lazy;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -15,13 +16,17 @@ import lombok.RequiredArgsConstructor;
 public class UserValidator {
   private final CommonValidationRules commonValidationRules;
 
+  private final Lazy<Validator<RegisterUserCommand>> userRegistrationValidator =
+      Lazy.of(this::getUserRegistrationValidator);
+  private final Lazy<Validator<UpdateUserCommand>> userUpdateValidator = Lazy.of(this::getUserUpdateValidator);
+
   /**
    * 사용자 등록 검증
    * @param command 등록 명령
    * @return 검증 결과
    */
   public ValidationResult<RegisterUserCommand> validateUserRegistration(RegisterUserCommand command) {
-    return getUserRegistrationValidator().validate(command);
+    return userRegistrationValidator.get().validate(command);
   }
 
   /**
@@ -30,7 +35,7 @@ public class UserValidator {
    * @return 검증 결과
    */
   public ValidationResult<UpdateUserCommand> validateUserUpdate(UpdateUserCommand command) {
-    return getUserUpdateValidator().validate(command);
+    return userUpdateValidator.get().validate(command);
   }
 
   private Validator<RegisterUserCommand> getUserRegistrationValidator() {
@@ -6,6 +6,8 @@ import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.domain.common.Failure;
 import io.vavr.control.Either;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,11 @@ public interface UserRepository {
      */
     Optional<User> findById(UserId userId);
 
+    /**
+     * 여러 사용자를 한 번에 조회합니다. (없는 ID는 결과에서 빠짐)
+     */
+    List<User> findAllById(Collection<UserId> userIds);
+
     /**
      * 이메일로 사용자를 조회합니다.
      */
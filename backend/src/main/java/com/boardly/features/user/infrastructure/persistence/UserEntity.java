@@ -8,8 +8,10 @@ import lombok.NoArgsConstructor;
 import com.boardly.features.user.domain.model.User;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.features.user.domain.model.UserProfile;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
 
 import java.time.Instant;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "users")
@@ -18,6 +20,7 @@ import java.time.Instant;
 public class UserEntity {
 
     @Id
+    @Type(UlidIdType.class)
     @Column(name = "user_id", nullable = false)
     private String userId;
 
@@ -12,6 +12,8 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -66,6 +68,16 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(UserEntity::toDomainEntity);
     }
 
+    @Override
+    public List<User> findAllById(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userJpaRepository.findAllById(userIds.stream().map(UserId::getId).toList()).stream()
+                .map(UserEntity::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return userJpaRepository.findByEmail(email)
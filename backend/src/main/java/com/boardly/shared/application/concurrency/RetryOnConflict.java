@@ -0,0 +1,19 @@
+package com.boardly.shared.application.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 버전 충돌 시 재시도하는 쓰기 유스케이스
+ * 낙관적 락 충돌로 트랜잭션이 롤백되면 유스케이스 전체를 새 트랜잭션에서 다시 실행합니다.
+ * 다시 실행할 때 대상을 새로 조회해 같은 변경을 적용하므로, 재실행해도 의도가 바뀌지 않는 유스케이스에만 붙입니다.
+ * 재시도를 모두 소진하면 {@code Failure.ResourceConflict}를 반환합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
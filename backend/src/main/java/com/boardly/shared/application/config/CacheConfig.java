@@ -17,6 +17,10 @@ import org.springframework.context.annotation.Configuration;
  * </p>
  * 
  * <p>
+ * 보드별 라벨 카탈로그는 크기와 보관 시간 상한이 필요해 {@code LabelCatalogCachePort}의 Caffeine 어댑터({@code LabelCatalogCacheAdapter})로 관리합니다.
+ * </p>
+ * 
+ * <p>
  * 향후 개선 방향:
  * - Redis나 Caffeine 같은 고급 캐시 구현체 도입
  * - TTL 설정으로 캐시 만료 시간 관리
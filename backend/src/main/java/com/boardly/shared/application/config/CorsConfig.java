@@ -6,6 +6,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.boardly.shared.application.config.properties.AppProperties;
+import com.boardly.shared.infrastructure.idempotency.IdempotencyFilter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -23,7 +24,9 @@ public class CorsConfig {
     var configuration = new CorsConfiguration();
     configuration.setAllowedOrigins(appProperties.getCors().getAllowedOrigins());
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-    configuration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+    configuration.setAllowedHeaders(List.of("Authorization", "Content-Type",
+        IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+    configuration.setExposedHeaders(List.of(IdempotencyFilter.REPLAYED_HEADER));
     configuration.setAllowCredentials(true);
     configuration.setMaxAge(3600L);
 
@@ -15,12 +15,22 @@ import java.security.KeyPairGenerator;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Configuration
 public class JwtConfig {
   
+  /**
+   * RSA 키 생성은 수십~수백 ms가 걸리므로 나머지 기동 작업과 동시에 백그라운드에서 만들고,
+   * 첫 토큰 발급이나 검증 때 결과를 기다립니다.
+   */
   @Bean
   JWKSource<SecurityContext> jwkSource() {
+    CompletableFuture<JWKSource<SecurityContext>> jwkSource = CompletableFuture.supplyAsync(JwtConfig::generateJwkSource);
+    return (jwkSelector, context) -> jwkSource.join().get(jwkSelector, context);
+  }
+
+  private static JWKSource<SecurityContext> generateJwkSource() {
     KeyPair keyPair = generateRsaKey();
     RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
     RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
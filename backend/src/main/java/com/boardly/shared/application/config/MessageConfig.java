@@ -1,24 +1,28 @@
 package com.boardly.shared.application.config;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.ResourceBundleMessageSource;
+
+import com.boardly.shared.infrastructure.i18n.PreloadedMessageSource;
 
 @Configuration
 public class MessageConfig {
-  
+
+  /**
+   * 메시지 번들을 기동 시 모두 읽어 두는 MessageSource
+   * 기본 번들(영어) 외에 지원하는 로케일을 추가할 때는 locales 목록에 함께 등록합니다.
+   */
   @Bean
   public MessageSource messageSource() {
-    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
-    messageSource.setBasenames(
-            "messages/ValidationMessages",
-            "messages/messages"
-            );
-    messageSource.setDefaultEncoding("UTF-8");
-    messageSource.setDefaultLocale(Locale.US);
-    return messageSource;
+    return new PreloadedMessageSource(
+            List.of(
+                    "messages/ValidationMessages",
+                    "messages/messages"),
+            Locale.US,
+            List.of(Locale.KOREAN));
   }
 }
@@ -1,15 +1,32 @@
 package com.boardly.shared.application.config;
 
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.boardly.shared.infrastructure.security.BoundedPasswordEncoder;
+import com.boardly.shared.infrastructure.security.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class PasswordConfig {
 
+    /**
+     * 새 비밀번호는 설정된 작업 계수의 bcrypt로 해싱하고, 다른 형식이나 작업 계수의 기존 해시는 그대로 검증한 뒤
+     * {@link PasswordEncoder#upgradeEncoding}으로 다시 해싱 대상임을 알려줍니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(properties.getBcryptStrength())));
+        encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new BoundedPasswordEncoder(encoder, properties.resolvedThreads(), properties.getQueueCapacity(),
+                properties.getMaxQueueTimeMs(), meterRegistry);
     }
-} 
\ No newline at end of file
+}
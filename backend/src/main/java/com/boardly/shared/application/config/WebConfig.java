@@ -6,48 +6,45 @@ import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
-import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
+import com.boardly.shared.infrastructure.ratelimit.RateLimitInterceptor;
+import com.boardly.shared.presentation.RequestLocaleResolver;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
 import java.util.Locale;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    /**
-     * 로케일 리졸버 설정 (세션 기반)
-     */
-    @Bean
-    public LocaleResolver localeResolver() {
-        SessionLocaleResolver localeResolver = new SessionLocaleResolver();
-        localeResolver.setDefaultLocale(Locale.KOREAN); // 기본 로케일을 한국어로 설정
-        return localeResolver;
-    }
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     /**
-     * 로케일 변경 인터셉터 설정
+     * 로케일 리졸버 설정 (무상태)
+     * lang 파라미터 → Accept-Language 헤더 → 한국어 순으로 결정하며 세션을 만들지 않습니다.
      */
     @Bean
-    public LocaleChangeInterceptor localeChangeInterceptor() {
-        LocaleChangeInterceptor interceptor = new LocaleChangeInterceptor();
-        interceptor.setParamName("lang"); // URL 파라미터로 lang=en, lang=ko 사용
-        return interceptor;
+    public LocaleResolver localeResolver() {
+        return new RequestLocaleResolver(Locale.KOREAN, List.of(Locale.KOREAN, Locale.ENGLISH));
     }
 
     /**
-     * 인터셉터 등록
+     * 뷰 컨트롤러 설정 (간단한 매핑)
      */
     @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(localeChangeInterceptor());
+    public void addViewControllers(ViewControllerRegistry registry) {
+        // 루트 경로를 로그인 페이지로 리다이렉트
+        registry.addRedirectViewController("/", "/login");
     }
 
     /**
-     * 뷰 컨트롤러 설정 (간단한 매핑)
+     * 인터셉터 설정
+     * {@code @RateLimit}이 선언된 핸들러의 요청 한도를 컨트롤러 실행 전에 검사합니다.
      */
     @Override
-    public void addViewControllers(ViewControllerRegistry registry) {
-        // 루트 경로를 로그인 페이지로 리다이렉트
-        registry.addRedirectViewController("/", "/login");
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor);
     }
 } 
\ No newline at end of file
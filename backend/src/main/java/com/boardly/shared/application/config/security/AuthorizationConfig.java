@@ -1,12 +1,18 @@
 package com.boardly.shared.application.config.security;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configurers.OAuth2AuthorizationServerConfigurer;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
 import org.springframework.security.web.SecurityFilterChain;
@@ -31,6 +37,8 @@ public class AuthorizationConfig {
             .securityMatcher(authorizationServerConfigurer.getEndpointsMatcher())
             .with(authorizationServerConfigurer, authorizationServer ->
                 authorizationServer
+                        .clientAuthentication(clientAuthentication -> clientAuthentication
+                            .authenticationProviders(AuthorizationConfig::useDirectClientSecretEncoder))
                         .oidc(oidc -> oidc
                             .userInfoEndpoint(userInfo ->
                                 userInfo.userInfoMapper(oidcUserInfoMapper))
@@ -47,6 +55,19 @@ public class AuthorizationConfig {
         return http.build();
     }
 
+    /**
+     * 클라이언트 시크릿 검증은 사용자 비밀번호용 해싱 풀({@code BoundedPasswordEncoder})을 거치지 않게 합니다.
+     * 로그인이 몰려 풀이 차 있을 때 토큰 요청까지 대기하다 거절되지 않도록, 등록된 클라이언트 수만큼만 쓰이는
+     * 시크릿 검증은 요청 스레드에서 바로 처리합니다.
+     */
+    static void useDirectClientSecretEncoder(List<AuthenticationProvider> providers) {
+        PasswordEncoder clientSecretEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        providers.stream()
+                .filter(ClientSecretAuthenticationProvider.class::isInstance)
+                .map(ClientSecretAuthenticationProvider.class::cast)
+                .forEach(provider -> provider.setPasswordEncoder(clientSecretEncoder));
+    }
+
     @Bean
     WebSecurityCustomizer webSecurityCustomizer() {
         return web -> web.ignoring().requestMatchers(
@@ -1,17 +1,21 @@
 package com.boardly.shared.application.config.security;
 
+import com.boardly.features.user.domain.model.User;
 import com.boardly.features.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationProvider implements AuthenticationProvider {
@@ -27,13 +31,15 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
         var user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        if (!passwordEncoder.matches(password, user.getHashedPassword())) {
+        if (!matches(password, user.getHashedPassword())) {
           throw new BadCredentialsException("Invalid password");
         }
 
+        upgradeHashIfNeeded(user, password);
+
         String userId = user.getUserId().toString();
 
-        var u = User.withUsername(userId)
+        var u = org.springframework.security.core.userdetails.User.withUsername(userId)
             .password(user.getHashedPassword())
             .roles("USER")
             .build();
@@ -41,6 +47,34 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
         return new UsernamePasswordAuthenticationToken(u, password, u.getAuthorities());
     }
 
+    private boolean matches(String password, String hashedPassword) {
+        try {
+            return passwordEncoder.matches(password, hashedPassword);
+        } catch (TaskRejectedException e) {
+            // 해싱 대기열이 넘치면 자격 증명 오류가 아닌 일시적 서비스 오류로 알립니다.
+            throw new AuthenticationServiceException("Password hashing is busy", e);
+        }
+    }
+
+    /**
+     * 검증에 성공한 해시가 현재 설정(알고리즘, 작업 계수)과 다르면 평문 비밀번호가 있는 지금 다시 해싱해 저장합니다.
+     * 다시 해싱하지 못해도 로그인은 그대로 성공하고, 다음 로그인 때 다시 시도합니다.
+     */
+    private void upgradeHashIfNeeded(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getHashedPassword())) {
+            return;
+        }
+        try {
+            user.updatePassword(passwordEncoder.encode(password));
+            userRepository.save(user)
+                .peek(saved -> log.info("비밀번호 해시 갱신: userId={}", saved.getUserId()))
+                .peekLeft(failure -> log.warn("비밀번호 해시 갱신 실패: userId={}, error={}",
+                    user.getUserId(), failure.getMessage()));
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패: userId={}, error={}", user.getUserId(), e.getMessage());
+        }
+    }
+
     @Override
     public boolean supports(Class<?> authentication) {
         return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
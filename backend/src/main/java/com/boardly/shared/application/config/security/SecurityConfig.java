@@ -10,7 +10,11 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
+import org.springframework.security.web.savedrequest.RequestCache;
 import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import com.boardly.shared.application.config.security.handler.CustomAuthenticationFailureHandler;
@@ -48,6 +52,8 @@ public class SecurityConfig {
                 .loginPage("/login")
                 .failureHandler(customAuthenticationFailureHandler)
         .       permitAll())
+            .requestCache(cache -> cache
+                    .requestCache(browserRequestCache()))
             .authenticationProvider(customAuthenticationProvider)
             .oauth2ResourceServer(oauth2 -> oauth2
                     .jwt(Customizer.withDefaults()))
@@ -56,4 +62,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 로그인 후 되돌아갈 요청은 브라우저 GET 요청만 세션에 저장합니다.
+     * 토큰으로 호출하는 API 요청이 401을 받을 때 세션이 생기지 않도록 API 경로는 제외합니다.
+     */
+    private static RequestCache browserRequestCache() {
+        HttpSessionRequestCache requestCache = new HttpSessionRequestCache();
+        requestCache.setRequestMatcher(new AndRequestMatcher(
+                PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/**"),
+                new NegatedRequestMatcher(PathPatternRequestMatcher.withDefaults().matcher(Path.PREFIX + "/**"))));
+        return requestCache;
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.boardly.shared.application.outbox;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스에 저장된 이벤트
+ *
+ * @param id            아웃박스 순번 (파티션 내 전달 순서)
+ * @param eventType     이벤트 타입 (핸들러 라우팅 키)
+ * @param aggregateType 애그리거트 타입 (CARD, LIST, BOARD, USER 등)
+ * @param aggregateId   애그리거트 ID
+ * @param partitionKey  순서 보장 단위 (보통 보드 ID)
+ * @param payload       JSON 직렬화된 이벤트 본문
+ * @param occurredAt    이벤트 발생 시각 (UTC)
+ * @param attempts      지금까지의 전달 시도 횟수
+ */
+public record OutboxEvent(
+        Long id,
+        String eventType,
+        String aggregateType,
+        String aggregateId,
+        String partitionKey,
+        String payload,
+        Instant occurredAt,
+        int attempts) {
+}
@@ -0,0 +1,27 @@
+package com.boardly.shared.application.outbox;
+
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+
+/**
+ * 아웃박스 이벤트 소비자
+ *
+ * <p>
+ * 핸들러는 OutboxRelay의 트랜잭션 안에서 실행되며, 처리 결과와 발행 완료 표시가 함께 커밋됩니다.
+ * 실패(Left)를 반환하면 트랜잭션이 롤백되고 이벤트는 다음 폴링에서 다시 전달됩니다.
+ * DB 밖으로 부수 효과를 내는 핸들러는 같은 이벤트가 두 번 이상 전달될 수 있음을 고려해야 합니다.
+ * </p>
+ */
+public interface OutboxEventHandler {
+
+    /**
+     * 처리 가능한 이벤트 타입인지 확인
+     */
+    boolean supports(String eventType);
+
+    /**
+     * 이벤트 처리
+     */
+    Either<Failure, Void> handle(OutboxEvent event);
+}
@@ -0,0 +1,24 @@
+package com.boardly.shared.application.outbox;
+
+/**
+ * 아웃박스 이벤트 발행 포트
+ *
+ * <p>
+ * 호출한 서비스의 트랜잭션 안에서 이벤트를 아웃박스 테이블에 기록합니다.
+ * 애그리거트 변경이 롤백되면 이벤트도 함께 롤백되고,
+ * 커밋된 이벤트는 OutboxRelay가 최소 한 번(at-least-once) 핸들러에 전달합니다.
+ * </p>
+ */
+public interface OutboxEventPublisher {
+
+    /**
+     * 이벤트 기록
+     *
+     * @param eventType     이벤트 타입
+     * @param aggregateType 애그리거트 타입
+     * @param aggregateId   애그리거트 ID
+     * @param partitionKey  순서 보장 단위 (같은 키의 이벤트는 기록 순서대로 전달)
+     * @param payload       JSON으로 직렬화할 이벤트 본문
+     */
+    void publish(String eventType, String aggregateType, String aggregateId, String partitionKey, Object payload);
+}
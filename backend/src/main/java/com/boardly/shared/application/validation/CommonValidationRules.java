@@ -249,30 +249,18 @@ public class CommonValidationRules {
      */
     public <T> Validator<T> cardDateRangeValid(Function<T, Instant> startDateExtractor,
             Function<T, Instant> dueDateExtractor) {
-        return Validator.of(
-                request -> {
-                    Instant startDate = startDateExtractor.apply(request);
-                    Instant dueDate = dueDateExtractor.apply(request);
-
-                    // 둘 다 null이면 유효
-                    if (startDate == null && dueDate == null) {
-                        return true;
-                    }
-
-                    // 시작일만 null이면 유효
-                    if (startDate == null) {
-                        return true;
-                    }
-
-                    // 종료일만 null이면 유효
-                    if (dueDate == null) {
-                        return true;
-                    }
-
-                    // 둘 다 설정된 경우, 종료일이 시작일보다 이후여야 함
-                    return !dueDate.isBefore(startDate);
-                },
-                "cardDateRange",
-                messageResolver.getMessage("validation.card.date.range.invalid"));
+        return request -> {
+            Instant startDate = startDateExtractor.apply(request);
+            Instant dueDate = dueDateExtractor.apply(request);
+
+            // 둘 중 하나라도 null이면 유효, 둘 다 설정된 경우 종료일이 시작일보다 이후여야 함
+            if (startDate == null || dueDate == null || !dueDate.isBefore(startDate)) {
+                return ValidationResult.valid(request);
+            }
+
+            // 메시지는 위반 시에만 해석
+            return ValidationResult.invalid("cardDateRange",
+                    messageResolver.getMessage("validation.card.date.range.invalid"), request);
+        };
     }
 }
\ No newline at end of file
@@ -6,8 +6,6 @@ import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
-import io.vavr.control.Try;
-
 @Component
 public class ValidationMessageResolver {
   private final MessageSource messageSource;
@@ -35,11 +33,14 @@ public class ValidationMessageResolver {
    * @param code 메시지 코드
    * @param locale 로케일
    * @param args 메시지 파라미터
-   * @return 국제화된 메시지
+   * @return 국제화된 메시지 (코드가 없으면 코드 자체)
    */
   public String getMessage(String code, Locale locale, Object... args) {
-    return Try.of(() -> messageSource.getMessage(code, args, locale))
-        .getOrElse(code);
+    try {
+      return messageSource.getMessage(code, args, locale);
+    } catch (RuntimeException e) {
+      return code;
+    }
   }
 
   /**
@@ -52,8 +53,11 @@ public class ValidationMessageResolver {
    * @return 국제화된 메시지 또는 기본 메시지
    */
   public String getMessageWithDefault(String code, String defaultMessage, Object... args) {
-    return Try.of(() -> messageSource.getMessage(code, args, defaultMessage, LocaleContextHolder.getLocale()))
-            .getOrElse(defaultMessage);
+    try {
+      return messageSource.getMessage(code, args, defaultMessage, LocaleContextHolder.getLocale());
+    } catch (RuntimeException e) {
+      return defaultMessage;
+    }
   }
 
   /**
@@ -65,7 +69,7 @@ public class ValidationMessageResolver {
    * @return 국제화된 검증 오류 메시지
    */
   public String getValidationMessage(String field, String rule, Object... args) {
-    String code = String.format("validation.%s.%s", field, rule);
+    String code = "validation." + field + "." + rule;
     return getMessage(code, args);
   }
 
@@ -79,7 +83,7 @@ public class ValidationMessageResolver {
    * @return 국제화된 검증 오류 메시지 또는 기본 메시지
    */
   public String getValidationMessageWithDefault(String field, String rule, String defaultMessage, Object... args) {
-    String code = String.format("validation.%s.%s", field, rule);
+    String code = "validation." + field + "." + rule;
     return getMessageWithDefault(code, defaultMessage, args);
   }
 
@@ -91,7 +95,7 @@ public class ValidationMessageResolver {
    * @return 국제화된 일반 검증 메시지
    */
   public String getCommonValidationMessage(String rule, Object... args) {
-    String code = String.format("validation.common.%s", rule);
+    String code = "validation.common." + rule;
     return getMessage(code, args);
   }
 
@@ -104,7 +108,7 @@ public class ValidationMessageResolver {
    * @return 국제화된 일반 검증 메시지 또는 기본 메시지
    */
   public String getCommonValidationMessageWithDefault(String rule, String defaultMessage, Object... args) {
-    String code = String.format("validation.common.%s", rule);
+    String code = "validation.common." + rule;
     return getMessageWithDefault(code, defaultMessage, args);
   }
 
@@ -118,7 +122,7 @@ public class ValidationMessageResolver {
    * @return 국제화된 도메인별 검증 메시지
    */
   public String getDomainValidationMessage(String domain, String field, String rule, Object... args) {
-    String code = String.format("validation.%s.%s.%s", domain, field, rule);
+    String code = "validation." + domain + "." + field + "." + rule;
     return getMessage(code, args);
   }
 
@@ -134,7 +138,7 @@ public class ValidationMessageResolver {
    */
   public String getDomainValidationMessageWithDefault(String domain, String field, String rule,
                                                       String defaultMessage, Object... args) {
-    String code = String.format("validation.%s.%s.%s", domain, field, rule);
+    String code = "validation." + domain + "." + field + "." + rule;
     return getMessageWithDefault(code, defaultMessage, args);
   }
 
@@ -1,8 +1,13 @@
 package com.boardly.shared.application.validation;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.springframework.context.i18n.LocaleContextHolder;
+
 import com.boardly.shared.domain.common.Failure.FieldViolation;
 
 import io.vavr.control.Validation;
@@ -11,6 +16,9 @@ import io.vavr.collection.Seq;
 @FunctionalInterface
 public interface Validator<T> {
 
+  /** 검증기 하나가 로케일별로 보관하는 메시지의 최대 개수 */
+  int MAX_CACHED_LOCALES = 8;
+
   /**
    * 검증을 수행하고 ValidationResult를 반환합니다.
    * @param target 검증 대상
@@ -149,6 +157,8 @@ public interface Validator<T> {
    * @param messageCode 메시지 코드
    * @param messageResolver 메시지 리졸버
    * @param messageArgs 메시지 파라미터
+   *
+   * 메시지는 위반이 발생했을 때만 해석하며, 한 번 해석한 결과는 이 검증기 안에 로케일별로 보관합니다.
    */
   static <T, F> Validator<T> fieldWithMessage(Function<T, F> fieldExtractor,
                                               Predicate<F> fieldValidator,
@@ -156,16 +166,36 @@ public interface Validator<T> {
                                               String messageCode,
                                               ValidationMessageResolver messageResolver,
                                               Object... messageArgs) {
+    Map<Locale, String> resolvedMessages = new ConcurrentHashMap<>();
     return target -> {
       F fieldValue = fieldExtractor.apply(target);
       if (fieldValidator.test(fieldValue)) {
         return ValidationResult.valid(target);
       }
-      String errorMessage = messageResolver.getMessage(messageCode, messageArgs);
+      String errorMessage = resolveMessage(resolvedMessages, messageCode, messageResolver, messageArgs);
       return ValidationResult.invalid(fieldName, errorMessage, fieldValue);
     };
   }
 
+  /**
+   * 검증기 단위 메시지 캐시. 로케일 종류는 소수이므로 상한을 넘으면 캐시하지 않고 매번 해석합니다.
+   */
+  private static String resolveMessage(Map<Locale, String> resolvedMessages,
+                                       String messageCode,
+                                       ValidationMessageResolver messageResolver,
+                                       Object... messageArgs) {
+    Locale locale = LocaleContextHolder.getLocale();
+    String cached = resolvedMessages.get(locale);
+    if (cached != null) {
+      return cached;
+    }
+    String message = messageResolver.getMessage(messageCode, messageArgs);
+    if (message != null && resolvedMessages.size() < MAX_CACHED_LOCALES) {
+      resolvedMessages.put(locale, message);
+    }
+    return message;
+  }
+
   /**
    * 여러 Validator를 결합하여 모든 검증을 수행
    */
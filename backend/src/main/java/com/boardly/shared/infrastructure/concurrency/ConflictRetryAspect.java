@@ -0,0 +1,149 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.StaleStateException;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.shared.application.concurrency.RetryOnConflict;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.domain.common.Failure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Either;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 락 충돌 재시도 애스펙트
+ *
+ * <p>
+ * {@link RetryOnConflict}가 붙은 메서드를 트랜잭션 어드바이스 바깥에서 감싸, 버전 충돌로 트랜잭션이 롤백되면
+ * 지터를 섞은 지수 백오프 뒤에 새 트랜잭션으로 다시 실행합니다. 같은 리스트를 여러 사람이 동시에 정렬할 때
+ * 먼저 커밋한 쪽의 결과를 다시 읽고 그 위에 이동을 적용하므로, 충돌이 곧바로 오류 응답이 되지 않습니다.
+ * 재시도를 모두 소진하면 {@code Either}를 반환하는 메서드는 {@link Failure.ResourceConflict}를,
+ * 그 밖의 메서드는 마지막 예외를 그대로 던집니다.
+ * </p>
+ *
+ * <p>
+ * 이미 바깥 트랜잭션 안에서 호출된 경우에는 롤백 범위가 바깥 트랜잭션이므로 재시도하지 않습니다.
+ * 지표는 {@code boardly.conflict_retry} (usecase, method, outcome = retry | exhausted)로 남깁니다.
+ * </p>
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+@RequiredArgsConstructor
+public class ConflictRetryAspect {
+
+    static final String RETRY_METRIC = "boardly.conflict_retry";
+    static final String ERROR_CODE = "CONCURRENT_MODIFICATION";
+
+    private final ConflictRetryProperties properties;
+    private final ValidationMessageResolver validationMessageResolver;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(com.boardly.shared.application.concurrency.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1;; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    count(joinPoint, "exhausted");
+                    log.warn("버전 충돌 재시도 소진: method={}, attempts={}", describe(joinPoint), attempt);
+                    return exhausted(joinPoint, attempt, e);
+                }
+                count(joinPoint, "retry");
+                log.debug("버전 충돌로 재시도: method={}, attempt={}, error={}",
+                        describe(joinPoint), attempt, e.getMessage());
+                if (!backoff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 예외 원인 중에 버전 충돌이 있는지 확인합니다.
+     * 커밋 시점 플러시에서 난 충돌은 트랜잭션 예외로 감싸져 올라올 수 있습니다.
+     */
+    static boolean isConflict(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object exhausted(ProceedingJoinPoint joinPoint, int attempts, RuntimeException lastError) {
+        Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (!Either.class.isAssignableFrom(returnType)) {
+            throw lastError;
+        }
+        return Either.left(Failure.ofResourceConflict(
+                validationMessageResolver.getMessage("error.general.concurrent.modification"),
+                ERROR_CODE,
+                Map.of("attempts", attempts)));
+    }
+
+    /**
+     * 재시도 전 대기 (full jitter)
+     * 동시에 충돌한 요청들이 같은 간격으로 다시 부딪치지 않도록 0부터 상한 사이에서 무작위로 기다립니다.
+     *
+     * @return 인터럽트되어 재시도를 멈춰야 하면 false
+     */
+    private boolean backoff(int attempt) {
+        long ceiling = Math.min(properties.getMaxBackoffMs(),
+                properties.getInitialBackoffMs() << Math.min(attempt - 1, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(Math.max(ceiling, 0) + 1);
+        if (sleepMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(sleepMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void count(ProceedingJoinPoint joinPoint, String outcome) {
+        Counter.builder(RETRY_METRIC)
+                .description("버전 충돌로 인한 유스케이스 재실행 수")
+                .tag("usecase", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String describe(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+}
@@ -0,0 +1,35 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 낙관적 락 충돌 재시도 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.conflict-retry")
+public class ConflictRetryProperties {
+
+    /**
+     * 충돌 재시도 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 첫 실행을 포함한 최대 실행 횟수
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * 첫 재시도 전 대기 시간 상한 (밀리초, 재시도마다 두 배)
+     */
+    private long initialBackoffMs = 5;
+
+    /**
+     * 재시도 전 대기 시간 상한의 최댓값 (밀리초)
+     */
+    private long maxBackoffMs = 100;
+}
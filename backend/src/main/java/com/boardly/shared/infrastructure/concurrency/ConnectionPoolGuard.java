@@ -0,0 +1,176 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션 풀 보호 DataSource
+ *
+ * <p>
+ * 가상 스레드에서는 요청 수만큼 스레드가 생기므로, 풀 크기를 넘는 요청이 모두 Hikari 대기열에 쌓여
+ * {@code connectionTimeout}(기본 30초)까지 버티다 한꺼번에 실패할 수 있습니다.
+ * 이 DataSource는 풀 크기만큼의 허가(permit)로 커넥션 획득을 제한하고,
+ * 대기 요청이 {@code maxWaiting}을 넘거나 {@code acquireTimeoutMs} 안에 허가를 얻지 못하면
+ * {@link SQLTransientConnectionException}으로 바로 실패시킵니다.
+ * 허가는 커넥션을 닫을 때 반환됩니다.
+ * </p>
+ */
+@Slf4j
+public class ConnectionPoolGuard extends DelegatingDataSource {
+
+    private final int maxConnections;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConnectionPoolGuard(DataSource target, int maxConnections, int maxWaiting, long acquireTimeoutMs) {
+        super(target);
+        this.maxConnections = maxConnections;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guarded(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guarded(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 커넥션을 기다리는 요청 수
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * 지금 바로 획득 가능한 커넥션 수
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 대기 한도/시간 초과로 거절된 누적 요청 수
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw reject("커넥션 대기 요청이 한도를 넘었습니다: maxWaiting=" + maxWaiting);
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw reject("커넥션을 " + acquireTimeoutMs + "ms 안에 얻지 못했습니다: maxConnections=" + maxConnections);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트되었습니다", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private SQLTransientConnectionException reject(String message) {
+        rejected.incrementAndGet();
+        log.warn("커넥션 풀 보호: {}", message);
+        return new SQLTransientConnectionException(message);
+    }
+
+    private Connection guarded(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPoolGuard.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new PermitReleasingHandler(connection));
+    }
+
+    /**
+     * 첫 {@code close()}에서 허가를 한 번만 반환하는 커넥션 프록시 핸들러
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Guarded[" + target + "]";
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 실행 모드 설정
+ *
+ * <p>
+ * Tomcat 요청 처리, {@code @Async}, {@code @Scheduled} 실행기의 가상 스레드 전환은
+ * {@code spring.threads.virtual.enabled=true}로 Spring Boot가 처리합니다.
+ * 여기서는 그 모드에서만 필요한 커넥션 풀 보호를 등록합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Hikari DataSource를 {@link ConnectionPoolGuard}로 감쌉니다.
+     *
+     * <p>
+     * 다른 빈보다 먼저 만들어지는 BeanPostProcessor라서 프로퍼티 빈 대신 Environment에서 직접 바인딩합니다.
+     * </p>
+     */
+    @Bean
+    static BeanPostProcessor connectionPoolGuardPostProcessor(Environment environment) {
+        VirtualThreadProperties.PoolGuard properties = Binder.get(environment)
+                .bind("boardly.virtual-threads", VirtualThreadProperties.class)
+                .orElseGet(VirtualThreadProperties::new)
+                .getPoolGuard();
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!properties.isEnabled() || !(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxConnections = hikari.getMaximumPoolSize();
+                log.info("커넥션 풀 보호 적용: dataSource={}, maxConnections={}, maxWaiting={}, acquireTimeout={}ms",
+                        beanName, maxConnections, properties.getMaxWaiting(), properties.getAcquireTimeoutMs());
+                if (properties.getAcquireTimeoutMs() >= hikari.getConnectionTimeout()) {
+                    log.warn("커넥션 풀 보호 대기 시간({}ms)이 Hikari connectionTimeout({}ms) 이상이라 먼저 실패하지 않습니다",
+                            properties.getAcquireTimeoutMs(), hikari.getConnectionTimeout());
+                }
+                return new ConnectionPoolGuard(hikari, maxConnections,
+                        properties.getMaxWaiting(), properties.getAcquireTimeoutMs());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionPoolGuardMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConnectionPoolGuard.class::isInstance)
+                .map(ConnectionPoolGuard.class::cast)
+                .forEach(guard -> {
+                    String pool = poolName(guard);
+                    Gauge.builder("boardly.datasource.guard.waiting", guard, ConnectionPoolGuard::getWaiting)
+                            .description("커넥션 획득을 기다리는 요청 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                    Gauge.builder("boardly.datasource.guard.available", guard, ConnectionPoolGuard::getAvailable)
+                            .description("바로 획득 가능한 커넥션 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                    FunctionCounter.builder("boardly.datasource.guard.rejected", guard,
+                            ConnectionPoolGuard::getRejected)
+                            .description("대기 한도/시간 초과로 거절된 커넥션 요청 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                });
+    }
+
+    private static String poolName(ConnectionPoolGuard guard) {
+        try {
+            return guard.unwrap(HikariDataSource.class).getPoolName();
+        } catch (SQLException e) {
+            return "unknown";
+        }
+    }
+}
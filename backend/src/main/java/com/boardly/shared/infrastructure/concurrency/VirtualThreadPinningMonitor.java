@@ -0,0 +1,127 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지기
+ *
+ * <p>
+ * {@code synchronized} 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못해
+ * 동시 처리량이 캐리어 수(CPU 코어 수)로 떨어집니다. JFR {@code jdk.VirtualThreadPinned} 이벤트를
+ * 프로세스 안에서 스트리밍해 {@code boardly.virtual_threads.pinned} 타이머로 집계하고,
+ * 처음 보는 고정 위치는 스택과 함께 경고 로그로 남깁니다.
+ * </p>
+ * <p>
+ * {@code location} 태그는 JDBC 드라이버/커넥션 풀/Hibernate 프레임이 있으면 {@code jdbc},
+ * 애플리케이션 프레임만 있으면 {@code application}, 그 외는 {@code other}입니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "boardly.virtual-threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "boardly.virtual_threads.pinned";
+
+    private static final String APPLICATION_PACKAGE = "com.boardly.";
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "org.h2.", "org.postgresql.", "com.zaxxer.hikari.", "org.hibernate.");
+    private static final int MAX_REPORTED_SITES = 256;
+
+    private final MeterRegistry meterRegistry;
+    private final VirtualThreadProperties.Pinning properties;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties.getPinning();
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.getThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감지 시작: threshold={}ms", properties.getThresholdMs());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                        .filter(RecordedFrame::isJavaFrame)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        String location = classify(frames);
+
+        Timer.builder(PINNED_METRIC)
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("location", location)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String site = frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("가상 스레드 캐리어 고정: {}ms, location={}, site={}{}{}",
+                    event.getDuration().toMillis(), location, site, System.lineSeparator(),
+                    frames.stream()
+                            .limit(properties.getStackDepth())
+                            .collect(Collectors.joining(System.lineSeparator() + "\tat ", "\tat ", "")));
+        } else {
+            log.debug("가상 스레드 캐리어 고정: {}ms, location={}, site={}",
+                    event.getDuration().toMillis(), location, site);
+        }
+    }
+
+    /**
+     * 스택 프레임으로 고정 위치 분류
+     */
+    static String classify(List<String> frames) {
+        if (frames.stream().anyMatch(frame -> JDBC_PACKAGES.stream().anyMatch(frame::startsWith))) {
+            return "jdbc";
+        }
+        if (frames.stream().anyMatch(frame -> frame.startsWith(APPLICATION_PACKAGE))) {
+            return "application";
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
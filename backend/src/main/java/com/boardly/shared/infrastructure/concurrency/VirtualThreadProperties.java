@@ -0,0 +1,69 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 가상 스레드 실행 모드 프로퍼티
+ *
+ * <p>
+ * {@code spring.threads.virtual.enabled=true}일 때만 적용됩니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.virtual-threads")
+public class VirtualThreadProperties {
+
+    private final Pinning pinning = new Pinning();
+
+    private final PoolGuard poolGuard = new PoolGuard();
+
+    /**
+     * 캐리어 스레드 고정(pinning) 감지 설정
+     */
+    @Getter
+    @Setter
+    public static class Pinning {
+
+        /**
+         * JFR {@code jdk.VirtualThreadPinned} 이벤트 수집 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 이 시간 이상 고정된 경우만 기록 (밀리초)
+         */
+        private long thresholdMs = 20;
+
+        /**
+         * 로그에 남길 스택 프레임 수
+         */
+        private int stackDepth = 12;
+    }
+
+    /**
+     * 커넥션 풀 보호 설정
+     */
+    @Getter
+    @Setter
+    public static class PoolGuard {
+
+        /**
+         * 커넥션 획득 동시성 제한 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+         */
+        private int maxWaiting = 200;
+
+        /**
+         * 커넥션 대기 시간 상한 (밀리초)
+         */
+        private long acquireTimeoutMs = 2000;
+    }
+}
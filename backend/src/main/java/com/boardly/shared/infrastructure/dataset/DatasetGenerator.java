@@ -0,0 +1,465 @@
+package com.boardly.shared.infrastructure.dataset;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.features.card.infrastructure.persistence.CardEntity;
+import com.boardly.shared.infrastructure.persistence.IdStorageMode;
+import com.boardly.shared.infrastructure.persistence.PersistenceProperties;
+import com.boardly.shared.infrastructure.persistence.UlidIdType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.ulid.Ulid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하/성능 테스트용 합성 데이터셋 생성기
+ *
+ * <p>
+ * 사용자, 보드, 멤버, 리스트, 라벨, 카드, 담당자, 카드 라벨, 댓글, 활동을 JDBC 배치 INSERT로 적재합니다.
+ * 보드별 카드 수와 보드 참여 사용자는 Zipf 분포를 따르므로, 소수의 보드에 수천 장의 카드와 수만 건의 활동이 몰리고
+ * 소수의 사용자가 많은 보드에 참여하는 운영 환경의 쏠림을 재현합니다.
+ * </p>
+ *
+ * <p>
+ * 보드 하나를 한 트랜잭션으로 적재하며, 배치 버퍼는 항상 부모 테이블부터 비우므로 외래 키 순서를 지킵니다.
+ * 비정규화 카운터({@code card_count}, {@code list_count})도 함께 채웁니다.
+ * {@code emailDomain}의 사용자가 이미 있으면 같은 데이터셋이 적재된 것으로 보고 건너뜁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "boardly.dataset", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    /** 식별자 ULID의 시간 부분 기준값. 실행 시각과 무관하게 같은 시드면 같은 식별자를 만듭니다. */
+    private static final long ID_EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final String[] FIRST_NAMES = { "민준", "서연", "도윤", "하은", "지호", "수아", "Alex", "Jamie", "Taylor",
+            "Jordan", "Morgan", "Riley" };
+    private static final String[] LAST_NAMES = { "김", "이", "박", "최", "정", "강", "Smith", "Kim", "Lee", "Park",
+            "Garcia", "Chen" };
+    private static final String[] BOARD_TOPICS = { "백엔드 로드맵", "모바일 앱", "마케팅 캠페인", "디자인 시스템", "인프라 이전",
+            "고객 지원", "채용", "데이터 파이프라인", "결제 개편", "보안 점검" };
+    private static final String[] LIST_TITLES = { "백로그", "할 일", "진행 중", "리뷰", "QA", "배포 대기", "완료", "보류",
+            "아이디어", "버그", "개선", "문서" };
+    private static final String[] LIST_COLORS = { "#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD",
+            "#98D8C8", "#F7DC6F" };
+    private static final String[] LABEL_NAMES = { "버그", "기능", "개선", "긴급", "디자인", "문서", "테스트", "인프라",
+            "보안", "성능", "리팩터링", "질문" };
+    private static final String[] CARD_VERBS = { "구현", "수정", "검토", "설계", "정리", "테스트", "배포", "조사" };
+    private static final String[] CARD_NOUNS = { "로그인 API", "결제 모듈", "대시보드 위젯", "알림 설정", "검색 필터",
+            "프로필 화면", "권한 검사", "캐시 계층", "리포트 생성", "파일 업로드", "온보딩 흐름", "에러 페이지" };
+    private static final String[] PRIORITIES = { "low", "medium", "high", "urgent" };
+    private static final String[] COMMENTS = { "확인했습니다. 오늘 중으로 반영할게요.", "재현 절차를 조금 더 자세히 적어주실 수 있나요?",
+            "리뷰 남겼습니다.", "이 부분은 다음 스프린트로 넘기는 게 좋겠습니다.", "테스트 환경에서 확인 완료!",
+            "디자인 시안 첨부 부탁드립니다." };
+
+    /** 카드 생성 외 활동 유형과 가중치 */
+    private static final String[] CARD_ACTIVITY_TYPES = { "CARD_MOVE", "CARD_ADD_COMMENT", "CARD_RENAME",
+            "CARD_ASSIGN_MEMBER", "CARD_SET_DUE_DATE", "CARD_UPDATE_DESCRIPTION", "CARD_ADD_LABEL" };
+    private static final int[] CARD_ACTIVITY_WEIGHTS = { 30, 15, 10, 10, 10, 10, 15 };
+
+    private final DatasetProperties properties;
+    private final PersistenceProperties persistenceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${boardly.card.policy.max-cards-per-list:100}")
+    private int maxCardsPerListPolicy;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+        if (properties.isExitOnComplete()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    /**
+     * 데이터셋을 적재합니다.
+     *
+     * @return 테이블별 적재 행 수, 이미 적재되어 있어 건너뛰었으면 {@code null}
+     */
+    Summary generate() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE ?",
+                Integer.class, "%@" + properties.getEmailDomain());
+        if (existing != null && existing > 0) {
+            log.info("데이터셋이 이미 적재되어 있어 건너뜁니다: emailDomain={}, users={}", properties.getEmailDomain(), existing);
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        Instant now = Instant.now();
+        Context context = new Context(new SplittableRandom(properties.getSeed()), now);
+        log.info("데이터셋 생성 시작: seed={}, users={}, boards={}, cards={}, skew={}",
+                properties.getSeed(), properties.getUsers(), properties.getBoards(), properties.getCards(),
+                properties.getSkew());
+
+        insertUsers(context);
+
+        ZipfSampler userSampler = new ZipfSampler(properties.getUsers(), properties.getSkew());
+        int[] cardsPerBoard = ZipfSampler.split(properties.getCards(), properties.getBoards(), properties.getSkew(),
+                properties.getMaxCardsPerBoard());
+        for (int board = 0; board < properties.getBoards(); board++) {
+            int cards = cardsPerBoard[board];
+            transactionTemplate.executeWithoutResult(status -> insertBoard(context, userSampler, cards));
+            if ((board + 1) % Math.max(1, properties.getBoards() / 10) == 0) {
+                log.info("데이터셋 생성 중: boards={}/{}, rows={}", board + 1, properties.getBoards(), context.batch.total());
+            }
+        }
+
+        Summary summary = context.batch.summary(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("데이터셋 생성 완료: {}", summary);
+        log.info("가장 큰 보드: boardId={}, cards={}, owner={}",
+                context.largestBoardId, cardsPerBoard.length > 0 ? cardsPerBoard[0] : 0, context.largestBoardOwnerEmail);
+        if (cardsPerBoard.length > 0 && cardsPerBoard[0] / Math.max(1, properties.getMinListsPerBoard())
+                > maxCardsPerListPolicy) {
+            log.warn("상위 보드의 리스트당 카드 수가 boardly.card.policy.max-cards-per-list({})를 넘습니다. "
+                    + "이 리스트로의 카드 생성/이동은 정책에 막힙니다.", maxCardsPerListPolicy);
+        }
+        return summary;
+    }
+
+    private void insertUsers(Context context) {
+        String hashedPassword = passwordEncoder.encode(properties.getPassword());
+        context.userIds = new String[properties.getUsers()];
+        context.userFirstNames = new String[properties.getUsers()];
+        context.userLastNames = new String[properties.getUsers()];
+        for (int user = 0; user < properties.getUsers(); user++) {
+            String userId = context.nextId();
+            String firstName = pick(context.random, FIRST_NAMES);
+            String lastName = pick(context.random, LAST_NAMES);
+            LocalDateTime createdAt = context.pastTime(properties.getHistoryDays());
+            context.userIds[user] = userId;
+            context.userFirstNames[user] = firstName;
+            context.userLastNames[user] = lastName;
+            context.batch.add(Table.USERS, id(userId), email(user), hashedPassword, firstName, lastName, true,
+                    createdAt, createdAt, 0L);
+            if (context.batch.pending() >= properties.getBatchSize()) {
+                transactionTemplate.executeWithoutResult(status -> context.batch.flush());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> context.batch.flush());
+    }
+
+    private void insertBoard(Context context, ZipfSampler userSampler, int cardCount) {
+        SplittableRandom random = context.random;
+        LocalDateTime boardCreatedAt = context.pastTime(properties.getHistoryDays());
+
+        // 보드와 멤버 (소유자는 항상 첫 번째 멤버, 참여가 잦은 사용자일수록 여러 보드에 들어갑니다)
+        String boardId = context.nextId();
+        int ownerIndex = userSampler.sample(random);
+        String boardTitle = pick(random, BOARD_TOPICS) + " " + (context.boardSequence++ + 1);
+        List<Integer> members = new ArrayList<>(sampleMembers(context, userSampler, ownerIndex));
+        List<Integer> writers = new ArrayList<>();
+        int listCount = random.nextInt(properties.getMinListsPerBoard(), properties.getMaxListsPerBoard() + 1);
+        context.batch.add(Table.BOARDS, id(boardId), boardTitle, boardTitle + " 보드입니다.", false,
+                id(context.userIds[ownerIndex]), random.nextInt(10) == 0, boardCreatedAt, boardCreatedAt, 0L,
+                listCount);
+        for (int i = 0; i < members.size(); i++) {
+            int member = members.get(i);
+            String role = i == 0 ? "OWNER" : memberRole(random);
+            if (!"VIEWER".equals(role)) {
+                writers.add(member);
+            }
+            context.batch.add(Table.BOARD_MEMBERS, id(context.nextId()), id(boardId), id(context.userIds[member]),
+                    role, true, boardCreatedAt, boardCreatedAt, 0L);
+        }
+        activity(context, ownerIndex, boardId, null, null, "BOARD_CREATE", boardCreatedAt,
+                Map.of("boardName", boardTitle, "boardId", boardId));
+        if (context.largestBoardId == null) {
+            context.largestBoardId = boardId;
+            context.largestBoardOwnerEmail = email(ownerIndex);
+        }
+
+        // 리스트 (뒤쪽 "완료" 계열 리스트일수록 카드가 많이 쌓이도록 가중치를 둡니다)
+        String[] listIds = new String[listCount];
+        String[] listTitles = new String[listCount];
+        int[] cardsPerList = new int[listCount];
+        ZipfSampler listSampler = new ZipfSampler(listCount, 0.6);
+        for (int card = 0; card < cardCount; card++) {
+            cardsPerList[listCount - 1 - listSampler.sample(random)]++;
+        }
+        for (int list = 0; list < listCount; list++) {
+            listIds[list] = context.nextId();
+            listTitles[list] = LIST_TITLES[list % LIST_TITLES.length];
+            context.batch.add(Table.BOARD_LISTS, id(listIds[list]), listTitles[list], null, list,
+                    LIST_COLORS[list % LIST_COLORS.length], id(boardId), boardCreatedAt, boardCreatedAt, 0L,
+                    cardsPerList[list]);
+            activity(context, ownerIndex, boardId, listIds[list], null, "LIST_CREATE", boardCreatedAt,
+                    Map.of("listName", listTitles[list], "listId", listIds[list], "boardName", boardTitle));
+        }
+
+        // 라벨
+        String[] labelIds = new String[properties.getLabelsPerBoard()];
+        for (int label = 0; label < labelIds.length; label++) {
+            labelIds[label] = context.nextId();
+            String name = LABEL_NAMES[label % LABEL_NAMES.length]
+                    + (label >= LABEL_NAMES.length ? " " + (label / LABEL_NAMES.length + 1) : "");
+            context.batch.add(Table.LABELS, id(labelIds[label]), id(boardId), name,
+                    LIST_COLORS[label % LIST_COLORS.length], boardCreatedAt, boardCreatedAt, 0L);
+        }
+
+        // 카드와 카드별 하위 데이터
+        List<Integer> actors = writers.isEmpty() ? members : writers;
+        Duration boardAge = Duration.between(boardCreatedAt, LocalDateTime.ofInstant(context.now, ZoneOffset.UTC));
+        for (int list = 0; list < listCount; list++) {
+            boolean doneList = list == listCount - 1;
+            for (int position = 0; position < cardsPerList[list]; position++) {
+                insertCard(context, boardId, listIds[list], listTitles[list], position, doneList, actors, labelIds,
+                        boardCreatedAt, boardAge);
+                if (context.batch.pending() >= properties.getBatchSize()) {
+                    context.batch.flush();
+                }
+            }
+        }
+        context.batch.flush();
+    }
+
+    private void insertCard(Context context, String boardId, String listId, String listTitle, int position,
+            boolean doneList, List<Integer> actors, String[] labelIds, LocalDateTime boardCreatedAt,
+            Duration boardAge) {
+        SplittableRandom random = context.random;
+        String cardId = context.nextId();
+        String title = pick(random, CARD_NOUNS) + " " + pick(random, CARD_VERBS) + " #" + (context.cardSequence++ + 1);
+        int creator = actors.get(random.nextInt(actors.size()));
+        LocalDateTime createdAt = boardCreatedAt.plus(randomFraction(random, boardAge));
+        LocalDateTime nowUtc = LocalDateTime.ofInstant(context.now, ZoneOffset.UTC);
+        Duration cardAge = Duration.between(createdAt, nowUtc);
+        LocalDateTime dueDate = random.nextInt(10) < 4
+                ? nowUtc.plusDays(random.nextInt(-30, 61)).withHour(9).withMinute(0).withSecond(0).withNano(0)
+                : null;
+        String priority = random.nextBoolean() ? PRIORITIES[random.nextInt(PRIORITIES.length)] : null;
+        context.batch.add(Table.CARDS, id(cardId), title, random.nextBoolean() ? title + " 작업 내용을 정리합니다." : null,
+                position, dueDate, null, random.nextInt(20) == 0, priority, doneList || random.nextInt(10) == 0,
+                id(listId), id(context.userIds[creator]), createdAt, createdAt, 0L,
+                CardEntity.reminderBucketOf(cardId));
+        activity(context, creator, boardId, listId, cardId, "CARD_CREATE", createdAt,
+                Map.of("listName", listTitle, "cardTitle", title, "listId", listId, "cardId", cardId));
+
+        for (int assignee : distinct(random, actors, random.nextInt(3))) {
+            context.batch.add(Table.CARD_MEMBERS, id(cardId), id(context.userIds[assignee]), createdAt);
+        }
+        for (int label : distinctIndexes(random, labelIds.length, random.nextInt(Math.min(3, labelIds.length) + 1))) {
+            context.batch.add(Table.CARD_LABELS, id(cardId), id(labelIds[label]), createdAt);
+        }
+
+        int comments = geometric(random, properties.getAverageCommentsPerCard());
+        for (int comment = 0; comment < comments; comment++) {
+            int author = actors.get(random.nextInt(actors.size()));
+            LocalDateTime commentedAt = createdAt.plus(randomFraction(random, cardAge));
+            context.batch.add(Table.COMMENTS, id(context.nextId()), id(cardId), id(context.userIds[author]),
+                    pick(random, COMMENTS), false, commentedAt, commentedAt, 0L);
+        }
+
+        // 카드 생성 활동을 뺀 나머지 활동 (최근일수록 많도록 카드 수명 안에서 뒤쪽으로 치우쳐 배치합니다)
+        int activities = geometric(random, Math.max(0, properties.getAverageActivitiesPerCard() - 1));
+        for (int i = 0; i < activities; i++) {
+            int actor = actors.get(random.nextInt(actors.size()));
+            LocalDateTime occurredAt = nowUtc.minus(randomFraction(random, cardAge).dividedBy(2));
+            String type = weightedPick(random, CARD_ACTIVITY_TYPES, CARD_ACTIVITY_WEIGHTS);
+            activity(context, actor, boardId, listId, cardId, type, occurredAt,
+                    Map.of("cardTitle", title, "cardId", cardId, "listName", listTitle));
+        }
+    }
+
+    private void activity(Context context, int actor, String boardId, String listId, String cardId, String type,
+            LocalDateTime occurredAt, Map<String, Object> payload) {
+        context.batch.add(Table.USER_ACTIVITY, id(context.nextId()), id(context.userIds[actor]), id(boardId),
+                id(listId), id(cardId), type, context.userFirstNames[actor], context.userLastNames[actor], null,
+                json(payload), occurredAt);
+    }
+
+    private LinkedHashSet<Integer> sampleMembers(Context context, ZipfSampler userSampler, int owner) {
+        LinkedHashSet<Integer> members = new LinkedHashSet<>();
+        members.add(owner);
+        int target = Math.min(properties.getUsers(),
+                1 + geometric(context.random, properties.getAverageMembersPerBoard()));
+        for (int attempt = 0; members.size() < target && attempt < target * 10; attempt++) {
+            members.add(userSampler.sample(context.random));
+        }
+        return members;
+    }
+
+    private String email(int user) {
+        return String.format("load-%05d@%s", user + 1, properties.getEmailDomain());
+    }
+
+    private Object id(String ulid) {
+        if (ulid == null || persistenceProperties.getIdStorage() != IdStorageMode.BINARY) {
+            return ulid;
+        }
+        return UlidIdType.toUuid(ulid);
+    }
+
+    private String json(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("활동 페이로드를 직렬화할 수 없습니다", e);
+        }
+    }
+
+    private static String memberRole(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        return roll == 0 ? "ADMIN" : roll == 1 ? "VIEWER" : "MEMBER";
+    }
+
+    /**
+     * 평균이 {@code mean}인 기하 분포 표본 (대부분 작고 가끔 큰 값)
+     */
+    static int geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1.0 / (1.0 + mean);
+        return (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+    }
+
+    private static Duration randomFraction(SplittableRandom random, Duration duration) {
+        long millis = Math.max(1, duration.toMillis());
+        return Duration.ofMillis(random.nextLong(millis));
+    }
+
+    private static List<Integer> distinct(SplittableRandom random, List<Integer> values, int count) {
+        List<Integer> picked = new ArrayList<>();
+        for (int index : distinctIndexes(random, values.size(), count)) {
+            picked.add(values.get(index));
+        }
+        return picked;
+    }
+
+    private static LinkedHashSet<Integer> distinctIndexes(SplittableRandom random, int size, int count) {
+        LinkedHashSet<Integer> indexes = new LinkedHashSet<>();
+        int target = Math.min(size, count);
+        while (indexes.size() < target) {
+            indexes.add(random.nextInt(size));
+        }
+        return indexes;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String weightedPick(SplittableRandom random, String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * 생성 중 상태 (난수, 식별자 순번, 사용자 목록, 배치 버퍼)
+     */
+    private final class Context {
+
+        private final SplittableRandom random;
+        private final Instant now;
+        private final BatchWriter batch = new BatchWriter(jdbcTemplate);
+        private long idSequence;
+        private int boardSequence;
+        private int cardSequence;
+        private String[] userIds;
+        private String[] userFirstNames;
+        private String[] userLastNames;
+        private String largestBoardId;
+        private String largestBoardOwnerEmail;
+
+        private Context(SplittableRandom random, Instant now) {
+            this.random = random;
+            this.now = now;
+        }
+
+        private String nextId() {
+            byte[] randomPart = new byte[Ulid.RANDOM_BYTES];
+            random.nextBytes(randomPart);
+            return new Ulid(ID_EPOCH_MILLIS + idSequence++, randomPart).toString();
+        }
+
+        /**
+         * 최근 {@code days}일 안의 시각. 제곱 분포라 최근 시각이 더 많이 나옵니다.
+         */
+        private LocalDateTime pastTime(int days) {
+            double fraction = random.nextDouble();
+            long ageMillis = (long) (fraction * fraction * TimeUnit.DAYS.toMillis(days));
+            return LocalDateTime.ofInstant(now.minusMillis(ageMillis), ZoneOffset.UTC);
+        }
+    }
+
+    /**
+     * 적재 행 수 요약
+     */
+    record Summary(Map<Table, Long> rows, long elapsedMs) {
+    }
+
+    /**
+     * 적재 대상 테이블. 선언 순서가 외래 키 순서(부모 먼저)입니다.
+     */
+    enum Table {
+        USERS("INSERT INTO users (user_id, email, hashed_password, first_name, last_name, is_active, created_at, "
+                + "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        BOARDS("INSERT INTO boards (board_id, title, description, is_archived, owner_id, is_starred, created_at, "
+                + "updated_at, version, list_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        BOARD_MEMBERS("INSERT INTO board_members (member_id, board_id, user_id, role, is_active, created_at, "
+                + "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)"),
+        BOARD_LISTS("INSERT INTO board_lists (list_id, title, description, position, color, board_id, created_at, "
+                + "updated_at, version, card_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        LABELS("INSERT INTO labels (label_id, board_id, name, color, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)"),
+        CARDS("INSERT INTO cards (card_id, title, description, position, due_date, start_date, archived, priority, "
+                + "is_completed, list_id, created_by, created_at, updated_at, version, reminder_bucket) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        CARD_MEMBERS("INSERT INTO card_members (card_id, user_id, assigned_at) VALUES (?, ?, ?)"),
+        CARD_LABELS("INSERT INTO card_labels (card_id, label_id, applied_at) VALUES (?, ?, ?)"),
+        COMMENTS("INSERT INTO comments (comment_id, card_id, author_id, content, edited, created_at, updated_at, "
+                + "version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)"),
+        USER_ACTIVITY("INSERT INTO user_activity (activity_id, actor_id, board_id, list_id, card_id, activity_type, "
+                + "actor_first_name, actor_last_name, actor_profile_image_url, payload, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        private final String insertSql;
+
+        Table(String insertSql) {
+            this.insertSql = insertSql;
+        }
+
+        String insertSql() {
+            return insertSql;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.boardly.shared.infrastructure.dataset;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 부하/성능 테스트용 합성 데이터셋 프로퍼티
+ *
+ * <p>
+ * {@code dataset} 프로파일에서 켭니다. 같은 {@code seed}와 크기 설정이면 식별자와 분포가 같은 데이터셋이 만들어집니다.
+ * 생성 시각만 실행 시점 기준으로 배치되므로, 마감일과 활동 시각은 "최근 {@code historyDays}일"의 의미를 유지합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.dataset")
+public class DatasetProperties {
+
+    /**
+     * 기동 시 데이터셋 생성 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 생성을 마치면 애플리케이션을 종료할지 여부
+     */
+    private boolean exitOnComplete = true;
+
+    /**
+     * 난수 시드
+     */
+    private long seed = 42;
+
+    /**
+     * 사용자 수 (이메일: {@code load-<번호>@<emailDomain>})
+     */
+    private int users = 1_000;
+
+    /**
+     * 생성된 사용자의 이메일 도메인. 이 도메인의 사용자가 이미 있으면 생성하지 않습니다.
+     */
+    private String emailDomain = "load.boardly.test";
+
+    /**
+     * 생성된 사용자의 비밀번호
+     */
+    private String password = "Password1!";
+
+    /**
+     * 보드 수
+     */
+    private int boards = 200;
+
+    /**
+     * 보드당 리스트 수 (최소)
+     */
+    private int minListsPerBoard = 4;
+
+    /**
+     * 보드당 리스트 수 (최대)
+     */
+    private int maxListsPerBoard = 12;
+
+    /**
+     * 전체 카드 수. 보드별 카드 수는 Zipf 분포로 나뉘어 상위 몇 개 보드에 수천 장이 몰립니다.
+     */
+    private int cards = 100_000;
+
+    /**
+     * 보드별 카드 수와 보드 참여 사용자 분포의 Zipf 지수 (0이면 균등, 클수록 쏠림)
+     */
+    private double skew = 1.1;
+
+    /**
+     * 보드 하나의 최대 카드 수 (리스트당 카드 정책 확인용으로 상한을 둡니다)
+     */
+    private int maxCardsPerBoard = 20_000;
+
+    /**
+     * 보드당 평균 멤버 수 (소유자 제외)
+     */
+    private int averageMembersPerBoard = 6;
+
+    /**
+     * 보드당 라벨 수
+     */
+    private int labelsPerBoard = 8;
+
+    /**
+     * 카드당 평균 댓글 수
+     */
+    private double averageCommentsPerCard = 1.5;
+
+    /**
+     * 카드당 평균 활동 수 (보드/리스트 생성 활동은 별도)
+     */
+    private double averageActivitiesPerCard = 6;
+
+    /**
+     * 생성 시각을 배치할 기간 (일)
+     */
+    private int historyDays = 365;
+
+    /**
+     * JDBC 배치 크기
+     */
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,57 @@
+package com.boardly.shared.infrastructure.dataset;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 표본 추출기
+ *
+ * <p>
+ * 순위 {@code k}(0부터)의 가중치를 {@code 1 / (k + 1)^exponent}로 두고 누적 분포를 미리 계산해,
+ * 이진 탐색으로 순위를 뽑습니다. 지수가 0이면 균등 분포입니다.
+ * </p>
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += weight(rank, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * 전체 {@code total}을 순위별 가중치에 비례해 나눕니다. 각 몫은 {@code max}를 넘지 않으며, 반올림 때문에 합이 {@code total}과 조금 다를 수 있습니다.
+     */
+    static int[] split(int total, int size, double exponent, int max) {
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += weight(rank, exponent);
+        }
+        int[] shares = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            shares[rank] = (int) Math.min(max, Math.round(total * weight(rank, exponent) / sum));
+        }
+        return shares;
+    }
+
+    private static double weight(int rank, double exponent) {
+        return 1.0 / Math.pow(rank + 1, exponent);
+    }
+}
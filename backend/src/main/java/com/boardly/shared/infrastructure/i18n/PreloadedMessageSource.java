@@ -0,0 +1,114 @@
+package com.boardly.shared.infrastructure.i18n;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.ClassPathResource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 모든 메시지 번들을 한 번에 읽어 두는 불변 MessageSource
+ *
+ * <p>{@code ResourceBundleMessageSource}와 같은 규칙(앞선 basename 우선, 언어 → 기본 번들 순 폴백)으로
+ * 로케일별 카탈로그를 미리 병합하고, 파라미터가 있는 메시지용 {@link MessageFormat}도 이때 파싱합니다.
+ * 요청 경로에서는 맵 조회만 일어납니다.</p>
+ */
+@Slf4j
+public class PreloadedMessageSource extends AbstractMessageSource {
+
+    private final Map<Locale, Catalog> catalogs;
+    private final Catalog defaultCatalog;
+
+    /**
+     * @param basenames     클래스패스 기준 번들 경로 (예: "messages/messages"), 앞선 번들이 우선
+     * @param defaultLocale 기본 번들 메시지를 포맷할 때 사용할 로케일
+     * @param locales       기본 번들 외에 읽어 둘 로케일
+     */
+    public PreloadedMessageSource(List<String> basenames, Locale defaultLocale, List<Locale> locales) {
+        Map<String, String> defaults = load(basenames, null);
+        this.defaultCatalog = Catalog.of(defaults, defaultLocale);
+
+        Map<Locale, Catalog> loaded = new HashMap<>();
+        for (Locale locale : locales) {
+            Map<String, String> merged = new LinkedHashMap<>(load(basenames, locale));
+            defaults.forEach(merged::putIfAbsent);
+            loaded.put(locale, Catalog.of(merged, locale));
+        }
+        this.catalogs = Map.copyOf(loaded);
+
+        log.info("메시지 카탈로그 로드 완료: basenames={}, locales={}, 기본 메시지 {}건",
+                basenames, locales, defaults.size());
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        return catalogFor(locale).messages().get(code);
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        return catalogFor(locale).formats().get(code);
+    }
+
+    private Catalog catalogFor(Locale locale) {
+        if (locale == null) {
+            return defaultCatalog;
+        }
+        Catalog catalog = catalogs.get(locale);
+        if (catalog == null && !locale.getCountry().isEmpty()) {
+            catalog = catalogs.get(Locale.of(locale.getLanguage()));
+        }
+        return catalog != null ? catalog : defaultCatalog;
+    }
+
+    private static Map<String, String> load(List<String> basenames, Locale locale) {
+        Map<String, String> messages = new LinkedHashMap<>();
+        for (String basename : basenames) {
+            String path = locale == null
+                    ? basename + ".properties"
+                    : basename + "_" + locale + ".properties";
+            ClassPathResource resource = new ClassPathResource(path);
+            if (!resource.exists()) {
+                continue;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("메시지 번들을 읽을 수 없습니다: " + path, e);
+            }
+            properties.stringPropertyNames().forEach(key -> messages.putIfAbsent(key, properties.getProperty(key)));
+        }
+        return messages;
+    }
+
+    /**
+     * 로케일 하나의 원문 메시지와 미리 파싱한 MessageFormat
+     */
+    private record Catalog(Map<String, String> messages, Map<String, MessageFormat> formats) {
+
+        static Catalog of(Map<String, String> messages, Locale locale) {
+            Map<String, MessageFormat> formats = new HashMap<>();
+            messages.forEach((code, message) -> {
+                try {
+                    formats.put(code, new MessageFormat(message, locale));
+                } catch (IllegalArgumentException e) {
+                    log.warn("메시지 형식이 올바르지 않아 파라미터 치환을 건너뜁니다: code={}, locale={}", code, locale);
+                }
+            });
+            return new Catalog(Map.copyOf(messages), Map.copyOf(formats));
+        }
+    }
+}
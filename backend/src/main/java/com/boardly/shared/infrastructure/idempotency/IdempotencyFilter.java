@@ -0,0 +1,261 @@
+package com.boardly.shared.infrastructure.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.presentation.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 처리 필터
+ *
+ * <p>
+ * 쓰기 요청(POST, PUT, PATCH)에 {@code Idempotency-Key} 헤더가 있으면 인증된 사용자와 키로 응답을 기록하고,
+ * 타임아웃 뒤 재전송된 같은 요청에는 컨트롤러와 데이터베이스를 거치지 않고 기록된 응답을 돌려줍니다.
+ * 재전송 응답에는 {@code Idempotent-Replayed: true} 헤더를 붙입니다.
+ * </p>
+ *
+ * <ul>
+ * <li>같은 키를 다른 메서드, 경로, 본문에 쓰면 422 {@code IDEMPOTENCY_KEY_REUSED}</li>
+ * <li>같은 요청이 처리 중이면 결과를 기다리고, {@code waitTimeoutMs}를 넘기면 409
+ * {@code IDEMPOTENCY_REQUEST_IN_PROGRESS}</li>
+ * <li>5xx 응답과 {@code maxResponseBytes}보다 큰 응답은 기록하지 않아 재시도하면 다시 실행됩니다</li>
+ * </ul>
+ *
+ * 인증 정보가 필요하므로 Spring Security 필터 체인 뒤에서 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final String REQUESTS_METRIC = "boardly.idempotency.requests";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore idempotencyStore;
+    private final ValidationMessageResolver validationMessageResolver;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !WRITE_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID", "error.idempotency.key.invalid");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = authentication.getName() + ':' + idempotencyKey;
+        IdempotencyStore.Reservation reservation = idempotencyStore.reserve(key, fingerprint(cachedRequest));
+
+        switch (reservation.outcome()) {
+            case ACQUIRED -> execute(cachedRequest, response, filterChain, key);
+            case REPLAY -> {
+                count("replayed");
+                log.debug("Idempotency-Key 재전송 응답: method={}, uri={}", request.getMethod(), request.getRequestURI());
+                writeStored(response, reservation.response());
+            }
+            case MISMATCH -> {
+                count("mismatch");
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                        "error.idempotency.key.reused");
+            }
+            case IN_PROGRESS -> {
+                count("in_progress");
+                writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                        "error.idempotency.in.progress");
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, String key)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            completed = true;
+        } finally {
+            // Error를 포함해 어떤 예외로 끝나도 슬롯을 비워 같은 키의 재시도가 막히지 않게 합니다
+            if (!completed) {
+                idempotencyStore.release(key);
+            }
+        }
+
+        int status = responseWrapper.getStatus();
+        byte[] body = responseWrapper.getContentAsByteArray();
+        if (status >= 500 || body.length > properties.getMaxResponseBytes()) {
+            idempotencyStore.release(key);
+            count("not_recorded");
+        } else {
+            idempotencyStore.complete(key, new IdempotencyStore.StoredResponse(status,
+                    responseWrapper.getContentType(), responseWrapper.getHeader(HttpHeaders.LOCATION), body));
+            count("executed");
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void writeStored(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String code, String messageKey)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(code, validationMessageResolver.getMessage(messageKey)));
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(REQUESTS_METRIC, "outcome", outcome).increment();
+    }
+
+    /**
+     * 메서드, 경로, 쿼리, 본문 해시로 요청 지문을 만듭니다.
+     */
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 지문을 만들기 위해 본문을 먼저 읽고, 컨트롤러에는 같은 본문을 다시 제공하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        private byte[] body() {
+            return body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 등록 즉시 남은 데이터와 읽기 완료를 알립니다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.boardly.shared.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key 처리 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Key 헤더 처리 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기록한 응답을 재사용하는 시간 (초)
+     */
+    private long ttlSeconds = 86400;
+
+    /**
+     * 보관할 최대 키 수
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * 기록할 수 있는 응답 본문 최대 크기 (바이트, 넘으면 기록하지 않음)
+     */
+    private int maxResponseBytes = 64 * 1024;
+
+    /**
+     * 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간 (밀리초)
+     */
+    private long waitTimeoutMs = 10000;
+}
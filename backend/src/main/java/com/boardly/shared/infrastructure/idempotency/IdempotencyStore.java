@@ -0,0 +1,161 @@
+package com.boardly.shared.infrastructure.idempotency;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Idempotency-Key 응답 저장소
+ *
+ * <p>
+ * (사용자, 키)마다 요청 지문과 처리 결과를 메모리에 보관합니다. 처음 도착한 요청이 키를 선점해 실행하고,
+ * 실행 중에 같은 키로 들어온 요청은 그 결과를 기다렸다가 기록된 응답을 그대로 돌려받습니다.
+ * 실행이 기록 없이 끝나면({@link #release}) 기다리던 요청 중 하나가 키를 다시 선점해 실행합니다.
+ * </p>
+ *
+ * <p>
+ * 기록된 응답은 {@code ttlSeconds}가 지나면 재사용하지 않으며, 키 수가 {@code maxEntries}를 넘으면
+ * 처리가 끝난 키부터 지웁니다. 실행 중인 키는 지우지 않으므로 초과분은 동시에 처리 중인 요청 수를 넘지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final IdempotencyProperties properties;
+    private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 키를 선점하거나, 이미 처리됐거나 처리 중인 같은 요청의 결과를 반환합니다.
+     *
+     * @param key         사용자와 Idempotency-Key를 합친 키
+     * @param fingerprint 요청 메서드, 경로, 본문으로 만든 지문
+     */
+    public Reservation reserve(String key, String fingerprint) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeoutMs());
+        while (true) {
+            Slot claimed = new Slot(fingerprint, System.nanoTime());
+            Slot slot = slots.compute(key, (k, existing) -> existing == null || isExpired(existing) ? claimed : existing);
+            if (slot == claimed) {
+                trimToSize();
+                return Reservation.acquired();
+            }
+            if (!slot.fingerprint().equals(fingerprint)) {
+                return Reservation.mismatch();
+            }
+
+            StoredResponse response;
+            try {
+                response = slot.result().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return Reservation.inProgress();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Reservation.inProgress();
+            } catch (ExecutionException e) {
+                // 결과 future는 예외로 완료하지 않으므로 도달하지 않습니다.
+                return Reservation.inProgress();
+            }
+            if (response != null) {
+                return Reservation.replay(response);
+            }
+            // 먼저 실행한 요청이 기록 없이 끝났으면 다시 선점을 시도합니다.
+        }
+    }
+
+    /**
+     * 선점한 키의 응답을 기록하고 기다리던 요청에 전달합니다.
+     */
+    public void complete(String key, StoredResponse response) {
+        Slot slot = slots.get(key);
+        if (slot != null) {
+            slot.result().complete(response);
+        }
+    }
+
+    /**
+     * 선점한 키를 기록 없이 놓습니다 (서버 오류, 너무 큰 응답 등). 같은 키의 다음 요청은 다시 실행됩니다.
+     */
+    public void release(String key) {
+        Slot slot = slots.remove(key);
+        if (slot != null) {
+            slot.result().complete(null);
+        }
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private boolean isExpired(Slot slot) {
+        return slot.result().isDone()
+                && System.nanoTime() - slot.createdAtNanos() >= TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, Slot>> entries = slots.entrySet().iterator();
+        while (slots.size() > properties.getMaxEntries() && entries.hasNext()) {
+            Map.Entry<String, Slot> entry = entries.next();
+            if (entry.getValue().result().isDone()) {
+                slots.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private record Slot(String fingerprint, long createdAtNanos, CompletableFuture<StoredResponse> result) {
+
+        private Slot(String fingerprint, long createdAtNanos) {
+            this(fingerprint, createdAtNanos, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * 기록된 응답 (상태 코드, 헤더 일부, 본문)
+     */
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * 키 선점 결과
+     *
+     * @param outcome  선점 결과
+     * @param response {@link Outcome#REPLAY}일 때 돌려줄 응답
+     */
+    public record Reservation(Outcome outcome, StoredResponse response) {
+
+        static Reservation acquired() {
+            return new Reservation(Outcome.ACQUIRED, null);
+        }
+
+        static Reservation replay(StoredResponse response) {
+            return new Reservation(Outcome.REPLAY, response);
+        }
+
+        static Reservation mismatch() {
+            return new Reservation(Outcome.MISMATCH, null);
+        }
+
+        static Reservation inProgress() {
+            return new Reservation(Outcome.IN_PROGRESS, null);
+        }
+    }
+
+    public enum Outcome {
+        /** 키를 선점했으므로 요청을 실행합니다. */
+        ACQUIRED,
+        /** 같은 요청이 이미 처리되어 기록된 응답을 돌려줍니다. */
+        REPLAY,
+        /** 같은 키가 다른 요청에 쓰였습니다. */
+        MISMATCH,
+        /** 같은 요청이 아직 처리 중이며 기다리는 시간을 넘겼습니다. */
+        IN_PROGRESS
+    }
+}
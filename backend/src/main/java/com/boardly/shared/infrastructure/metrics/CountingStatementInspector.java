@@ -0,0 +1,17 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL 문을 {@link SqlStatementCounter}에 집계하고,
+ * 기록 중이면 {@link SqlStatementRecording}에도 남깁니다. SQL은 변경하지 않습니다.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        SqlStatementRecording.record(sql);
+        return sql;
+    }
+}
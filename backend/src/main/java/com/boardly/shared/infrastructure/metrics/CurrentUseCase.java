@@ -0,0 +1,41 @@
+package com.boardly.shared.infrastructure.metrics;
+
+/**
+ * 현재 스레드에서 실행 중인 유스케이스 이름
+ * {@link UseCaseMetricsAspect}가 유스케이스 진입/종료 시 설정하고,
+ * 커넥션 풀 메트릭처럼 유스케이스를 직접 알 수 없는 계층에서 태그로 사용합니다.
+ */
+public final class CurrentUseCase {
+
+    /**
+     * 유스케이스 바깥(필터, 스케줄러, 마이그레이션 등)에서의 태그 값
+     */
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> NAME = new ThreadLocal<>();
+
+    private CurrentUseCase() {
+    }
+
+    /**
+     * 유스케이스 진입을 기록하고 이전 값을 반환합니다. 종료 시 {@link #restore(String)}에 넘겨야 합니다.
+     */
+    static String enter(String useCase) {
+        String previous = NAME.get();
+        NAME.set(useCase);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            NAME.remove();
+        } else {
+            NAME.set(previous);
+        }
+    }
+
+    public static String name() {
+        String name = NAME.get();
+        return name != null ? name : NONE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * SQL 실행 횟수 집계용 StatementInspector 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+
+    /**
+     * 모든 Hikari 풀에 유스케이스별 커넥션 메트릭 트래커 등록
+     *
+     * <p>
+     * 풀이 시작되면 트래커를 바꿀 수 없으므로 초기화 전에 설정합니다.
+     * 트래커가 이미 지정된 풀은 건드리지 않으며, 이 경우 Spring Boot 기본 {@code hikaricp.*} 메트릭만 남습니다.
+     * </p>
+     */
+    @Bean
+    static BeanPostProcessor useCaseConnectionMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && hikari.getMetricsTrackerFactory() == null
+                        && hikari.getMetricRegistry() == null) {
+                    hikari.setMetricsTrackerFactory(new UseCaseConnectionMetricsTrackerFactory(meterRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+}
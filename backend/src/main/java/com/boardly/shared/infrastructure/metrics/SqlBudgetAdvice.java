@@ -0,0 +1,52 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.boardly.shared.presentation.SqlBudget;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link SqlBudget}이 선언된 엔드포인트의 SQL 문 수를 응답 본문 작성 직전에 검사합니다.
+ * 본문을 쓰기 전에 검사하므로 FAIL 모드에서는 예외가 그대로 요청 실패로 이어집니다.
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "boardly.sql-budget", name = "enabled", havingValue = "true")
+public class SqlBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(SqlBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        SqlStatementRecording.active().ifPresent(recording -> {
+            int budget = returnType.getMethodAnnotation(SqlBudget.class).value();
+            if (recording.statementCount() <= budget) {
+                return;
+            }
+            String endpoint = returnType.getContainingClass().getSimpleName() + "." + returnType.getExecutable().getName();
+            String message = recording.describeExcess(endpoint, budget);
+            if (sqlBudgetProperties.getMode() == SqlBudgetMode.FAIL) {
+                throw new SqlBudgetExceededException(message, budget, recording.statementCount());
+            }
+            log.warn(message);
+        });
+        return body;
+    }
+}
@@ -0,0 +1,19 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import lombok.Getter;
+
+/**
+ * SQL 예산 초과 예외 (FAIL 모드 및 테스트 하네스 전용)
+ */
+@Getter
+public class SqlBudgetExceededException extends RuntimeException {
+
+    private final int budget;
+    private final int actual;
+
+    public SqlBudgetExceededException(String message, int budget, int actual) {
+        super(message);
+        this.budget = budget;
+        this.actual = actual;
+    }
+}
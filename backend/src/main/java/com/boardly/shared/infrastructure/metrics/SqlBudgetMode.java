@@ -0,0 +1,15 @@
+package com.boardly.shared.infrastructure.metrics;
+
+/**
+ * SQL 예산 초과 시 동작
+ */
+public enum SqlBudgetMode {
+    /**
+     * 경고 로그만 남김 (스테이징)
+     */
+    LOG,
+    /**
+     * {@link SqlBudgetExceededException}으로 요청을 실패시킴 (테스트)
+     */
+    FAIL
+}
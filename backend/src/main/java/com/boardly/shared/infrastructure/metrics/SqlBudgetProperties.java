@@ -0,0 +1,35 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SQL 예산/N+1 감지 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.sql-budget")
+public class SqlBudgetProperties {
+
+    /**
+     * 요청별 SQL 기록 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 예산 초과 시 동작
+     */
+    private SqlBudgetMode mode = SqlBudgetMode.LOG;
+
+    /**
+     * 같은 SQL이 이 횟수 이상 반복되면 N+1 의심으로 보고
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * SQL별 최초 호출 위치(스택) 기록 여부
+     */
+    private boolean captureStackTraces = true;
+}
@@ -0,0 +1,32 @@
+package com.boardly.shared.infrastructure.metrics;
+
+/**
+ * 스레드별 SQL 실행 횟수 카운터
+ * {@link CountingStatementInspector}가 증가시키고, 요청/유스케이스 단위 계측에서는
+ * 시작 시점과 종료 시점의 값 차이로 실행 횟수를 구합니다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private SqlStatementCounter() {
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 준비된 SQL 문 수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * 현재 스레드의 카운터 제거 (요청 종료 시 호출)
+     */
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,70 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 요청 단위 SQL 실행 횟수 계측 필터
+ * 핸들러 매핑 패턴이 결정된 요청만 기록해 태그 카디널리티를 URI 템플릿 수로 제한합니다.
+ * {@code boardly.sql-budget.enabled=true}이면 요청 동안 SQL을 문장별로 기록하고 N+1 의심 SQL을 경고합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_SQL_STATEMENTS = "boardly.http.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties sqlBudgetProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = SqlStatementCounter.current();
+        SqlStatementRecording recording = sqlBudgetProperties.isEnabled()
+                ? SqlStatementRecording.start(sqlBudgetProperties.isCaptureStackTraces())
+                : null;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                DistributionSummary.builder(REQUEST_SQL_STATEMENTS)
+                        .description("HTTP 요청 하나에서 실행된 SQL 문 수")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern.toString())
+                        .register(meterRegistry)
+                        .record(SqlStatementCounter.current() - before);
+            }
+            if (recording != null) {
+                reportRepeatedStatements(request, recording);
+                recording.close();
+            }
+            SqlStatementCounter.clear();
+        }
+    }
+
+    private void reportRepeatedStatements(HttpServletRequest request, SqlStatementRecording recording) {
+        List<SqlStatementRecording.RecordedStatement> repeated = recording
+                .repeatedStatements(sqlBudgetProperties.getRepeatThreshold());
+        for (SqlStatementRecording.RecordedStatement statement : repeated) {
+            log.warn("N+1 의심 SQL: {} {} (총 {}개 SQL 중){}{}", request.getMethod(), request.getRequestURI(),
+                    recording.statementCount(), System.lineSeparator(), statement.describe());
+        }
+    }
+}
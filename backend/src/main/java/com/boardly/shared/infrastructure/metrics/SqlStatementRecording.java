@@ -0,0 +1,153 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 스레드 단위 SQL 기록기
+ *
+ * <p>
+ * {@link CountingStatementInspector}가 준비하는 SQL을 문장별로 집계해 예산 검사와 N+1 의심 보고에 사용합니다.
+ * 요청 필터와 테스트에서 같은 방식으로 사용합니다.
+ *
+ * <pre>{@code
+ * try (SqlStatementRecording recording = SqlStatementRecording.start(true)) {
+ *     getBoardDetailPort.getBoardDetail(boardId, userId);
+ *     recording.assertWithinBudget(20);
+ * }
+ * }</pre>
+ */
+public final class SqlStatementRecording implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementRecording> ACTIVE = new ThreadLocal<>();
+    private static final int MAX_CALL_SITE_DEPTH = 12;
+    private static final int MAX_REPORTED_STATEMENTS = 5;
+
+    private final boolean captureStackTraces;
+    private final SqlStatementRecording previous;
+    private final Map<String, Entry> statements = new LinkedHashMap<>();
+    private int statementCount;
+
+    private SqlStatementRecording(boolean captureStackTraces, SqlStatementRecording previous) {
+        this.captureStackTraces = captureStackTraces;
+        this.previous = previous;
+    }
+
+    /**
+     * 현재 스레드에서 기록을 시작합니다. 이미 기록 중이면 종료 시 이전 기록으로 되돌아갑니다.
+     */
+    public static SqlStatementRecording start(boolean captureStackTraces) {
+        SqlStatementRecording recording = new SqlStatementRecording(captureStackTraces, ACTIVE.get());
+        ACTIVE.set(recording);
+        return recording;
+    }
+
+    public static Optional<SqlStatementRecording> active() {
+        return Optional.ofNullable(ACTIVE.get());
+    }
+
+    static void record(String sql) {
+        SqlStatementRecording recording = ACTIVE.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+    }
+
+    private void add(String sql) {
+        statementCount++;
+        statements.computeIfAbsent(sql, key -> new Entry(captureStackTraces ? captureCallSite() : List.of()))
+                .count++;
+        if (previous != null) {
+            previous.add(sql);
+        }
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    /**
+     * {@code threshold}번 이상 반복된 SQL (N+1 의심) 목록, 반복 횟수 내림차순
+     */
+    public List<RecordedStatement> repeatedStatements(int threshold) {
+        return statements.entrySet().stream()
+                .filter(entry -> entry.getValue().count >= threshold)
+                .map(entry -> new RecordedStatement(entry.getKey(), entry.getValue().count,
+                        entry.getValue().callSite))
+                .sorted(Comparator.comparingInt(RecordedStatement::count).reversed())
+                .toList();
+    }
+
+    /**
+     * 기록된 SQL 문 수가 예산 이하인지 검사합니다.
+     *
+     * @throws SqlBudgetExceededException 예산 초과 시
+     */
+    public void assertWithinBudget(int budget) {
+        if (statementCount > budget) {
+            throw new SqlBudgetExceededException(describeExcess("SQL", budget), budget, statementCount);
+        }
+    }
+
+    /**
+     * 예산 초과 설명 (가장 많이 반복된 SQL과 호출 위치 포함)
+     */
+    public String describeExcess(String target, int budget) {
+        StringBuilder message = new StringBuilder()
+                .append(target).append(" SQL 예산 초과: ")
+                .append(statementCount).append(" > ").append(budget);
+        statements.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Entry> entry) -> entry.getValue().count).reversed())
+                .limit(MAX_REPORTED_STATEMENTS)
+                .forEach(entry -> message.append(System.lineSeparator())
+                        .append(new RecordedStatement(entry.getKey(), entry.getValue().count,
+                                entry.getValue().callSite).describe()));
+        return message.toString();
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            ACTIVE.set(previous);
+        } else {
+            ACTIVE.remove();
+        }
+    }
+
+    private static List<StackTraceElement> captureCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.boardly.")
+                        && !frame.getClassName().equals(SqlStatementRecording.class.getName())
+                        && !frame.getClassName().equals(CountingStatementInspector.class.getName())
+                        && !frame.getClassName().contains("$$"))
+                .limit(MAX_CALL_SITE_DEPTH)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toList());
+    }
+
+    private static final class Entry {
+        private final List<StackTraceElement> callSite;
+        private int count;
+
+        private Entry(List<StackTraceElement> callSite) {
+            this.callSite = callSite;
+        }
+    }
+
+    /**
+     * 기록된 SQL과 반복 횟수, 최초 호출 위치
+     */
+    public record RecordedStatement(String sql, int count, List<StackTraceElement> callSite) {
+
+        public String describe() {
+            String frames = callSite.stream()
+                    .map(frame -> "    at " + frame)
+                    .collect(Collectors.joining(System.lineSeparator()));
+            return "  [" + count + "x] " + sql + (frames.isEmpty() ? "" : System.lineSeparator() + frames);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 유스케이스별 커넥션 풀 메트릭을 추가로 기록하는 Hikari MetricsTrackerFactory
+ *
+ * <ul>
+ * <li>{@code boardly.datasource.acquire}: 커넥션 획득 대기 시간 (pool, usecase)</li>
+ * <li>{@code boardly.datasource.usage}: 커넥션 점유 시간 (pool, usecase)</li>
+ * <li>{@code boardly.datasource.timeouts}: 획득 시간 초과 횟수 (pool, usecase)</li>
+ * </ul>
+ *
+ * Hikari는 획득/반납 기록을 호출한 스레드에서 남기므로 {@link CurrentUseCase}로 유스케이스를 구분합니다.
+ * 기존 {@code hikaricp.*} 메트릭은 Micrometer 기본 트래커에 위임해 그대로 유지합니다.
+ * 풀은 첫 커넥션 요청 시 시작되므로 MeterRegistry는 그때 조회합니다.
+ */
+public class UseCaseConnectionMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    static final String ACQUIRE_TIMER = "boardly.datasource.acquire";
+    static final String USAGE_TIMER = "boardly.datasource.usage";
+    static final String TIMEOUT_COUNTER = "boardly.datasource.timeouts";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public UseCaseConnectionMetricsTrackerFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MeterRegistry registry = meterRegistry.getObject();
+        IMetricsTracker delegate = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        return new Tracker(poolName, registry, delegate);
+    }
+
+    private static final class Tracker implements IMetricsTracker {
+
+        private final String poolName;
+        private final MeterRegistry registry;
+        private final IMetricsTracker delegate;
+
+        private Tracker(String poolName, MeterRegistry registry, IMetricsTracker delegate) {
+            this.poolName = poolName;
+            this.registry = registry;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            Timer.builder(ACQUIRE_TIMER)
+                    .description("유스케이스별 커넥션 획득 대기 시간")
+                    .tag("pool", poolName)
+                    .tag("usecase", CurrentUseCase.name())
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            Timer.builder(USAGE_TIMER)
+                    .description("유스케이스별 커넥션 점유 시간")
+                    .tag("pool", poolName)
+                    .tag("usecase", CurrentUseCase.name())
+                    .register(registry)
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            Counter.builder(TIMEOUT_COUNTER)
+                    .description("유스케이스별 커넥션 획득 시간 초과 횟수")
+                    .tag("pool", poolName)
+                    .tag("usecase", CurrentUseCase.name())
+                    .register(registry)
+                    .increment();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
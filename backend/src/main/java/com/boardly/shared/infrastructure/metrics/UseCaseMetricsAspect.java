@@ -0,0 +1,152 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.boardly.shared.domain.common.Failure;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유스케이스/리포지토리 포트 계측 애스펙트
+ *
+ * <ul>
+ * <li>{@code boardly.usecase}: 유스케이스 지연 시간 히스토그램 (usecase, method, outcome)</li>
+ * <li>{@code boardly.usecase.sql.statements}: 유스케이스 호출당 SQL 문 수 (usecase, method)</li>
+ * <li>{@code boardly.repository}: 리포지토리/출력 포트 호출 수와 지연 시간 (repository, method, outcome)</li>
+ * </ul>
+ *
+ * outcome은 성공 시 {@code success}, {@code Either.left} 반환 시 {@link Failure} 하위 타입 이름,
+ * 예외 발생 시 {@code exception}입니다.
+ * 트랜잭션 바깥에서 측정하도록 트랜잭션 어드바이스보다 먼저 적용됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class UseCaseMetricsAspect {
+
+    static final String USECASE_TIMER = "boardly.usecase";
+    static final String USECASE_SQL_STATEMENTS = "boardly.usecase.sql.statements";
+    static final String REPOSITORY_TIMER = "boardly.repository";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_EXCEPTION = "exception";
+
+    private static final String NOT_A_PORT = "";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, String> portNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.boardly.features..application.usecase.*UseCase+.*(..))")
+    public Object measureUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = resolvePortName(joinPoint, "UseCase");
+        if (useCase.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getName();
+        long statementsBefore = SqlStatementCounter.current();
+        String previousUseCase = CurrentUseCase.enter(useCase);
+        long start = System.nanoTime();
+        String outcome = OUTCOME_EXCEPTION;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = outcomeOf(result);
+            return result;
+        } finally {
+            CurrentUseCase.restore(previousUseCase);
+            Timer.builder(USECASE_TIMER)
+                    .description("유스케이스 실행 시간")
+                    .tag("usecase", useCase)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            DistributionSummary.builder(USECASE_SQL_STATEMENTS)
+                    .description("유스케이스 호출 하나에서 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("usecase", useCase)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(SqlStatementCounter.current() - statementsBefore);
+        }
+    }
+
+    @Around("execution(* com.boardly.features..domain.repository.*Repository+.*(..))"
+            + " || execution(* com.boardly.features..application.port.output.*Port+.*(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = resolvePortName(joinPoint, "Repository", "Port");
+        if (repository.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        String outcome = OUTCOME_EXCEPTION;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = outcomeOf(result);
+            return result;
+        } finally {
+            Timer.builder(REPOSITORY_TIMER)
+                    .description("리포지토리/출력 포트 호출 시간")
+                    .tag("repository", repository)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static String outcomeOf(Object result) {
+        if (result instanceof Either<?, ?> either && either.isLeft()) {
+            Object left = either.getLeft();
+            return left instanceof Failure ? left.getClass().getSimpleName() : "failure";
+        }
+        return OUTCOME_SUCCESS;
+    }
+
+    /**
+     * 호출된 메서드를 선언한 포트 인터페이스 이름을 찾습니다.
+     * 구현 클래스의 공개 메서드 중 포트에 선언되지 않은 메서드는 빈 문자열을 반환해 계측하지 않습니다.
+     */
+    private String resolvePortName(ProceedingJoinPoint joinPoint, String... suffixes) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        return portNames.computeIfAbsent(method, m -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+                if (endsWithAny(candidate.getSimpleName(), suffixes)
+                        && ClassUtils.hasMethod(candidate, m.getName(), m.getParameterTypes())) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return NOT_A_PORT;
+        });
+    }
+
+    private static boolean endsWithAny(String name, String... suffixes) {
+        for (String suffix : suffixes) {
+            if (name.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardly.shared.application.outbox.OutboxEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPA 기반 아웃박스 이벤트 발행기
+ *
+ * <p>
+ * 호출한 서비스의 트랜잭션에 참여해 outbox_events 테이블에 이벤트를 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JpaOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public void publish(String eventType, String aggregateType, String aggregateId, String partitionKey,
+            Object payload) {
+        var entity = OutboxEventEntity.builder()
+                .eventType(eventType)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .partitionKey(partitionKey)
+                .payload(serialize(payload))
+                .createdAt(Instant.now())
+                .build();
+
+        outboxEventJpaRepository.save(entity);
+        log.debug("아웃박스 이벤트 기록: eventType={}, aggregateId={}, partitionKey={}",
+                eventType, aggregateId, partitionKey);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
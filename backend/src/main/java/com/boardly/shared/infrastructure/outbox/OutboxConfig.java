@@ -0,0 +1,12 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 아웃박스 릴레이 스케줄링 설정
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+}
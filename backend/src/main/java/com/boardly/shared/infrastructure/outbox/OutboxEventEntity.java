@@ -0,0 +1,85 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.time.Instant;
+
+import com.boardly.shared.application.outbox.OutboxEvent;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_id", columnList = "status, event_id"),
+        @Index(name = "idx_outbox_events_published_at", columnList = "published_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 50)
+    private String aggregateId;
+
+    @Column(name = "partition_key", nullable = false, length = 50)
+    private String partitionKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Builder
+    private OutboxEventEntity(String eventType, String aggregateType, String aggregateId, String partitionKey,
+            String payload, Instant createdAt) {
+        this.eventType = eventType;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.partitionKey = partitionKey;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 애플리케이션 계층 이벤트로 변환
+     */
+    public OutboxEvent toOutboxEvent() {
+        return new OutboxEvent(id, eventType, aggregateType, aggregateId, partitionKey, payload, createdAt, attempts);
+    }
+}
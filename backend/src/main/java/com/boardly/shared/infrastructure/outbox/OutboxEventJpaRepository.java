@@ -0,0 +1,48 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 상태별 이벤트를 기록 순서대로 조회
+     */
+    List<OutboxEventEntity> findByStatusOrderByIdAsc(OutboxEventStatus status, Pageable pageable);
+
+    /**
+     * 전달 완료 표시
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.boardly.shared.infrastructure.outbox.OutboxEventStatus.PUBLISHED, "
+            + "e.publishedAt = :publishedAt, e.attempts = e.attempts + 1, e.lastError = null WHERE e.id = :id")
+    int markPublished(@Param("id") Long id, @Param("publishedAt") Instant publishedAt);
+
+    /**
+     * 전달 실패 기록 (재시도 횟수 초과 시 FAILED로 전환)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = e.attempts + 1, e.lastError = :lastError, "
+            + "e.status = CASE WHEN e.attempts + 1 >= :maxAttempts "
+            + "THEN com.boardly.shared.infrastructure.outbox.OutboxEventStatus.FAILED "
+            + "ELSE com.boardly.shared.infrastructure.outbox.OutboxEventStatus.PENDING END "
+            + "WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("lastError") String lastError,
+            @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = com.boardly.shared.infrastructure.outbox.OutboxEventStatus.PUBLISHED "
+            + "AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,22 @@
+package com.boardly.shared.infrastructure.outbox;
+
+/**
+ * 아웃박스 이벤트 전달 상태
+ */
+public enum OutboxEventStatus {
+
+    /**
+     * 전달 대기 (재시도 포함)
+     */
+    PENDING,
+
+    /**
+     * 전달 완료
+     */
+    PUBLISHED,
+
+    /**
+     * 최대 재시도 횟수 초과로 전달 포기 (수동 확인 필요)
+     */
+    FAILED
+}
@@ -0,0 +1,50 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 아웃박스 릴레이 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.outbox")
+public class OutboxProperties {
+
+    /**
+     * 릴레이 활성화 여부 (비활성화해도 이벤트 기록은 계속됨)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 폴링 간격 (밀리초)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번에 가져오는 최대 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 최대 전달 시도 횟수 (초과 시 FAILED)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * 릴레이 리스 유지 시간 (초)
+     */
+    private long leaseSeconds = 30;
+
+    /**
+     * 전달 완료 이벤트 보관 기간 (시간)
+     */
+    private long retentionHours = 72;
+
+    /**
+     * 전달 완료 이벤트 정리 간격 (밀리초)
+     */
+    private long cleanupIntervalMs = 3_600_000;
+}
@@ -0,0 +1,206 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.shared.application.outbox.OutboxEvent;
+import com.boardly.shared.application.outbox.OutboxEventHandler;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * <p>
+ * 커밋된 아웃박스 이벤트를 배치로 읽어 등록된 {@link OutboxEventHandler}에 전달합니다.
+ * </p>
+ * <ul>
+ * <li>at-least-once: 핸들러 처리와 전달 완료 표시가 한 트랜잭션으로 커밋되고, 실패하면 다음 폴링에서 재시도합니다.</li>
+ * <li>파티션(보드)별 순서 보장: 같은 파티션에서 앞선 이벤트가 실패하면 뒤의 이벤트는 이번 폴링에서 건너뜁니다.</li>
+ * <li>다중 노드: 리스를 획득한 노드만 전달합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String LEASE_NAME = "outbox-relay";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxRelayLeaseJpaRepository leaseJpaRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+            OutboxRelayLeaseJpaRepository leaseJpaRepository,
+            List<OutboxEventHandler> handlers,
+            OutboxProperties properties,
+            TransactionTemplate transactionTemplate) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.leaseJpaRepository = leaseJpaRepository;
+        this.handlers = handlers;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = resolveNodeId();
+    }
+
+    /**
+     * 대기 중인 이벤트 전달
+     */
+    @Scheduled(fixedDelayString = "${boardly.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        if (!properties.isEnabled() || !acquireLease()) {
+            return;
+        }
+
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> outboxEventJpaRepository
+                .findByStatusOrderByIdAsc(OutboxEventStatus.PENDING, PageRequest.of(0, properties.getBatchSize()))
+                .stream()
+                .map(OutboxEventEntity::toOutboxEvent)
+                .toList());
+
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<OutboxEvent>> partitions = batch.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::partitionKey, LinkedHashMap::new, Collectors.toList()));
+
+        int delivered = partitions.values().stream()
+                .mapToInt(this::dispatchPartition)
+                .sum();
+
+        log.debug("아웃박스 릴레이 완료: 조회={}, 전달={}, 파티션={}", batch.size(), delivered, partitions.size());
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "${boardly.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant before = Instant.now().minus(Duration.ofHours(properties.getRetentionHours()));
+        Integer deleted = transactionTemplate.execute(status -> outboxEventJpaRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("전달 완료 아웃박스 이벤트 정리: 삭제={}, 기준={}", deleted, before);
+        }
+    }
+
+    /**
+     * 파티션 내 이벤트를 순서대로 전달 (실패 시 중단)
+     *
+     * @return 전달에 성공한 이벤트 수
+     */
+    int dispatchPartition(List<OutboxEvent> events) {
+        int delivered = 0;
+        for (OutboxEvent event : events) {
+            if (!dispatch(event)) {
+                break;
+            }
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * 단일 이벤트 전달
+     */
+    boolean dispatch(OutboxEvent event) {
+        Either<Failure, Void> result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                Either<Failure, Void> handled = handle(event);
+                if (handled.isLeft()) {
+                    status.setRollbackOnly();
+                    return handled;
+                }
+                outboxEventJpaRepository.markPublished(event.id(), Instant.now());
+                return handled;
+            });
+        } catch (Exception e) {
+            result = Either.left(Failure.ofInternalServerError(e.getMessage()));
+        }
+
+        if (result == null || result.isLeft()) {
+            String error = result == null ? "no result" : result.getLeft().getMessage();
+            recordFailure(event, error);
+            return false;
+        }
+        return true;
+    }
+
+    private Either<Failure, Void> handle(OutboxEvent event) {
+        for (OutboxEventHandler handler : handlers) {
+            if (!handler.supports(event.eventType())) {
+                continue;
+            }
+            Either<Failure, Void> result = handler.handle(event);
+            if (result.isLeft()) {
+                return result;
+            }
+        }
+        return Either.right(null);
+    }
+
+    private void recordFailure(OutboxEvent event, String error) {
+        log.warn("아웃박스 이벤트 전달 실패: eventId={}, eventType={}, partitionKey={}, attempts={}, error={}",
+                event.id(), event.eventType(), event.partitionKey(), event.attempts() + 1, error);
+
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventJpaRepository
+                    .recordFailure(event.id(), lastError, properties.getMaxAttempts()));
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 실패 기록 실패: eventId={}, error={}", event.id(), e.getMessage(), e);
+        }
+
+        if (event.attempts() + 1 >= properties.getMaxAttempts()) {
+            log.error("아웃박스 이벤트 최대 재시도 초과로 FAILED 처리: eventId={}, eventType={}",
+                    event.id(), event.eventType());
+        }
+    }
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plusSeconds(properties.getLeaseSeconds());
+        try {
+            Integer updated = transactionTemplate
+                    .execute(status -> leaseJpaRepository.tryAcquire(LEASE_NAME, nodeId, now, leaseUntil));
+            return updated != null && updated > 0;
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 리스 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,36 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아웃박스 릴레이 리스
+ *
+ * <p>
+ * 여러 노드가 떠 있어도 리스를 가진 한 노드만 이벤트를 전달하도록 해
+ * 파티션(보드)별 전달 순서를 보장합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxRelayLeaseEntity {
+
+    @Id
+    @Column(name = "lease_name", nullable = false, length = 50)
+    private String leaseName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private Instant leaseUntil;
+}
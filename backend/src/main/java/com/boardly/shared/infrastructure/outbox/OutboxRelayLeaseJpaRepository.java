@@ -0,0 +1,24 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxRelayLeaseJpaRepository extends JpaRepository<OutboxRelayLeaseEntity, String> {
+
+    /**
+     * 리스 획득 또는 연장 (만료되었거나 이미 소유한 경우에만 갱신)
+     *
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Modifying
+    @Query("UPDATE OutboxRelayLeaseEntity l SET l.owner = :owner, l.leaseUntil = :leaseUntil "
+            + "WHERE l.leaseName = :leaseName AND (l.leaseUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("leaseName") String leaseName, @Param("owner") String owner,
+            @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+}
@@ -0,0 +1,113 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드/리스트 카운터 정합성 보정 작업
+ *
+ * <p>
+ * {@code board_lists.card_count}와 {@code boards.list_count}는 저장/삭제 시 같은 트랜잭션에서 증감되지만,
+ * SQL 직접 입력(더미 데이터 등)이나 외부 변경으로 어긋날 수 있어 주기적으로 실제 행 수와 맞춥니다.
+ * 기동 직후 한 번 실행한 뒤 설정된 간격마다 반복합니다.
+ * </p>
+ * <p>
+ * 어긋난 행마다 별도 트랜잭션에서 카운터 행을 잠근 뒤 다시 세므로,
+ * 진행 중인 증감 트랜잭션이 커밋된 결과를 덮어쓰지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCounterReconciler {
+
+    private static final Counter LIST_CARD_COUNT = new Counter(
+            """
+            SELECT l.listId FROM BoardListEntity l
+            WHERE l.cardCount <> (SELECT COUNT(c) FROM CardEntity c WHERE c.listId = l.listId)
+            """,
+            "SELECT l FROM BoardListEntity l WHERE l.listId = :id",
+            """
+            UPDATE BoardListEntity l
+            SET l.cardCount = (SELECT COUNT(c) FROM CardEntity c WHERE c.listId = :id)
+            WHERE l.listId = :id
+            """);
+
+    private static final Counter BOARD_LIST_COUNT = new Counter(
+            """
+            SELECT b.boardId FROM BoardEntity b
+            WHERE b.listCount <> (SELECT COUNT(l) FROM BoardListEntity l WHERE l.boardId = b.boardId)
+            """,
+            "SELECT b FROM BoardEntity b WHERE b.boardId = :id",
+            """
+            UPDATE BoardEntity b
+            SET b.listCount = (SELECT COUNT(l) FROM BoardListEntity l WHERE l.boardId = :id)
+            WHERE b.boardId = :id
+            """);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelayString = "${boardly.counters.reconcile-initial-delay-ms:0}",
+            fixedDelayString = "${boardly.counters.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            int lists = reconcile(LIST_CARD_COUNT);
+            int boards = reconcile(BOARD_LIST_COUNT);
+            if (lists > 0 || boards > 0) {
+                log.warn("카운터 보정 완료: 리스트 카드 수={}건, 보드 리스트 수={}건", lists, boards);
+            } else {
+                log.debug("카운터 보정: 어긋난 카운터 없음");
+            }
+        } catch (Exception e) {
+            log.error("카운터 보정 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 어긋난 카운터 행을 찾아 한 행씩 잠그고 다시 셉니다.
+     *
+     * @return 보정한 행 수
+     */
+    private int reconcile(Counter counter) {
+        List<String> driftedIds = transactionTemplate.execute(status -> entityManager
+                .createQuery(counter.driftQuery(), String.class)
+                .getResultList());
+        if (driftedIds == null || driftedIds.isEmpty()) {
+            return 0;
+        }
+
+        for (String id : driftedIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                boolean exists = !entityManager.createQuery(counter.lockQuery())
+                        .setParameter("id", id)
+                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                        .getResultList()
+                        .isEmpty();
+                if (exists) {
+                    entityManager.createQuery(counter.recountQuery())
+                            .setParameter("id", id)
+                            .executeUpdate();
+                }
+            });
+        }
+        return driftedIds.size();
+    }
+
+    /**
+     * 카운터 하나의 보정 쿼리 (어긋난 행 조회 → 행 잠금 → 재계산)
+     */
+    private record Counter(String driftQuery, String lockQuery, String recountQuery) {
+    }
+}
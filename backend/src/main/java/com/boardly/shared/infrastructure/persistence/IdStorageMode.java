@@ -0,0 +1,22 @@
+package com.boardly.shared.infrastructure.persistence;
+
+/**
+ * ULID 식별자 컬럼의 저장 방식
+ *
+ * <p>
+ * 도메인의 {@code EntityId}는 항상 26자 ULID 문자열을 사용하며,
+ * 이 값은 영속성 계층에서 어떤 컬럼 타입으로 저장할지만 결정합니다.
+ * </p>
+ */
+public enum IdStorageMode {
+
+    /**
+     * 26자 ULID 문자열을 VARCHAR 컬럼에 그대로 저장 (기본값)
+     */
+    VARCHAR,
+
+    /**
+     * ULID를 16바이트 UUID 컬럼에 저장 (PostgreSQL 전용, binary-id 마이그레이션 필요)
+     */
+    BINARY
+}
@@ -1,9 +1,26 @@
 package com.boardly.shared.infrastructure.persistence;
 
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    /**
+     * ULID 식별자 저장 방식 적용
+     * Hibernate 설정으로 넘겨 메타모델을 만들 때 {@link UlidIdType}이 컬럼 타입을 확정하게 합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idStorageModeCustomizer(PersistenceProperties persistenceProperties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(UlidIdType.STORAGE_MODE_SETTING, persistenceProperties.getIdStorage().name());
+            log.info("ULID 식별자 저장 방식: {}", persistenceProperties.getIdStorage());
+        };
+    }
 }
@@ -0,0 +1,24 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 영속성 계층 공통 프로퍼티
+ *
+ * <p>
+ * application.yml의 {@code boardly.persistence} 하위 설정을 주입받습니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.persistence")
+public class PersistenceProperties {
+
+    /**
+     * ULID 식별자 컬럼 저장 방식 (varchar | binary)
+     */
+    private IdStorageMode idStorage = IdStorageMode.VARCHAR;
+}
@@ -0,0 +1,82 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기/쓰기 커넥션 풀 분리 설정
+ *
+ * <p>
+ * {@code boardly.datasource.read-pool.enabled=true}일 때 Spring Boot 기본 DataSource 대신
+ * 쓰기 풀({@code spring.datasource.hikari})과 읽기 풀({@code boardly.datasource.read-pool.hikari})을 따로 만들고,
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 읽기 풀에서 커넥션을 받도록 라우팅합니다.
+ * 대시보드처럼 긴 조회 트랜잭션이 읽기 풀을 모두 점유해도 쓰기 풀은 영향을 받지 않습니다.
+ * </p>
+ * <p>
+ * 라우팅은 {@link LazyConnectionDataSourceProxy}가 담당합니다. 트랜잭션 시작 시에는 프록시 커넥션만 넘기고
+ * 첫 SQL 실행 시점에 읽기 전용 여부를 보고 실제 풀을 고르므로, 커넥션을 쓰지 않는 트랜잭션은 풀을 점유하지 않습니다.
+ * 읽기 풀 URL을 지정하지 않으면 쓰기 풀과 같은 데이터베이스에 연결합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "boardly.datasource.read-pool", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = createHikari(properties);
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("boardly.datasource.read-pool.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = createHikari(properties);
+        String baseName = StringUtils.hasText(properties.getName()) ? properties.getName() : "boardly";
+        dataSource.setPoolName(baseName + "-read");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readDataSource);
+        log.info("읽기/쓰기 커넥션 풀 분리 적용: write={}, read={}",
+                poolName(writeDataSource), poolName(readDataSource));
+        return dataSource;
+    }
+
+    private static HikariDataSource createHikari(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    private static String poolName(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getPoolName();
+        } catch (Exception e) {
+            return dataSource.getClass().getSimpleName();
+        }
+    }
+}
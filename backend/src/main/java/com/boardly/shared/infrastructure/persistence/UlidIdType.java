@@ -0,0 +1,166 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.hibernate.type.spi.TypeConfigurationAware;
+import org.hibernate.usertype.UserType;
+
+import com.github.f4b6a3.ulid.Ulid;
+
+/**
+ * ULID 식별자 컬럼용 Hibernate 타입
+ *
+ * <p>
+ * 엔티티와 도메인에서는 26자 ULID 문자열을 그대로 사용하고,
+ * {@link IdStorageMode#BINARY} 모드에서는 DB에 16바이트 UUID로 저장합니다.
+ * 읽기는 저장 방식과 무관하게 UUID, BYTEA, 문자열 컬럼을 모두 ULID 문자열로 복원합니다.
+ * </p>
+ *
+ * <p>
+ * 저장 방식은 {@link JpaConfig}가 Hibernate 설정({@value #STORAGE_MODE_SETTING})으로 넘기고,
+ * Hibernate가 컬럼마다 타입을 만들 때 {@link #setTypeConfiguration}에서 읽습니다.
+ * </p>
+ */
+public class UlidIdType implements UserType<String>, TypeConfigurationAware {
+
+    /**
+     * 저장 방식을 담는 Hibernate 설정 키
+     */
+    public static final String STORAGE_MODE_SETTING = "boardly.persistence.id-storage";
+
+    private IdStorageMode storageMode;
+    private TypeConfiguration typeConfiguration;
+
+    public UlidIdType() {
+        this(IdStorageMode.VARCHAR);
+    }
+
+    UlidIdType(IdStorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    IdStorageMode storageMode() {
+        return storageMode;
+    }
+
+    @Override
+    public TypeConfiguration getTypeConfiguration() {
+        return typeConfiguration;
+    }
+
+    /**
+     * 부트스트랩 중인 Hibernate 설정에서 저장 방식을 읽습니다.
+     * 메타모델 생성 중에는 서비스 레지스트리가 부트스트랩 설정을 가리킵니다.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setTypeConfiguration(TypeConfiguration typeConfiguration) {
+        this.typeConfiguration = typeConfiguration;
+        Object configured = typeConfiguration.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(STORAGE_MODE_SETTING);
+        this.storageMode = configured != null
+                ? IdStorageMode.valueOf(configured.toString().trim().toUpperCase())
+                : IdStorageMode.VARCHAR;
+    }
+
+    /**
+     * ULID 문자열을 UUID로 변환
+     */
+    public static UUID toUuid(String ulid) {
+        return Ulid.from(ulid).toUuid();
+    }
+
+    /**
+     * UUID를 ULID 문자열로 변환
+     */
+    public static String fromUuid(UUID uuid) {
+        return Ulid.from(uuid).toString();
+    }
+
+    @Override
+    public int getSqlType() {
+        return storageMode == IdStorageMode.BINARY ? SqlTypes.UUID : SqlTypes.VARCHAR;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        Object raw = rs.getObject(position);
+        if (raw == null) {
+            return null;
+        }
+        if (raw instanceof UUID uuid) {
+            return fromUuid(uuid);
+        }
+        if (raw instanceof byte[] bytes) {
+            return Ulid.from(bytes).toString();
+        }
+        return raw.toString();
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (storageMode == IdStorageMode.BINARY) {
+            if (value == null) {
+                st.setNull(index, Types.OTHER);
+            } else {
+                st.setObject(index, toUuid(value));
+            }
+            return;
+        }
+
+        if (value == null) {
+            st.setNull(index, Types.VARCHAR);
+        } else {
+            st.setString(index, value);
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+}
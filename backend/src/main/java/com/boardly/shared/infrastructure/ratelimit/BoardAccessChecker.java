@@ -0,0 +1,18 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import java.util.Optional;
+
+/**
+ * 보드별 버킷을 차감하기 전에 요청자가 그 보드에 접근할 수 있는지 확인합니다.
+ * 권한이 없는 요청이 보드 예산을 소진해 실제 멤버를 429로 밀어내지 않게 하기 위한 확인입니다.
+ */
+@FunctionalInterface
+public interface BoardAccessChecker {
+
+    /**
+     * @param boardId 보드 ID
+     * @param userId  요청한 사용자 ID
+     * @return 소유자이거나 활성 멤버이면 보드 역할 이름 (소유자는 {@code OWNER}), 아니면 빈 값
+     */
+    Optional<String> findRole(String boardId, String userId);
+}
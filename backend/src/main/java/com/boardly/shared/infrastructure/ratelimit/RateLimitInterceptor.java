@@ -0,0 +1,131 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.presentation.RateLimit;
+import com.boardly.shared.presentation.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link RateLimit}이 선언된 핸들러의 요청 한도를 컨트롤러 실행 전에 검사합니다.
+ * 한도를 넘으면 데이터베이스에 닿기 전에 429와 {@code Retry-After}(초)로 응답하고
+ * {@code boardly.rate_limit.throttled} (endpoint, scope)를 올립니다.
+ *
+ * <p>
+ * 보드 버킷은 사용자 버킷을 통과한 인증 요청 중 {@link BoardAccessChecker}가 접근을 허용한 요청만 차감합니다.
+ * 멤버가 아닌 사용자가 보드 ID를 반복 호출해도 그 보드의 예산은 줄지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String THROTTLED_METRIC = "boardly.rate_limit.throttled";
+    static final String SCOPE_USER = "user";
+    static final String SCOPE_BOARD = "board";
+
+    private static final String BOARD_ID_VARIABLE = "boardId";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final BoardAccessChecker boardAccessChecker;
+    private final ValidationMessageResolver validationMessageResolver;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            return true;
+        }
+        RateLimitProperties.Budget budget = properties.budgetFor(rateLimit.value());
+        if (budget == null) {
+            return true;
+        }
+
+        String endpoint = rateLimit.value();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return true;
+        }
+        String userId = authentication.getName();
+        long userWaitNanos = rateLimiter.tryAcquire(endpoint, SCOPE_USER, userId,
+                budget.getUserCapacity(), budget.getUserRefillPerSecond());
+        if (userWaitNanos > 0) {
+            return reject(response, endpoint, SCOPE_USER, userWaitNanos);
+        }
+
+        String boardId = boardIdOf(request);
+        if (boardId == null || budget.getBoardCapacity() <= 0) {
+            return true;
+        }
+        Optional<String> boardRole = boardAccessChecker.findRole(boardId, userId);
+        if (boardRole.isPresent()) {
+            request.setAttribute(RateLimit.BOARD_ROLE_ATTRIBUTE, boardRole.get());
+            long boardWaitNanos = rateLimiter.tryAcquire(endpoint, SCOPE_BOARD, boardId,
+                    budget.getBoardCapacity(), budget.getBoardRefillPerSecond());
+            if (boardWaitNanos > 0) {
+                return reject(response, endpoint, SCOPE_BOARD, boardWaitNanos);
+            }
+        }
+        return true;
+    }
+
+    private boolean reject(HttpServletResponse response, String endpoint, String scope, long waitNanos)
+            throws IOException {
+        Counter.builder(THROTTLED_METRIC)
+                .description("요청 한도를 넘어 거절된 요청 수")
+                .tag("endpoint", endpoint)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("요청 한도 초과: endpoint={}, scope={}, retryAfter={}s", endpoint, scope, retryAfterSeconds);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of("RATE_LIMITED",
+                validationMessageResolver.getMessage("error.general.rate.limited"),
+                Map.of("retryAfterSeconds", retryAfterSeconds)));
+        return false;
+    }
+
+    private static String boardIdOf(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map && map.get(BOARD_ID_VARIABLE) instanceof String boardId
+                ? boardId
+                : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 한도(토큰 버킷) 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 요청 한도 적용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 메모리에 유지할 최대 버킷 수 (넘으면 오래 쓰지 않은 버킷부터 지움)
+     */
+    private int maxBuckets = 100000;
+
+    /**
+     * 마지막 요청 뒤 버킷을 지우기까지의 시간 (초). 가장 느린 버킷이 가득 차는 시간보다 길어야 지워도 제한이 느슨해지지 않습니다.
+     */
+    private long bucketIdleSeconds = 300;
+
+    /**
+     * 엔드포인트 분류별 기본 예산
+     */
+    private static final Map<String, Budget> DEFAULT_ENDPOINTS = Map.of(
+            "board-detail", new Budget(20, 5, 60, 20),
+            "dashboard", new Budget(10, 2, 0, 0),
+            "card-search", new Budget(20, 5, 0, 0));
+
+    /**
+     * 엔드포인트 분류별 예산 재정의
+     * 지정한 항목만 기본 예산을 덮어쓰고, 지정하지 않은 항목은 기본 예산을 따릅니다.
+     */
+    private Map<String, Budget> endpoints = new LinkedHashMap<>();
+
+    /**
+     * 재정의를 기본 예산에 겹친 엔드포인트 분류의 예산을 돌려줍니다. 둘 다 없으면 null입니다.
+     */
+    public Budget budgetFor(String endpoint) {
+        Budget defaults = DEFAULT_ENDPOINTS.get(endpoint);
+        Budget override = endpoints.get(endpoint);
+        if (override == null) {
+            return defaults;
+        }
+        return override.withDefaults(defaults != null ? defaults : Budget.UNLIMITED);
+    }
+
+    /**
+     * 엔드포인트 분류 하나의 예산
+     * 용량은 한 번에 몰아서 보낼 수 있는 요청 수, 충전 속도는 초당 다시 채워지는 요청 수입니다.
+     * 보드 예산이 0이면 보드별로 제한하지 않습니다.
+     * 바인딩되지 않은 항목은 null로 남아 {@link #withDefaults(Budget)}에서 기본값으로 채워집니다.
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+
+        static final Budget UNLIMITED = new Budget(0, 0, 0, 0);
+
+        /**
+         * 사용자별 버킷 용량
+         */
+        private Integer userCapacity;
+
+        /**
+         * 사용자별 초당 충전량
+         */
+        private Double userRefillPerSecond;
+
+        /**
+         * 보드별 버킷 용량
+         */
+        private Integer boardCapacity;
+
+        /**
+         * 보드별 초당 충전량
+         */
+        private Double boardRefillPerSecond;
+
+        public Budget() {
+        }
+
+        public Budget(int userCapacity, double userRefillPerSecond, int boardCapacity, double boardRefillPerSecond) {
+            this.userCapacity = userCapacity;
+            this.userRefillPerSecond = userRefillPerSecond;
+            this.boardCapacity = boardCapacity;
+            this.boardRefillPerSecond = boardRefillPerSecond;
+        }
+
+        Budget withDefaults(Budget defaults) {
+            return new Budget(
+                    userCapacity != null ? userCapacity : defaults.userCapacity,
+                    userRefillPerSecond != null ? userRefillPerSecond : defaults.userRefillPerSecond,
+                    boardCapacity != null ? boardCapacity : defaults.boardCapacity,
+                    boardRefillPerSecond != null ? boardRefillPerSecond : defaults.boardRefillPerSecond);
+        }
+    }
+}
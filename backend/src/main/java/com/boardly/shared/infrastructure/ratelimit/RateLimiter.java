@@ -0,0 +1,51 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 프로세스 내 토큰 버킷 요청 한도
+ * (엔드포인트 분류, 범위, 키)마다 {@link TokenBucket}을 두며, 외부 저장소 없이 인스턴스별로 제한합니다.
+ * 버킷은 Caffeine 캐시에 두어 수({@code maxBuckets})와 마지막 요청 뒤 보관 시간({@code bucketIdleSeconds})에 상한을 둡니다.
+ */
+@Component
+public class RateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getBucketIdleSeconds()))
+                .build();
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단합니다.
+     *
+     * @param endpoint        엔드포인트 분류 이름
+     * @param scope           제한 범위 ({@code user}, {@code board})
+     * @param key             범위 안의 식별자 (사용자 ID, 보드 ID)
+     * @param capacity        버킷 용량
+     * @param refillPerSecond 초당 충전량
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String endpoint, String scope, String key, int capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        String bucketKey = endpoint + ':' + scope + ':' + key;
+        TokenBucket bucket = buckets.get(bucketKey, k -> new TokenBucket(capacity, refillPerSecond, now));
+        return bucket.tryAcquire(now);
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,51 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ *
+ * <p>
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(theoretical arrival time) 하나를 {@link AtomicLong}에 두고
+ * CAS로 갱신합니다 (GCRA). 요청 하나는 충전 간격만큼 그 시각을 뒤로 미루며, 그 시각이 현재보다
+ * 용량 × 충전 간격 넘게 앞서면 거절합니다. 동기화 없이 요청당 CAS 한 번으로 끝납니다.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 꺼냅니다.
+     *
+     * @return 허용되면 0, 거절되면 토큰이 생길 때까지 기다려야 하는 시간 (나노초)
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 차 있어 지워도 동작이 같은지 여부
+     */
+    boolean isFull(long nowNanos) {
+        return fullAtNanos.get() - nowNanos <= 0;
+    }
+}
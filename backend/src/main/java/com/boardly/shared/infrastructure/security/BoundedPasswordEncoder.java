@@ -0,0 +1,156 @@
+package com.boardly.shared.infrastructure.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전용 스레드 풀에서 해싱하는 비밀번호 인코더
+ *
+ * <p>
+ * bcrypt 같은 느린 해시는 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 모든 CPU를 차지해 API 요청까지 밀립니다.
+ * 이 인코더는 {@code encode}/{@code matches}를 크기가 고정된 스레드 풀에서 실행해 해싱에 쓰는 CPU를 제한하고,
+ * 대기열이 가득 찼거나 대기열에서 {@code maxQueueTimeMs}를 넘게 기다린 요청은 해싱하지 않고
+ * {@link TaskRejectedException}으로 바로 실패시킵니다.
+ * </p>
+ *
+ * <p>
+ * 지표: {@code boardly.password.hashing} (operation = encode | matches) 해싱 시간,
+ * {@code boardly.password.hashing.queue} 대기 시간, {@code boardly.password.hashing.rejected} (reason) 거절 수
+ * </p>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    static final String HASHING_METRIC = "boardly.password.hashing";
+    static final String QUEUE_METRIC = "boardly.password.hashing.queue";
+    static final String REJECTED_METRIC = "boardly.password.hashing.rejected";
+
+    private final PasswordEncoder delegate;
+    private final long maxQueueTimeNanos;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueTimer;
+    private final Counter queueFullRejections;
+    private final Counter queueTimeoutRejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxQueueTimeMs,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxQueueTimeNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueTimeMs);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
+        this.queueTimer = Timer.builder(QUEUE_METRIC)
+                .description("비밀번호 해싱 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.queueFullRejections = rejectedCounter(meterRegistry, "queue_full");
+        this.queueTimeoutRejections = rejectedCounter(meterRegistry, "queue_timeout");
+        Gauge.builder(QUEUE_METRIC + ".size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기열 길이")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 접두사와 작업 계수만 비교하므로 호출 스레드에서 바로 판단합니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> hashing) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxQueueTimeNanos) {
+                    queueTimeoutRejections.increment();
+                    throw new TaskRejectedException("비밀번호 해싱 대기 시간이 한도를 넘었습니다: waitedMs="
+                            + TimeUnit.NANOSECONDS.toMillis(waited));
+                }
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            log.warn("비밀번호 해싱 대기열이 가득 차 요청을 거절합니다: queued={}", executor.getQueue().size());
+            throw new TaskRejectedException("비밀번호 해싱 대기열이 가득 찼습니다", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("비밀번호 해싱을 기다리는 중 인터럽트되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다", e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(HASHING_METRIC)
+                .description("비밀번호 해싱 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REJECTED_METRIC)
+                .description("비밀번호 해싱 대기열에서 거절된 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
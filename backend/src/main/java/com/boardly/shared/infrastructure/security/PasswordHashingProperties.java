@@ -0,0 +1,39 @@
+package com.boardly.shared.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해싱 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * bcrypt 작업 계수 (log2 반복 횟수, 4~31). 올리면 기존 해시는 다음 로그인 때 다시 해싱됩니다.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해싱 전용 스레드 수 (0이면 CPU 코어 수의 절반)
+     */
+    private int threads = 0;
+
+    /**
+     * 해싱을 기다릴 수 있는 최대 요청 수 (넘으면 즉시 거절)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 대기열에서 기다릴 수 있는 최대 시간 (밀리초, 넘으면 해싱하지 않고 거절)
+     */
+    private long maxQueueTimeMs = 1000;
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,72 @@
+package com.boardly.shared.infrastructure.startup;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지정한 패키지의 빈만 지연 초기화하는 후처리기
+ *
+ * <p>
+ * {@code spring.main.lazy-initialization}은 모든 빈을 지연시키므로 Flyway 마이그레이션, Hibernate 메타모델,
+ * 스케줄러처럼 기동 시점에 실패를 드러내야 하는 빈까지 첫 요청으로 밀려납니다.
+ * 이 후처리기는 springdoc처럼 요청 처리에 필요 없는 빈만 골라 지연시켜, 롤링 배포 중 준비 상태가 된 인스턴스가
+ * 실제로 요청을 받을 수 있는 상태를 유지합니다.
+ * </p>
+ */
+@Slf4j
+public class SelectiveLazyInitializationPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> prefixes;
+
+    public SelectiveLazyInitializationPostProcessor(List<String> prefixes) {
+        this.prefixes = List.copyOf(prefixes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        int lazyCount = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            if (matches(definition.getBeanClassName()) || matches(declaringClassName(definition))) {
+                definition.setLazyInit(true);
+                lazyCount++;
+            }
+        }
+        log.info("선택적 지연 초기화 적용: beans={}, prefixes={}", lazyCount, prefixes);
+    }
+
+    private boolean matches(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code @Bean} 메서드로 등록된 빈은 빈 클래스 이름이 없으므로 메서드를 선언한 설정 클래스로 판단합니다.
+     */
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.boardly.shared.infrastructure.startup;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * 빈 팩토리 후처리기는 프로퍼티 바인딩보다 먼저 만들어지므로 {@link Binder}로 직접 읽습니다.
+     */
+    @Bean
+    static BeanFactoryPostProcessor selectiveLazyInitializationPostProcessor(Environment environment) {
+        StartupProperties.LazyBeans lazyBeans = Binder.get(environment)
+                .bind("boardly.startup.lazy-beans", StartupProperties.LazyBeans.class)
+                .orElseGet(StartupProperties.LazyBeans::new);
+        if (!lazyBeans.isEnabled()) {
+            return beanFactory -> {
+            };
+        }
+        return new SelectiveLazyInitializationPostProcessor(lazyBeans.getPrefixes());
+    }
+}
@@ -0,0 +1,60 @@
+package com.boardly.shared.infrastructure.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 애플리케이션 기동 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boardly.startup")
+public class StartupProperties {
+
+    private final LazyBeans lazyBeans = new LazyBeans();
+
+    private final Report report = new Report();
+
+    /**
+     * 기동 시 만들지 않고 처음 사용할 때 만드는 빈 설정
+     */
+    @Getter
+    @Setter
+    public static class LazyBeans {
+
+        /**
+         * 선택적 지연 초기화 여부 ({@code fast-startup} 프로파일에서 켭니다)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 지연 초기화할 빈의 클래스 이름 접두사 (빈 클래스 또는 {@code @Bean} 메서드를 선언한 설정 클래스 기준)
+         */
+        private List<String> prefixes = new ArrayList<>(List.of(
+                "org.springdoc.",
+                "com.boardly.shared.application.config.OpenAPIConfig"));
+    }
+
+    /**
+     * 기동 시간 리포트 설정
+     */
+    @Getter
+    @Setter
+    public static class Report {
+
+        /**
+         * 기동 완료 시 리포트를 로그로 남길지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 리포트에 남길 가장 오래 걸린 기동 단계 수
+         */
+        private int topSteps = 15;
+    }
+}
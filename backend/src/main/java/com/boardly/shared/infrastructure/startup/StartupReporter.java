@@ -0,0 +1,90 @@
+package com.boardly.shared.infrastructure.startup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시간 리포트
+ *
+ * <p>
+ * 준비 완료 시점에 JVM 시작부터 걸린 시간, 컨텍스트 준비에 걸린 시간, AOT 산출물과 CDS 아카이브 사용 여부를 한 줄로 남기고,
+ * 기동 단계가 기록되어 있으면({@link BufferingApplicationStartup}) 가장 오래 걸린 단계를 함께 남깁니다.
+ * 요약 줄은 {@code 기동 완료:}로 시작하므로 기동 모드를 비교할 때 그대로 grep해서 씁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReporter {
+
+    private final StartupProperties properties;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (!properties.getReport().isEnabled()) {
+            drain(applicationStartup);
+            return;
+        }
+
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        Duration timeTaken = event.getTimeTaken();
+        log.info("기동 완료: jvmUptimeMs={}, contextReadyMs={}, aot={}, cds={}",
+                runtime.getUptime(),
+                timeTaken != null ? timeTaken.toMillis() : -1,
+                AotDetector.useGeneratedArtifacts(),
+                usesCdsArchive(runtime.getInputArguments()));
+
+        StartupTimeline timeline = drain(applicationStartup);
+        if (timeline != null && log.isInfoEnabled()) {
+            log.info("오래 걸린 기동 단계 (상위 {}개):\n{}", properties.getReport().getTopSteps(),
+                    slowestSteps(timeline, properties.getReport().getTopSteps()));
+        }
+    }
+
+    static boolean usesCdsArchive(List<String> jvmArguments) {
+        return jvmArguments.stream().anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile="));
+    }
+
+    static String slowestSteps(StartupTimeline timeline, int limit) {
+        return timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .map(event -> String.format("  %6dms %s%s", event.getDuration().toMillis(),
+                        event.getStartupStep().getName(), describeTags(event)))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeTags(StartupTimeline.TimelineEvent event) {
+        String tags = StreamSupport.stream(event.getStartupStep().getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return tags.isEmpty() ? "" : " [" + tags + "]";
+    }
+
+    /**
+     * 기록된 단계는 리포트 후 버려 메모리에 남기지 않습니다.
+     */
+    private static StartupTimeline drain(ApplicationStartup applicationStartup) {
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            return buffering.drainBufferedTimeline();
+        }
+        return null;
+    }
+}
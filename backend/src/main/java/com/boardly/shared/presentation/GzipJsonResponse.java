@@ -0,0 +1,71 @@
+package com.boardly.shared.presentation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 미리 압축한 JSON 응답
+ * 응답 본문을 gzip으로 압축해 두고, 클라이언트가 gzip을 받으면 압축된 바이트를 그대로 보냅니다.
+ * 서버 응답 압축(server.compression)은 Content-Encoding이 이미 있는 응답을 다시 압축하지 않습니다.
+ */
+public final class GzipJsonResponse {
+
+    private static final String GZIP = "gzip";
+
+    private GzipJsonResponse() {
+    }
+
+    /**
+     * 본문을 JSON으로 직렬화하면서 바로 gzip으로 압축합니다.
+     */
+    public static byte[] compress(ObjectMapper objectMapper, Object body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, body);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 압축된 JSON으로 200 응답을 만듭니다.
+     * gzip을 받지 않는 클라이언트에게는 전체를 풀어 두지 않고 응답을 쓰면서 조금씩 풀어 보냅니다.
+     */
+    public static ResponseEntity<Resource> ok(byte[] gzippedJson, HttpServletRequest request) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(new ByteArrayResource(gzippedJson));
+        }
+        return response.body(new InputStreamResource(decompressing(gzippedJson)));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static InputStream decompressing(byte[] gzippedJson) {
+        try {
+            return new GZIPInputStream(new ByteArrayInputStream(gzippedJson));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.boardly.shared.presentation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트 요청 한도
+ * 핸들러 메서드를 {@code boardly.rate-limit.endpoints.<value>} 예산으로 제한합니다.
+ * 사용자(JWT subject)별로 제한하고, 경로에 {@code {boardId}}가 있으면 보드별로도 제한합니다.
+ * 보드별 제한을 위해 확인한 요청자의 보드 역할 이름은 {@link #BOARD_ROLE_ATTRIBUTE} 요청 속성에 남겨 핸들러가 다시 조회하지 않게 합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 보드별 제한에서 확인한 요청자의 보드 역할 이름을 담는 요청 속성
+     */
+    String BOARD_ROLE_ATTRIBUTE = "com.boardly.shared.presentation.RateLimit.boardRole";
+
+    /**
+     * 엔드포인트 분류 이름 (예산 키)
+     */
+    String value();
+}
@@ -0,0 +1,42 @@
+package com.boardly.shared.presentation;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청만으로 로케일을 결정하는 무상태 LocaleResolver
+ *
+ * <p>{@code lang} 파라미터(로그인 페이지의 언어 선택)가 있으면 우선 사용하고,
+ * 없으면 {@code Accept-Language} 헤더를 따릅니다. 세션에는 아무것도 저장하지 않습니다.</p>
+ */
+public class RequestLocaleResolver extends AcceptHeaderLocaleResolver {
+
+    public static final String LANG_PARAMETER = "lang";
+
+    public RequestLocaleResolver(Locale defaultLocale, List<Locale> supportedLocales) {
+        setDefaultLocale(defaultLocale);
+        setSupportedLocales(supportedLocales);
+    }
+
+    @Override
+    public Locale resolveLocale(HttpServletRequest request) {
+        String lang = request.getParameter(LANG_PARAMETER);
+        if (StringUtils.hasText(lang)) {
+            Locale requested = StringUtils.parseLocale(lang);
+            if (requested != null && isSupported(requested)) {
+                return requested;
+            }
+        }
+        return super.resolveLocale(request);
+    }
+
+    private boolean isSupported(Locale locale) {
+        return getSupportedLocales().stream()
+                .anyMatch(supported -> supported.getLanguage().equals(locale.getLanguage()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.boardly.shared.presentation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트 SQL 예산
+ * 핸들러 메서드 하나가 응답 전까지 실행할 수 있는 최대 SQL 문 수를 선언합니다.
+ * {@code boardly.sql-budget.enabled=true}일 때만 검사합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * 허용되는 최대 SQL 문 수
+     */
+    int value();
+}
@@ -0,0 +1,163 @@
+-- =====================================================
+-- Boardly Database - ULID 식별자 컬럼을 UUID(16바이트)로 전환 (PostgreSQL 전용)
+-- =====================================================
+-- boardly.persistence.id-storage=binary 와 함께 사용합니다. (application-binary-id.yml)
+-- 모든 식별자 값은 26자 ULID 문자열이어야 합니다. 'user-1' 같은 더미 데이터는 변환할 수 없으므로
+-- dev/local 더미 데이터 위치와 함께 사용하지 마세요.
+
+-- =====================================================
+-- 변환 함수
+-- =====================================================
+
+-- ULID(Crockford Base32, 26자) -> UUID
+CREATE OR REPLACE FUNCTION ulid_to_uuid(ulid TEXT) RETURNS UUID AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    hex_digits CONSTANT TEXT := '0123456789abcdef';
+    value NUMERIC := 0;
+    digit INTEGER;
+    hex TEXT := '';
+BEGIN
+    IF ulid IS NULL THEN
+        RETURN NULL;
+    END IF;
+    IF length(ulid) <> 26 THEN
+        RAISE EXCEPTION 'ULID 형식이 아닙니다: %', ulid;
+    END IF;
+
+    FOR i IN 1..26 LOOP
+        digit := strpos(alphabet, upper(substr(ulid, i, 1))) - 1;
+        IF digit < 0 THEN
+            RAISE EXCEPTION 'ULID 형식이 아닙니다: %', ulid;
+        END IF;
+        value := value * 32 + digit;
+    END LOOP;
+
+    FOR i IN 1..32 LOOP
+        hex := substr(hex_digits, mod(value, 16)::INTEGER + 1, 1) || hex;
+        value := div(value, 16);
+    END LOOP;
+
+    RETURN hex::UUID;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE STRICT;
+
+-- UUID -> ULID (운영 중 수동 조회용)
+CREATE OR REPLACE FUNCTION uuid_to_ulid(id UUID) RETURNS TEXT AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    hex CONSTANT TEXT := replace(id::TEXT, '-', '');
+    value NUMERIC := 0;
+    ulid TEXT := '';
+BEGIN
+    FOR i IN 1..32 LOOP
+        value := value * 16 + (strpos('0123456789abcdef', substr(hex, i, 1)) - 1);
+    END LOOP;
+
+    FOR i IN 1..26 LOOP
+        ulid := substr(alphabet, mod(value, 32)::INTEGER + 1, 1) || ulid;
+        value := div(value, 32);
+    END LOOP;
+
+    RETURN ulid;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE STRICT;
+
+-- =====================================================
+-- 외래 키 제거 (타입 변경 중에는 참조 무결성 검사가 불가)
+-- =====================================================
+ALTER TABLE boards DROP CONSTRAINT IF EXISTS boards_owner_id_fkey;
+ALTER TABLE board_members DROP CONSTRAINT IF EXISTS board_members_board_id_fkey;
+ALTER TABLE board_members DROP CONSTRAINT IF EXISTS board_members_user_id_fkey;
+ALTER TABLE board_lists DROP CONSTRAINT IF EXISTS board_lists_board_id_fkey;
+ALTER TABLE cards DROP CONSTRAINT IF EXISTS cards_list_id_fkey;
+ALTER TABLE cards DROP CONSTRAINT IF EXISTS cards_created_by_fkey;
+ALTER TABLE card_members DROP CONSTRAINT IF EXISTS card_members_card_id_fkey;
+ALTER TABLE card_members DROP CONSTRAINT IF EXISTS card_members_user_id_fkey;
+ALTER TABLE labels DROP CONSTRAINT IF EXISTS labels_board_id_fkey;
+ALTER TABLE card_labels DROP CONSTRAINT IF EXISTS card_labels_card_id_fkey;
+ALTER TABLE card_labels DROP CONSTRAINT IF EXISTS card_labels_label_id_fkey;
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS comments_card_id_fkey;
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS comments_author_id_fkey;
+ALTER TABLE attachments DROP CONSTRAINT IF EXISTS attachments_card_id_fkey;
+ALTER TABLE attachments DROP CONSTRAINT IF EXISTS attachments_uploader_id_fkey;
+ALTER TABLE user_activity DROP CONSTRAINT IF EXISTS user_activity_actor_id_fkey;
+ALTER TABLE user_activity DROP CONSTRAINT IF EXISTS user_activity_board_id_fkey;
+ALTER TABLE user_activity DROP CONSTRAINT IF EXISTS user_activity_list_id_fkey;
+ALTER TABLE user_activity DROP CONSTRAINT IF EXISTS user_activity_card_id_fkey;
+
+-- =====================================================
+-- 식별자 컬럼 타입 변경 (기본 키, 유니크 제약, 인덱스는 자동 재생성)
+-- =====================================================
+ALTER TABLE users
+    ALTER COLUMN user_id TYPE UUID USING ulid_to_uuid(user_id);
+
+ALTER TABLE boards
+    ALTER COLUMN board_id TYPE UUID USING ulid_to_uuid(board_id),
+    ALTER COLUMN owner_id TYPE UUID USING ulid_to_uuid(owner_id);
+
+ALTER TABLE board_members
+    ALTER COLUMN member_id TYPE UUID USING ulid_to_uuid(member_id),
+    ALTER COLUMN board_id TYPE UUID USING ulid_to_uuid(board_id),
+    ALTER COLUMN user_id TYPE UUID USING ulid_to_uuid(user_id);
+
+ALTER TABLE board_lists
+    ALTER COLUMN list_id TYPE UUID USING ulid_to_uuid(list_id),
+    ALTER COLUMN board_id TYPE UUID USING ulid_to_uuid(board_id);
+
+ALTER TABLE cards
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id),
+    ALTER COLUMN list_id TYPE UUID USING ulid_to_uuid(list_id),
+    ALTER COLUMN created_by TYPE UUID USING ulid_to_uuid(created_by);
+
+ALTER TABLE card_members
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id),
+    ALTER COLUMN user_id TYPE UUID USING ulid_to_uuid(user_id);
+
+ALTER TABLE labels
+    ALTER COLUMN label_id TYPE UUID USING ulid_to_uuid(label_id),
+    ALTER COLUMN board_id TYPE UUID USING ulid_to_uuid(board_id);
+
+ALTER TABLE card_labels
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id),
+    ALTER COLUMN label_id TYPE UUID USING ulid_to_uuid(label_id);
+
+ALTER TABLE comments
+    ALTER COLUMN comment_id TYPE UUID USING ulid_to_uuid(comment_id),
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id),
+    ALTER COLUMN author_id TYPE UUID USING ulid_to_uuid(author_id);
+
+ALTER TABLE attachments
+    ALTER COLUMN attachment_id TYPE UUID USING ulid_to_uuid(attachment_id),
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id),
+    ALTER COLUMN uploader_id TYPE UUID USING ulid_to_uuid(uploader_id);
+
+ALTER TABLE user_activity
+    ALTER COLUMN activity_id TYPE UUID USING ulid_to_uuid(activity_id),
+    ALTER COLUMN actor_id TYPE UUID USING ulid_to_uuid(actor_id),
+    ALTER COLUMN board_id TYPE UUID USING ulid_to_uuid(board_id),
+    ALTER COLUMN list_id TYPE UUID USING ulid_to_uuid(list_id),
+    ALTER COLUMN card_id TYPE UUID USING ulid_to_uuid(card_id);
+
+-- =====================================================
+-- 외래 키 재생성
+-- =====================================================
+ALTER TABLE boards ADD FOREIGN KEY (owner_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE board_members ADD FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE;
+ALTER TABLE board_members ADD FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE board_lists ADD FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE;
+ALTER TABLE cards ADD FOREIGN KEY (list_id) REFERENCES board_lists(list_id) ON DELETE CASCADE;
+ALTER TABLE cards ADD FOREIGN KEY (created_by) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE card_members ADD FOREIGN KEY (card_id) REFERENCES cards(card_id) ON DELETE CASCADE;
+ALTER TABLE card_members ADD FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE labels ADD FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE;
+ALTER TABLE card_labels ADD FOREIGN KEY (card_id) REFERENCES cards(card_id) ON DELETE CASCADE;
+ALTER TABLE card_labels ADD FOREIGN KEY (label_id) REFERENCES labels(label_id) ON DELETE CASCADE;
+ALTER TABLE comments ADD FOREIGN KEY (card_id) REFERENCES cards(card_id) ON DELETE CASCADE;
+ALTER TABLE comments ADD FOREIGN KEY (author_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE attachments ADD FOREIGN KEY (card_id) REFERENCES cards(card_id) ON DELETE CASCADE;
+ALTER TABLE attachments ADD FOREIGN KEY (uploader_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE user_activity ADD FOREIGN KEY (actor_id) REFERENCES users(user_id) ON DELETE CASCADE;
+ALTER TABLE user_activity ADD FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE;
+ALTER TABLE user_activity ADD FOREIGN KEY (list_id) REFERENCES board_lists(list_id) ON DELETE CASCADE;
+ALTER TABLE user_activity ADD FOREIGN KEY (card_id) REFERENCES cards(card_id) ON DELETE CASCADE;
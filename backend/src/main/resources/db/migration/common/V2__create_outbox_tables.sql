@@ -0,0 +1,34 @@
+-- =====================================================
+-- Boardly Database - 트랜잭셔널 아웃박스 테이블
+-- =====================================================
+
+-- 1. 아웃박스 이벤트 테이블
+CREATE TABLE IF NOT EXISTS outbox_events (
+    event_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(50) NOT NULL,
+    partition_key VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+-- 2. 릴레이 리스 테이블 (한 번에 한 노드만 전달)
+CREATE TABLE IF NOT EXISTS outbox_relay_lease (
+    lease_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    owner VARCHAR(100),
+    lease_until TIMESTAMP NOT NULL
+);
+
+INSERT INTO outbox_relay_lease (lease_name, owner, lease_until)
+VALUES ('outbox-relay', NULL, TIMESTAMP '1970-01-01 00:00:00');
+
+-- =====================================================
+-- 인덱스 생성
+-- =====================================================
+CREATE INDEX IF NOT EXISTS idx_outbox_events_status_id ON outbox_events(status, event_id);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at ON outbox_events(published_at);
@@ -0,0 +1,18 @@
+-- =====================================================
+-- Boardly Database - 보드/리스트 카운터 컬럼
+-- =====================================================
+-- 생성/이동 정책 검사와 대시보드가 COUNT(*) 대신 읽는 비정규화 카운터입니다.
+-- 값은 같은 트랜잭션 안에서 증감되고, BoardCounterReconciler가 주기적으로 실제 행 수와 맞춥니다.
+
+-- 1. 리스트별 카드 수
+ALTER TABLE board_lists ADD COLUMN card_count INTEGER NOT NULL DEFAULT 0;
+
+-- 2. 보드별 리스트 수
+ALTER TABLE boards ADD COLUMN list_count INTEGER NOT NULL DEFAULT 0;
+
+-- 3. 기존 데이터 백필
+UPDATE board_lists
+SET card_count = (SELECT COUNT(*) FROM cards c WHERE c.list_id = board_lists.list_id);
+
+UPDATE boards
+SET list_count = (SELECT COUNT(*) FROM board_lists l WHERE l.board_id = boards.board_id);
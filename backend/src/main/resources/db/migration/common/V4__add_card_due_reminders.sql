@@ -0,0 +1,22 @@
+-- =====================================================
+-- Boardly Database - 카드 마감 알림
+-- =====================================================
+-- DueDateReminderScheduler가 마감이 다가오는 카드를 알림으로 보냅니다.
+
+-- 1. 알림을 보낸 마감일
+-- 마감일과 같으면 이미 보낸 것이고, 마감일이 바뀌면 새 마감일로 다시 보냅니다.
+-- 여러 노드가 같은 카드를 잡아도 이 컬럼의 조건부 UPDATE에 성공한 노드만 보냅니다.
+ALTER TABLE cards ADD COLUMN reminded_due_date TIMESTAMP;
+
+-- 2. 알림 샤드 리스
+-- 카드는 ID 해시로 샤드에 나뉘고, 각 샤드는 리스를 잡은 노드 하나가 맡습니다.
+-- 샤드 수는 이 접두사를 가진 행 수이므로, 늘리려면 행을 추가합니다.
+INSERT INTO outbox_relay_lease (lease_name, owner, lease_until) VALUES
+    ('card-reminder-0', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-1', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-2', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-3', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-4', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-5', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-6', NULL, TIMESTAMP '1970-01-01 00:00:00'),
+    ('card-reminder-7', NULL, TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,11 @@
+-- =====================================================
+-- Boardly Database - 담당 카드 목록 인덱스
+-- =====================================================
+-- "내게 할당된 카드"(GET /api/cards/assigned)는 사용자별 담당 행을 (assigned_at, id) 역순 키셋으로 읽습니다.
+-- 정렬 키와 card_id까지 인덱스에 담아 card_members 쪽은 테이블을 읽지 않고 인덱스만 역방향으로 훑고,
+-- 페이지 크기만큼 카드/리스트/보드를 기본 키로 조인합니다.
+-- user_id 단일 인덱스는 이 인덱스의 앞부분과 같으므로 제거합니다.
+
+CREATE INDEX IF NOT EXISTS idx_card_members_user_assigned ON card_members(user_id, assigned_at, id, card_id);
+
+DROP INDEX IF EXISTS idx_card_members_user_id;
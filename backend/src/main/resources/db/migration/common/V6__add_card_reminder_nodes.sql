@@ -0,0 +1,9 @@
+-- =====================================================
+-- Boardly Database - 카드 마감 알림 노드
+-- =====================================================
+-- DueDateReminderScheduler를 실행 중인 노드가 재적재마다 하트비트를 남깁니다.
+-- 노드마다 최근 하트비트 수(살아 있는 노드 수)로 샤드를 나눠 맡고, 몫을 넘는 샤드 리스는 내려놓습니다.
+CREATE TABLE IF NOT EXISTS card_reminder_nodes (
+    node_id VARCHAR(100) NOT NULL PRIMARY KEY,
+    heartbeat_at TIMESTAMP NOT NULL
+);
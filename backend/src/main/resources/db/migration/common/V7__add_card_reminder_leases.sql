@@ -0,0 +1,23 @@
+-- =====================================================
+-- Boardly Database - 카드 마감 알림 샤드 분리
+-- =====================================================
+-- 마감 알림 샤드 리스를 아웃박스 릴레이 리스 테이블에서 전용 테이블로 옮기고,
+-- 카드마다 샤드 계산에 쓰는 버킷을 저장해 알림 대상 조회가 맡은 샤드만 읽게 합니다.
+
+-- 1. 알림 샤드 리스 테이블
+-- 샤드 수는 이 테이블의 행 수이므로, 늘리려면 행을 추가합니다.
+CREATE TABLE IF NOT EXISTS card_reminder_leases (
+    lease_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    owner VARCHAR(100),
+    lease_until TIMESTAMP NOT NULL
+);
+
+INSERT INTO card_reminder_leases (lease_name, owner, lease_until)
+SELECT lease_name, owner, lease_until FROM outbox_relay_lease WHERE lease_name LIKE 'card-reminder-%';
+
+DELETE FROM outbox_relay_lease WHERE lease_name LIKE 'card-reminder-%';
+
+-- 2. 알림 버킷
+-- 카드 ID 해시를 1024로 나눈 나머지이며, 샤드 번호는 버킷을 샤드 수로 나눈 나머지입니다.
+-- 해시는 애플리케이션이 계산해 카드 저장 시 채우고, 이 마이그레이션 전에 만든 카드는 알림 대상 조회가 처음 읽을 때 채웁니다.
+ALTER TABLE cards ADD COLUMN reminder_bucket INTEGER;
@@ -0,0 +1,127 @@
+package com.boardly.features.activity.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.boardly.features.activity.application.port.input.CreateActivityCommand;
+import com.boardly.features.activity.application.usecase.CreateActivityUseCase;
+import com.boardly.features.activity.domain.model.Activity;
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.activity.domain.model.Actor;
+import com.boardly.features.activity.domain.model.Payload;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.application.outbox.OutboxEvent;
+import com.boardly.shared.domain.common.Failure;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogEventHandler 테스트")
+class ActivityLogEventHandlerTest {
+
+    @Mock
+    private CreateActivityUseCase createActivityUseCase;
+
+    private ObjectMapper objectMapper;
+    private ActivityLogEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        handler = new ActivityLogEventHandler(createActivityUseCase, objectMapper);
+    }
+
+    private OutboxEvent outboxEvent(String payload, Instant recordedAt, int attempts) {
+        return new OutboxEvent(1L, ActivityLogEvent.EVENT_TYPE, "CARD", "card-1", "board-1", payload,
+                recordedAt, attempts);
+    }
+
+    private Activity activity() {
+        return Activity.create(ActivityType.CARD_MOVE, Actor.of("user-1", "홍", "길동", ""),
+                Payload.of(Map.of()), "보드", new BoardId("board-1"), null, new CardId("card-1"));
+    }
+
+    @Test
+    @DisplayName("재시도로 늦게 처리된 이벤트도 이벤트 본문의 발생 시각으로 활동을 생성한다")
+    void handle_ShouldUseEventOccurredAt() throws Exception {
+        // given
+        Instant occurredAt = Instant.parse("2026-10-18T09:00:00Z");
+        ActivityLogEvent event = new ActivityLogEvent(ActivityType.CARD_MOVE, "user-1", Map.of("cardTitle", "카드"),
+                "보드", "board-1", "list-1", "card-1", occurredAt);
+        when(createActivityUseCase.createActivity(any())).thenReturn(Either.right(activity()));
+
+        // when
+        Either<Failure, Void> result = handler.handle(
+                outboxEvent(objectMapper.writeValueAsString(event), occurredAt.plusSeconds(5), 3));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        ArgumentCaptor<CreateActivityCommand> captor = ArgumentCaptor.forClass(CreateActivityCommand.class);
+        verify(createActivityUseCase).createActivity(captor.capture());
+        assertThat(captor.getValue().occurredAt()).isEqualTo(occurredAt);
+        assertThat(captor.getValue().listId()).isEqualTo(new ListId("list-1"));
+    }
+
+    @Test
+    @DisplayName("발생 시각이 없는 이전 형식의 이벤트는 아웃박스 기록 시각을 쓴다")
+    void handle_WithoutOccurredAt_ShouldFallBackToOutboxTime() {
+        // given
+        Instant recordedAt = Instant.parse("2026-10-18T09:00:01Z");
+        String legacyPayload = """
+                {"type":"CARD_MOVE","actorId":"user-1","payload":{},"boardName":"보드","boardId":"board-1","cardId":"card-1"}
+                """;
+        when(createActivityUseCase.createActivity(any())).thenReturn(Either.right(activity()));
+
+        // when
+        handler.handle(outboxEvent(legacyPayload, recordedAt, 0));
+
+        // then
+        ArgumentCaptor<CreateActivityCommand> captor = ArgumentCaptor.forClass(CreateActivityCommand.class);
+        verify(createActivityUseCase).createActivity(captor.capture());
+        assertThat(captor.getValue().occurredAt()).isEqualTo(recordedAt);
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 본문은 실패를 반환한다")
+    void handle_WithMalformedPayload_ShouldFail() {
+        // when
+        Either<Failure, Void> result = handler.handle(outboxEvent("{not json", Instant.now(), 0));
+
+        // then
+        assertThat(result.isLeft()).isTrue();
+        verify(createActivityUseCase, never()).createActivity(any());
+    }
+
+    @Test
+    @DisplayName("of로 만든 이벤트는 기록 시점의 발생 시각을 담는다")
+    void of_ShouldStampOccurredAt() {
+        // given
+        Instant before = Instant.now();
+
+        // when
+        ActivityLogEvent event = ActivityLogEvent.of(ActivityType.CARD_MOVE, new UserId("user-1"), Map.of(),
+                "보드", new BoardId("board-1"), null, new CardId("card-1"));
+
+        // then
+        assertThat(event.occurredAt()).isBetween(before, Instant.now());
+    }
+}
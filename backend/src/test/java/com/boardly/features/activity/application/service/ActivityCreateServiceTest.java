@@ -7,6 +7,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Locale;
 import java.util.Map;
 
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
@@ -124,6 +126,39 @@ class ActivityCreateServiceTest {
                         verify(activityRepository).save(any(Activity.class));
                 }
 
+                @Test
+                @DisplayName("발생 시각이 지정된 커맨드는 저장 시각이 아니라 발생 시각으로 활동을 남겨야 한다")
+                void createActivity_WithOccurredAt_ShouldKeepEventTime() {
+                        // given
+                        UserId actorId = new UserId("user-123");
+                        Instant occurredAt = Instant.parse("2026-10-18T09:00:00Z");
+                        CreateActivityCommand command = CreateActivityCommand.forCard(
+                                        ActivityType.CARD_MOVE,
+                                        actorId,
+                                        Map.of("cardTitle", "카드"),
+                                        "프로젝트 A",
+                                        new BoardId("board-123"),
+                                        new ListId("list-123"),
+                                        new CardId("card-123"))
+                                        .withOccurredAt(occurredAt);
+
+                        when(activityValidator.validateCreate(command))
+                                        .thenReturn(ValidationResult.valid(command));
+                        when(userFinder.findUserOrThrow(actorId))
+                                        .thenReturn(createMockUser(actorId));
+                        when(activityRepository.save(any(Activity.class)))
+                                        .thenAnswer(invocation -> Either.right(invocation.getArgument(0)));
+
+                        // when
+                        Either<Failure, Activity> result = activityCreateService.createActivity(command);
+
+                        // then
+                        assertThat(result.isRight()).isTrue();
+                        ArgumentCaptor<Activity> captor = ArgumentCaptor.forClass(Activity.class);
+                        verify(activityRepository).save(captor.capture());
+                        assertThat(captor.getValue().getTimestamp()).isEqualTo(occurredAt);
+                }
+
                 @Test
                 @DisplayName("유효한 리스트 활동 생성 요청이 성공해야 한다")
                 void createActivity_WithValidListActivity_ShouldSucceed() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -559,6 +560,44 @@ class ActivityReadServiceTest {
             assertThat(payload).containsEntry("title", "새 카드");
             assertThat(payload).containsEntry("description", "카드 설명");
         }
+
+        @Test
+        @DisplayName("같은 보드의 활동이 여러 건이어도 보드 이름은 한 번만 조회해야 한다")
+        void boardName_ShouldBeLookedUpOncePerBoard() {
+            // given
+            BoardId boardId = new BoardId("board-123");
+            GetActivityQuery query = new GetActivityQuery(
+                null,
+                boardId,
+                null,
+                null,
+                0,
+                10
+            );
+
+            when(
+                activityRepository.findByBoardIdOrderByTimestampDesc(
+                    boardId,
+                    0,
+                    10
+                )
+            ).thenReturn(List.of(createMockActivity(), createMockActivity(), createMockActivity()));
+            when(activityRepository.countByBoardId(boardId)).thenReturn(3L);
+            when(boardRepository.findBoardNameById(boardId)).thenReturn(
+                Optional.of(new BoardNameDto("프로젝트 A"))
+            );
+
+            // when
+            Either<Failure, ActivityListResponse> result =
+                activityReadService.getActivities(query);
+
+            // then
+            assertThat(result.isRight()).isTrue();
+            assertThat(result.get().activities())
+                .extracting(ActivityResponse::getBoardName)
+                .containsOnly("프로젝트 A");
+            verify(boardRepository, times(1)).findBoardNameById(boardId);
+        }
     }
 
     // 헬퍼 메서드들
@@ -174,7 +174,8 @@ class ActivityValidatorTest {
                 "프로젝트 A",
                 null,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -200,7 +201,8 @@ class ActivityValidatorTest {
                 "프로젝트 A",
                 null,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -228,7 +230,8 @@ class ActivityValidatorTest {
                 "프로젝트 A",
                 null,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -257,7 +260,8 @@ class ActivityValidatorTest {
                 "프로젝트 A",
                 null,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -288,7 +292,8 @@ class ActivityValidatorTest {
                 "프로젝트 A",
                 boardId,
                 listId,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -318,7 +323,8 @@ class ActivityValidatorTest {
                 null,
                 boardId,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
@@ -347,7 +353,8 @@ class ActivityValidatorTest {
                 null,
                 null,
                 null,
-                null
+                null,
+                null // occurredAt
             );
 
             // when
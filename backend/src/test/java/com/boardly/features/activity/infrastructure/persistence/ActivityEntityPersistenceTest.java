@@ -0,0 +1,82 @@
+package com.boardly.features.activity.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.shared.infrastructure.persistence.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:activity-entity;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@DisplayName("ActivityEntity 영속성 테스트")
+class ActivityEntityPersistenceTest {
+
+    @Autowired
+    private ActivityJpaRepository activityJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("JPA 감사가 켜져 있어도 활동 발생 시각을 created_at에 그대로 저장한다")
+    void save_WithPastTimestamp_ShouldKeepOccurredAt() {
+        // given
+        Instant occurredAt = Instant.parse("2024-01-15T09:30:00Z");
+
+        // when
+        activityJpaRepository.saveAndFlush(activity("activity-past", occurredAt));
+        entityManager.clear();
+
+        // then
+        Timestamp createdAt = jdbcTemplate.queryForObject(
+                "SELECT created_at FROM user_activity WHERE activity_id = ?", Timestamp.class, "activity-past");
+        assertThat(createdAt.toInstant()).isEqualTo(occurredAt);
+        assertThat(activityJpaRepository.findById("activity-past"))
+                .hasValueSatisfying(entity -> assertThat(entity.getCreatedAt()).isEqualTo(occurredAt));
+    }
+
+    @Test
+    @DisplayName("발생 시각이 없으면 저장 시각으로 채운다")
+    void save_WithoutTimestamp_ShouldDefaultToNow() {
+        // given
+        Instant before = Instant.now();
+
+        // when
+        ActivityEntity saved = activityJpaRepository.saveAndFlush(activity("activity-now", null));
+
+        // then
+        assertThat(saved.getCreatedAt()).isBetween(before, Instant.now());
+    }
+
+    private ActivityEntity activity(String activityId, Instant createdAt) {
+        return ActivityEntity.builder()
+                .activityId(activityId)
+                .actorId("user-1")
+                .boardId("board-1")
+                .activityType(ActivityType.BOARD_CREATE)
+                .actorFirstName("John")
+                .actorLastName("Doe")
+                .payload("{}")
+                .createdAt(createdAt)
+                .build();
+    }
+}
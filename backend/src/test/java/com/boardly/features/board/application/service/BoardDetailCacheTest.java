@@ -0,0 +1,155 @@
+package com.boardly.features.board.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.board.infrastructure.config.BoardDetailCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoardDetailCache 테스트")
+class BoardDetailCacheTest {
+
+    private BoardDetailCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BoardDetailCache boardDetailCache;
+    private BoardId boardId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BoardDetailCacheProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        boardDetailCache = new BoardDetailCache(properties, meterRegistry);
+        boardId = new BoardId("board-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 응답은 같은 보드 버전과 역할로만 조회된다")
+    void find_ShouldReturnSnapshotForSameVersionAndRole() {
+        // given
+        byte[] body = new byte[] { 1, 2, 3 };
+        boardDetailCache.put(boardId, BoardRole.MEMBER, boardDetailCache.version(boardId), body);
+
+        // when & then
+        assertThat(boardDetailCache.find(boardId, BoardRole.MEMBER)).containsSame(body);
+        assertThat(boardDetailCache.find(boardId, BoardRole.VIEWER)).isEmpty();
+        assertThat(boardDetailCache.find(new BoardId("board-2"), BoardRole.MEMBER)).isEmpty();
+        assertThat(meterRegistry.get(BoardDetailCache.REQUESTS_METRIC).tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(BoardDetailCache.REQUESTS_METRIC).tag("result", "miss").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋된 뒤에 반영되고, 롤백되면 반영되지 않는다")
+    void invalidate_WithinTransaction_ShouldApplyOnlyAfterCommit() {
+        // given
+        boardDetailCache.put(boardId, BoardRole.OWNER, boardDetailCache.version(boardId), new byte[] { 1 });
+
+        // when & then
+        TransactionSynchronizationManager.initSynchronization();
+        boardDetailCache.invalidate(boardId);
+        complete(false);
+        assertThat(boardDetailCache.find(boardId, BoardRole.OWNER)).isPresent();
+
+        TransactionSynchronizationManager.initSynchronization();
+        boardDetailCache.invalidate(boardId);
+        assertThat(boardDetailCache.find(boardId, BoardRole.OWNER)).isPresent();
+        complete(true);
+        assertThat(boardDetailCache.find(boardId, BoardRole.OWNER)).isEmpty();
+        assertThat(boardDetailCache.cachedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 보드가 바뀌면 그 조회 결과는 저장하지 않는다")
+    void put_AfterConcurrentInvalidation_ShouldBeIgnored() {
+        // given
+        BoardDetailCache.Version versionBeforeLoad = boardDetailCache.version(boardId);
+        boardDetailCache.invalidate(boardId);
+
+        // when
+        boardDetailCache.put(boardId, BoardRole.MEMBER, versionBeforeLoad, new byte[] { 1 });
+
+        // then
+        assertThat(boardDetailCache.find(boardId, BoardRole.MEMBER)).isEmpty();
+        assertThat(boardDetailCache.cachedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 모든 보드의 응답을 버린다")
+    void invalidateAll_ShouldDropEveryBoard() {
+        // given
+        BoardId otherBoardId = new BoardId("board-2");
+        boardDetailCache.put(boardId, BoardRole.OWNER, boardDetailCache.version(boardId), new byte[] { 1 });
+        boardDetailCache.put(otherBoardId, BoardRole.VIEWER, boardDetailCache.version(otherBoardId), new byte[] { 2 });
+
+        // when
+        boardDetailCache.invalidateAll();
+
+        // then
+        assertThat(boardDetailCache.find(boardId, BoardRole.OWNER)).isEmpty();
+        assertThat(boardDetailCache.find(otherBoardId, BoardRole.VIEWER)).isEmpty();
+        assertThat(boardDetailCache.cachedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 중인 응답 크기는 상한을 넘지 않고, 상한의 1/8보다 큰 응답은 저장하지 않는다")
+    void put_ShouldKeepCachedBytesBounded() {
+        // given
+        properties.setMaxBytes(800);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            BoardId otherBoardId = new BoardId("board-" + i);
+            boardDetailCache.put(otherBoardId, BoardRole.MEMBER, boardDetailCache.version(otherBoardId),
+                    new byte[100]);
+        }
+        boardDetailCache.put(boardId, BoardRole.MEMBER, boardDetailCache.version(boardId), new byte[101]);
+
+        // then
+        assertThat(boardDetailCache.cachedBytes()).isLessThanOrEqualTo(800);
+        assertThat(boardDetailCache.find(boardId, BoardRole.MEMBER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 응답은 쓰지 않는다")
+    void find_ExpiredSnapshot_ShouldMiss() {
+        // given
+        properties.setTtlSeconds(0);
+        boardDetailCache.put(boardId, BoardRole.MEMBER, boardDetailCache.version(boardId), new byte[] { 1 });
+
+        // when & then
+        assertThat(boardDetailCache.find(boardId, BoardRole.MEMBER)).isEmpty();
+    }
+
+    private void complete(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> {
+            if (committed) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(committed
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        });
+    }
+}
@@ -41,13 +41,17 @@ class BoardInteractionServiceTest {
     @Mock
     private UserFinder userFinder;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @BeforeEach
     void setUp() {
         boardInteractionService = new BoardInteractionService(
                 boardValidator,
                 boardRepository,
                 messageResolver,
-                userFinder);
+                userFinder,
+                boardDetailCache);
     }
 
     private ToggleStarBoardCommand createValidCommand() {
@@ -94,6 +98,7 @@ class BoardInteractionServiceTest {
         assertThat(result.isRight()).isTrue();
         assertThat(result.get().isStarred()).isTrue();
         verify(boardRepository).save(any(Board.class));
+        verify(boardDetailCache).invalidate(result.get().getBoardId());
     }
 
     @Test
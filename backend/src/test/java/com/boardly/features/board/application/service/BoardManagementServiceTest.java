@@ -61,6 +61,9 @@ class BoardManagementServiceTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardRosterCache boardRosterCache;
+
     @InjectMocks
     private BoardManagementService boardManagementService;
 
@@ -426,6 +429,7 @@ class BoardManagementServiceTest {
             verify(boardRepository).findById(testBoardId);
             verify(boardPermissionService).canDeleteBoard(testBoardId, testUserId);
             verify(boardRepository).delete(testBoardId);
+            verify(boardRosterCache).evict(testBoardId);
             verify(activityHelper).logBoardActivity(eq(ActivityType.BOARD_DELETE), eq(testUserId), any(Map.class),
                     anyString(), eq(testBoardId));
         }
@@ -541,6 +545,7 @@ class BoardManagementServiceTest {
             verify(boardRepository).findById(testBoardId);
             verify(boardPermissionService).canDeleteBoard(testBoardId, testUserId);
             verify(boardRepository).delete(testBoardId);
+            verify(boardRosterCache, never()).evict(testBoardId);
             verify(activityHelper, never()).logBoardActivity(any(), any(), any(), any(), any());
         }
     }
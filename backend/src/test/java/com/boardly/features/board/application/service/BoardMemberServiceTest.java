@@ -69,6 +69,9 @@ class BoardMemberServiceTest {
         @Mock
         private ActivityHelper activityHelper;
 
+        @Mock
+        private BoardRosterCache boardRosterCache;
+
         @InjectMocks
         private BoardMemberService boardMemberService;
 
@@ -143,6 +146,7 @@ class BoardMemberServiceTest {
                         assertThat(result.get()).isEqualTo(boardMember);
 
                         verify(boardMemberRepository).save(any(BoardMember.class));
+                        verify(boardRosterCache).memberSaved(boardMember);
                         verify(activityHelper).logBoardActivity(any(), any(), any(), any(), any());
                 }
 
@@ -322,6 +326,7 @@ class BoardMemberServiceTest {
                         assertThat(result.isRight()).isTrue();
 
                         verify(boardMemberRepository).delete(boardMember.getMemberId());
+                        verify(boardRosterCache).memberRemoved(boardMember.getBoardId(), boardMember.getUserId());
                         verify(activityHelper).logBoardActivity(any(), any(), any(), any(), any());
                 }
 
@@ -421,6 +426,7 @@ class BoardMemberServiceTest {
                         assertThat(result.get().getRole()).isEqualTo(BoardRole.ADMIN);
 
                         verify(boardMemberRepository).save(any(BoardMember.class));
+                        verify(boardRosterCache).memberSaved(existingMember);
                         verify(activityHelper).logBoardActivity(any(), any(), any(), any(), any());
                 }
 
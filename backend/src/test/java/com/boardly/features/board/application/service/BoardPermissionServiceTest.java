@@ -1,7 +1,6 @@
 package com.boardly.features.board.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -9,6 +8,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +26,7 @@ import com.boardly.features.board.domain.model.BoardMemberId;
 import com.boardly.features.board.domain.model.BoardRole;
 import com.boardly.features.board.domain.repository.BoardMemberRepository;
 import com.boardly.features.board.domain.repository.BoardRepository;
+import com.boardly.features.board.infrastructure.config.BoardRosterProperties;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
@@ -55,7 +56,7 @@ class BoardPermissionServiceTest {
     void setUp() {
         boardPermissionService = new BoardPermissionService(
                 boardRepository,
-                boardMemberRepository,
+                new BoardRosterCache(boardMemberRepository, boardRepository, new BoardRosterProperties()),
                 messageResolver);
 
         testBoardId = new BoardId();
@@ -142,8 +143,8 @@ class BoardPermissionServiceTest {
             // given
             Board board = createTestBoard(testBoardId, differentUserId);
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.empty());
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of());
             when(messageResolver.getMessage("validation.board.access.denied"))
                     .thenReturn("보드 접근 권한이 없습니다");
 
@@ -156,7 +157,7 @@ class BoardPermissionServiceTest {
             assertThat(result.getLeft().getMessage()).isEqualTo("보드 접근 권한이 없습니다");
 
             verify(boardRepository).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
             verify(messageResolver).getMessage("validation.board.access.denied");
         }
 
@@ -169,8 +170,8 @@ class BoardPermissionServiceTest {
             inactiveMember.deactivate();
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(inactiveMember));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(inactiveMember));
             when(messageResolver.getMessage("validation.board.member.inactive"))
                     .thenReturn("비활성화된 보드 멤버입니다");
 
@@ -183,7 +184,7 @@ class BoardPermissionServiceTest {
             assertThat(result.getLeft().getMessage()).isEqualTo("비활성화된 보드 멤버입니다");
 
             verify(boardRepository).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
             verify(messageResolver).getMessage("validation.board.member.inactive");
         }
 
@@ -195,8 +196,8 @@ class BoardPermissionServiceTest {
             BoardMember activeMember = createTestBoardMember(testBoardId, testUserId, BoardRole.ADMIN);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(activeMember));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(activeMember));
 
             // when
             Either<Failure, BoardRole> result = boardPermissionService.getUserBoardRole(testBoardId, testUserId);
@@ -206,7 +207,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isEqualTo(BoardRole.ADMIN);
 
             verify(boardRepository).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
     }
 
@@ -240,8 +241,8 @@ class BoardPermissionServiceTest {
             BoardMember member = createTestBoardMember(testBoardId, testUserId, BoardRole.VIEWER);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(member));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(member));
 
             // when
             Either<Failure, Boolean> result = boardPermissionService.canReadBoard(testBoardId, testUserId);
@@ -251,7 +252,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isTrue();
 
             verify(boardRepository, times(2)).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
 
         @Test
@@ -278,8 +279,8 @@ class BoardPermissionServiceTest {
             BoardMember member = createTestBoardMember(testBoardId, testUserId, BoardRole.MEMBER);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(member));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(member));
 
             // when
             Either<Failure, Boolean> result = boardPermissionService.canWriteBoard(testBoardId, testUserId);
@@ -289,7 +290,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isTrue();
 
             verify(boardRepository, times(2)).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
 
         @Test
@@ -300,8 +301,8 @@ class BoardPermissionServiceTest {
             BoardMember member = createTestBoardMember(testBoardId, testUserId, BoardRole.VIEWER);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(member));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(member));
 
             // when
             Either<Failure, Boolean> result = boardPermissionService.canWriteBoard(testBoardId, testUserId);
@@ -311,7 +312,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isFalse();
 
             verify(boardRepository, times(2)).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
 
         @Test
@@ -338,8 +339,8 @@ class BoardPermissionServiceTest {
             BoardMember member = createTestBoardMember(testBoardId, testUserId, BoardRole.ADMIN);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(member));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(member));
 
             // when
             Either<Failure, Boolean> result = boardPermissionService.canAdminBoard(testBoardId, testUserId);
@@ -349,7 +350,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isTrue();
 
             verify(boardRepository, times(2)).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
 
         @Test
@@ -360,8 +361,8 @@ class BoardPermissionServiceTest {
             BoardMember member = createTestBoardMember(testBoardId, testUserId, BoardRole.MEMBER);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, testUserId))
-                    .thenReturn(Optional.of(member));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(member));
 
             // when
             Either<Failure, Boolean> result = boardPermissionService.canAdminBoard(testBoardId, testUserId);
@@ -371,7 +372,7 @@ class BoardPermissionServiceTest {
             assertThat(result.get()).isFalse();
 
             verify(boardRepository, times(2)).findById(testBoardId);
-            verify(boardMemberRepository).findByBoardIdAndUserId(testBoardId, testUserId);
+            verify(boardMemberRepository).findByBoardId(testBoardId);
         }
 
         @Test
@@ -519,23 +520,22 @@ class BoardPermissionServiceTest {
             BoardMember viewerMember = createTestBoardMember(testBoardId, viewerUserId, BoardRole.VIEWER);
 
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(board));
+            when(boardMemberRepository.findByBoardId(testBoardId))
+                    .thenReturn(List.of(memberMember, viewerMember));
 
             // when & then - MEMBER
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, memberUserId))
-                    .thenReturn(Optional.of(memberMember));
             Either<Failure, Boolean> memberResult = boardPermissionService.canWriteBoard(testBoardId, memberUserId);
             assertThat(memberResult.isRight()).isTrue();
             assertThat(memberResult.get()).isTrue();
 
             // when & then - VIEWER
-            when(boardMemberRepository.findByBoardIdAndUserId(testBoardId, viewerUserId))
-                    .thenReturn(Optional.of(viewerMember));
             Either<Failure, Boolean> viewerResult = boardPermissionService.canWriteBoard(testBoardId, viewerUserId);
             assertThat(viewerResult.isRight()).isTrue();
             assertThat(viewerResult.get()).isFalse();
 
             verify(boardRepository, atLeastOnce()).findById(testBoardId);
-            verify(boardMemberRepository, atLeastOnce()).findByBoardIdAndUserId(any(), any());
+            // 보드 명단은 한 번만 적재된다
+            verify(boardMemberRepository, times(1)).findByBoardId(testBoardId);
         }
     }
 }
\ No newline at end of file
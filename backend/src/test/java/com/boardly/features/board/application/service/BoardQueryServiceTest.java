@@ -436,13 +436,15 @@ class BoardQueryServiceTest {
                 UserId userId = new UserId();
                 GetBoardDetailCommand command = createValidGetBoardDetailCommand(boardId, userId);
 
-                // null 데이터를 전달하여 NPE 발생시키기
                 BoardDetailData boardDetailData = new BoardDetailData(null, null, null, null, null, null, null, null);
 
                 when(boardValidator.validateGetDetail(command))
                                 .thenReturn(ValidationResult.valid(command));
                 when(getBoardDetailPort.getBoardDetail(boardId, userId))
                                 .thenReturn(Either.right(boardDetailData));
+                // 카드별 집계 조회 중 예외 발생시키기
+                when(commentRepository.countByBoardIdGroupByCardId(boardId))
+                                .thenThrow(new RuntimeException("집계 조회 실패"));
 
                 // when
                 Either<Failure, BoardDetailDto> result = boardQueryService.getBoardDetail(command);
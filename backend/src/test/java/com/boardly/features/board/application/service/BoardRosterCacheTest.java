@@ -0,0 +1,280 @@
+package com.boardly.features.board.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardMember;
+import com.boardly.features.board.domain.model.BoardMemberId;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.board.domain.model.BoardRoster.Membership;
+import com.boardly.features.board.domain.repository.BoardMemberRepository;
+import com.boardly.features.board.domain.repository.BoardRepository;
+import com.boardly.features.board.infrastructure.config.BoardRosterProperties;
+import com.boardly.features.user.domain.model.UserId;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardRosterCache 테스트")
+class BoardRosterCacheTest {
+
+    @Mock
+    private BoardMemberRepository boardMemberRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardRosterProperties properties;
+    private BoardRosterCache boardRosterCache;
+    private BoardId boardId;
+    private UserId adminId;
+    private UserId viewerId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BoardRosterProperties();
+        boardRosterCache = new BoardRosterCache(boardMemberRepository, boardRepository, properties);
+        boardId = new BoardId("board-1");
+        adminId = new UserId("user-admin");
+        viewerId = new UserId("user-viewer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보드 명단은 한 번만 적재하고 이후 조회는 캐시에서 처리한다")
+    void findMembership_ShouldLoadRosterOnce() {
+        // given
+        BoardMember viewer = member(viewerId, BoardRole.VIEWER);
+        viewer.deactivate();
+        when(boardMemberRepository.findByBoardId(boardId))
+                .thenReturn(List.of(member(adminId, BoardRole.ADMIN), viewer));
+
+        // when
+        Optional<Membership> admin = boardRosterCache.findMembership(boardId, adminId);
+        Optional<Membership> inactiveViewer = boardRosterCache.findMembership(boardId, viewerId);
+        Optional<Membership> stranger = boardRosterCache.findMembership(boardId, new UserId("user-stranger"));
+
+        // then
+        assertThat(admin).contains(new Membership(BoardRole.ADMIN, true));
+        assertThat(inactiveViewer).contains(new Membership(BoardRole.VIEWER, false));
+        assertThat(stranger).isEmpty();
+        verify(boardMemberRepository, times(1)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("활성 역할은 명단과 함께 적재한 소유자 ID로 소유자까지 캐시에서 판단한다")
+    void findActiveRole_ShouldResolveOwnerAndMembersFromCache() {
+        // given
+        UserId ownerId = new UserId("user-owner");
+        BoardMember viewer = member(viewerId, BoardRole.VIEWER);
+        viewer.deactivate();
+        when(boardMemberRepository.findByBoardId(boardId))
+                .thenReturn(List.of(member(adminId, BoardRole.ADMIN), viewer));
+        when(boardRepository.findById(boardId))
+                .thenReturn(Optional.of(Board.create("보드", "설명", ownerId)));
+
+        // when
+        Optional<BoardRole> owner = boardRosterCache.findActiveRole(boardId, ownerId);
+        Optional<BoardRole> admin = boardRosterCache.findActiveRole(boardId, adminId);
+        Optional<BoardRole> inactiveViewer = boardRosterCache.findActiveRole(boardId, viewerId);
+        Optional<BoardRole> stranger = boardRosterCache.findActiveRole(boardId, new UserId("user-stranger"));
+
+        // then
+        assertThat(owner).contains(BoardRole.OWNER);
+        assertThat(admin).contains(BoardRole.ADMIN);
+        assertThat(inactiveViewer).isEmpty();
+        assertThat(stranger).isEmpty();
+        verify(boardRepository, times(1)).findById(boardId);
+        verify(boardMemberRepository, times(1)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 멤버 변경은 커밋 이후에 명단에 반영된다")
+    void memberSaved_WithinTransaction_ShouldApplyAfterCommit() {
+        // given
+        when(boardMemberRepository.findByBoardId(boardId)).thenReturn(List.of(member(adminId, BoardRole.ADMIN)));
+        boardRosterCache.findMembership(boardId, adminId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        boardRosterCache.memberSaved(member(viewerId, BoardRole.VIEWER));
+
+        // then
+        assertThat(boardRosterCache.findMembership(boardId, viewerId)).isEmpty();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(boardRosterCache.findMembership(boardId, viewerId))
+                .contains(new Membership(BoardRole.VIEWER, true));
+        verify(boardMemberRepository, times(1)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("멤버 변경 트랜잭션이 롤백되면 명단을 버리고 다시 적재한다")
+    void memberSaved_OnRollback_ShouldDropRoster() {
+        // given
+        when(boardMemberRepository.findByBoardId(boardId)).thenReturn(List.of(member(adminId, BoardRole.ADMIN)));
+        boardRosterCache.findMembership(boardId, adminId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        boardRosterCache.memberSaved(member(viewerId, BoardRole.VIEWER));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(boardRosterCache.cachedBoardCount()).isZero();
+        assertThat(boardRosterCache.findMembership(boardId, viewerId)).isEmpty();
+        verify(boardMemberRepository, times(2)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("멤버 삭제와 역할 변경은 다시 적재하지 않고 명단을 고친다")
+    void memberChanges_ShouldUpdateCachedRoster() {
+        // given
+        when(boardMemberRepository.findByBoardId(boardId))
+                .thenReturn(List.of(member(adminId, BoardRole.ADMIN), member(viewerId, BoardRole.VIEWER)));
+        boardRosterCache.findMembership(boardId, adminId);
+
+        // when
+        boardRosterCache.memberRemoved(boardId, viewerId);
+        boardRosterCache.memberSaved(member(adminId, BoardRole.MEMBER));
+
+        // then
+        assertThat(boardRosterCache.findMembership(boardId, viewerId)).isEmpty();
+        assertThat(boardRosterCache.findMembership(boardId, adminId))
+                .contains(new Membership(BoardRole.MEMBER, true));
+        verify(boardMemberRepository, times(1)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 명단은 다시 적재해 다른 노드에서 빠진 멤버의 권한을 거둔다")
+    void findMembership_AfterTtl_ShouldReloadRoster() {
+        // given: 다른 노드에서 뷰어가 빠져 이 노드에는 변경 알림이 오지 않는다
+        properties.setTtlSeconds(0);
+        when(boardMemberRepository.findByBoardId(boardId))
+                .thenReturn(List.of(member(adminId, BoardRole.ADMIN), member(viewerId, BoardRole.VIEWER)))
+                .thenReturn(List.of(member(adminId, BoardRole.ADMIN)));
+
+        // when
+        Optional<Membership> before = boardRosterCache.findMembership(boardId, viewerId);
+        Optional<Membership> after = boardRosterCache.findMembership(boardId, viewerId);
+
+        // then
+        assertThat(before).contains(new Membership(BoardRole.VIEWER, true));
+        assertThat(after).isEmpty();
+        verify(boardMemberRepository, times(2)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 변경분을 반영한 명단도 다시 적재한다")
+    void memberSaved_ShouldNotExtendTtl() {
+        // given
+        properties.setTtlSeconds(0);
+        when(boardMemberRepository.findByBoardId(boardId)).thenReturn(List.of(member(adminId, BoardRole.ADMIN)));
+        boardRosterCache.findMembership(boardId, adminId);
+
+        // when
+        boardRosterCache.memberSaved(member(viewerId, BoardRole.VIEWER));
+        Optional<Membership> viewer = boardRosterCache.findMembership(boardId, viewerId);
+
+        // then: 멤버 행에 없는 변경분은 다시 적재하면서 사라진다
+        assertThat(viewer).isEmpty();
+        verify(boardMemberRepository, times(2)).findByBoardId(boardId);
+    }
+
+    @Test
+    @DisplayName("멤버 수 상한을 넘는 보드는 멤버 행을 직접 조회한다")
+    void findMembership_OversizedBoard_ShouldReadMemberRow() {
+        // given
+        properties.setMaxMembers(1);
+        BoardMember admin = member(adminId, BoardRole.ADMIN);
+        when(boardMemberRepository.findByBoardId(boardId))
+                .thenReturn(List.of(admin, member(viewerId, BoardRole.VIEWER)));
+        when(boardMemberRepository.findByBoardIdAndUserId(boardId, adminId)).thenReturn(Optional.of(admin));
+
+        // when
+        Optional<Membership> first = boardRosterCache.findMembership(boardId, adminId);
+        Optional<Membership> second = boardRosterCache.findMembership(boardId, adminId);
+
+        // then
+        assertThat(first).contains(new Membership(BoardRole.ADMIN, true));
+        assertThat(second).isEqualTo(first);
+        verify(boardMemberRepository, times(1)).findByBoardId(boardId);
+        verify(boardMemberRepository, times(2)).findByBoardIdAndUserId(boardId, adminId);
+    }
+
+    @Test
+    @DisplayName("보관하는 보드 수는 상한을 넘지 않는다")
+    void findMembership_ShouldKeepBoardCountBounded() {
+        // given
+        properties.setMaxBoards(2);
+        for (int i = 0; i < 5; i++) {
+            BoardId otherBoardId = new BoardId("board-" + i);
+            when(boardMemberRepository.findByBoardId(otherBoardId)).thenReturn(List.of());
+
+            // when
+            boardRosterCache.findMembership(otherBoardId, adminId);
+        }
+
+        // then
+        assertThat(boardRosterCache.cachedBoardCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("멤버가 수천 명인 보드도 모든 멤버를 찾을 수 있다")
+    void findMembership_LargeBoard_ShouldFindEveryMember() {
+        // given
+        List<BoardMember> members = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            members.add(member(new UserId("user-" + i), i % 2 == 0 ? BoardRole.MEMBER : BoardRole.VIEWER));
+        }
+        when(boardMemberRepository.findByBoardId(boardId)).thenReturn(members);
+
+        // when & then
+        for (int i = 0; i < 3_000; i++) {
+            assertThat(boardRosterCache.findMembership(boardId, new UserId("user-" + i)))
+                    .map(Membership::role)
+                    .contains(i % 2 == 0 ? BoardRole.MEMBER : BoardRole.VIEWER);
+        }
+        assertThat(boardRosterCache.findMembership(boardId, new UserId("user-3000"))).isEmpty();
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private BoardMember member(UserId userId, BoardRole role) {
+        return BoardMember.builder()
+                .memberId(new BoardMemberId())
+                .boardId(boardId)
+                .userId(userId)
+                .role(role)
+                .isActive(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
@@ -7,9 +7,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -31,21 +37,29 @@ import com.boardly.features.board.application.port.input.GetUserBoardsCommand;
 import com.boardly.features.board.application.port.input.RemoveBoardMemberCommand;
 import com.boardly.features.board.application.port.input.ToggleStarBoardCommand;
 import com.boardly.features.board.application.port.input.UpdateBoardCommand;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardInteractionService;
 import com.boardly.features.board.application.service.BoardManagementService;
 import com.boardly.features.board.application.service.BoardMemberService;
+import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.application.service.BoardQueryService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.board.infrastructure.config.BoardDetailCacheProperties;
 import com.boardly.features.board.presentation.request.CreateBoardRequest;
 import com.boardly.features.board.presentation.request.UpdateBoardRequest;
-import com.boardly.features.board.presentation.response.BoardDetailResponse;
 import com.boardly.features.board.presentation.response.BoardResponse;
+import com.boardly.features.board.presentation.response.StreamingBoardDetailResponse;
 import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.application.config.JacksonConfig;
 import com.boardly.shared.domain.common.Failure;
 import com.boardly.shared.presentation.ApiFailureHandler;
+import com.boardly.shared.presentation.RateLimit;
 import com.boardly.shared.presentation.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,6 +82,12 @@ class BoardControllerTest {
         @Mock
         private ApiFailureHandler failureHandler;
 
+        @Mock
+        private BoardPermissionService boardPermissionService;
+
+        private BoardDetailCache boardDetailCache;
+        private ObjectMapper objectMapper;
+
         @Mock
         private Jwt jwt;
 
@@ -81,12 +101,19 @@ class BoardControllerTest {
 
         @BeforeEach
         void setUp() {
+                BoardDetailCacheProperties boardDetailCacheProperties = new BoardDetailCacheProperties();
+                boardDetailCacheProperties.setEnabled(true);
+                boardDetailCache = new BoardDetailCache(boardDetailCacheProperties, new SimpleMeterRegistry());
+                objectMapper = new JacksonConfig().objectMapper();
                 boardController = new BoardController(
                                 boardManagementService,
                                 boardMemberService,
                                 boardQueryService,
                                 boardInteractionService,
-                                failureHandler);
+                                failureHandler,
+                                boardPermissionService,
+                                boardDetailCache,
+                                objectMapper);
 
                 when(jwt.getSubject()).thenReturn(TEST_USER_ID);
         }
@@ -111,12 +138,12 @@ class BoardControllerTest {
                                 List.of(),
                                 List.of(),
                                 List.of(),
-                                List.of(),
                                 Map.of(),
                                 Map.of(),
                                 Map.of(),
                                 Map.of(),
-                                List.of());
+                                Map.of(),
+                                Map.of());
         }
 
         @Test
@@ -186,6 +213,8 @@ class BoardControllerTest {
                                 new BoardId(TEST_BOARD_ID),
                                 new UserId(TEST_USER_ID));
 
+                when(boardPermissionService.getUserBoardRole(command.boardId(), command.userId()))
+                                .thenReturn(Either.left(Failure.ofPermissionDenied("보드 멤버가 아닙니다")));
                 when(boardQueryService.getBoardDetail(command))
                                 .thenReturn(Either.right(boardDetailDto));
 
@@ -194,13 +223,12 @@ class BoardControllerTest {
 
                 // then
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-                assertThat(response.getBody()).isInstanceOf(BoardDetailResponse.class);
+                assertThat(response.getBody()).isInstanceOf(StreamingBoardDetailResponse.class);
 
-                BoardDetailResponse boardDetailResponse = (BoardDetailResponse) response.getBody();
+                StreamingBoardDetailResponse boardDetailResponse = (StreamingBoardDetailResponse) response.getBody();
                 assertThat(boardDetailResponse).isNotNull();
                 if (boardDetailResponse != null) {
-                        assertThat(boardDetailResponse.boardId()).isEqualTo(TEST_BOARD_ID);
-                        assertThat(boardDetailResponse.boardName()).isEqualTo(TEST_TITLE);
+                        assertThat(boardDetailResponse.boardDetail()).isSameAs(boardDetailDto);
                 }
 
                 verify(boardQueryService).getBoardDetail(command);
@@ -217,6 +245,8 @@ class BoardControllerTest {
                                 new UserId(TEST_USER_ID));
                 ResponseEntity<ErrorResponse> expectedResponse = ResponseEntity.notFound().build();
 
+                when(boardPermissionService.getUserBoardRole(command.boardId(), command.userId()))
+                                .thenReturn(Either.left(failure));
                 when(boardQueryService.getBoardDetail(command))
                                 .thenReturn(Either.left(failure));
                 when(failureHandler.handleFailure(failure))
@@ -231,6 +261,83 @@ class BoardControllerTest {
                 verify(failureHandler).handleFailure(failure);
         }
 
+        @Test
+        @DisplayName("보드 멤버의 보드 상세 조회는 압축 응답을 캐시해 다음 요청에 재사용해야 한다")
+        void getBoardDetail_withMember_shouldServeCachedGzipResponse() throws Exception {
+                // given
+                BoardDetailDto boardDetailDto = createTestBoardDetailDto();
+                GetBoardDetailCommand command = new GetBoardDetailCommand(
+                                new BoardId(TEST_BOARD_ID),
+                                new UserId(TEST_USER_ID));
+
+                when(boardPermissionService.getUserBoardRole(command.boardId(), command.userId()))
+                                .thenReturn(Either.right(BoardRole.MEMBER));
+                when(boardQueryService.getBoardDetail(command))
+                                .thenReturn(Either.right(boardDetailDto));
+                when(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip, deflate, br");
+
+                // when
+                ResponseEntity<?> first = boardController.getBoardDetail(TEST_BOARD_ID, httpRequest, jwt);
+                ResponseEntity<?> second = boardController.getBoardDetail(TEST_BOARD_ID, httpRequest, jwt);
+
+                // then
+                String expectedJson = objectMapper.writeValueAsString(StreamingBoardDetailResponse.from(boardDetailDto));
+                assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+                byte[] firstBody = ((ByteArrayResource) first.getBody()).getByteArray();
+                assertThat(gunzip(firstBody)).isEqualTo(expectedJson);
+                assertThat(((ByteArrayResource) second.getBody()).getByteArray()).isSameAs(firstBody);
+                verify(boardQueryService, times(1)).getBoardDetail(command);
+        }
+
+        @Test
+        @DisplayName("gzip을 받지 않는 클라이언트에게는 캐시된 응답을 풀어서 보내야 한다")
+        void getBoardDetail_withoutGzipSupport_shouldReturnPlainJson() throws Exception {
+                // given
+                BoardDetailDto boardDetailDto = createTestBoardDetailDto();
+                GetBoardDetailCommand command = new GetBoardDetailCommand(
+                                new BoardId(TEST_BOARD_ID),
+                                new UserId(TEST_USER_ID));
+
+                when(boardPermissionService.getUserBoardRole(command.boardId(), command.userId()))
+                                .thenReturn(Either.right(null));
+                when(boardQueryService.getBoardDetail(command))
+                                .thenReturn(Either.right(boardDetailDto));
+
+                // when
+                ResponseEntity<?> response = boardController.getBoardDetail(TEST_BOARD_ID, httpRequest, jwt);
+
+                // then
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+                assertThat(new String(((Resource) response.getBody()).getInputStream().readAllBytes(),
+                                StandardCharsets.UTF_8))
+                                .isEqualTo(objectMapper.writeValueAsString(StreamingBoardDetailResponse.from(boardDetailDto)));
+                assertThat(boardDetailCache.find(command.boardId(), BoardRole.OWNER)).isPresent();
+        }
+
+        @Test
+        @DisplayName("요청 한도 확인에서 찾은 역할이 있으면 권한을 다시 조회하지 않아야 한다")
+        void getBoardDetail_withRoleFromRateLimit_shouldNotLookUpRoleAgain() {
+                // given
+                BoardDetailDto boardDetailDto = createTestBoardDetailDto();
+                GetBoardDetailCommand command = new GetBoardDetailCommand(
+                                new BoardId(TEST_BOARD_ID),
+                                new UserId(TEST_USER_ID));
+
+                when(httpRequest.getAttribute(RateLimit.BOARD_ROLE_ATTRIBUTE)).thenReturn("MEMBER");
+                when(boardQueryService.getBoardDetail(command))
+                                .thenReturn(Either.right(boardDetailDto));
+
+                // when
+                ResponseEntity<?> response = boardController.getBoardDetail(TEST_BOARD_ID, httpRequest, jwt);
+
+                // then
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(boardDetailCache.find(command.boardId(), BoardRole.MEMBER)).isPresent();
+                verify(boardPermissionService, never()).getUserBoardRole(any(), any());
+        }
+
         @Test
         @DisplayName("보드 생성 성공 시 201 응답을 반환해야 한다")
         void createBoard_withValidRequest_shouldReturn201() {
@@ -607,4 +714,10 @@ class BoardControllerTest {
                 // then
                 verify(boardQueryService).getUserBoards(expectedCommand);
         }
-}
\ No newline at end of file
+
+        private static String gunzip(byte[] gzipped) throws Exception {
+                try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                        return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+        }
+}
@@ -0,0 +1,128 @@
+package com.boardly.features.board.presentation.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boardly.features.board.application.dto.BoardDetailDto;
+import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.domain.model.BoardMember;
+import com.boardly.features.board.domain.model.BoardRole;
+import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.CardPriority;
+import com.boardly.features.card.domain.valueobject.CardMember;
+import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelId;
+import com.boardly.features.user.domain.model.User;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.features.user.domain.model.UserProfile;
+import com.boardly.shared.application.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("StreamingBoardDetailResponse 테스트")
+class StreamingBoardDetailResponseTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+    }
+
+    @Test
+    @DisplayName("스트리밍 직렬화 결과는 BoardDetailResponse 직렬화 결과와 같다")
+    void serialize_ShouldMatchBoardDetailResponse() throws Exception {
+        // given
+        BoardDetailDto detail = createBoardDetail();
+
+        // when
+        String expected = objectMapper.writeValueAsString(BoardDetailResponse.from(detail));
+        String actual = objectMapper.writeValueAsString(StreamingBoardDetailResponse.from(detail));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("카드가 없는 보드도 같은 형식으로 직렬화한다")
+    void serialize_EmptyBoard_ShouldMatchBoardDetailResponse() throws Exception {
+        // given
+        User owner = user("owner");
+        Board board = Board.create("빈 보드", null, owner.getUserId());
+        BoardDetailDto detail = BoardDetailDto.of(board, List.of(), List.of(), List.of(), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        // when
+        String expected = objectMapper.writeValueAsString(BoardDetailResponse.from(detail));
+        String actual = objectMapper.writeValueAsString(StreamingBoardDetailResponse.from(detail));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * 정렬되지 않은 카드, 카드가 없는 리스트, 카탈로그에 없는 라벨, 사용자 정보가 없는 담당자를 포함한 보드
+     */
+    private BoardDetailDto createBoardDetail() {
+        User owner = user("owner");
+        User member = user("member");
+        Map<UserId, User> users = new HashMap<>();
+        users.put(owner.getUserId(), owner);
+        users.put(member.getUserId(), member);
+
+        Board board = Board.create("로드맵", "분기 목표", owner.getUserId());
+        BoardMember ownerMember = BoardMember.create(board.getBoardId(), owner.getUserId(), BoardRole.OWNER);
+        BoardMember viewerMember = BoardMember.create(board.getBoardId(), member.getUserId(), BoardRole.VIEWER);
+
+        Label bug = Label.create(board.getBoardId(), "bug", "#eb5a46");
+        Label feature = Label.create(board.getBoardId(), "feature", "#61bd4f");
+
+        BoardList doing = BoardList.create("진행 중", 1, board.getBoardId());
+        BoardList todo = BoardList.create("할 일", 0, board.getBoardId());
+        BoardList done = BoardList.create("완료", 2, board.getBoardId());
+
+        Card second = Card.create("두 번째", "설명", 1, todo.getListId(), owner.getUserId());
+        second.setPriority(CardPriority.HIGH);
+        second.setDueDate(Instant.parse("2026-01-15T10:30:45.123Z"));
+        Card first = Card.create("첫 번째", null, 0, todo.getListId(), owner.getUserId());
+        first.setStartDate(Instant.parse("2026-01-01T00:00:00Z"));
+        first.complete();
+        Card inProgress = Card.create("진행 카드", "\"따옴표\"와 줄바꿈\n", 0, doing.getListId(), member.getUserId());
+        inProgress.archive();
+
+        Map<ListId, List<Card>> cards = new HashMap<>();
+        cards.put(todo.getListId(), new ArrayList<>(List.of(second, first)));
+        cards.put(doing.getListId(), List.of(inProgress));
+
+        Map<CardId, List<CardMember>> cardMembers = new HashMap<>();
+        cardMembers.put(second.getCardId(), List.of(
+                new CardMember(owner.getUserId()),
+                new CardMember(new UserId("deleted-user"))));
+        cardMembers.put(inProgress.getCardId(), List.of(new CardMember(member.getUserId())));
+
+        Map<CardId, List<LabelId>> cardLabels = new HashMap<>();
+        cardLabels.put(second.getCardId(), List.of(feature.getLabelId(), new LabelId("unknown-label")));
+        cardLabels.put(first.getCardId(), List.of(bug.getLabelId()));
+
+        Map<CardId, Integer> commentCounts = Map.of(second.getCardId(), 3);
+        Map<CardId, Integer> attachmentCounts = Map.of(inProgress.getCardId(), 1);
+
+        return BoardDetailDto.of(board, List.of(doing, todo, done), List.of(ownerMember, viewerMember),
+                List.of(bug, feature), cards, cardMembers, cardLabels, commentCounts, attachmentCounts, users);
+    }
+
+    private User user(String name) {
+        return User.create(name + "@boardly.dev", "{noop}password", new UserProfile(name, "김"));
+    }
+}
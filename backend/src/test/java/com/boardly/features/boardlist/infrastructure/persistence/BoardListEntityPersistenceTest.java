@@ -0,0 +1,94 @@
+package com.boardly.features.boardlist.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.shared.infrastructure.metrics.SqlStatementRecording;
+import com.boardly.shared.infrastructure.persistence.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-list-entity;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.boardly.shared.infrastructure.metrics.CountingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JpaConfig.class, BoardListRepositoryImpl.class, BoardListMapper.class })
+@DisplayName("BoardListEntity 영속성 테스트")
+class BoardListEntityPersistenceTest {
+
+    @Autowired
+    private BoardListRepositoryImpl boardListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 개발용 더미 데이터의 색상은 팔레트 밖이라 읽을 때 기본 색으로 바뀌므로 팔레트 색으로 맞춰 둡니다
+        jdbcTemplate.update("UPDATE board_lists SET color = '#0079BF' WHERE list_id = 'list-1'");
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 조회한 리스트의 제목만 바꾸면 다시 조회하지 않고 제목만 UPDATE 한다")
+    void save_WithTitleChange_ShouldIssueOneNarrowUpdate() {
+        // given
+        BoardList boardList = boardListRepository.findById(new ListId("list-1")).orElseThrow();
+        boardList.updateTitle("새 백로그");
+
+        // when
+        List<String> statements = recordSaveAndFlush(boardList);
+
+        // then
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0))
+                .startsWith("update board_lists set ")
+                .contains("title=?", "updated_at=?", "version=?")
+                .doesNotContain("description=?", "position=?", "color=?")
+                .endsWith("where list_id=? and version=?");
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 아무 SQL도 실행하지 않는다")
+    void save_WithoutChanges_ShouldIssueNoStatement() {
+        // given
+        BoardList boardList = boardListRepository.findById(new ListId("list-1")).orElseThrow();
+
+        // when
+        List<String> statements = recordSaveAndFlush(boardList);
+
+        // then
+        assertThat(statements).isEmpty();
+    }
+
+    /**
+     * 저장과 플러시 사이에 실행된 SQL을 실행 횟수만큼 돌려줍니다.
+     */
+    private List<String> recordSaveAndFlush(BoardList boardList) {
+        try (SqlStatementRecording recording = SqlStatementRecording.start(false)) {
+            boardListRepository.save(boardList);
+            entityManager.flush();
+            return recording.repeatedStatements(1).stream()
+                    .flatMap(statement -> Collections.nCopies(statement.count(), statement.sql()).stream())
+                    .toList();
+        }
+    }
+}
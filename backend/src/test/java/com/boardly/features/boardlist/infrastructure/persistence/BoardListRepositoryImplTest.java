@@ -0,0 +1,167 @@
+package com.boardly.features.boardlist.infrastructure.persistence;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.BoardList;
+import com.boardly.features.boardlist.domain.model.ListId;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BoardListRepositoryImpl 리스트 수 카운터 테스트")
+class BoardListRepositoryImplTest {
+
+    @Mock
+    private BoardListJpaRepository boardListJpaRepository;
+
+    @Mock
+    private BoardListMapper boardListMapper;
+
+    @InjectMocks
+    private BoardListRepositoryImpl boardListRepository;
+
+    private static BoardListEntity entity(BoardList boardList) {
+        return BoardListEntity.builder()
+                .listId(boardList.getListId().getId())
+                .title(boardList.getTitle())
+                .description("")
+                .position(boardList.getPosition())
+                .boardId(boardList.getBoardId().getId())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private void givenNewList(BoardList boardList) {
+        BoardListEntity saved = entity(boardList);
+        when(boardListJpaRepository.findById(boardList.getListId().getId())).thenReturn(Optional.empty());
+        when(boardListMapper.toEntity(boardList)).thenReturn(saved);
+        when(boardListJpaRepository.save(saved)).thenReturn(saved);
+        when(boardListMapper.toDomain(saved)).thenReturn(boardList);
+    }
+
+    @Test
+    @DisplayName("새 리스트를 저장하면 보드 리스트 수를 1 늘린다")
+    void save_NewList_ShouldIncrementBoardCount() {
+        // given
+        BoardList boardList = BoardList.create("할 일", 0, new BoardId("board-1"));
+        givenNewList(boardList);
+
+        // when
+        boardListRepository.save(boardList);
+
+        // then
+        verify(boardListJpaRepository).adjustListCount("board-1", 1);
+    }
+
+    @Test
+    @DisplayName("기존 리스트를 저장하면 보드 리스트 수를 건드리지 않는다")
+    void save_ExistingList_ShouldNotTouchCount() {
+        // given
+        BoardList boardList = BoardList.create("할 일", 0, new BoardId("board-1"));
+        BoardListEntity existing = entity(boardList);
+        when(boardListJpaRepository.findById(boardList.getListId().getId())).thenReturn(Optional.of(existing));
+        when(boardListMapper.toDomain(existing)).thenReturn(boardList);
+
+        // when
+        boardListRepository.save(boardList);
+
+        // then
+        verify(boardListJpaRepository, never()).save(any());
+        verify(boardListJpaRepository, never()).adjustListCount(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 리스트를 함께 저장하면 보드별 새 리스트 수를 합쳐 한 번씩 반영한다")
+    void saveAll_ShouldAggregateNewListsPerBoard() {
+        // given: 보드 복제처럼 board-2에 새 리스트 2개, board-1에 1개
+        BoardList first = BoardList.create("할 일", 0, new BoardId("board-2"));
+        BoardList second = BoardList.create("진행 중", 1, new BoardId("board-2"));
+        BoardList third = BoardList.create("완료", 0, new BoardId("board-1"));
+        givenNewList(first);
+        givenNewList(second);
+        givenNewList(third);
+
+        // when
+        boardListRepository.saveAll(List.of(first, second, third));
+
+        // then
+        verify(boardListJpaRepository).adjustListCount("board-2", 2);
+        verify(boardListJpaRepository).adjustListCount("board-1", 1);
+    }
+
+    @Test
+    @DisplayName("리스트를 ID로 삭제하면 보드 리스트 수를 1 줄인다")
+    void deleteById_ShouldDecrementBoardCount() {
+        // given
+        when(boardListJpaRepository.findBoardIdByListId("list-1")).thenReturn(Optional.of("board-1"));
+
+        // when
+        boardListRepository.deleteById(new ListId("list-1"));
+
+        // then
+        verify(boardListJpaRepository).deleteById("list-1");
+        verify(boardListJpaRepository).adjustListCount("board-1", -1);
+    }
+
+    @Test
+    @DisplayName("리스트 엔티티를 삭제하면 보드 리스트 수를 1 줄인다")
+    void delete_ShouldDecrementBoardCount() {
+        // given
+        BoardList boardList = BoardList.create("할 일", 0, new BoardId("board-1"));
+        BoardListEntity entity = entity(boardList);
+        when(boardListJpaRepository.findBoardIdByListId(boardList.getListId().getId()))
+                .thenReturn(Optional.of("board-1"));
+        when(boardListMapper.toEntity(boardList)).thenReturn(entity);
+
+        // when
+        boardListRepository.delete(boardList);
+
+        // then
+        verify(boardListJpaRepository).delete(entity);
+        verify(boardListJpaRepository).adjustListCount("board-1", -1);
+    }
+
+    @Test
+    @DisplayName("이미 없는 리스트를 삭제하면 보드 리스트 수를 건드리지 않는다")
+    void deleteById_Missing_ShouldNotTouchCount() {
+        // given
+        when(boardListJpaRepository.findBoardIdByListId("list-1")).thenReturn(Optional.empty());
+
+        // when
+        boardListRepository.deleteById(new ListId("list-1"));
+
+        // then
+        verify(boardListJpaRepository, never()).deleteById(anyString());
+        verify(boardListJpaRepository, never()).adjustListCount(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("보드의 리스트를 모두 삭제하면 보드 리스트 수를 0으로 맞춘다")
+    void deleteByBoardId_ShouldResetBoardCount() {
+        // when
+        boardListRepository.deleteByBoardId(new BoardId("board-1"));
+
+        // then
+        verify(boardListJpaRepository).deleteByBoardId("board-1");
+        verify(boardListJpaRepository).resetListCount("board-1");
+    }
+}
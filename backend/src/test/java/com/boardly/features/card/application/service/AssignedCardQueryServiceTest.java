@@ -0,0 +1,161 @@
+package com.boardly.features.card.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.input.AssignedCardFilter;
+import com.boardly.features.card.application.port.input.GetAssignedCardsQuery;
+import com.boardly.features.card.application.port.output.AssignedCardQueryPort;
+import com.boardly.features.card.application.port.output.AssignedCardQueryPort.Cursor;
+import com.boardly.features.card.domain.model.AssignedCard;
+import com.boardly.features.card.domain.model.AssignedCardPage;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AssignedCardQueryService 테스트")
+class AssignedCardQueryServiceTest {
+
+    @Mock
+    private AssignedCardQueryPort assignedCardQueryPort;
+
+    @Mock
+    private ValidationMessageResolver validationMessageResolver;
+
+    @InjectMocks
+    private AssignedCardQueryService assignedCardQueryService;
+
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new UserId("user-123");
+        when(validationMessageResolver.getMessage(anyString())).thenReturn("입력 데이터가 올바르지 않습니다");
+    }
+
+    private List<AssignedCard> rows(int count) {
+        List<AssignedCard> rows = new ArrayList<>();
+        Instant assignedAt = Instant.parse("2026-10-18T12:00:00Z");
+        for (int i = 0; i < count; i++) {
+            rows.add(new AssignedCard(100L - i, assignedAt.minusSeconds(i), new CardId("card-" + i), "카드 " + i,
+                    new ListId("list-1"), "할 일", new BoardId("board-1"), "테스트 보드", null, null, false));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 한 행 더 읽어 다음 페이지가 있으면 마지막 행 위치를 커서로 돌려준다")
+    void getAssignedCards_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // given
+        when(assignedCardQueryPort.findAssignedCards(eq(userId), eq(AssignedCardFilter.ALL), any(), isNull(), eq(3)))
+                .thenReturn(rows(3));
+
+        // when
+        Either<Failure, AssignedCardPage> result = assignedCardQueryService
+                .getAssignedCards(new GetAssignedCardsQuery(userId, null, null, 2));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get().cards()).hasSize(2);
+        assertThat(result.get().hasNext()).isTrue();
+        assertThat(AssignedCardQueryService.decodeCursor(result.get().nextCursor()))
+                .contains(new Cursor(Instant.parse("2026-10-18T11:59:59Z"), 99L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 커서를 돌려주지 않는다")
+    void getAssignedCards_WhenLastPage_ShouldNotReturnCursor() {
+        // given
+        when(assignedCardQueryPort.findAssignedCards(any(), any(), any(), any(), anyInt())).thenReturn(rows(1));
+
+        // when
+        Either<Failure, AssignedCardPage> result = assignedCardQueryService
+                .getAssignedCards(new GetAssignedCardsQuery(userId, "incomplete", null, 2));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get().hasNext()).isFalse();
+        verify(assignedCardQueryPort).findAssignedCards(eq(userId), eq(AssignedCardFilter.INCOMPLETE), any(),
+                isNull(), eq(3));
+    }
+
+    @Test
+    @DisplayName("받은 커서의 위치 다음부터 조회한다")
+    void getAssignedCards_WithCursor_ShouldContinueAfterPosition() {
+        // given
+        AssignedCard last = rows(1).get(0);
+        String cursor = AssignedCardQueryService.encodeCursor(last);
+        when(assignedCardQueryPort.findAssignedCards(any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // when
+        assignedCardQueryService.getAssignedCards(new GetAssignedCardsQuery(userId, "due-this-week", cursor, null));
+
+        // then
+        verify(assignedCardQueryPort).findAssignedCards(eq(userId), eq(AssignedCardFilter.DUE_THIS_WEEK), any(),
+                eq(new Cursor(last.assignedAt(), last.assignmentId())),
+                eq(AssignedCardQueryService.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필터는 입력 오류를 반환한다")
+    void getAssignedCards_WithUnknownFilter_ShouldReturnInputError() {
+        // when
+        Either<Failure, AssignedCardPage> result = assignedCardQueryService
+                .getAssignedCards(new GetAssignedCardsQuery(userId, "someday", null, null));
+
+        // then
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft()).isInstanceOf(Failure.InputError.class);
+        verify(assignedCardQueryPort, never()).findAssignedCards(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 입력 오류를 반환한다")
+    void getAssignedCards_WithMalformedCursor_ShouldReturnInputError() {
+        // when
+        Either<Failure, AssignedCardPage> result = assignedCardQueryService
+                .getAssignedCards(new GetAssignedCardsQuery(userId, null, "not-a-cursor", null));
+
+        // then
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft()).isInstanceOf(Failure.InputError.class);
+        verify(assignedCardQueryPort, never()).findAssignedCards(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 기본값과 최대값으로 맞춘다")
+    void pageSize_ShouldApplyDefaultAndMaximum() {
+        assertThat(AssignedCardQueryService.pageSize(null)).isEqualTo(AssignedCardQueryService.DEFAULT_PAGE_SIZE);
+        assertThat(AssignedCardQueryService.pageSize(0)).isEqualTo(AssignedCardQueryService.DEFAULT_PAGE_SIZE);
+        assertThat(AssignedCardQueryService.pageSize(500)).isEqualTo(AssignedCardQueryService.MAX_PAGE_SIZE);
+        assertThat(AssignedCardQueryService.pageSize(30)).isEqualTo(30);
+    }
+}
@@ -0,0 +1,154 @@
+package com.boardly.features.card.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.boardly.features.activity.application.helper.ActivityHelper;
+import com.boardly.features.activity.domain.model.ActivityType;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.application.port.output.CardDueReminderPort;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
+import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.user.domain.model.UserId;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CardDueReminderService 테스트")
+class CardDueReminderServiceTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardAncestryPort cardAncestryPort;
+
+    @Mock
+    private CardDueReminderPort cardDueReminderPort;
+
+    @Mock
+    private ActivityHelper activityHelper;
+
+    @InjectMocks
+    private CardDueReminderService cardDueReminderService;
+
+    private CardId cardId;
+    private ListId listId;
+    private BoardId boardId;
+    private UserId creatorId;
+    private Instant dueDate;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        cardId = new CardId("card-123");
+        listId = new ListId("list-123");
+        boardId = new BoardId("board-123");
+        creatorId = new UserId("user-123");
+        dueDate = Instant.parse("2026-10-19T09:00:00Z");
+
+        card = mock(Card.class);
+        when(card.getCardId()).thenReturn(cardId);
+        when(card.getTitle()).thenReturn("보고서 제출");
+        when(card.getListId()).thenReturn(listId);
+        when(card.getDueDate()).thenReturn(dueDate);
+        when(card.getCreatedBy()).thenReturn(creatorId);
+        when(card.getAssignedMembers()).thenReturn(Set.of());
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(
+                new ListAncestry(listId, "할 일", boardId, "테스트 보드", creatorId, false)));
+    }
+
+    @Test
+    @DisplayName("발송 기록에 성공하면 카드 생성자 이름으로 마감 알림 활동을 남긴다")
+    void remind_WhenMarked_ShouldLogDueReminderActivity() {
+        // given
+        when(cardDueReminderPort.markReminded(cardId, dueDate)).thenReturn(true);
+
+        // when
+        boolean result = cardDueReminderService.remind(cardId, dueDate);
+
+        // then
+        assertThat(result).isTrue();
+        verify(activityHelper).logCardActivity(eq(ActivityType.CARD_DUE_REMINDER), eq(creatorId), anyMap(),
+                eq("테스트 보드"), eq(boardId), eq(listId), eq(cardId));
+    }
+
+    @Test
+    @DisplayName("예약 후 마감일이 바뀌었으면 보내지 않는다")
+    void remind_WhenDueDateChanged_ShouldSkip() {
+        // when
+        boolean result = cardDueReminderService.remind(cardId, dueDate.minusSeconds(3600));
+
+        // then
+        assertThat(result).isFalse();
+        verify(cardDueReminderPort, never()).markReminded(any(), any());
+        verify(activityHelper, never()).logCardActivity(any(), any(), anyMap(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("완료된 카드에는 보내지 않는다")
+    void remind_WhenCompleted_ShouldSkip() {
+        // given
+        when(card.isCompleted()).thenReturn(true);
+
+        // when
+        boolean result = cardDueReminderService.remind(cardId, dueDate);
+
+        // then
+        assertThat(result).isFalse();
+        verify(cardDueReminderPort, never()).markReminded(any(), any());
+    }
+
+    @Test
+    @DisplayName("아카이브된 보드의 카드에는 보내지 않는다")
+    void remind_WhenBoardArchived_ShouldSkip() {
+        // given
+        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(
+                new ListAncestry(listId, "할 일", boardId, "테스트 보드", creatorId, true)));
+
+        // when
+        boolean result = cardDueReminderService.remind(cardId, dueDate);
+
+        // then
+        assertThat(result).isFalse();
+        verify(cardDueReminderPort, never()).markReminded(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 보냈으면 활동을 남기지 않는다")
+    void remind_WhenAlreadyMarked_ShouldNotLogActivity() {
+        // given
+        when(cardDueReminderPort.markReminded(cardId, dueDate)).thenReturn(false);
+
+        // when
+        boolean result = cardDueReminderService.remind(cardId, dueDate);
+
+        // then
+        assertThat(result).isFalse();
+        verify(activityHelper, never()).logCardActivity(any(), any(), anyMap(), any(), any(), any(), any());
+    }
+}
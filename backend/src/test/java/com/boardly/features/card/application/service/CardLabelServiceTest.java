@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -35,7 +36,9 @@ import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.repository.CardLabelRepository;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.label.application.service.LabelCatalogFinder;
 import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelCatalog;
 import com.boardly.features.label.domain.model.LabelId;
 import com.boardly.features.label.domain.repository.LabelRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -73,6 +76,9 @@ class CardLabelServiceTest {
         @Mock
         private BoardListRepository boardListRepository;
 
+        @Mock
+        private LabelCatalogFinder labelCatalogFinder;
+
         private CardLabelService cardLabelService;
 
         @BeforeEach
@@ -85,7 +91,8 @@ class CardLabelServiceTest {
                                 cardLabelRepository,
                                 activityHelper,
                                 boardRepository,
-                                boardListRepository);
+                                boardListRepository,
+                                labelCatalogFinder);
 
                 // 공통으로 사용되는 메시지 설정
                 lenient().when(messageResolver.getMessage("validation.card.label.add.validation"))
@@ -559,14 +566,18 @@ class CardLabelServiceTest {
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
                         when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
                         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(cardLabelRepository.findLabelsByCardId(cardId)).thenReturn(expectedLabels);
+                        when(cardLabelRepository.findLabelIdsByCardId(cardId))
+                                        .thenReturn(List.of(new LabelId("label-2"), new LabelId("label-1")));
+                        when(labelCatalogFinder.findByBoardId(boardId))
+                                        .thenReturn(LabelCatalog.of(boardId, expectedLabels));
 
                         // when
                         List<Label> result = cardLabelService.getCardLabels(cardId, userId);
 
                         // then
-                        assertThat(result).isEqualTo(expectedLabels);
-                        verify(cardLabelRepository).findLabelsByCardId(cardId);
+                        assertThat(result).containsExactly(expectedLabels.get(1), expectedLabels.get(0));
+                        verify(cardLabelRepository).findLabelIdsByCardId(cardId);
+                        verify(cardLabelRepository, never()).findLabelsByCardId(any());
                 }
 
                 @Test
@@ -644,14 +655,15 @@ class CardLabelServiceTest {
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
                         when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
                         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(cardLabelRepository.findLabelsByCardId(cardId)).thenReturn(List.of());
+                        when(cardLabelRepository.findLabelIdsByCardId(cardId)).thenReturn(List.of());
 
                         // when
                         List<Label> result = cardLabelService.getCardLabels(cardId, userId);
 
                         // then
                         assertThat(result).isEmpty();
-                        verify(cardLabelRepository).findLabelsByCardId(cardId);
+                        verify(cardLabelRepository).findLabelIdsByCardId(cardId);
+                        verifyNoInteractions(labelCatalogFinder);
                 }
         }
 
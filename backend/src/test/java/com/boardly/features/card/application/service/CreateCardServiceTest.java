@@ -23,17 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.CloneCardCommand;
 import com.boardly.features.card.application.port.input.CreateCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.policy.CardClonePolicy;
 import com.boardly.features.card.domain.policy.CardCreationPolicy;
 import com.boardly.features.card.domain.repository.CardRepository;
@@ -61,10 +59,7 @@ class CreateCardServiceTest {
         private CardRepository cardRepository;
 
         @Mock
-        private BoardListRepository boardListRepository;
-
-        @Mock
-        private BoardRepository boardRepository;
+        private CardAncestryPort cardAncestryPort;
 
         @Mock
         private ValidationMessageResolver validationMessageResolver;
@@ -81,8 +76,7 @@ class CreateCardServiceTest {
                                 cardCreationPolicy,
                                 cardClonePolicy,
                                 cardRepository,
-                                boardListRepository,
-                                boardRepository,
+                                cardAncestryPort,
                                 validationMessageResolver,
                                 activityHelper);
 
@@ -110,8 +104,7 @@ class CreateCardServiceTest {
         class CreateCardTest {
 
                 private CreateCardCommand validCommand;
-                private BoardList boardList;
-                private Board board;
+                private ListAncestry list;
                 private Card createdCard;
                 private UserId userId;
                 private ListId listId;
@@ -129,15 +122,7 @@ class CreateCardServiceTest {
                                         listId,
                                         userId);
 
-                        boardList = BoardList.create(
-                                        "테스트 리스트",
-                                        0,
-                                        boardId);
-
-                        board = Board.create(
-                                        "테스트 보드",
-                                        "테스트 보드 설명",
-                                        userId);
+                        list = new ListAncestry(listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
                         createdCard = Card.create(
                                         "테스트 카드",
@@ -153,10 +138,8 @@ class CreateCardServiceTest {
                         // given
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(list));
                         when(cardCreationPolicy.canCreateCard(listId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(listId))
@@ -173,8 +156,7 @@ class CreateCardServiceTest {
 
                         // 검증
                         verify(cardValidator).validateCreate(validCommand);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verify(cardCreationPolicy).canCreateCard(listId);
                         verify(cardRepository).findMaxPositionByListId(listId);
                         verify(cardRepository).save(any(Card.class));
@@ -182,7 +164,7 @@ class CreateCardServiceTest {
                                         eq(userId),
                                         eq("테스트 리스트"),
                                         eq("테스트 카드"),
-                                        any(String.class), // boardName
+                                        eq("테스트 보드"),
                                         eq(boardId),
                                         eq(listId),
                                         eq(createdCard.getCardId()));
@@ -219,7 +201,7 @@ class CreateCardServiceTest {
                         assertThat(inputError.getMessage()).isEqualTo("입력값이 유효하지 않습니다.");
 
                         // 다른 메서드들이 호출되지 않았는지 확인
-                        verifyNoInteractions(boardListRepository, boardRepository, cardCreationPolicy,
+                        verifyNoInteractions(cardAncestryPort, cardCreationPolicy,
                                         cardRepository, activityHelper);
                 }
 
@@ -229,7 +211,7 @@ class CreateCardServiceTest {
                         // given
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
+                        when(cardAncestryPort.findByListId(listId))
                                         .thenReturn(Optional.empty());
 
                         // when
@@ -243,7 +225,7 @@ class CreateCardServiceTest {
                         assertThat(notFound.getMessage()).isEqualTo("리스트를 찾을 수 없습니다.");
 
                         // 다른 메서드들이 호출되지 않았는지 확인
-                        verifyNoInteractions(boardRepository, cardCreationPolicy, cardRepository, activityHelper);
+                        verifyNoInteractions(cardCreationPolicy, cardRepository, activityHelper);
                 }
 
                 @Test
@@ -252,10 +234,9 @@ class CreateCardServiceTest {
                         // given
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(
+                                                        new ListAncestry(listId, "테스트 리스트", boardId, "테스트 보드", new UserId("other-user"), false)));
 
                         // when
                         Either<Failure, Card> result = createCardService.createCard(validCommand);
@@ -275,21 +256,12 @@ class CreateCardServiceTest {
                 @DisplayName("아카이브된 보드에 카드 생성 시도 시 실패를 반환한다")
                 void shouldReturnFailureWhenBoardIsArchived() {
                         // given
-                        Board archivedBoard = Board.builder()
-                                        .boardId(boardId)
-                                        .title("아카이브된 보드")
-                                        .description("아카이브된 보드")
-                                        .isArchived(true)
-                                        .ownerId(userId)
-                                        .isStarred(false)
-                                        .build();
+                        ListAncestry archivedList = new ListAncestry(listId, "테스트 리스트", boardId, "아카이브된 보드", userId, true);
 
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(archivedBoard));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(archivedList));
 
                         // when
                         Either<Failure, Card> result = createCardService.createCard(validCommand);
@@ -314,10 +286,8 @@ class CreateCardServiceTest {
 
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(list));
                         when(cardCreationPolicy.canCreateCard(listId))
                                         .thenReturn(Either.left(policyFailure));
 
@@ -340,10 +310,8 @@ class CreateCardServiceTest {
 
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(list));
                         when(cardCreationPolicy.canCreateCard(listId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(listId))
@@ -368,10 +336,8 @@ class CreateCardServiceTest {
                         // given
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(list));
                         when(cardCreationPolicy.canCreateCard(listId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(listId))
@@ -395,10 +361,8 @@ class CreateCardServiceTest {
                         int existingMaxPosition = 10;
                         when(cardValidator.validateCreate(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(list));
                         when(cardCreationPolicy.canCreateCard(listId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(listId))
@@ -422,8 +386,8 @@ class CreateCardServiceTest {
 
                 private CloneCardCommand validCommand;
                 private Card originalCard;
-                private BoardList sourceBoardList;
-                private Board sourceBoard;
+                private ListAncestry sourceList;
+                private ListAncestry targetList;
                 private Card clonedCard;
                 private UserId userId;
                 private CardId cardId;
@@ -452,15 +416,8 @@ class CreateCardServiceTest {
                                         sourceListId,
                                         userId);
 
-                        sourceBoardList = BoardList.create(
-                                        "소스 리스트",
-                                        0,
-                                        boardId);
-
-                        sourceBoard = Board.create(
-                                        "소스 보드",
-                                        "소스 보드 설명",
-                                        userId);
+                        sourceList = new ListAncestry(sourceListId, "소스 리스트", boardId, "소스 보드", userId, false);
+                        targetList = new ListAncestry(targetListId, "대상 리스트", boardId, "소스 보드", userId, false);
 
                         clonedCard = Card.create(
                                         "복제된 카드",
@@ -479,21 +436,16 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard));
-                        when(boardListRepository.findById(targetListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
+                        when(cardAncestryPort.findByListId(targetListId))
+                                        .thenReturn(Optional.of(targetList));
                         when(cardClonePolicy.canCloneToAnotherList(originalCard, targetListId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(targetListId))
                                         .thenReturn(Optional.of(5));
                         when(cardRepository.save(any(Card.class)))
                                         .thenReturn(Either.right(clonedCard));
-                        // logCardDuplicateActivity에서 사용하는 boardListRepository 호출에 대한 mock 설정
-                        when(boardListRepository.findById(clonedCard.getListId()))
-                                        .thenReturn(Optional.of(sourceBoardList));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(validCommand);
@@ -505,9 +457,9 @@ class CreateCardServiceTest {
                         // 검증
                         verify(cardValidator).validateClone(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository, times(3)).findById(any()); // sourceListId, targetListId,
-                                                                               // clonedCard.getListId()
-                        verify(boardRepository, times(2)).findByIdAndOwnerId(boardId, userId); // source, target
+                        verify(cardAncestryPort).findByListId(sourceListId);
+                        verify(cardAncestryPort).findByListId(targetListId);
+                        verify(cardAncestryPort, times(2)).findByListId(any()); // 활동 로그는 검증 결과를 재사용
                         verify(cardClonePolicy).canCloneToAnotherList(originalCard, targetListId);
                         verify(cardRepository).findMaxPositionByListId(targetListId);
                         verify(cardRepository).save(any(Card.class));
@@ -515,7 +467,7 @@ class CreateCardServiceTest {
                                         eq(ActivityType.CARD_DUPLICATE),
                                         eq(userId),
                                         any(Map.class),
-                                        any(String.class), // boardName
+                                        eq("소스 보드"),
                                         eq(boardId),
                                         eq(targetListId),
                                         eq(clonedCard.getCardId()));
@@ -535,19 +487,14 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(sameListCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
                         when(cardClonePolicy.canCloneWithinSameList(originalCard))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(sourceListId))
                                         .thenReturn(Optional.of(5));
                         when(cardRepository.save(any(Card.class)))
                                         .thenReturn(Either.right(clonedCard));
-                        // logCardDuplicateActivity에서 사용하는 boardListRepository 호출에 대한 mock 설정
-                        when(boardListRepository.findById(clonedCard.getListId()))
-                                        .thenReturn(Optional.of(sourceBoardList));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(sameListCommand);
@@ -591,7 +538,7 @@ class CreateCardServiceTest {
                         assertThat(inputError.getMessage()).isEqualTo("입력값이 유효하지 않습니다.");
 
                         // 다른 메서드들이 호출되지 않았는지 확인
-                        verifyNoInteractions(cardRepository, boardListRepository, boardRepository,
+                        verifyNoInteractions(cardRepository, cardAncestryPort,
                                         cardClonePolicy, activityHelper);
                 }
 
@@ -615,7 +562,7 @@ class CreateCardServiceTest {
                         assertThat(notFound.getMessage()).isEqualTo("복제할 카드를 찾을 수 없습니다.");
 
                         // 다른 메서드들이 호출되지 않았는지 확인
-                        verifyNoInteractions(boardListRepository, boardRepository, cardClonePolicy,
+                        verifyNoInteractions(cardAncestryPort, cardClonePolicy,
                                         activityHelper);
                 }
 
@@ -627,10 +574,9 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(
+                                                        new ListAncestry(sourceListId, "소스 리스트", boardId, "소스 보드", new UserId("other-user"), false)));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(validCommand);
@@ -654,13 +600,11 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard)) // 첫 번째 호출 (원본 카드)
-                                        .thenReturn(Optional.empty()); // 두 번째 호출 (대상 리스트)
-                        when(boardListRepository.findById(targetListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
+                        when(cardAncestryPort.findByListId(targetListId))
+                                        .thenReturn(Optional.of(
+                                                        new ListAncestry(targetListId, "대상 리스트", boardId, "대상 보드", new UserId("other-user"), false)));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(validCommand);
@@ -680,23 +624,14 @@ class CreateCardServiceTest {
                 @DisplayName("아카이브된 보드에서 카드 복제 시도 시 실패를 반환한다")
                 void shouldReturnFailureWhenSourceBoardIsArchived() {
                         // given
-                        Board archivedBoard = Board.builder()
-                                        .boardId(boardId)
-                                        .title("아카이브된 보드")
-                                        .description("아카이브된 보드")
-                                        .isArchived(true)
-                                        .ownerId(userId)
-                                        .isStarred(false)
-                                        .build();
+                        ListAncestry archivedList = new ListAncestry(sourceListId, "소스 리스트", boardId, "아카이브된 보드", userId, true);
 
                         when(cardValidator.validateClone(validCommand))
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(archivedBoard));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(archivedList));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(validCommand);
@@ -723,12 +658,10 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard));
-                        when(boardListRepository.findById(targetListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
+                        when(cardAncestryPort.findByListId(targetListId))
+                                        .thenReturn(Optional.of(targetList));
                         when(cardClonePolicy.canCloneToAnotherList(originalCard, targetListId))
                                         .thenReturn(Either.left(policyFailure));
 
@@ -753,12 +686,10 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(validCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard));
-                        when(boardListRepository.findById(targetListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
+                        when(cardAncestryPort.findByListId(targetListId))
+                                        .thenReturn(Optional.of(targetList));
                         when(cardClonePolicy.canCloneToAnotherList(originalCard, targetListId))
                                         .thenReturn(Either.right(null));
                         when(cardRepository.findMaxPositionByListId(targetListId))
@@ -789,10 +720,8 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(sameListCommand));
                         when(cardRepository.findById(cardId))
                                         .thenReturn(Optional.of(originalCard));
-                        when(boardListRepository.findById(sourceListId))
-                                        .thenReturn(Optional.of(sourceBoardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(sourceBoard));
+                        when(cardAncestryPort.findByListId(sourceListId))
+                                        .thenReturn(Optional.of(sourceList));
                         when(cardClonePolicy.canCloneWithinSameList(originalCard))
                                         .thenReturn(Either.left(policyFailure));
 
@@ -815,14 +744,12 @@ class CreateCardServiceTest {
                 private UserId userId;
                 private ListId listId;
                 private BoardId boardId;
-                private BoardList boardList;
 
                 @BeforeEach
                 void setUp() {
                         userId = new UserId("user-123");
                         listId = new ListId("list-123");
                         boardId = new BoardId("board-123");
-                        boardList = BoardList.create("테스트 리스트", 0, boardId);
                 }
 
                 @Test
@@ -836,7 +763,7 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(command));
                         when(cardRepository.findById(command.cardId()))
                                         .thenReturn(Optional.of(Card.create("원본 카드", "원본 설명", 0, listId, userId)));
-                        when(boardListRepository.findById(listId))
+                        when(cardAncestryPort.findByListId(listId))
                                         .thenReturn(Optional.empty());
 
                         // when
@@ -861,10 +788,9 @@ class CreateCardServiceTest {
                                         .thenReturn(ValidationResult.valid(command));
                         when(cardRepository.findById(command.cardId()))
                                         .thenReturn(Optional.of(Card.create("원본 카드", "원본 설명", 0, listId, userId)));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(
+                                                        new ListAncestry(listId, "테스트 리스트", boardId, "테스트 보드", new UserId("other-user"), false)));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(command);
@@ -885,23 +811,14 @@ class CreateCardServiceTest {
                         CloneCardCommand command = CloneCardCommand.of(
                                         new CardId("card-123"), "복제된 카드", listId, userId);
 
-                        Board archivedBoard = Board.builder()
-                                        .boardId(boardId)
-                                        .title("아카이브된 보드")
-                                        .description("아카이브된 보드")
-                                        .isArchived(true)
-                                        .ownerId(userId)
-                                        .isStarred(false)
-                                        .build();
+                        ListAncestry archivedList = new ListAncestry(listId, "테스트 리스트", boardId, "아카이브된 보드", userId, true);
 
                         when(cardValidator.validateClone(command))
                                         .thenReturn(ValidationResult.valid(command));
                         when(cardRepository.findById(command.cardId()))
                                         .thenReturn(Optional.of(Card.create("원본 카드", "원본 설명", 0, listId, userId)));
-                        when(boardListRepository.findById(listId))
-                                        .thenReturn(Optional.of(boardList));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(archivedBoard));
+                        when(cardAncestryPort.findByListId(listId))
+                                        .thenReturn(Optional.of(archivedList));
 
                         // when
                         Either<Failure, Card> result = createCardService.cloneCard(command);
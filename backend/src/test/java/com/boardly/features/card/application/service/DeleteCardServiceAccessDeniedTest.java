@@ -16,14 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.domain.repository.CommentRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -44,10 +43,7 @@ class DeleteCardServiceAccessDeniedTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -65,8 +61,7 @@ class DeleteCardServiceAccessDeniedTest {
         deleteCardService = new DeleteCardService(
                 cardValidator,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 commentRepository,
                 validationMessageResolver,
                 activityHelper);
@@ -92,21 +87,15 @@ class DeleteCardServiceAccessDeniedTest {
                 .position(1)
                 .build();
 
-        BoardList boardList = BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .boardId(boardId)
-                .position(1)
-                .build();
+        ListAncestry list = new ListAncestry(
+                listId, "테스트 리스트", boardId, "테스트 보드", new UserId("other-user"), false);
 
         when(cardValidator.validateDelete(command))
                 .thenReturn(ValidationResult.valid(command));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
-                .thenReturn(Optional.of(boardList));
-        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                .thenReturn(Optional.empty());
+        when(cardAncestryPort.findByListId(listId))
+                .thenReturn(Optional.of(list));
 
         // when
         Either<Failure, Void> result = deleteCardService.deleteCard(command);
@@ -121,8 +110,7 @@ class DeleteCardServiceAccessDeniedTest {
 
         verify(cardValidator).validateDelete(command);
         verify(cardRepository).findById(cardId);
-        verify(boardListRepository).findById(listId);
-        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+        verify(cardAncestryPort).findByListId(listId);
         verifyNoInteractions(activityHelper);
     }
 }
\ No newline at end of file
@@ -20,16 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.domain.repository.CommentRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -50,10 +48,7 @@ class DeleteCardServiceActivityLogTest {
         private CardRepository cardRepository;
 
         @Mock
-        private BoardListRepository boardListRepository;
-
-        @Mock
-        private BoardRepository boardRepository;
+        private CardAncestryPort cardAncestryPort;
 
         @Mock
         private ValidationMessageResolver validationMessageResolver;
@@ -71,17 +66,15 @@ class DeleteCardServiceActivityLogTest {
                 deleteCardService = new DeleteCardService(
                                 cardValidator,
                                 cardRepository,
-                                boardListRepository,
-                                boardRepository,
+                                cardAncestryPort,
                                 commentRepository,
                                 validationMessageResolver,
                                 activityHelper);
         }
 
         @Test
-        @DisplayName("활동 로그 기록 시 보드 정보를 찾을 수 없어도 삭제는 성공한다")
-        @SuppressWarnings("unchecked")
-        void shouldSucceedEvenWhenBoardInfoNotFoundForActivityLog() {
+        @DisplayName("활동 로그는 권한 검증 때 조회한 리스트/보드 정보로 기록한다")
+        void shouldLogActivityWithAncestryFromPermissionCheck() {
                 // given
                 UserId userId = new UserId("user-123");
                 CardId cardId = new CardId("card-123");
@@ -96,36 +89,21 @@ class DeleteCardServiceActivityLogTest {
                                 .position(1)
                                 .build();
 
-                BoardList boardList = BoardList.builder()
-                                .listId(listId)
-                                .title("테스트 리스트")
-                                .boardId(boardId)
-                                .position(1)
-                                .build();
-
-                Board board = Board.builder()
-                                .boardId(boardId)
-                                .title("테스트 보드")
-                                .ownerId(userId)
-                                .isArchived(false)
-                                .build();
+                ListAncestry list = new ListAncestry(
+                                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
                 when(cardValidator.validateDelete(command))
                                 .thenReturn(ValidationResult.valid(command));
                 when(cardRepository.findById(cardId))
                                 .thenReturn(Optional.of(cardToDelete));
-                when(boardListRepository.findById(listId))
-                                .thenReturn(Optional.of(boardList));
-                when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                .thenReturn(Optional.of(board));
+                when(cardAncestryPort.findByListId(listId))
+                                .thenReturn(Optional.of(list));
                 when(commentRepository.deleteByCardId(cardId))
                                 .thenReturn(Either.right(null));
                 when(cardRepository.delete(cardId))
                                 .thenReturn(Either.right(null));
                 when(cardRepository.findByListIdAndPositionGreaterThan(listId, 1))
                                 .thenReturn(List.of());
-                when(boardRepository.findById(boardId))
-                                .thenReturn(Optional.empty());
 
                 // when
                 Either<Failure, Void> result = deleteCardService.deleteCard(command);
@@ -133,11 +111,16 @@ class DeleteCardServiceActivityLogTest {
                 // then
                 assertThat(result.isRight()).isTrue();
 
+                verify(cardAncestryPort).findByListId(listId);
                 verify(activityHelper).logCardActivity(
                                 eq(ActivityType.CARD_DELETE),
                                 eq(userId),
-                                any(Map.class),
-                                eq("알 수 없는 보드"),
+                                eq(Map.<String, Object>of(
+                                                "cardTitle", "테스트 카드",
+                                                "listName", "테스트 리스트",
+                                                "cardId", cardId.getId(),
+                                                "listId", listId.getId())),
+                                eq("테스트 보드"),
                                 eq(boardId),
                                 eq(listId),
                                 eq(cardId));
@@ -160,36 +143,21 @@ class DeleteCardServiceActivityLogTest {
                                 .position(1)
                                 .build();
 
-                BoardList boardList = BoardList.builder()
-                                .listId(listId)
-                                .title("테스트 리스트")
-                                .boardId(boardId)
-                                .position(1)
-                                .build();
-
-                Board board = Board.builder()
-                                .boardId(boardId)
-                                .title("테스트 보드")
-                                .ownerId(userId)
-                                .isArchived(false)
-                                .build();
+                ListAncestry list = new ListAncestry(
+                                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
                 when(cardValidator.validateDelete(command))
                                 .thenReturn(ValidationResult.valid(command));
                 when(cardRepository.findById(cardId))
                                 .thenReturn(Optional.of(cardToDelete));
-                when(boardListRepository.findById(listId))
-                                .thenReturn(Optional.of(boardList));
-                when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                .thenReturn(Optional.of(board));
+                when(cardAncestryPort.findByListId(listId))
+                                .thenReturn(Optional.of(list));
                 when(commentRepository.deleteByCardId(cardId))
                                 .thenReturn(Either.right(null));
                 when(cardRepository.delete(cardId))
                                 .thenReturn(Either.right(null));
                 when(cardRepository.findByListIdAndPositionGreaterThan(listId, 1))
                                 .thenReturn(List.of());
-                when(boardRepository.findById(boardId))
-                                .thenReturn(Optional.of(board));
                 lenient().doThrow(new RuntimeException("활동 로그 기록 실패"))
                                 .when(activityHelper)
                                 .logCardActivity(any(), any(), any(), any(), any(), any(), any());
@@ -200,61 +168,4 @@ class DeleteCardServiceActivityLogTest {
                 // then
                 assertThat(result.isRight()).isTrue();
         }
-
-        @Test
-        @DisplayName("활동 로그용 리스트 정보를 찾을 수 없어도 삭제는 성공한다")
-        void shouldSucceedEvenWhenBoardListNotFoundForActivityLog() {
-                // given
-                UserId userId = new UserId("user-123");
-                CardId cardId = new CardId("card-123");
-                ListId listId = new ListId("list-123");
-                BoardId boardId = new BoardId("board-123");
-                DeleteCardCommand command = new DeleteCardCommand(cardId, userId);
-
-                Card cardToDelete = Card.builder()
-                                .cardId(cardId)
-                                .title("테스트 카드")
-                                .listId(listId)
-                                .position(1)
-                                .build();
-
-                BoardList boardList = BoardList.builder()
-                                .listId(listId)
-                                .title("테스트 리스트")
-                                .boardId(boardId)
-                                .position(1)
-                                .build();
-
-                Board board = Board.builder()
-                                .boardId(boardId)
-                                .title("테스트 보드")
-                                .ownerId(userId)
-                                .isArchived(false)
-                                .build();
-
-                when(cardValidator.validateDelete(command))
-                                .thenReturn(ValidationResult.valid(command));
-                when(cardRepository.findById(cardId))
-                                .thenReturn(Optional.of(cardToDelete));
-                when(boardListRepository.findById(listId))
-                                .thenReturn(Optional.of(boardList));
-                when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                .thenReturn(Optional.of(board));
-                when(commentRepository.deleteByCardId(cardId))
-                                .thenReturn(Either.right(null));
-                when(cardRepository.delete(cardId))
-                                .thenReturn(Either.right(null));
-                when(cardRepository.findByListIdAndPositionGreaterThan(listId, 1))
-                                .thenReturn(List.of());
-                // 활동 로그 기록 시에는 리스트를 찾을 수 없음
-                when(boardListRepository.findById(listId))
-                                .thenReturn(Optional.of(boardList)) // 첫 번째 호출 (권한 검증)
-                                .thenReturn(Optional.empty()); // 두 번째 호출 (활동 로그)
-
-                // when
-                Either<Failure, Void> result = deleteCardService.deleteCard(command);
-
-                // then
-                assertThat(result.isRight()).isTrue();
-        }
 }
\ No newline at end of file
@@ -15,9 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.CardId;
 import com.boardly.features.card.domain.repository.CardRepository;
@@ -40,10 +39,7 @@ class DeleteCardServiceCardNotFoundTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -61,8 +57,7 @@ class DeleteCardServiceCardNotFoundTest {
         deleteCardService = new DeleteCardService(
                 cardValidator,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 commentRepository,
                 validationMessageResolver,
                 activityHelper);
@@ -97,6 +92,6 @@ class DeleteCardServiceCardNotFoundTest {
 
         verify(cardValidator).validateDelete(command);
         verify(cardRepository).findById(cardId);
-        verifyNoInteractions(boardListRepository, boardRepository, activityHelper);
+        verifyNoInteractions(cardAncestryPort, activityHelper);
     }
 }
\ No newline at end of file
@@ -15,10 +15,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
@@ -42,10 +41,7 @@ class DeleteCardServiceListNotFoundTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -63,8 +59,7 @@ class DeleteCardServiceListNotFoundTest {
         deleteCardService = new DeleteCardService(
                 cardValidator,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 commentRepository,
                 validationMessageResolver,
                 activityHelper);
@@ -93,7 +88,7 @@ class DeleteCardServiceListNotFoundTest {
                 .thenReturn(ValidationResult.valid(command));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
+        when(cardAncestryPort.findByListId(listId))
                 .thenReturn(Optional.empty());
 
         // when
@@ -109,7 +104,7 @@ class DeleteCardServiceListNotFoundTest {
 
         verify(cardValidator).validateDelete(command);
         verify(cardRepository).findById(cardId);
-        verify(boardListRepository).findById(listId);
-        verifyNoInteractions(boardRepository, activityHelper);
+        verify(cardAncestryPort).findByListId(listId);
+        verifyNoInteractions(activityHelper);
     }
 }
\ No newline at end of file
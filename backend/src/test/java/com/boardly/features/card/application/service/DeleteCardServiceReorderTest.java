@@ -18,16 +18,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.domain.repository.CommentRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -48,10 +46,7 @@ class DeleteCardServiceReorderTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -69,8 +64,7 @@ class DeleteCardServiceReorderTest {
         deleteCardService = new DeleteCardService(
                 cardValidator,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 commentRepository,
                 validationMessageResolver,
                 activityHelper);
@@ -109,36 +103,21 @@ class DeleteCardServiceReorderTest {
 
         List<Card> cardsToReorder = List.of(remainingCard1, remainingCard2);
 
-        BoardList boardList = BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .boardId(boardId)
-                .position(1)
-                .build();
-
-        Board board = Board.builder()
-                .boardId(boardId)
-                .title("테스트 보드")
-                .ownerId(userId)
-                .isArchived(false)
-                .build();
+        ListAncestry list = new ListAncestry(
+                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
         when(cardValidator.validateDelete(command))
                 .thenReturn(ValidationResult.valid(command));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
-                .thenReturn(Optional.of(boardList));
-        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                .thenReturn(Optional.of(board));
+        when(cardAncestryPort.findByListId(listId))
+                .thenReturn(Optional.of(list));
         when(commentRepository.deleteByCardId(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.delete(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.findByListIdAndPositionGreaterThan(listId, 2))
                 .thenReturn(cardsToReorder);
-        when(boardRepository.findById(boardId))
-                .thenReturn(Optional.of(board));
 
         // when
         Either<Failure, Void> result = deleteCardService.deleteCard(command);
@@ -171,36 +150,21 @@ class DeleteCardServiceReorderTest {
                 .position(2)
                 .build();
 
-        BoardList boardList = BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .boardId(boardId)
-                .position(1)
-                .build();
-
-        Board board = Board.builder()
-                .boardId(boardId)
-                .title("테스트 보드")
-                .ownerId(userId)
-                .isArchived(false)
-                .build();
+        ListAncestry list = new ListAncestry(
+                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
         when(cardValidator.validateDelete(command))
                 .thenReturn(ValidationResult.valid(command));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
-                .thenReturn(Optional.of(boardList));
-        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                .thenReturn(Optional.of(board));
+        when(cardAncestryPort.findByListId(listId))
+                .thenReturn(Optional.of(list));
         when(commentRepository.deleteByCardId(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.delete(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.findByListIdAndPositionGreaterThan(listId, 2))
                 .thenReturn(List.of());
-        when(boardRepository.findById(boardId))
-                .thenReturn(Optional.of(board));
 
         // when
         Either<Failure, Void> result = deleteCardService.deleteCard(command);
@@ -228,36 +192,21 @@ class DeleteCardServiceReorderTest {
                 .position(2)
                 .build();
 
-        BoardList boardList = BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .boardId(boardId)
-                .position(1)
-                .build();
-
-        Board board = Board.builder()
-                .boardId(boardId)
-                .title("테스트 보드")
-                .ownerId(userId)
-                .isArchived(false)
-                .build();
+        ListAncestry list = new ListAncestry(
+                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
         when(cardValidator.validateDelete(command))
                 .thenReturn(ValidationResult.valid(command));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
-                .thenReturn(Optional.of(boardList));
-        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                .thenReturn(Optional.of(board));
+        when(cardAncestryPort.findByListId(listId))
+                .thenReturn(Optional.of(list));
         when(commentRepository.deleteByCardId(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.delete(cardId))
                 .thenReturn(Either.right(null));
         lenient().when(cardRepository.findByListIdAndPositionGreaterThan(listId, 2))
                 .thenThrow(new RuntimeException("재정렬 중 오류"));
-        when(boardRepository.findById(boardId))
-                .thenReturn(Optional.of(board));
 
         // when
         Either<Failure, Void> result = deleteCardService.deleteCard(command);
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -22,16 +21,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.DeleteCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.comment.domain.repository.CommentRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -52,10 +49,7 @@ class DeleteCardServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -73,8 +67,7 @@ class DeleteCardServiceTest {
         deleteCardService = new DeleteCardService(
                 cardValidator,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 commentRepository,
                 validationMessageResolver,
                 activityHelper);
@@ -112,36 +105,21 @@ class DeleteCardServiceTest {
                 .position(2)
                 .build();
 
-        BoardList boardList = BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .boardId(boardId)
-                .position(1)
-                .build();
-
-        Board board = Board.builder()
-                .boardId(boardId)
-                .title("테스트 보드")
-                .ownerId(userId)
-                .isArchived(false)
-                .build();
+        ListAncestry list = new ListAncestry(
+                listId, "테스트 리스트", boardId, "테스트 보드", userId, false);
 
         when(cardValidator.validateDelete(validCommand))
                 .thenReturn(ValidationResult.valid(validCommand));
         when(cardRepository.findById(cardId))
                 .thenReturn(Optional.of(cardToDelete));
-        when(boardListRepository.findById(listId))
-                .thenReturn(Optional.of(boardList));
-        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                .thenReturn(Optional.of(board));
+        when(cardAncestryPort.findByListId(listId))
+                .thenReturn(Optional.of(list));
         when(commentRepository.deleteByCardId(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.delete(cardId))
                 .thenReturn(Either.right(null));
         when(cardRepository.findByListIdAndPositionGreaterThan(listId, 2))
                 .thenReturn(List.of());
-        when(boardRepository.findById(boardId))
-                .thenReturn(Optional.of(board));
 
         // when
         Either<Failure, Void> result = deleteCardService.deleteCard(validCommand);
@@ -152,12 +130,10 @@ class DeleteCardServiceTest {
 
         verify(cardValidator).validateDelete(validCommand);
         verify(cardRepository).findById(cardId);
-        verify(boardListRepository, times(2)).findById(listId); // 권한 검증과 활동 로그 기록에서 각각 호출
-        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+        verify(cardAncestryPort).findByListId(listId); // 권한 검증 때 조회한 정보를 활동 로그에도 사용
         verify(commentRepository).deleteByCardId(cardId);
         verify(cardRepository).delete(cardId);
         verify(cardRepository).findByListIdAndPositionGreaterThan(listId, 2);
-        verify(boardRepository).findById(boardId); // 활동 로그 기록에서 호출
         verify(activityHelper).logCardActivity(
                 eq(ActivityType.CARD_DELETE),
                 eq(userId),
@@ -200,6 +176,6 @@ class DeleteCardServiceTest {
         assertThat(inputError.getViolations()).containsExactlyElementsOf(validationErrors);
 
         verify(cardValidator).validateDelete(validCommand);
-        verifyNoInteractions(cardRepository, boardListRepository, boardRepository, activityHelper);
+        verifyNoInteractions(cardRepository, cardAncestryPort, activityHelper);
     }
 }
\ No newline at end of file
@@ -24,16 +24,15 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.MoveCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.policy.CardMovePolicy;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -58,10 +57,7 @@ class UpdateCardServiceMoveCardTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -69,6 +65,9 @@ class UpdateCardServiceMoveCardTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     private UpdateCardService updateCardService;
 
     @BeforeEach
@@ -77,10 +76,11 @@ class UpdateCardServiceMoveCardTest {
                 cardValidator,
                 cardMovePolicy,
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 validationMessageResolver,
-                activityHelper);
+                activityHelper,
+                null, // CardDueDateListener는 moveCard 테스트에서 사용하지 않음
+                boardDetailCache);
 
         // 공통으로 사용되는 메시지 설정
         lenient().when(validationMessageResolver.getMessage("validation.input.invalid"))
@@ -100,9 +100,6 @@ class UpdateCardServiceMoveCardTest {
     class MoveCardTest {
 
         private Card existingCard;
-        private BoardList sourceList;
-        private BoardList targetList;
-        private Board board;
         private UserId userId;
         private CardId cardId;
         private ListId sourceListId;
@@ -123,21 +120,6 @@ class UpdateCardServiceMoveCardTest {
             when(existingCard.getListId()).thenReturn(sourceListId);
             when(existingCard.getPosition()).thenReturn(2);
 
-            sourceList = mock(BoardList.class);
-            when(sourceList.getListId()).thenReturn(sourceListId);
-            when(sourceList.getBoardId()).thenReturn(boardId);
-            when(sourceList.getTitle()).thenReturn("소스 리스트");
-
-            targetList = mock(BoardList.class);
-            when(targetList.getListId()).thenReturn(targetListId);
-            when(targetList.getBoardId()).thenReturn(boardId);
-            when(targetList.getTitle()).thenReturn("대상 리스트");
-
-            board = mock(Board.class);
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
-            when(board.getTitle()).thenReturn("테스트 보드");
-
             command = MoveCardCommand.of(cardId, targetListId, 3, userId);
         }
 
@@ -147,9 +129,10 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.of(targetList));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.of(new ListAncestry(
+                    targetListId, "대상 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveToAnotherList(existingCard, targetListId, 3))
                     .thenReturn(Either.right(null));
             when(cardRepository.findByListIdAndPositionGreaterThan(sourceListId, 2))
@@ -175,8 +158,8 @@ class UpdateCardServiceMoveCardTest {
             MoveCardCommand sameListCommand = MoveCardCommand.of(cardId, null, 5, userId);
             when(cardValidator.validateMove(sameListCommand)).thenReturn(ValidationResult.valid(sameListCommand));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveWithinSameList(existingCard, 5))
                     .thenReturn(Either.right(null));
             when(cardRepository.findByListIdAndPositionBetween(sourceListId, 3, 4))
@@ -192,6 +175,7 @@ class UpdateCardServiceMoveCardTest {
             assertThat(result.get()).isEqualTo(existingCard);
             verify(existingCard).updatePosition(5);
             verify(cardRepository).save(existingCard);
+            verify(boardDetailCache).invalidate(boardId);
         }
 
         @Test
@@ -224,7 +208,6 @@ class UpdateCardServiceMoveCardTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("이동할 카드를 찾을 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verifyNoInteractions(boardRepository);
         }
 
         @Test
@@ -233,8 +216,8 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", new UserId("other-user"), false)));
 
             // when
             Either<Failure, Card> result = updateCardService.moveCard(command);
@@ -243,8 +226,7 @@ class UpdateCardServiceMoveCardTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("보드 접근 권한이 없습니다.");
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(sourceListId);
-            verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+            verify(cardAncestryPort).findByListId(sourceListId);
             verifyNoInteractions(cardMovePolicy);
         }
 
@@ -254,9 +236,8 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(board.isArchived()).thenReturn(true);
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, true)));
 
             // when
             Either<Failure, Card> result = updateCardService.moveCard(command);
@@ -265,8 +246,7 @@ class UpdateCardServiceMoveCardTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("아카이브된 보드의 카드는 이동할 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(sourceListId);
-            verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+            verify(cardAncestryPort).findByListId(sourceListId);
             verifyNoInteractions(cardMovePolicy);
         }
 
@@ -276,9 +256,9 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.empty());
 
             // when
             Either<Failure, Card> result = updateCardService.moveCard(command);
@@ -287,9 +267,8 @@ class UpdateCardServiceMoveCardTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("대상 리스트를 찾을 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(sourceListId);
-            verify(boardRepository).findByIdAndOwnerId(boardId, userId);
-            verify(boardListRepository).findById(targetListId);
+            verify(cardAncestryPort).findByListId(sourceListId);
+            verify(cardAncestryPort).findByListId(targetListId);
             verifyNoInteractions(cardMovePolicy);
         }
 
@@ -299,9 +278,10 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.of(targetList));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.of(new ListAncestry(
+                    targetListId, "대상 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveToAnotherList(existingCard, targetListId, 3))
                     .thenReturn(Either.left(Failure.ofConflict("LIST_CARD_LIMIT_EXCEEDED")));
 
@@ -322,9 +302,10 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.of(targetList));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.of(new ListAncestry(
+                    targetListId, "대상 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveToAnotherList(existingCard, targetListId, 3))
                     .thenReturn(Either.right(null));
             when(cardRepository.findByListIdAndPositionGreaterThan(sourceListId, 2))
@@ -351,8 +332,8 @@ class UpdateCardServiceMoveCardTest {
             when(cardValidator.validateMove(samePositionCommand))
                     .thenReturn(ValidationResult.valid(samePositionCommand));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveWithinSameList(existingCard, 2))
                     .thenReturn(Either.right(null));
 
@@ -373,9 +354,10 @@ class UpdateCardServiceMoveCardTest {
             // given
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.of(targetList));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.of(new ListAncestry(
+                    targetListId, "대상 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveToAnotherList(existingCard, targetListId, 3))
                     .thenReturn(Either.right(null));
             when(cardRepository.findByListIdAndPositionGreaterThan(sourceListId, 2))
@@ -401,9 +383,10 @@ class UpdateCardServiceMoveCardTest {
             when(cardToAdjust.getPosition()).thenReturn(3);
             when(cardValidator.validateMove(command)).thenReturn(ValidationResult.valid(command));
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(sourceListId)).thenReturn(Optional.of(sourceList));
-            when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
-            when(boardListRepository.findById(targetListId)).thenReturn(Optional.of(targetList));
+            when(cardAncestryPort.findByListId(sourceListId)).thenReturn(Optional.of(new ListAncestry(
+                    sourceListId, "소스 리스트", boardId, "테스트 보드", userId, false)));
+            when(cardAncestryPort.findByListId(targetListId)).thenReturn(Optional.of(new ListAncestry(
+                    targetListId, "대상 리스트", boardId, "테스트 보드", userId, false)));
             when(cardMovePolicy.canMoveToAnotherList(existingCard, targetListId, 3))
                     .thenReturn(Either.right(null));
             when(cardRepository.findByListIdAndPositionGreaterThan(sourceListId, 2))
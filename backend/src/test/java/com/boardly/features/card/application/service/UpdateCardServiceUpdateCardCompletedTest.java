@@ -19,15 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
@@ -46,10 +45,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -57,6 +53,9 @@ class UpdateCardServiceUpdateCardCompletedTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     private UpdateCardService updateCardService;
 
     @BeforeEach
@@ -65,10 +64,11 @@ class UpdateCardServiceUpdateCardCompletedTest {
                 cardValidator,
                 null, // CardMovePolicy는 updateCardCompleted 테스트에서 사용하지 않음
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 validationMessageResolver,
-                activityHelper);
+                activityHelper,
+                null, // CardDueDateListener는 updateCardCompleted 테스트에서 사용하지 않음
+                boardDetailCache);
 
         // 공통으로 사용되는 메시지 설정
         lenient().when(validationMessageResolver.getMessage("validation.card.id.invalid"))
@@ -92,8 +92,6 @@ class UpdateCardServiceUpdateCardCompletedTest {
     class UpdateCardCompletedTest {
 
         private Card existingCard;
-        private BoardList boardList;
-        private Board board;
         private UserId userId;
         private CardId cardId;
         private ListId listId;
@@ -112,20 +110,6 @@ class UpdateCardServiceUpdateCardCompletedTest {
             lenient().when(existingCard.getCardId()).thenReturn(cardId);
             lenient().when(existingCard.getListId()).thenReturn(listId);
             lenient().when(existingCard.isCompleted()).thenReturn(false);
-
-            boardList = BoardList.builder()
-                    .listId(listId)
-                    .title("테스트 리스트")
-                    .boardId(boardId)
-                    .position(0)
-                    .build();
-
-            board = Board.builder()
-                    .boardId(boardId)
-                    .title("테스트 보드")
-                    .ownerId(userId)
-                    .isArchived(false)
-                    .build();
         }
 
         @Test
@@ -133,8 +117,8 @@ class UpdateCardServiceUpdateCardCompletedTest {
         void shouldUpdateCardCompletedToTrueSuccessfully() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
             when(cardRepository.save(any(Card.class))).thenReturn(Either.right(existingCard));
 
             // when
@@ -145,10 +129,10 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(result.get()).isEqualTo(existingCard);
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(cardRepository).save(existingCard);
             verify(existingCard).complete();
+            verify(boardDetailCache).invalidate(boardId);
         }
 
         @Test
@@ -156,8 +140,8 @@ class UpdateCardServiceUpdateCardCompletedTest {
         void shouldUpdateCardCompletedToFalseSuccessfully() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
             when(cardRepository.save(any(Card.class))).thenReturn(Either.right(existingCard));
 
             // when
@@ -168,8 +152,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(result.get()).isEqualTo(existingCard);
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(cardRepository).save(existingCard);
             verify(existingCard).uncomplete();
         }
@@ -186,7 +169,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure).isInstanceOf(Failure.InputError.class);
             assertThat(failure.getMessage()).isEqualTo("카드 ID가 유효하지 않습니다.");
 
-            verifyNoInteractions(cardRepository, boardListRepository, boardRepository, activityHelper);
+            verifyNoInteractions(cardRepository, cardAncestryPort, activityHelper);
         }
 
         @Test
@@ -201,7 +184,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure).isInstanceOf(Failure.InputError.class);
             assertThat(failure.getMessage()).isEqualTo("카드 ID가 유효하지 않습니다.");
 
-            verifyNoInteractions(cardRepository, boardListRepository, boardRepository, activityHelper);
+            verifyNoInteractions(cardRepository, cardAncestryPort, activityHelper);
         }
 
         @Test
@@ -216,7 +199,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure).isInstanceOf(Failure.InputError.class);
             assertThat(failure.getMessage()).isEqualTo("카드 ID가 유효하지 않습니다.");
 
-            verifyNoInteractions(cardRepository, boardListRepository, boardRepository, activityHelper);
+            verifyNoInteractions(cardRepository, cardAncestryPort, activityHelper);
         }
 
         @Test
@@ -235,7 +218,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure.getMessage()).isEqualTo("카드를 찾을 수 없습니다.");
 
             verify(cardRepository).findById(cardId);
-            verifyNoInteractions(boardListRepository, boardRepository, activityHelper);
+            verifyNoInteractions(cardAncestryPort, activityHelper);
         }
 
         @Test
@@ -243,7 +226,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
         void shouldReturnFailureWhenListNotFound() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.empty());
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardCompleted(cardIdString, true);
@@ -255,30 +238,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure.getMessage()).isEqualTo("리스트를 찾을 수 없습니다.");
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verifyNoInteractions(boardRepository, activityHelper);
-        }
-
-        @Test
-        @DisplayName("보드가 존재하지 않을 때 실패를 반환한다")
-        void shouldReturnFailureWhenBoardNotFound() {
-            // given
-            when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-
-            // when
-            Either<Failure, Card> result = updateCardService.updateCardCompleted(cardIdString, true);
-
-            // then
-            assertThat(result.isLeft()).isTrue();
-            Failure failure = result.getLeft();
-            assertThat(failure).isInstanceOf(Failure.NotFound.class);
-            assertThat(failure.getMessage()).isEqualTo("보드를 찾을 수 없습니다.");
-
-            verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verifyNoInteractions(activityHelper);
         }
 
@@ -286,16 +246,9 @@ class UpdateCardServiceUpdateCardCompletedTest {
         @DisplayName("아카이브된 보드의 카드 완료 상태 변경 시도 시 실패를 반환한다")
         void shouldReturnFailureWhenBoardIsArchived() {
             // given
-            Board archivedBoard = Board.builder()
-                    .boardId(boardId)
-                    .title("아카이브된 보드")
-                    .ownerId(userId)
-                    .isArchived(true)
-                    .build();
-
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(archivedBoard));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, true)));
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardCompleted(cardIdString, true);
@@ -307,8 +260,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure.getMessage()).isEqualTo("아카이브된 보드의 카드는 수정할 수 없습니다.");
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verifyNoInteractions(activityHelper);
         }
 
@@ -317,8 +269,8 @@ class UpdateCardServiceUpdateCardCompletedTest {
         void shouldReturnFailureWhenCardSaveFails() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
             when(cardRepository.save(any(Card.class))).thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
             // when
@@ -331,8 +283,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(failure.getMessage()).isEqualTo("저장 실패");
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(cardRepository).save(existingCard);
             verifyNoInteractions(activityHelper);
         }
@@ -347,8 +298,8 @@ class UpdateCardServiceUpdateCardCompletedTest {
             lenient().when(completedCard.isCompleted()).thenReturn(true);
 
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(completedCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
             when(cardRepository.save(any(Card.class))).thenReturn(Either.right(completedCard));
 
             // when
@@ -359,8 +310,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(result.get()).isEqualTo(completedCard);
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(cardRepository).save(completedCard);
             verify(completedCard).complete();
         }
@@ -375,8 +325,8 @@ class UpdateCardServiceUpdateCardCompletedTest {
             lenient().when(incompleteCard.isCompleted()).thenReturn(false);
 
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(incompleteCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
             when(cardRepository.save(any(Card.class))).thenReturn(Either.right(incompleteCard));
 
             // when
@@ -387,8 +337,7 @@ class UpdateCardServiceUpdateCardCompletedTest {
             assertThat(result.get()).isEqualTo(incompleteCard);
 
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(cardRepository).save(incompleteCard);
             verify(incompleteCard).uncomplete();
         }
@@ -22,16 +22,17 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.application.port.output.CardDueDateListener;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
 
@@ -49,10 +50,7 @@ class UpdateCardServiceUpdateCardDueDateTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -60,6 +58,12 @@ class UpdateCardServiceUpdateCardDueDateTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
+    @Mock
+    private CardDueDateListener cardDueDateListener;
+
     private UpdateCardService updateCardService;
 
     @BeforeEach
@@ -68,10 +72,11 @@ class UpdateCardServiceUpdateCardDueDateTest {
                 cardValidator,
                 null, // CardMovePolicy는 updateCardDueDate 테스트에서 사용하지 않음
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 validationMessageResolver,
-                activityHelper);
+                activityHelper,
+                cardDueDateListener,
+                boardDetailCache);
 
         // 공통으로 사용되는 메시지 설정
         lenient().when(validationMessageResolver.getMessage("validation.card.id.invalid"))
@@ -95,8 +100,6 @@ class UpdateCardServiceUpdateCardDueDateTest {
     class UpdateCardDueDateTest {
 
         private Card existingCard;
-        private BoardList boardList;
-        private Board board;
         private CardId cardId;
         private ListId listId;
         private BoardId boardId;
@@ -110,8 +113,6 @@ class UpdateCardServiceUpdateCardDueDateTest {
             dueDate = Instant.now().plusSeconds(86400); // 24시간 후
 
             existingCard = mock(Card.class);
-            boardList = mock(BoardList.class);
-            board = mock(Board.class);
         }
 
         @Test
@@ -119,14 +120,11 @@ class UpdateCardServiceUpdateCardDueDateTest {
         void shouldUpdateCardDueDateSuccessfully() {
             // given
             when(existingCard.getCardId()).thenReturn(cardId);
+            when(existingCard.getDueDate()).thenReturn(dueDate);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -137,6 +135,7 @@ class UpdateCardServiceUpdateCardDueDateTest {
             assertThat(result.get()).isEqualTo(existingCard);
             verify(existingCard).setDueDate(dueDate);
             verify(cardRepository).save(existingCard);
+            verify(cardDueDateListener).dueDateChanged(cardId, dueDate);
         }
 
         @Test
@@ -146,12 +145,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -212,7 +207,7 @@ class UpdateCardServiceUpdateCardDueDateTest {
             // then
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("카드를 찾을 수 없습니다.");
-            verifyNoInteractions(boardListRepository);
+            verifyNoInteractions(cardAncestryPort);
         }
 
         @Test
@@ -222,7 +217,7 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.empty());
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardDueDate(cardId.getId(), dueDate);
@@ -230,27 +225,6 @@ class UpdateCardServiceUpdateCardDueDateTest {
             // then
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("리스트를 찾을 수 없습니다.");
-            verifyNoInteractions(boardRepository);
-        }
-
-        @Test
-        @DisplayName("보드가 존재하지 않을 때 실패를 반환한다")
-        void shouldReturnFailureWhenBoardNotFound() {
-            // given
-            when(existingCard.getCardId()).thenReturn(cardId);
-            when(existingCard.getListId()).thenReturn(listId);
-            when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-
-            // when
-            Either<Failure, Card> result = updateCardService.updateCardDueDate(cardId.getId(), dueDate);
-
-            // then
-            assertThat(result.isLeft()).isTrue();
-            assertThat(result.getLeft().getMessage()).isEqualTo("보드를 찾을 수 없습니다.");
         }
 
         @Test
@@ -260,12 +234,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(true);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), true)));
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardDueDate(cardId.getId(), dueDate);
@@ -282,12 +252,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
             // when
@@ -297,6 +263,7 @@ class UpdateCardServiceUpdateCardDueDateTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("저장 실패");
             verify(existingCard).setDueDate(dueDate);
+            verifyNoInteractions(cardDueDateListener);
         }
 
         @Test
@@ -306,12 +273,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             doThrow(new RuntimeException("마감일 설정 실패")).when(existingCard).setDueDate(dueDate);
 
             // when
@@ -329,12 +292,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             doThrow(new RuntimeException("마감일 제거 실패")).when(existingCard).removeDueDate();
 
             // when
@@ -354,12 +313,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getListId()).thenReturn(listId);
             when(existingCard.getDueDate()).thenReturn(existingDueDate);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -380,12 +335,8 @@ class UpdateCardServiceUpdateCardDueDateTest {
             when(existingCard.getListId()).thenReturn(listId);
             when(existingCard.getDueDate()).thenReturn(null);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -21,17 +21,17 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.model.CardPriority;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
 
@@ -49,10 +49,7 @@ class UpdateCardServiceUpdateCardPriorityTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -60,6 +57,9 @@ class UpdateCardServiceUpdateCardPriorityTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     private UpdateCardService updateCardService;
 
     @BeforeEach
@@ -68,10 +68,11 @@ class UpdateCardServiceUpdateCardPriorityTest {
                 cardValidator,
                 null, // CardMovePolicy는 updateCardPriority 테스트에서 사용하지 않음
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 validationMessageResolver,
-                activityHelper);
+                activityHelper,
+                null, // CardDueDateListener는 updateCardPriority 테스트에서 사용하지 않음
+                boardDetailCache);
     }
 
     @Nested
@@ -79,8 +80,6 @@ class UpdateCardServiceUpdateCardPriorityTest {
     class UpdateCardPriorityTest {
 
         private Card existingCard;
-        private BoardList boardList;
-        private Board board;
         private CardId cardId;
         private ListId listId;
         private BoardId boardId;
@@ -97,16 +96,6 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
             when(existingCard.getTitle()).thenReturn("테스트 카드");
-
-            boardList = mock(BoardList.class);
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-            when(boardList.getTitle()).thenReturn("테스트 리스트");
-
-            board = mock(Board.class);
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.getTitle()).thenReturn("테스트 보드");
-            when(board.isArchived()).thenReturn(false);
         }
 
         @Test
@@ -116,8 +105,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.error"))
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -128,6 +117,7 @@ class UpdateCardServiceUpdateCardPriorityTest {
             assertThat(result.get()).isEqualTo(existingCard);
             verify(existingCard).setPriority(any(CardPriority.class));
             verify(cardRepository).save(existingCard);
+            verify(boardDetailCache).invalidate(boardId);
         }
 
         @Test
@@ -138,8 +128,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.error"))
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             for (String testPriority : priorities) {
@@ -214,7 +204,7 @@ class UpdateCardServiceUpdateCardPriorityTest {
             // then
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("카드를 찾을 수 없습니다.");
-            verifyNoInteractions(boardListRepository);
+            verifyNoInteractions(cardAncestryPort);
         }
 
         @Test
@@ -224,7 +214,7 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.list_not_found"))
                     .thenReturn("리스트를 찾을 수 없습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.empty());
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardPriority(cardId.getId(), priority);
@@ -232,26 +222,6 @@ class UpdateCardServiceUpdateCardPriorityTest {
             // then
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("리스트를 찾을 수 없습니다.");
-            verifyNoInteractions(boardRepository);
-        }
-
-        @Test
-        @DisplayName("보드가 존재하지 않을 때 실패를 반환한다")
-        void shouldReturnFailureWhenBoardNotFound() {
-            // given
-            when(validationMessageResolver.getMessage("error.service.card.update.board_not_found"))
-                    .thenReturn("보드를 찾을 수 없습니다.");
-            when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-
-            // when
-            Either<Failure, Card> result = updateCardService.updateCardPriority(cardId.getId(), priority);
-
-            // then
-            assertThat(result.isLeft()).isTrue();
-            assertThat(result.getLeft().getMessage()).isEqualTo("보드를 찾을 수 없습니다.");
-            // existingCard는 findCardById에서 getListId()가 호출되므로 상호작용이 있음
         }
 
         @Test
@@ -261,9 +231,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.archived_board"))
                     .thenReturn("아카이브된 보드의 카드는 수정할 수 없습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.isArchived()).thenReturn(true);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), true)));
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardPriority(cardId.getId(), priority);
@@ -281,8 +250,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.error"))
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
             // when
@@ -301,8 +270,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.error"))
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             doThrow(new RuntimeException("우선순위 설정 실패")).when(existingCard).setPriority(any(CardPriority.class));
 
             // when
@@ -322,8 +291,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
             when(validationMessageResolver.getMessage("error.service.card.update.error"))
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -344,8 +313,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(existingCard.getPriority()).thenReturn(CardPriority.MEDIUM);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -366,8 +335,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(existingCard.getPriority()).thenReturn(null);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -388,8 +357,8 @@ class UpdateCardServiceUpdateCardPriorityTest {
                     .thenReturn("카드 수정 중 오류가 발생했습니다.");
             when(existingCard.getPriority()).thenReturn(CardPriority.HIGH);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -23,16 +23,16 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
 import com.boardly.shared.domain.common.Failure;
 
@@ -50,10 +50,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
     private CardRepository cardRepository;
 
     @Mock
-    private BoardListRepository boardListRepository;
-
-    @Mock
-    private BoardRepository boardRepository;
+    private CardAncestryPort cardAncestryPort;
 
     @Mock
     private ValidationMessageResolver validationMessageResolver;
@@ -61,6 +58,9 @@ class UpdateCardServiceUpdateCardStartDateTest {
     @Mock
     private ActivityHelper activityHelper;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     private UpdateCardService updateCardService;
 
     @BeforeEach
@@ -69,10 +69,11 @@ class UpdateCardServiceUpdateCardStartDateTest {
                 cardValidator,
                 null, // CardMovePolicy는 updateCardStartDate 테스트에서 사용하지 않음
                 cardRepository,
-                boardListRepository,
-                boardRepository,
+                cardAncestryPort,
                 validationMessageResolver,
-                activityHelper);
+                activityHelper,
+                null, // CardDueDateListener는 updateCardStartDate 테스트에서 사용하지 않음
+                boardDetailCache);
 
         // 공통으로 사용되는 메시지 설정
         lenient().when(validationMessageResolver.getMessage("validation.card.id.invalid"))
@@ -96,8 +97,6 @@ class UpdateCardServiceUpdateCardStartDateTest {
     class UpdateCardStartDateTest {
 
         private Card existingCard;
-        private BoardList boardList;
-        private Board board;
         private CardId cardId;
         private ListId listId;
         private BoardId boardId;
@@ -113,14 +112,6 @@ class UpdateCardServiceUpdateCardStartDateTest {
             existingCard = mock(Card.class);
             when(existingCard.getCardId()).thenReturn(cardId);
             when(existingCard.getListId()).thenReturn(listId);
-
-            boardList = mock(BoardList.class);
-            when(boardList.getListId()).thenReturn(listId);
-            when(boardList.getBoardId()).thenReturn(boardId);
-
-            board = mock(Board.class);
-            when(board.getBoardId()).thenReturn(boardId);
-            when(board.isArchived()).thenReturn(false);
         }
 
         @Test
@@ -128,8 +119,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldUpdateCardStartDateSuccessfully() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -147,8 +138,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldRemoveCardStartDateSuccessfully() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -210,7 +201,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("카드를 찾을 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verifyNoInteractions(boardListRepository);
+            verifyNoInteractions(cardAncestryPort);
         }
 
         @Test
@@ -218,7 +209,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldReturnFailureWhenListNotFound() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.empty());
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardStartDate(cardId.getId(), startDate);
@@ -227,29 +218,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("리스트를 찾을 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verifyNoInteractions(boardRepository);
-        }
-
-        @Test
-        @DisplayName("보드가 존재하지 않을 때 실패를 반환한다")
-        void shouldReturnFailureWhenBoardNotFound() {
-            // given
-            when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-
-            // when
-            Either<Failure, Card> result = updateCardService.updateCardStartDate(cardId.getId(), startDate);
-
-            // then
-            assertThat(result.isLeft()).isTrue();
-            assertThat(result.getLeft().getMessage()).isEqualTo("보드를 찾을 수 없습니다.");
-            verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
-            verify(existingCard).getListId();
-            verifyNoMoreInteractions(existingCard);
+            verify(cardAncestryPort).findByListId(listId);
         }
 
         @Test
@@ -257,9 +226,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldReturnFailureWhenBoardIsArchived() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-            when(board.isArchived()).thenReturn(true);
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), true)));
 
             // when
             Either<Failure, Card> result = updateCardService.updateCardStartDate(cardId.getId(), startDate);
@@ -268,8 +236,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
             assertThat(result.isLeft()).isTrue();
             assertThat(result.getLeft().getMessage()).isEqualTo("아카이브된 보드의 카드는 수정할 수 없습니다.");
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verify(existingCard).getListId();
             verifyNoMoreInteractions(existingCard);
         }
@@ -279,8 +246,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldReturnFailureWhenCardSaveFails() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
             // when
@@ -298,8 +265,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldReturnFailureWhenExceptionOccursDuringStartDateSetting() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             doThrow(new RuntimeException("시작일 설정 실패")).when(existingCard).setStartDate(startDate);
 
             // when
@@ -310,8 +277,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
             assertThat(result.getLeft().getMessage()).isEqualTo("카드 수정 중 오류가 발생했습니다.");
             verify(existingCard).setStartDate(startDate);
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verifyNoMoreInteractions(cardRepository);
         }
 
@@ -320,8 +286,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
         void shouldReturnFailureWhenExceptionOccursDuringStartDateRemoval() {
             // given
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             doThrow(new RuntimeException("시작일 제거 실패")).when(existingCard).removeStartDate();
 
             // when
@@ -332,8 +298,7 @@ class UpdateCardServiceUpdateCardStartDateTest {
             assertThat(result.getLeft().getMessage()).isEqualTo("카드 수정 중 오류가 발생했습니다.");
             verify(existingCard).removeStartDate();
             verify(cardRepository).findById(cardId);
-            verify(boardListRepository).findById(listId);
-            verify(boardRepository).findById(boardId);
+            verify(cardAncestryPort).findByListId(listId);
             verifyNoMoreInteractions(cardRepository);
         }
 
@@ -344,8 +309,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
             Instant existingStartDate = Instant.now().minusSeconds(3600); // 1시간 전
             when(existingCard.getStartDate()).thenReturn(existingStartDate);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -364,8 +329,8 @@ class UpdateCardServiceUpdateCardStartDateTest {
             // given
             when(existingCard.getStartDate()).thenReturn(null);
             when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-            when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-            when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+            when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                    listId, "테스트 리스트", boardId, "테스트 보드", new UserId("user-123"), false)));
             when(cardRepository.save(existingCard)).thenReturn(Either.right(existingCard));
 
             // when
@@ -21,16 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
 import com.boardly.features.card.application.port.input.UpdateCardCommand;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
 import com.boardly.features.card.application.validation.CardValidator;
 import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.user.domain.model.UserId;
 import com.boardly.shared.application.validation.ValidationMessageResolver;
@@ -50,10 +49,7 @@ class UpdateCardServiceUpdateCardTest {
         private CardRepository cardRepository;
 
         @Mock
-        private BoardListRepository boardListRepository;
-
-        @Mock
-        private BoardRepository boardRepository;
+        private CardAncestryPort cardAncestryPort;
 
         @Mock
         private ValidationMessageResolver validationMessageResolver;
@@ -61,6 +57,9 @@ class UpdateCardServiceUpdateCardTest {
         @Mock
         private ActivityHelper activityHelper;
 
+        @Mock
+        private BoardDetailCache boardDetailCache;
+
         private UpdateCardService updateCardService;
 
         @BeforeEach
@@ -69,10 +68,11 @@ class UpdateCardServiceUpdateCardTest {
                                 cardValidator,
                                 null, // CardMovePolicy는 updateCard 테스트에서 사용하지 않음
                                 cardRepository,
-                                boardListRepository,
-                                boardRepository,
+                                cardAncestryPort,
                                 validationMessageResolver,
-                                activityHelper);
+                                activityHelper,
+                                null, // CardDueDateListener는 updateCard 테스트에서 사용하지 않음
+                                boardDetailCache);
 
                 // 공통으로 사용되는 메시지 설정
                 lenient().when(validationMessageResolver.getMessage("validation.input.invalid"))
@@ -99,8 +99,6 @@ class UpdateCardServiceUpdateCardTest {
 
                 private UpdateCardCommand validCommand;
                 private Card existingCard;
-                private BoardList boardList;
-                private Board board;
                 private UserId userId;
                 private CardId cardId;
                 private ListId listId;
@@ -126,20 +124,6 @@ class UpdateCardServiceUpdateCardTest {
                         lenient().when(existingCard.getDescription()).thenReturn("기존 카드 설명");
                         lenient().when(existingCard.getListId()).thenReturn(listId);
                         lenient().when(existingCard.getPosition()).thenReturn(0);
-
-                        boardList = BoardList.builder()
-                                        .listId(listId)
-                                        .title("테스트 리스트")
-                                        .boardId(boardId)
-                                        .position(0)
-                                        .build();
-
-                        board = Board.builder()
-                                        .boardId(boardId)
-                                        .title("테스트 보드")
-                                        .ownerId(userId)
-                                        .isArchived(false)
-                                        .build();
                 }
 
                 @Test
@@ -149,9 +133,8 @@ class UpdateCardServiceUpdateCardTest {
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
                         when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                                        listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
                         when(cardRepository.save(any(Card.class))).thenReturn(Either.right(existingCard));
 
                         // when
@@ -163,9 +146,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
-                        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verify(cardRepository).save(existingCard);
                         verify(existingCard).updateTitle("새로운 카드 제목");
                         verify(existingCard).updateDescription("새로운 카드 설명");
@@ -209,7 +190,7 @@ class UpdateCardServiceUpdateCardTest {
                         assertThat(((Failure.InputError) failure).getViolations()).hasSize(2);
 
                         verify(cardValidator).validateUpdate(validCommand);
-                        verifyNoInteractions(cardRepository, boardListRepository, boardRepository, activityHelper);
+                        verifyNoInteractions(cardRepository, cardAncestryPort, activityHelper);
                 }
 
                 @Test
@@ -231,7 +212,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verifyNoInteractions(boardListRepository, boardRepository, activityHelper);
+                        verifyNoInteractions(cardAncestryPort, activityHelper);
                 }
 
                 @Test
@@ -241,7 +222,7 @@ class UpdateCardServiceUpdateCardTest {
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
                         when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.empty());
 
                         // when
                         Either<Failure, Card> result = updateCardService.updateCard(validCommand);
@@ -254,33 +235,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verifyNoInteractions(boardRepository, activityHelper);
-                }
-
-                @Test
-                @DisplayName("보드가 존재하지 않을 때 실패를 반환한다")
-                void shouldReturnFailureWhenBoardNotFound() {
-                        // given
-                        ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
-                        when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-
-                        // when
-                        Either<Failure, Card> result = updateCardService.updateCard(validCommand);
-
-                        // then
-                        assertThat(result.isLeft()).isTrue();
-                        Failure failure = result.getLeft();
-                        assertThat(failure).isInstanceOf(Failure.NotFound.class);
-                        assertThat(failure.getMessage()).isEqualTo("보드를 찾을 수 없습니다.");
-
-                        verify(cardValidator).validateUpdate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verifyNoInteractions(activityHelper);
                 }
 
@@ -291,9 +246,8 @@ class UpdateCardServiceUpdateCardTest {
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
                         when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                                        listId, "테스트 리스트", boardId, "테스트 보드", new UserId("other-user"), false)));
 
                         // when
                         Either<Failure, Card> result = updateCardService.updateCard(validCommand);
@@ -306,9 +260,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
-                        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verifyNoInteractions(activityHelper);
                 }
 
@@ -316,20 +268,11 @@ class UpdateCardServiceUpdateCardTest {
                 @DisplayName("아카이브된 보드의 카드 수정 시도 시 실패를 반환한다")
                 void shouldReturnFailureWhenBoardIsArchived() {
                         // given
-                        Board archivedBoard = Board.builder()
-                                        .boardId(boardId)
-                                        .title("아카이브된 보드")
-                                        .ownerId(userId)
-                                        .isArchived(true)
-                                        .build();
-
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
                         when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(archivedBoard));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId))
-                                        .thenReturn(Optional.of(archivedBoard));
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                                        listId, "테스트 리스트", boardId, "테스트 보드", userId, true)));
 
                         // when
                         Either<Failure, Card> result = updateCardService.updateCard(validCommand);
@@ -342,9 +285,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
-                        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verifyNoInteractions(activityHelper);
                 }
 
@@ -355,9 +296,8 @@ class UpdateCardServiceUpdateCardTest {
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(validCommand);
                         when(cardValidator.validateUpdate(validCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                                        listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
                         when(cardRepository.save(any(Card.class)))
                                         .thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
@@ -372,9 +312,7 @@ class UpdateCardServiceUpdateCardTest {
 
                         verify(cardValidator).validateUpdate(validCommand);
                         verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
-                        verify(boardRepository).findByIdAndOwnerId(boardId, userId);
+                        verify(cardAncestryPort).findByListId(listId);
                         verify(cardRepository).save(existingCard);
                         verifyNoInteractions(activityHelper);
                 }
@@ -391,9 +329,8 @@ class UpdateCardServiceUpdateCardTest {
                         ValidationResult<UpdateCardCommand> validResult = ValidationResult.valid(updateCommand);
                         when(cardValidator.validateUpdate(updateCommand)).thenReturn(validResult);
                         when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-                        when(boardRepository.findByIdAndOwnerId(boardId, userId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByListId(listId)).thenReturn(Optional.of(new ListAncestry(
+                                        listId, "테스트 리스트", boardId, "테스트 보드", userId, false)));
                         when(cardRepository.save(any(Card.class))).thenReturn(Either.right(existingCard));
 
                         // when
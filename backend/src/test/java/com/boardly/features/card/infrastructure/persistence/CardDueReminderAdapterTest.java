@@ -0,0 +1,86 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.boardly.features.card.application.port.output.CardDueReminderPort.DueCard;
+import com.boardly.shared.infrastructure.persistence.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:card-due-reminder;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JpaConfig.class, CardDueReminderAdapter.class })
+@DisplayName("CardDueReminderAdapter 테스트")
+class CardDueReminderAdapterTest {
+
+    private static final List<String> DUE_CARD_IDS = List.of("card-1", "card-2", "card-3", "card-4", "card-5",
+            "card-6");
+    private static final int SHARD_COUNT = 2;
+
+    @Autowired
+    private CardDueReminderAdapter cardDueReminderAdapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        // given: 시드 카드 중 일부만 마감이 다가오는 미완료 카드로 맞추고, 버킷은 컬럼 추가 전처럼 비워 둠
+        now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        entityManager.createNativeQuery("UPDATE cards SET due_date = NULL, reminder_bucket = NULL").executeUpdate();
+        for (int i = 0; i < DUE_CARD_IDS.size(); i++) {
+            entityManager.createNativeQuery("""
+                    UPDATE cards SET due_date = ?, is_completed = false, archived = false, reminded_due_date = NULL
+                    WHERE card_id = ?
+                    """)
+                    .setParameter(1, now.plus(10 + i, ChronoUnit.MINUTES))
+                    .setParameter(2, DUE_CARD_IDS.get(i))
+                    .executeUpdate();
+        }
+    }
+
+    @Test
+    @DisplayName("버킷이 채워진 카드는 맡은 샤드의 카드만 조회한다")
+    void findUnreminded_ShouldFilterByShardInQuery() {
+        // given
+        List<String> shardZero = DUE_CARD_IDS.stream()
+                .filter(cardId -> CardEntity.reminderBucketOf(cardId) % SHARD_COUNT == 0)
+                .toList();
+        assertThat(shardZero).isNotEmpty().hasSizeLessThan(DUE_CARD_IDS.size());
+
+        // when: 처음 읽을 때는 버킷이 비어 있어 모두 읽고 버킷을 채움
+        List<DueCard> first = findShardZero();
+        List<DueCard> second = findShardZero();
+
+        // then
+        assertThat(first).extracting(card -> card.cardId().getId()).containsExactlyElementsOf(DUE_CARD_IDS);
+        assertThat(second).extracting(card -> card.cardId().getId()).containsExactlyElementsOf(shardZero);
+        assertThat(entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM cards WHERE due_date IS NOT NULL AND reminder_bucket IS NULL")
+                .getSingleResult())
+                .isEqualTo(0L);
+    }
+
+    private List<DueCard> findShardZero() {
+        return cardDueReminderAdapter.findUnreminded(now, null, now.plus(1, ChronoUnit.HOURS), SHARD_COUNT, Set.of(0),
+                100);
+    }
+}
@@ -0,0 +1,105 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.CardPriority;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.infrastructure.metrics.SqlStatementRecording;
+import com.boardly.shared.infrastructure.persistence.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:card-entity;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.boardly.shared.infrastructure.metrics.CountingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JpaConfig.class, CardRepositoryImpl.class, CardMapper.class, CardMemberMapper.class })
+@DisplayName("CardEntity 영속성 테스트")
+class CardEntityPersistenceTest {
+
+    @Autowired
+    private CardRepositoryImpl cardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("우선순위만 바꾸면 바뀐 컬럼만 버전 조건과 함께 UPDATE 한다")
+    void save_WithPriorityChange_ShouldIssueOneNarrowUpdate() {
+        // given
+        Card card = cardRepository.findById(new CardId("card-5")).orElseThrow();
+        card.setPriority(CardPriority.LOW);
+
+        // when
+        List<String> statements = recordSaveAndFlush(card);
+
+        // then
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0))
+                .startsWith("update cards set ")
+                .contains("priority=?", "updated_at=?", "version=?")
+                .doesNotContain("title=?", "description=?", "list_id=?")
+                .endsWith("where card_id=? and version=?");
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 아무 SQL도 실행하지 않는다")
+    void save_WithoutChanges_ShouldIssueNoStatement() {
+        // given
+        Card card = cardRepository.findById(new CardId("card-5")).orElseThrow();
+
+        // when
+        List<String> statements = recordSaveAndFlush(card);
+
+        // then
+        assertThat(statements).isEmpty();
+    }
+
+    @Test
+    @DisplayName("담당자를 바꾸면 바뀐 담당자 행만 추가하고 삭제한다")
+    void save_WithAssigneeChange_ShouldTouchOnlyChangedRows() {
+        // given
+        Card card = cardRepository.findById(new CardId("card-1")).orElseThrow();
+        card.unassignMember(new UserId("user-2"));
+        card.assignMember(new UserId("user-1"));
+
+        // when
+        List<String> statements = recordSaveAndFlush(card);
+
+        // then
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert into card_members")).hasSize(1);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("delete from card_members")).hasSize(1);
+        assertThat(statements).hasSize(2);
+        assertThat(cardRepository.findById(new CardId("card-1")).orElseThrow().getAssignedMembers())
+                .extracting(member -> member.getUserId().getId())
+                .containsExactlyInAnyOrder("user-1", "user-3");
+    }
+
+    /**
+     * 저장과 플러시 사이에 실행된 SQL을 실행 횟수만큼 돌려줍니다.
+     */
+    private List<String> recordSaveAndFlush(Card card) {
+        try (SqlStatementRecording recording = SqlStatementRecording.start(false)) {
+            cardRepository.save(card).get();
+            entityManager.flush();
+            return recording.repeatedStatements(1).stream()
+                    .flatMap(statement -> Collections.nCopies(statement.count(), statement.sql()).stream())
+                    .toList();
+        }
+    }
+}
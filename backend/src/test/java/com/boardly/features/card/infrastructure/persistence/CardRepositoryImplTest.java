@@ -0,0 +1,198 @@
+package com.boardly.features.card.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.user.domain.model.UserId;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CardRepositoryImpl 카드 수 카운터 테스트")
+class CardRepositoryImplTest {
+
+    @Mock
+    private CardJpaRepository cardJpaRepository;
+
+    @Mock
+    private CardMapper cardMapper;
+
+    @InjectMocks
+    private CardRepositoryImpl cardRepository;
+
+    private static Card card(String cardId, String listId) {
+        return Card.restore(new CardId(cardId), "카드 " + cardId, null, 0, null, null, false,
+                new ListId(listId), null, false, new UserId("user-1"), new HashSet<>(),
+                Instant.now(), Instant.now());
+    }
+
+    private static CardEntity entity(String cardId, String listId) {
+        return CardEntity.builder()
+                .cardId(cardId)
+                .title("카드 " + cardId)
+                .position(0)
+                .listId(listId)
+                .createdBy("user-1")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .assignedMembers(new HashSet<>())
+                .build();
+    }
+
+    private void givenNewCard(Card card) {
+        String cardId = card.getCardId().getId();
+        CardEntity saved = entity(cardId, card.getListId().getId());
+        when(cardJpaRepository.findById(cardId)).thenReturn(Optional.empty());
+        when(cardMapper.toEntity(card)).thenReturn(saved);
+        when(cardJpaRepository.save(saved)).thenReturn(saved);
+        when(cardMapper.toDomain(saved)).thenReturn(card);
+    }
+
+    private void givenExistingCard(String cardId, String storedListId) {
+        CardEntity existing = entity(cardId, storedListId);
+        when(cardJpaRepository.findById(cardId)).thenReturn(Optional.of(existing));
+        when(cardMapper.toDomain(existing)).thenReturn(card(cardId, storedListId));
+    }
+
+    @Test
+    @DisplayName("새 카드를 저장하면 리스트 카드 수를 1 늘린다")
+    void save_NewCard_ShouldIncrementListCount() {
+        // given
+        Card card = card("card-1", "list-1");
+        givenNewCard(card);
+
+        // when
+        var result = cardRepository.save(card);
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        verify(cardJpaRepository).adjustCardCount("list-1", 1);
+    }
+
+    @Test
+    @DisplayName("다른 리스트로 옮긴 카드를 저장하면 이전 리스트는 1 줄이고 새 리스트는 1 늘린다")
+    void save_MovedCard_ShouldMoveCount() {
+        // given
+        givenExistingCard("card-1", "list-1");
+
+        // when
+        var result = cardRepository.save(card("card-1", "list-2"));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        verify(cardJpaRepository).adjustCardCount("list-1", -1);
+        verify(cardJpaRepository).adjustCardCount("list-2", 1);
+        verify(cardJpaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 리스트 안에서 저장하면 카드 수를 건드리지 않는다")
+    void save_SameList_ShouldNotTouchCount() {
+        // given
+        givenExistingCard("card-1", "list-1");
+
+        // when
+        cardRepository.save(card("card-1", "list-1"));
+
+        // then
+        verify(cardJpaRepository, never()).adjustCardCount(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 카드를 함께 저장하면 리스트별 증감량을 합쳐 한 번씩 반영한다")
+    void saveAll_ShouldAggregateDeltasPerList() {
+        // given: 복제로 list-2에 새 카드 2장, list-1에서 list-2로 1장 이동, list-1에서 제자리 저장 1장
+        Card cloned1 = card("clone-1", "list-2");
+        Card cloned2 = card("clone-2", "list-2");
+        givenNewCard(cloned1);
+        givenNewCard(cloned2);
+        givenExistingCard("card-1", "list-1");
+        givenExistingCard("card-2", "list-1");
+
+        // when
+        var saved = cardRepository.saveAll(List.of(cloned1, cloned2,
+                card("card-1", "list-2"), card("card-2", "list-1")));
+
+        // then
+        assertThat(saved).hasSize(4);
+        verify(cardJpaRepository).adjustCardCount("list-2", 3);
+        verify(cardJpaRepository).adjustCardCount("list-1", -1);
+    }
+
+    @Test
+    @DisplayName("여러 카드 저장에서 증감이 상쇄되면 해당 리스트는 반영하지 않는다")
+    void saveAll_CancellingMoves_ShouldSkipZeroDelta() {
+        // given: list-1 → list-2, list-2 → list-1 맞교환
+        givenExistingCard("card-1", "list-1");
+        givenExistingCard("card-2", "list-2");
+
+        // when
+        cardRepository.saveAll(List.of(card("card-1", "list-2"), card("card-2", "list-1")));
+
+        // then
+        verify(cardJpaRepository, never()).adjustCardCount(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카드를 삭제하면 소속 리스트 카드 수를 1 줄인다")
+    void delete_ShouldDecrementListCount() {
+        // given
+        when(cardJpaRepository.findListIdByCardId("card-1")).thenReturn(Optional.of("list-1"));
+
+        // when
+        var result = cardRepository.delete(new CardId("card-1"));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        verify(cardJpaRepository).deleteById("card-1");
+        verify(cardJpaRepository).adjustCardCount("list-1", -1);
+    }
+
+    @Test
+    @DisplayName("없는 카드를 삭제하면 NOT_FOUND를 돌려주고 카드 수를 건드리지 않는다")
+    void delete_Missing_ShouldNotTouchCount() {
+        // given
+        when(cardJpaRepository.findListIdByCardId("card-1")).thenReturn(Optional.empty());
+
+        // when
+        var result = cardRepository.delete(new CardId("card-1"));
+
+        // then
+        assertThat(result.isLeft()).isTrue();
+        verify(cardJpaRepository, never()).deleteById(anyString());
+        verify(cardJpaRepository, never()).adjustCardCount(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("리스트의 카드를 모두 삭제하면 리스트 카드 수를 0으로 맞춘다")
+    void deleteByListId_ShouldResetListCount() {
+        // when
+        var result = cardRepository.deleteByListId(new ListId("list-1"));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        verify(cardJpaRepository).deleteByListId("list-1");
+        verify(cardJpaRepository).resetCardCount("list-1");
+    }
+}
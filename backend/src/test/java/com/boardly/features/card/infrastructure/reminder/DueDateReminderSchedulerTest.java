@@ -0,0 +1,352 @@
+package com.boardly.features.card.infrastructure.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.features.card.application.port.output.CardDueReminderPort;
+import com.boardly.features.card.application.port.output.CardDueReminderPort.DueCard;
+import com.boardly.features.card.application.service.CardDueReminderService;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.infrastructure.config.CardReminderProperties;
+import com.boardly.features.card.infrastructure.persistence.CardReminderLeaseEntity;
+import com.boardly.features.card.infrastructure.persistence.CardReminderLeaseJpaRepository;
+import com.boardly.features.card.infrastructure.persistence.CardReminderNodeJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueDateReminderScheduler 테스트")
+class DueDateReminderSchedulerTest {
+
+    @Mock
+    private CardDueReminderPort cardDueReminderPort;
+
+    @Mock
+    private CardDueReminderService cardDueReminderService;
+
+    @Mock
+    private CardReminderLeaseJpaRepository leaseJpaRepository;
+
+    @Mock
+    private CardReminderNodeJpaRepository nodeJpaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private CardReminderProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DueDateReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CardReminderProperties();
+        properties.setLeadMinutes(60);
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        scheduler = new DueDateReminderScheduler(cardDueReminderPort, cardDueReminderService, leaseJpaRepository,
+                nodeJpaRepository, properties, new TransactionTemplate(transactionManager), meterRegistry);
+    }
+
+    private void givenSingleShard(boolean acquired) {
+        CardReminderLeaseEntity lease = mock(CardReminderLeaseEntity.class);
+        lenient().when(lease.getLeaseName()).thenReturn("card-reminder-0");
+        lenient().when(lease.getLeaseUntil()).thenReturn(Instant.EPOCH);
+        when(leaseJpaRepository.findAllByOrderByLeaseNameAsc())
+                .thenReturn(List.of(lease));
+        lenient().when(leaseJpaRepository.tryAcquire(eq("card-reminder-0"), anyString(), any(), any()))
+                .thenReturn(acquired ? 1 : 0);
+    }
+
+    private DueCard dueIn(String cardId, long minutes) {
+        return new DueCard(new CardId(cardId),
+                Instant.now().plus(minutes, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("알림 시각이 지난 카드는 다음 틱에 보내고, 아직 이른 카드는 보내지 않는다")
+    void tick_ShouldFireOnlyCardsWhoseReminderTimeHasPassed() {
+        // given
+        givenSingleShard(true);
+        DueCard soon = dueIn("card-1", 30);
+        DueCard later = dueIn("card-2", 65);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), anyInt())).thenReturn(List.of(soon, later));
+        when(cardDueReminderService.remind(soon.cardId(), soon.dueDate())).thenReturn(true);
+
+        // when
+        scheduler.reload();
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderService).remind(soon.cardId(), soon.dueDate());
+        verify(cardDueReminderService, never()).remind(later.cardId(), later.dueDate());
+        assertThat(meterRegistry.counter(DueDateReminderScheduler.REMINDER_METRIC, "outcome", "sent").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 마지막 (마감일, 카드 ID) 다음부터 이어서 읽는다")
+    void reload_WhenBatchIsFull_ShouldContinueFromLastKey() {
+        // given
+        givenSingleShard(true);
+        DueCard first = dueIn("card-1", 10);
+        DueCard second = dueIn("card-2", 20);
+        DueCard third = dueIn("card-3", 30);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), eq(2))).thenReturn(List.of(first, second));
+        when(cardDueReminderPort.findUnreminded(eq(second.dueDate()), eq(second.cardId()), any(), anyInt(), any(), eq(2)))
+                .thenReturn(List.of(third));
+
+        // when
+        scheduler.reload();
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderService).remind(first.cardId(), first.dueDate());
+        verify(cardDueReminderService).remind(second.cardId(), second.dueDate());
+        verify(cardDueReminderService).remind(third.cardId(), third.dueDate());
+    }
+
+    @Test
+    @DisplayName("마감일이 바뀌면 예전 예약은 버리고 새 마감일로 보낸다")
+    void dueDateChanged_ShouldReplaceStaleReminder() {
+        // given
+        givenSingleShard(true);
+        DueCard original = dueIn("card-1", 30);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), anyInt())).thenReturn(List.of(original));
+        scheduler.reload();
+        Instant moved = original.dueDate().plus(5, ChronoUnit.MINUTES);
+
+        // when
+        scheduler.dueDateChanged(original.cardId(), moved);
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderService, never()).remind(original.cardId(), original.dueDate());
+        verify(cardDueReminderService).remind(original.cardId(), moved);
+    }
+
+    @Test
+    @DisplayName("맡은 샤드를 조회 조건으로 넘긴다")
+    void reload_ShouldPassOwnedShardsToQuery() {
+        // given
+        givenSingleShard(true);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        // when
+        scheduler.reload();
+
+        // then
+        verify(cardDueReminderPort).findUnreminded(any(), isNull(), any(), eq(1), eq(Set.of(0)), eq(2));
+    }
+
+    @Test
+    @DisplayName("재적재가 조회하는 동안 바뀐 마감일은 조회 결과로 덮어쓰지 않는다")
+    void reload_WhenRescheduledDuringQuery_ShouldKeepNewerReminder() {
+        // given: 첫 재적재로 적재 범위를 잡아 둠
+        givenSingleShard(true);
+        DueCard original = dueIn("card-1", 30);
+        Instant moved = original.dueDate().plus(5, ChronoUnit.MINUTES);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), anyInt()))
+                .thenReturn(List.of(original))
+                .thenAnswer(invocation -> {
+                    // 조회 결과가 나온 뒤, 교체 전에 다른 트랜잭션의 커밋 후 재예약이 끼어듦
+                    scheduler.dueDateChanged(original.cardId(), moved);
+                    return List.of(original);
+                });
+        scheduler.reload();
+
+        // when
+        scheduler.reload();
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderService).remind(original.cardId(), moved);
+        verify(cardDueReminderService, never()).remind(original.cardId(), original.dueDate());
+    }
+
+    @Test
+    @DisplayName("마감일이 삭제되면 예약을 취소한다")
+    void dueDateChanged_WhenRemoved_ShouldCancelReminder() {
+        // given
+        givenSingleShard(true);
+        DueCard original = dueIn("card-1", 30);
+        when(cardDueReminderPort.findUnreminded(any(), isNull(), any(), anyInt(), any(), anyInt())).thenReturn(List.of(original));
+        scheduler.reload();
+
+        // when
+        scheduler.dueDateChanged(original.cardId(), null);
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderService, never()).remind(any(), any());
+    }
+
+    @Test
+    @DisplayName("샤드 리스를 잡지 못하면 적재하지 않는다")
+    void reload_WhenNoShardAcquired_ShouldNotLoad() {
+        // given
+        givenSingleShard(false);
+
+        // when
+        scheduler.reload();
+        scheduler.tick();
+
+        // then
+        verify(cardDueReminderPort, never()).findUnreminded(any(), any(), any(), anyInt(), any(), anyInt());
+        verify(cardDueReminderService, never()).remind(any(), any());
+    }
+
+    private List<CardReminderLeaseEntity> givenShards(int count, String owner, Instant leaseUntil) {
+        List<CardReminderLeaseEntity> leases = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CardReminderLeaseEntity lease = mock(CardReminderLeaseEntity.class);
+            lenient().when(lease.getLeaseName()).thenReturn("card-reminder-" + i);
+            lenient().when(lease.getOwner()).thenReturn(owner);
+            lenient().when(lease.getLeaseUntil()).thenReturn(leaseUntil);
+            leases.add(lease);
+        }
+        when(leaseJpaRepository.findAllByOrderByLeaseNameAsc())
+                .thenReturn(leases);
+        lenient().when(leaseJpaRepository.tryAcquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        return leases;
+    }
+
+    @Test
+    @DisplayName("혼자 떠 있으면 모든 샤드를 맡는다")
+    void acquireShards_WhenAlone_ShouldTakeAllShards() {
+        // given
+        givenShards(8, null, Instant.EPOCH);
+        when(nodeJpaRepository.countByHeartbeatAtAfter(any())).thenReturn(1L);
+
+        // when
+        Set<Integer> owned = scheduler.acquireShards();
+
+        // then
+        assertThat(owned).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("살아 있는 노드가 여럿이면 기본값에서 샤드를 나눠 맡는다")
+    void acquireShards_WithLiveNodes_ShouldTakeBalancedShare() {
+        // given
+        givenShards(8, null, Instant.EPOCH);
+        when(nodeJpaRepository.countByHeartbeatAtAfter(any())).thenReturn(3L);
+
+        // when
+        Set<Integer> owned = scheduler.acquireShards();
+
+        // then: ceil(8 / 3)
+        assertThat(owned).hasSize(3);
+        verify(leaseJpaRepository, times(3)).tryAcquire(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 노드가 뜨면 몫을 넘는 샤드 리스를 바로 내려놓는다")
+    void acquireShards_WhenNodeJoins_ShouldReleaseSurplusShards() {
+        // given: 혼자일 때 8개를 모두 잡은 뒤 두 번째 노드가 하트비트를 남김
+        givenShards(8, null, Instant.EPOCH);
+        when(nodeJpaRepository.countByHeartbeatAtAfter(any())).thenReturn(1L);
+        scheduler.acquireShards();
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(leaseJpaRepository, times(8)).tryAcquire(anyString(), owner.capture(), any(), any());
+        givenShards(8, owner.getValue(), Instant.now().plusSeconds(60));
+        when(nodeJpaRepository.countByHeartbeatAtAfter(any())).thenReturn(2L);
+
+        // when
+        Set<Integer> owned = scheduler.acquireShards();
+
+        // then
+        assertThat(owned).hasSize(4);
+        IntStream.range(4, 8).forEach(i -> verify(leaseJpaRepository)
+                .release(eq("card-reminder-" + i), eq(owner.getValue()), any()));
+        verify(leaseJpaRepository, never()).release(eq("card-reminder-0"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("노드당 최대 샤드 수를 지정하면 노드 수와 관계없이 그 수까지만 맡는다")
+    void acquireShards_WithExplicitLimit_ShouldUseIt() {
+        // given
+        properties.setMaxShardsPerNode(2);
+        givenShards(8, null, Instant.EPOCH);
+
+        // when
+        Set<Integer> owned = scheduler.acquireShards();
+
+        // then
+        assertThat(owned).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("재적재와 틱은 기본 스케줄러가 아닌 전용 스레드에서 돈다")
+    void start_ShouldRunOnDedicatedScheduler() {
+        // given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(leaseJpaRepository.findAllByOrderByLeaseNameAsc())
+                .thenAnswer(invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    return List.of();
+                });
+
+        // when
+        scheduler.start();
+        try {
+            verify(leaseJpaRepository, timeout(5_000).atLeastOnce())
+                    .findAllByOrderByLeaseNameAsc();
+
+            // then
+            assertThat(scheduler.isRunning()).isTrue();
+            assertThat(threads).allMatch(name -> name.startsWith("card-reminder-"));
+        } finally {
+            scheduler.stop();
+        }
+        assertThat(scheduler.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 스케줄러를 띄우지 않는다")
+    void start_WhenDisabled_ShouldNotRun() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        scheduler.start();
+
+        // then
+        assertThat(scheduler.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.boardly.features.card.infrastructure.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private List<String> advance(TimingWheel<String> wheel, long nowMs) {
+        List<String> expired = new ArrayList<>();
+        wheel.advance(nowMs, expired::add);
+        return expired;
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 만료 순서대로 돌려준다")
+    void advance_ShouldReturnExpiredEntriesInOrder() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, START);
+        wheel.add(START + 50, "b");
+        wheel.add(START + 20, "a");
+        wheel.add(START + 70, "c");
+
+        // when
+        List<String> first = advance(wheel, START + 55);
+        List<String> second = advance(wheel, START + 100);
+
+        // then
+        assertThat(first).containsExactly("a", "b");
+        assertThat(second).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 항목은 상위 휠을 거쳐 제때 만료된다")
+    void advance_WhenBeyondInterval_ShouldCascadeFromOverflowWheel() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, START);
+        wheel.add(START + 1_234, "far");
+        wheel.add(START + 30_000, "farther");
+
+        // when
+        List<String> beforeDue = advance(wheel, START + 1_200);
+        List<String> due = advance(wheel, START + 1_240);
+
+        // then
+        assertThat(beforeDue).isEmpty();
+        assertThat(due).containsExactly("far");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(wheel, START + 29_990)).isEmpty();
+        assertThat(advance(wheel, START + 30_000)).containsExactly("farther");
+    }
+
+    @Test
+    @DisplayName("이미 만료된 시각으로 추가한 항목은 다음 확인 때 바로 돌려준다")
+    void add_WhenAlreadyExpired_ShouldReturnOnNextAdvance() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, START);
+
+        // when
+        wheel.add(START - 5_000, "overdue");
+
+        // then
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(wheel, START)).containsExactly("overdue");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("확인이 늦어져도 그 사이 만료된 항목을 모두 돌려준다")
+    void advance_WhenLate_ShouldReturnEverythingExpiredSoFar() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, START);
+        for (int i = 1; i <= 20; i++) {
+            wheel.add(START + i * 100L, "e" + i);
+        }
+
+        // when
+        List<String> expired = advance(wheel, START + 10_000);
+
+        // then
+        assertThat(expired).hasSize(20).startsWith("e1", "e2").endsWith("e20");
+    }
+}
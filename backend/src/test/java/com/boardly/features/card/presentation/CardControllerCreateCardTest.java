@@ -69,6 +69,7 @@ class CardControllerCreateCardTest {
                 null, // deleteCardUseCase
                 null, // manageCardMemberUseCase
                 null, // manageCardLabelUseCase
+                null, // getAssignedCardsUseCase
                 failureHandler);
 
         when(jwt.getSubject()).thenReturn(TEST_USER_ID);
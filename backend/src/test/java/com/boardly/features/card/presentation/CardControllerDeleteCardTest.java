@@ -55,6 +55,7 @@ class CardControllerDeleteCardTest {
                 deleteCardUseCase,
                 null, // manageCardMemberUseCase
                 null, // manageCardLabelUseCase
+                null, // getAssignedCardsUseCase
                 failureHandler);
 
         when(jwt.getSubject()).thenReturn(TEST_USER_ID);
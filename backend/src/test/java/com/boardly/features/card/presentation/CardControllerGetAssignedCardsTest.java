@@ -0,0 +1,128 @@
+package com.boardly.features.card.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.input.GetAssignedCardsQuery;
+import com.boardly.features.card.application.usecase.GetAssignedCardsUseCase;
+import com.boardly.features.card.domain.model.AssignedCard;
+import com.boardly.features.card.domain.model.AssignedCardPage;
+import com.boardly.features.card.domain.model.CardId;
+import com.boardly.features.card.domain.model.CardPriority;
+import com.boardly.features.card.presentation.response.AssignedCardPageResponse;
+import com.boardly.shared.domain.common.Failure;
+import com.boardly.shared.presentation.ApiFailureHandler;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+class CardControllerGetAssignedCardsTest {
+
+    private CardController cardController;
+
+    @Mock
+    private GetAssignedCardsUseCase getAssignedCardsUseCase;
+
+    @Mock
+    private ApiFailureHandler failureHandler;
+
+    @Mock
+    private Jwt jwt;
+
+    @Mock
+    private MockHttpServletRequest httpRequest;
+
+    private static final String TEST_USER_ID = "test-user-id";
+
+    @BeforeEach
+    void setUp() {
+        cardController = new CardController(
+                null, // createCardUseCase
+                null, // cardQueryUseCase
+                null, // getCardDetailUseCase
+                null, // updateCardUseCase
+                null, // moveCardUseCase
+                null, // cloneCardUseCase
+                null, // deleteCardUseCase
+                null, // manageCardMemberUseCase
+                null, // manageCardLabelUseCase
+                getAssignedCardsUseCase,
+                failureHandler);
+
+        when(jwt.getSubject()).thenReturn(TEST_USER_ID);
+    }
+
+    private AssignedCard assignedCard(String cardId, Instant dueDate, boolean completed) {
+        return new AssignedCard(1L, Instant.now(), new CardId(cardId), "카드 " + cardId,
+                new ListId("list-1"), "할 일", new BoardId("board-1"), "테스트 보드",
+                dueDate, CardPriority.HIGH, completed);
+    }
+
+    @Test
+    @DisplayName("할당된 카드 조회 성공 시 카드 목록과 다음 커서를 반환한다")
+    void getAssignedCards_withValidRequest_shouldReturn200() {
+        // given
+        AssignedCardPage page = new AssignedCardPage(List.of(
+                assignedCard("card-1", Instant.now().minusSeconds(3600), false),
+                assignedCard("card-2", null, true)), "next-cursor");
+        when(getAssignedCardsUseCase.getAssignedCards(any(GetAssignedCardsQuery.class)))
+                .thenReturn(Either.right(page));
+
+        // when
+        ResponseEntity<?> response = cardController.getAssignedCards("overdue", null, 2, httpRequest, jwt);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        AssignedCardPageResponse body = (AssignedCardPageResponse) response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.cards()).hasSize(2);
+        assertThat(body.cards().get(0).boardTitle()).isEqualTo("테스트 보드");
+        assertThat(body.cards().get(0).priority()).isEqualTo("high");
+        assertThat(body.cards().get(0).isOverdue()).isTrue();
+        assertThat(body.cards().get(1).isOverdue()).isFalse();
+        assertThat(body.nextCursor()).isEqualTo("next-cursor");
+        assertThat(body.hasNext()).isTrue();
+
+        ArgumentCaptor<GetAssignedCardsQuery> captor = ArgumentCaptor.forClass(GetAssignedCardsQuery.class);
+        verify(getAssignedCardsUseCase).getAssignedCards(captor.capture());
+        assertThat(captor.getValue().userId().getId()).isEqualTo(TEST_USER_ID);
+        assertThat(captor.getValue().filter()).isEqualTo("overdue");
+        assertThat(captor.getValue().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("할당된 카드 조회 실패 시 failureHandler가 호출되어야 한다")
+    void getAssignedCards_withFailure_shouldCallFailureHandler() {
+        // given
+        Failure failure = Failure.ofInputError("입력 데이터가 올바르지 않습니다");
+        when(getAssignedCardsUseCase.getAssignedCards(any(GetAssignedCardsQuery.class)))
+                .thenReturn(Either.left(failure));
+        when(failureHandler.handleFailure(failure)).thenReturn(ResponseEntity.badRequest().build());
+
+        // when
+        ResponseEntity<?> response = cardController.getAssignedCards("unknown", null, null, httpRequest, jwt);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(failureHandler).handleFailure(failure);
+    }
+}
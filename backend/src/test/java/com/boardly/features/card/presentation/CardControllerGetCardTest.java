@@ -66,6 +66,7 @@ class CardControllerGetCardTest {
                 null, // deleteCardUseCase
                 null, // manageCardMemberUseCase
                 null, // manageCardLabelUseCase
+                null, // getAssignedCardsUseCase
                 failureHandler);
 
         when(jwt.getSubject()).thenReturn(TEST_USER_ID);
@@ -62,6 +62,7 @@ class CardControllerManageCardLabelTest {
                 null, // deleteCardUseCase
                 null, // manageCardMemberUseCase
                 manageCardLabelUseCase,
+                null, // getAssignedCardsUseCase
                 failureHandler);
 
         when(jwt.getSubject()).thenReturn(TEST_USER_ID);
@@ -59,6 +59,7 @@ class CardControllerManageCardMemberTest {
             null, // deleteCardUseCase
             manageCardMemberUseCase,
             null, // manageCardLabelUseCase
+            null, // getAssignedCardsUseCase
             failureHandler
         );
 
@@ -68,6 +68,7 @@ class CardControllerMoveCardTest {
                 null, // deleteCardUseCase
                 null, // manageCardMemberUseCase
                 null, // manageCardLabelUseCase
+                null, // getAssignedCardsUseCase
                 failureHandler);
 
         when(jwt.getSubject()).thenReturn(TEST_USER_ID);
@@ -21,15 +21,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.boardly.features.activity.application.helper.ActivityHelper;
 import com.boardly.features.activity.domain.model.ActivityType;
-import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
-import com.boardly.features.board.domain.repository.BoardRepository;
-import com.boardly.features.boardlist.domain.model.BoardList;
 import com.boardly.features.boardlist.domain.model.ListId;
-import com.boardly.features.boardlist.domain.repository.BoardListRepository;
-import com.boardly.features.card.domain.model.Card;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.domain.model.CardAncestry;
 import com.boardly.features.card.domain.model.CardId;
-import com.boardly.features.card.domain.repository.CardRepository;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.comment.application.port.input.CreateCommentCommand;
 import com.boardly.features.comment.application.validation.CommentValidator;
 import com.boardly.features.comment.domain.model.Comment;
@@ -55,13 +52,7 @@ class CommentCreateServiceTest {
         private CommentRepository commentRepository;
 
         @Mock
-        private CardRepository cardRepository;
-
-        @Mock
-        private BoardListRepository boardListRepository;
-
-        @Mock
-        private BoardRepository boardRepository;
+        private CardAncestryPort cardAncestryPort;
 
         @Mock
         private ActivityHelper activityHelper;
@@ -74,9 +65,7 @@ class CommentCreateServiceTest {
                                 commentValidator,
                                 validationMessageResolver,
                                 commentRepository,
-                                cardRepository,
-                                boardListRepository,
-                                boardRepository,
+                                cardAncestryPort,
                                 activityHelper);
 
                 // 공통으로 사용되는 메시지 설정
@@ -86,11 +75,6 @@ class CommentCreateServiceTest {
                                 .thenReturn("카드를 찾을 수 없습니다.");
                 lenient().when(validationMessageResolver.getMessage("error.service.comment.create.card.fetch.failed"))
                                 .thenReturn("카드 조회 중 오류가 발생했습니다.");
-                lenient().when(validationMessageResolver.getMessage("error.service.comment.create.boardlist.not.found"))
-                                .thenReturn("보드 리스트를 찾을 수 없습니다.");
-                lenient().when(validationMessageResolver
-                                .getMessage("error.service.comment.create.boardlist.fetch.failed"))
-                                .thenReturn("보드 리스트 조회 중 오류가 발생했습니다.");
                 lenient().when(validationMessageResolver.getMessage("error.service.comment.create.save.failed"))
                                 .thenReturn("댓글 저장 중 오류가 발생했습니다.");
         }
@@ -100,9 +84,7 @@ class CommentCreateServiceTest {
         class CreateCommentTest {
 
                 private CreateCommentCommand validCommand;
-                private Card existingCard;
-                private BoardList boardList;
-                private Board board;
+                private CardAncestry existingCard;
                 private Comment savedComment;
                 private UserId authorId;
                 private CardId cardId;
@@ -120,27 +102,9 @@ class CommentCreateServiceTest {
 
                         validCommand = new CreateCommentCommand(cardId, authorId, commentContent);
 
-                        // 기존 카드 Mock 설정
-                        existingCard = org.mockito.Mockito.mock(Card.class);
-                        lenient().when(existingCard.getCardId()).thenReturn(cardId);
-                        lenient().when(existingCard.getTitle()).thenReturn("테스트 카드");
-                        lenient().when(existingCard.getListId()).thenReturn(listId);
-
-                        // 보드 리스트 Mock 설정
-                        boardList = BoardList.builder()
-                                        .listId(listId)
-                                        .title("테스트 리스트")
-                                        .boardId(boardId)
-                                        .position(0)
-                                        .build();
-
-                        // 보드 Mock 설정
-                        board = Board.builder()
-                                        .boardId(boardId)
-                                        .title("테스트 보드")
-                                        .ownerId(authorId)
-                                        .isArchived(false)
-                                        .build();
+                        // 카드 → 리스트 → 보드 계층 정보 설정
+                        existingCard = new CardAncestry(cardId, "테스트 카드",
+                                        new ListAncestry(listId, "테스트 리스트", boardId, "테스트 보드", authorId, false));
 
                         // 저장된 댓글 Mock 설정
                         savedComment = org.mockito.Mockito.mock(Comment.class);
@@ -155,9 +119,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
 
                         // when
@@ -168,9 +130,7 @@ class CommentCreateServiceTest {
                         assertThat(result.get()).isEqualTo(savedComment);
 
                         verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
+                        verify(cardAncestryPort).findByCardId(cardId);
                         verify(commentRepository).save(any(Comment.class));
                         verify(activityHelper).logCardActivity(
                                         eq(ActivityType.CARD_ADD_COMMENT),
@@ -212,7 +172,7 @@ class CommentCreateServiceTest {
                         assertThat(((Failure.InputError) failure).getViolations()).hasSize(2);
 
                         verify(commentValidator).validateCreate(validCommand);
-                        verifyNoInteractions(cardRepository, boardListRepository, commentRepository, activityHelper);
+                        verifyNoInteractions(cardAncestryPort, commentRepository, activityHelper);
                 }
 
                 @Test
@@ -221,7 +181,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.empty());
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.empty());
 
                         // when
                         Either<Failure, Comment> result = commentCreateService.createComment(validCommand);
@@ -233,8 +193,8 @@ class CommentCreateServiceTest {
                         assertThat(failure.getMessage()).isEqualTo("카드를 찾을 수 없습니다.");
 
                         verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verifyNoInteractions(boardListRepository, commentRepository, activityHelper);
+                        verify(cardAncestryPort).findByCardId(cardId);
+                        verifyNoInteractions(commentRepository, activityHelper);
                 }
 
                 @Test
@@ -243,7 +203,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenThrow(new RuntimeException("데이터베이스 오류"));
+                        when(cardAncestryPort.findByCardId(cardId)).thenThrow(new RuntimeException("데이터베이스 오류"));
 
                         // when
                         Either<Failure, Comment> result = commentCreateService.createComment(validCommand);
@@ -255,55 +215,7 @@ class CommentCreateServiceTest {
                         assertThat(failure.getMessage()).isEqualTo("카드 조회 중 오류가 발생했습니다.");
 
                         verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verifyNoInteractions(boardListRepository, commentRepository, activityHelper);
-                }
-
-                @Test
-                @DisplayName("보드 리스트가 존재하지 않을 때 실패를 반환한다")
-                void shouldReturnFailureWhenBoardListNotFound() {
-                        // given
-                        ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
-                        when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.empty());
-
-                        // when
-                        Either<Failure, Comment> result = commentCreateService.createComment(validCommand);
-
-                        // then
-                        assertThat(result.isLeft()).isTrue();
-                        Failure failure = result.getLeft();
-                        assertThat(failure).isInstanceOf(Failure.NotFound.class);
-                        assertThat(failure.getMessage()).isEqualTo("보드 리스트를 찾을 수 없습니다.");
-
-                        verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verifyNoInteractions(commentRepository, activityHelper);
-                }
-
-                @Test
-                @DisplayName("보드 리스트 조회 중 예외 발생 시 실패를 반환한다")
-                void shouldReturnFailureWhenBoardListFetchFails() {
-                        // given
-                        ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
-                        when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenThrow(new RuntimeException("데이터베이스 오류"));
-
-                        // when
-                        Either<Failure, Comment> result = commentCreateService.createComment(validCommand);
-
-                        // then
-                        assertThat(result.isLeft()).isTrue();
-                        Failure failure = result.getLeft();
-                        assertThat(failure).isInstanceOf(Failure.InternalError.class);
-                        assertThat(failure.getMessage()).isEqualTo("보드 리스트 조회 중 오류가 발생했습니다.");
-
-                        verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
+                        verify(cardAncestryPort).findByCardId(cardId);
                         verifyNoInteractions(commentRepository, activityHelper);
                 }
 
@@ -313,8 +225,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class)))
                                         .thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
 
@@ -328,45 +239,11 @@ class CommentCreateServiceTest {
                         assertThat(failure.getMessage()).isEqualTo("댓글 저장 중 오류가 발생했습니다.");
 
                         verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
+                        verify(cardAncestryPort).findByCardId(cardId);
                         verify(commentRepository).save(any(Comment.class));
                         verifyNoInteractions(activityHelper);
                 }
 
-                @Test
-                @DisplayName("보드 정보가 없을 때도 댓글 생성이 성공한다")
-                void shouldCreateCommentSuccessfullyWhenBoardNotFound() {
-                        // given
-                        ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
-                        when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
-                        when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
-
-                        // when
-                        Either<Failure, Comment> result = commentCreateService.createComment(validCommand);
-
-                        // then
-                        assertThat(result.isRight()).isTrue();
-                        assertThat(result.get()).isEqualTo(savedComment);
-
-                        verify(commentValidator).validateCreate(validCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
-                        verify(commentRepository).save(any(Comment.class));
-                        verify(activityHelper).logCardActivity(
-                                        eq(ActivityType.CARD_ADD_COMMENT),
-                                        eq(authorId),
-                                        any(),
-                                        eq("알 수 없는 보드"),
-                                        eq(boardId),
-                                        eq(listId),
-                                        eq(cardId));
-                }
-
                 @Test
                 @DisplayName("긴 댓글 내용으로도 댓글 생성이 성공한다")
                 void shouldCreateCommentWithLongContentSuccessfully() {
@@ -377,9 +254,7 @@ class CommentCreateServiceTest {
 
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(longContentCommand);
                         when(commentValidator.validateCreate(longContentCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
 
                         // when
@@ -390,9 +265,7 @@ class CommentCreateServiceTest {
                         assertThat(result.get()).isEqualTo(savedComment);
 
                         verify(commentValidator).validateCreate(longContentCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
+                        verify(cardAncestryPort).findByCardId(cardId);
                         verify(commentRepository).save(any(Comment.class));
                 }
 
@@ -407,9 +280,7 @@ class CommentCreateServiceTest {
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult
                                         .valid(emptyContentCommand);
                         when(commentValidator.validateCreate(emptyContentCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
 
                         // when
@@ -420,9 +291,7 @@ class CommentCreateServiceTest {
                         assertThat(result.get()).isEqualTo(savedComment);
 
                         verify(commentValidator).validateCreate(emptyContentCommand);
-                        verify(cardRepository).findById(cardId);
-                        verify(boardListRepository).findById(listId);
-                        verify(boardRepository).findById(boardId);
+                        verify(cardAncestryPort).findByCardId(cardId);
                         verify(commentRepository).save(any(Comment.class));
                 }
 
@@ -432,9 +301,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
 
                         // when
@@ -457,9 +324,7 @@ class CommentCreateServiceTest {
                         // given
                         ValidationResult<CreateCommentCommand> validResult = ValidationResult.valid(validCommand);
                         when(commentValidator.validateCreate(validCommand)).thenReturn(validResult);
-                        when(cardRepository.findById(cardId)).thenReturn(Optional.of(existingCard));
-                        when(boardListRepository.findById(listId)).thenReturn(Optional.of(boardList));
-                        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+                        when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(existingCard));
                         when(commentRepository.save(any(Comment.class))).thenReturn(Either.right(savedComment));
 
                         // when
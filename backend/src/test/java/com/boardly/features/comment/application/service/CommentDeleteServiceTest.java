@@ -18,6 +18,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.boardlist.domain.model.ListId;
+import com.boardly.features.card.application.port.output.CardAncestryPort;
+import com.boardly.features.card.domain.model.CardAncestry;
+import com.boardly.features.card.domain.model.ListAncestry;
 import com.boardly.features.comment.application.port.input.DeleteCommentCommand;
 import com.boardly.features.comment.application.validation.CommentValidator;
 import com.boardly.features.comment.domain.model.Comment;
@@ -44,6 +50,12 @@ class CommentDeleteServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CardAncestryPort cardAncestryPort;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @InjectMocks
     private CommentDeleteService commentDeleteService;
 
@@ -86,6 +98,9 @@ class CommentDeleteServiceTest {
             when(commentValidator.validateDelete(command)).thenReturn(validResult);
             when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
             when(commentRepository.delete(commentId)).thenReturn(Either.right(null));
+            BoardId boardId = new BoardId("board-123");
+            when(cardAncestryPort.findByCardId(cardId)).thenReturn(Optional.of(new CardAncestry(cardId, "테스트 카드",
+                    new ListAncestry(new ListId("list-123"), "테스트 리스트", boardId, "테스트 보드", authorId, false))));
 
             // when
             Either<Failure, Void> result = commentDeleteService.deleteComment(command);
@@ -98,6 +113,7 @@ class CommentDeleteServiceTest {
             verify(commentValidator).validateDelete(command);
             verify(commentRepository).findById(commentId);
             verify(commentRepository).delete(commentId);
+            verify(boardDetailCache).invalidate(boardId);
         }
     }
 
@@ -10,10 +10,7 @@ import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.model.BoardRole;
-import com.boardly.features.boardlist.domain.model.BoardList;
-import com.boardly.features.boardlist.domain.model.ListId;
 import com.boardly.features.boardlist.domain.repository.BoardListRepository;
-import com.boardly.features.card.domain.model.Card;
 import com.boardly.features.card.domain.repository.CardRepository;
 import com.boardly.features.dashboard.application.dto.DashboardResponse;
 import com.boardly.features.dashboard.application.dto.DashboardStatisticsDto;
@@ -36,6 +33,7 @@ import org.mockito.quality.Strictness;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -103,10 +101,6 @@ class DashboardServiceTest {
         return new BoardId("test-board-id");
     }
 
-    private ListId createValidListId() {
-        return new ListId("test-list-id");
-    }
-
     private GetDashboardCommand createValidCommand(UserId userId) {
         return new GetDashboardCommand(userId);
     }
@@ -124,31 +118,6 @@ class DashboardServiceTest {
                 .build();
     }
 
-    private BoardList createValidBoardList(ListId listId, BoardId boardId) {
-        return BoardList.builder()
-                .listId(listId)
-                .title("테스트 리스트")
-                .description("테스트 리스트 설명")
-                .position(1)
-                .boardId(boardId)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-    }
-
-    private Card createValidCard(ListId listId) {
-        return Card.builder()
-                .cardId(new com.boardly.features.card.domain.model.CardId("test-card-id"))
-                .title("테스트 카드")
-                .description("테스트 카드 설명")
-                .position(1)
-                .listId(listId)
-                .createdBy(new UserId("test-user"))
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-    }
-
     private ActivityResponse createValidActivityResponse() {
         return ActivityResponse.builder()
                 .id("test-activity-id")
@@ -177,11 +146,8 @@ class DashboardServiceTest {
             UserId userId = createValidUserId();
             GetDashboardCommand command = createValidCommand(userId);
             BoardId boardId = createValidBoardId();
-            ListId listId = createValidListId();
 
             Board board = createValidBoard(boardId, userId, false);
-            BoardList boardList = createValidBoardList(listId, boardId);
-            Card card = createValidCard(listId);
             ActivityResponse activity = createValidActivityResponse();
 
             // Mock 설정
@@ -191,10 +157,10 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of(activity))));
-            when(boardListRepository.findByBoardId(boardId))
-                    .thenReturn(List.of(boardList));
-            when(cardRepository.findByListIdIn(List.of(listId)))
-                    .thenReturn(List.of(card));
+            when(boardListRepository.countByBoardIds(List.of(boardId)))
+                    .thenReturn(Map.of(boardId, 1L));
+            when(cardRepository.countByBoardIds(List.of(boardId)))
+                    .thenReturn(Map.of(boardId, 1L));
             when(boardPermissionService.getUserBoardRole(boardId, userId))
                     .thenReturn(Either.right(BoardRole.OWNER));
 
@@ -216,8 +182,9 @@ class DashboardServiceTest {
             verify(userFinder, atLeastOnce()).checkUserExists(userId);
             verify(boardQueryService, atLeastOnce()).getUserBoards(any(GetUserBoardsCommand.class));
             verify(activityReadService, atLeastOnce()).getActivities(any(GetActivityQuery.class));
-            verify(boardListRepository, atLeastOnce()).findByBoardId(boardId);
-            verify(cardRepository, atLeastOnce()).findByListIdIn(List.of(listId));
+            verify(boardListRepository, atLeastOnce()).countByBoardIds(List.of(boardId));
+            verify(cardRepository, atLeastOnce()).countByBoardIds(List.of(boardId));
+            verify(cardRepository, never()).findByListIdIn(anyList());
             verify(boardPermissionService, atLeastOnce()).getUserBoardRole(boardId, userId);
         }
 
@@ -240,8 +207,8 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of())));
-            when(boardListRepository.findByBoardId(any(BoardId.class)))
-                    .thenReturn(List.of());
+            when(boardListRepository.countByBoardIds(anyList()))
+                    .thenReturn(Map.of());
             when(boardPermissionService.getUserBoardRole(any(BoardId.class), eq(userId)))
                     .thenReturn(Either.right(BoardRole.OWNER));
 
@@ -494,11 +461,8 @@ class DashboardServiceTest {
             UserId userId = createValidUserId();
             GetDashboardCommand command = createValidCommand(userId);
             BoardId boardId = createValidBoardId();
-            ListId listId = createValidListId();
 
             Board board = createValidBoard(boardId, userId, true);
-            BoardList boardList = createValidBoardList(listId, boardId);
-            Card card = createValidCard(listId);
             ActivityResponse activity = createValidActivityResponse();
 
             // Mock 설정
@@ -508,10 +472,10 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of(activity))));
-            when(boardListRepository.findByBoardId(boardId))
-                    .thenReturn(List.of(boardList));
-            when(cardRepository.findByListIdIn(List.of(listId)))
-                    .thenReturn(List.of(card));
+            when(boardListRepository.countByBoardIds(List.of(boardId)))
+                    .thenReturn(Map.of(boardId, 1L));
+            when(cardRepository.countByBoardIds(List.of(boardId)))
+                    .thenReturn(Map.of(boardId, 1L));
             when(boardPermissionService.getUserBoardRole(boardId, userId))
                     .thenReturn(Either.right(BoardRole.OWNER));
 
@@ -552,8 +516,8 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of())));
-            when(boardListRepository.findByBoardId(boardId))
-                    .thenReturn(List.of());
+            when(boardListRepository.countByBoardIds(List.of(boardId)))
+                    .thenReturn(Map.of());
             when(boardPermissionService.getUserBoardRole(boardId, userId))
                     .thenReturn(Either.left(Failure.ofNotFound("역할을 찾을 수 없습니다")));
 
@@ -584,18 +548,10 @@ class DashboardServiceTest {
             GetDashboardCommand command = createValidCommand(userId);
             BoardId boardId1 = createValidBoardId();
             BoardId boardId2 = new BoardId("test-board-id-2");
-            ListId listId1 = createValidListId();
-            ListId listId2 = new ListId("test-list-id-2");
 
             Board board1 = createValidBoard(boardId1, userId, true); // 스타된 보드
             Board board2 = createValidBoard(boardId2, userId, false); // 스타되지 않은 보드
 
-            BoardList boardList1 = createValidBoardList(listId1, boardId1);
-            BoardList boardList2 = createValidBoardList(listId2, boardId2);
-
-            Card card1 = createValidCard(listId1);
-            Card card2 = createValidCard(listId2);
-            Card card3 = createValidCard(listId2); // 두 번째 리스트에 카드 2개
 
             ActivityResponse activity = createValidActivityResponse();
 
@@ -606,12 +562,10 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of(activity))));
-            when(boardListRepository.findByBoardId(boardId1))
-                    .thenReturn(List.of(boardList1));
-            when(boardListRepository.findByBoardId(boardId2))
-                    .thenReturn(List.of(boardList2));
-            when(cardRepository.findByListIdIn(Arrays.asList(listId1, listId2)))
-                    .thenReturn(List.of(card1, card2, card3));
+            when(boardListRepository.countByBoardIds(Arrays.asList(boardId1, boardId2)))
+                    .thenReturn(Map.of(boardId1, 1L, boardId2, 1L));
+            when(cardRepository.countByBoardIds(Arrays.asList(boardId1, boardId2)))
+                    .thenReturn(Map.of(boardId1, 1L, boardId2, 2L)); // 두 번째 보드에 카드 2개
             when(boardPermissionService.getUserBoardRole(any(BoardId.class), eq(userId)))
                     .thenReturn(Either.right(BoardRole.OWNER));
 
@@ -646,8 +600,8 @@ class DashboardServiceTest {
             when(activityReadService.getActivities(any(GetActivityQuery.class)))
                     .thenReturn(Either
                             .right(com.boardly.features.activity.application.port.output.ActivityListResponse.of(List.of())));
-            when(boardListRepository.findByBoardId(boardId))
-                    .thenThrow(new RuntimeException("리스트 조회 오류"));
+            when(cardRepository.countByBoardIds(List.of(boardId)))
+                    .thenThrow(new RuntimeException("카드 수 조회 오류"));
             when(boardPermissionService.getUserBoardRole(any(BoardId.class), eq(userId)))
                     .thenReturn(Either.right(BoardRole.OWNER));
 
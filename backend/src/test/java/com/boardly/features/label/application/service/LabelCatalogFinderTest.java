@@ -0,0 +1,174 @@
+package com.boardly.features.label.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.application.port.output.LabelCatalogCachePort;
+import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelCatalog;
+import com.boardly.features.label.domain.model.LabelId;
+import com.boardly.features.label.domain.repository.LabelRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LabelCatalogFinder 테스트")
+class LabelCatalogFinderTest {
+
+    @Mock
+    private LabelRepository labelRepository;
+
+    private LabelCatalogFinder labelCatalogFinder;
+    private BoardId boardId;
+
+    @BeforeEach
+    void setUp() {
+        labelCatalogFinder = new LabelCatalogFinder(labelRepository, new InMemoryLabelCatalogCache());
+        boardId = new BoardId("board-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("카탈로그는 보드 라벨을 이름순 그대로 담고 ID로 변환할 수 있다")
+    void findByBoardId_ShouldBuildCatalog() {
+        // given
+        Label bug = label("label-1", "bug");
+        Label feature = label("label-2", "feature");
+        when(labelRepository.findByBoardIdOrderByName(boardId)).thenReturn(List.of(bug, feature));
+
+        // when
+        LabelCatalog catalog = labelCatalogFinder.findByBoardId(boardId);
+
+        // then
+        assertThat(catalog.labels()).containsExactly(bug, feature);
+        assertThat(catalog.resolve(List.of(new LabelId("label-2"), new LabelId("unknown"), new LabelId("label-1"))))
+                .containsExactly(feature, bug);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 카탈로그는 다시 조회하지 않는다")
+    void findByBoardId_ShouldCacheCatalog() {
+        // given
+        when(labelRepository.findByBoardIdOrderByName(boardId)).thenReturn(List.of(label("label-1", "bug")));
+
+        // when
+        LabelCatalog first = labelCatalogFinder.findByBoardId(boardId);
+        LabelCatalog second = labelCatalogFinder.findByBoardId(boardId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(labelRepository, times(1)).findByBoardIdOrderByName(boardId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 캐시를 제거한다")
+    void evict_WithoutTransaction_ShouldEvictImmediately() {
+        // given
+        when(labelRepository.findByBoardIdOrderByName(boardId)).thenReturn(List.of());
+        labelCatalogFinder.findByBoardId(boardId);
+
+        // when
+        labelCatalogFinder.evict(boardId);
+
+        // then
+        assertThat(labelCatalogFinder.isCached(boardId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 캐시를 제거한다")
+    void evict_WithinTransaction_ShouldEvictAfterCommit() {
+        // given
+        when(labelRepository.findByBoardIdOrderByName(boardId)).thenReturn(List.of());
+        labelCatalogFinder.findByBoardId(boardId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        labelCatalogFinder.evict(boardId);
+
+        // then
+        assertThat(labelCatalogFinder.isCached(boardId)).isTrue();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(labelCatalogFinder.isCached(boardId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 도중 라벨 변경이 커밋되면 이전 카탈로그를 캐시에 남기지 않는다")
+    void findByBoardId_EvictedWhileLoading_ShouldNotCacheStaleCatalog() {
+        // given: 이전 라벨을 읽은 직후 다른 트랜잭션의 변경이 커밋되어 제거가 먼저 실행된다
+        Label stale = label("label-1", "bug");
+        Label fresh = label("label-1", "defect");
+        when(labelRepository.findByBoardIdOrderByName(boardId))
+                .thenAnswer(invocation -> {
+                    labelCatalogFinder.evict(boardId);
+                    return List.of(stale);
+                })
+                .thenReturn(List.of(fresh));
+
+        // when
+        LabelCatalog during = labelCatalogFinder.findByBoardId(boardId);
+        LabelCatalog after = labelCatalogFinder.findByBoardId(boardId);
+
+        // then
+        assertThat(during.labels()).containsExactly(stale);
+        assertThat(after.labels()).containsExactly(fresh);
+    }
+
+    private Label label(String id, String name) {
+        return Label.builder()
+                .labelId(new LabelId(id))
+                .boardId(boardId)
+                .name(name)
+                .color("#FF0000")
+                .build();
+    }
+
+    /**
+     * 보관 상한 없이 맵에 담아 두는 테스트용 캐시
+     */
+    private static final class InMemoryLabelCatalogCache implements LabelCatalogCachePort {
+
+        private final Map<String, LabelCatalog> catalogs = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<LabelCatalog> find(BoardId boardId) {
+            return Optional.ofNullable(catalogs.get(boardId.getId()));
+        }
+
+        @Override
+        public void put(BoardId boardId, LabelCatalog catalog) {
+            catalogs.put(boardId.getId(), catalog);
+        }
+
+        @Override
+        public void remove(BoardId boardId, LabelCatalog catalog) {
+            catalogs.remove(boardId.getId(), catalog);
+        }
+
+        @Override
+        public void evict(BoardId boardId) {
+            catalogs.remove(boardId.getId());
+        }
+    }
+}
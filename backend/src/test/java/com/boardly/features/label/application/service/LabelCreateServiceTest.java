@@ -22,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.repository.BoardRepository;
@@ -57,6 +58,12 @@ class LabelCreateServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private LabelCatalogFinder labelCatalogFinder;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @InjectMocks
     private LabelCreateService labelCreateService;
 
@@ -142,6 +149,8 @@ class LabelCreateServiceTest {
             verify(boardRepository).findById(boardId);
             verify(labelRepository).findByBoardIdAndName(boardId, validCommand.name());
             verify(labelRepository).save(any(Label.class));
+            verify(labelCatalogFinder).evict(boardId);
+            verify(boardDetailCache).invalidate(boardId);
         }
     }
 
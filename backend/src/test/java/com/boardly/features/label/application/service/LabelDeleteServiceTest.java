@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
@@ -55,6 +56,12 @@ class LabelDeleteServiceTest {
         @Mock
         private BoardPermissionService boardPermissionService;
 
+        @Mock
+        private LabelCatalogFinder labelCatalogFinder;
+
+        @Mock
+        private BoardDetailCache boardDetailCache;
+
         @InjectMocks
         private LabelDeleteService labelDeleteService;
 
@@ -151,6 +158,8 @@ class LabelDeleteServiceTest {
                         verify(boardPermissionService).canWriteBoard(testBoardId, testUserId);
                         verify(cardLabelRepository).deleteByLabelId(testLabelId);
                         verify(labelRepository).delete(testLabelId);
+                        verify(labelCatalogFinder).evict(testBoardId);
+                        verify(boardDetailCache).invalidate(testBoardId);
                 }
 
                 @Test
@@ -328,6 +337,7 @@ class LabelDeleteServiceTest {
                         verify(cardLabelRepository).deleteByLabelId(testLabelId);
                         verify(labelRepository).delete(testLabelId);
                         verify(messageResolver).getMessage("error.service.label.delete.internal");
+                        verify(labelCatalogFinder, never()).evict(any());
                 }
 
                 @Test
@@ -27,6 +27,7 @@ import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
 import com.boardly.features.board.domain.repository.BoardRepository;
 import com.boardly.features.label.domain.model.Label;
+import com.boardly.features.label.domain.model.LabelCatalog;
 import com.boardly.features.label.domain.model.LabelId;
 import com.boardly.features.label.domain.repository.LabelRepository;
 import com.boardly.features.user.domain.model.UserId;
@@ -48,6 +49,9 @@ class LabelReadServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private LabelCatalogFinder labelCatalogFinder;
+
     private LabelReadService labelReadService;
     private ValidationMessageResolver validationMessageResolver;
 
@@ -77,7 +81,8 @@ class LabelReadServiceTest {
                 });
 
         validationMessageResolver = new ValidationMessageResolver(messageSource);
-        labelReadService = new LabelReadService(labelRepository, boardRepository, validationMessageResolver);
+        labelReadService = new LabelReadService(labelRepository, boardRepository, validationMessageResolver,
+                labelCatalogFinder);
 
         // 테스트 데이터 설정
         testUserId = new UserId("user-1");
@@ -231,7 +236,7 @@ class LabelReadServiceTest {
         void getBoardLabels_withValidBoardId_shouldReturnLabels() {
             // given
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(testBoard));
-            when(labelRepository.findByBoardIdOrderByName(testBoardId)).thenReturn(testLabels);
+            when(labelCatalogFinder.findByBoardId(testBoardId)).thenReturn(LabelCatalog.of(testBoardId, testLabels));
 
             // when
             Either<Failure, List<Label>> result = labelReadService.getBoardLabels(testBoardId, testUserId);
@@ -244,7 +249,7 @@ class LabelReadServiceTest {
             assertThat(result.get().get(1).getName()).isEqualTo("라벨 2");
 
             verify(boardRepository).findById(testBoardId);
-            verify(labelRepository).findByBoardIdOrderByName(testBoardId);
+            verify(labelCatalogFinder).findByBoardId(testBoardId);
         }
 
         @Test
@@ -264,7 +269,7 @@ class LabelReadServiceTest {
             assertThat(result.getLeft().getMessage()).contains("보드를 찾을 수 없습니다");
 
             verify(boardRepository).findById(testBoardId);
-            verify(labelRepository, never()).findByBoardIdOrderByName(any());
+            verify(labelCatalogFinder, never()).findByBoardId(any());
         }
 
         @Test
@@ -296,7 +301,7 @@ class LabelReadServiceTest {
             assertThat(result.getLeft().getMessage()).contains("보드에 접근할 권한이 없습니다");
 
             verify(boardRepository).findById(testBoardId);
-            verify(labelRepository, never()).findByBoardIdOrderByName(any());
+            verify(labelCatalogFinder, never()).findByBoardId(any());
         }
 
         @Test
@@ -304,7 +309,7 @@ class LabelReadServiceTest {
         void getBoardLabels_withNoLabels_shouldReturnEmptyList() {
             // given
             when(boardRepository.findById(testBoardId)).thenReturn(Optional.of(testBoard));
-            when(labelRepository.findByBoardIdOrderByName(testBoardId)).thenReturn(List.of());
+            when(labelCatalogFinder.findByBoardId(testBoardId)).thenReturn(LabelCatalog.of(testBoardId, List.of()));
 
             // when
             Either<Failure, List<Label>> result = labelReadService.getBoardLabels(testBoardId, testUserId);
@@ -314,7 +319,7 @@ class LabelReadServiceTest {
             assertThat(result.get()).isEmpty();
 
             verify(boardRepository).findById(testBoardId);
-            verify(labelRepository).findByBoardIdOrderByName(testBoardId);
+            verify(labelCatalogFinder).findByBoardId(testBoardId);
         }
     }
 
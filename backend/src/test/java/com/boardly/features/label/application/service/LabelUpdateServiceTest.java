@@ -22,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.board.application.service.BoardPermissionService;
 import com.boardly.features.board.domain.model.Board;
 import com.boardly.features.board.domain.model.BoardId;
@@ -61,6 +62,12 @@ class LabelUpdateServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private LabelCatalogFinder labelCatalogFinder;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @InjectMocks
     private LabelUpdateService labelUpdateService;
 
@@ -149,6 +156,8 @@ class LabelUpdateServiceTest {
             verify(boardRepository).findById(boardId);
             verify(boardPermissionService).canWriteBoard(boardId, userId);
             verify(labelRepository).save(any(Label.class));
+            verify(labelCatalogFinder).evict(boardId);
+            verify(boardDetailCache).invalidate(boardId);
         }
 
         @Test
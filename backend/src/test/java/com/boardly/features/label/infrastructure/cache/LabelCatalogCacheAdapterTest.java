@@ -0,0 +1,65 @@
+package com.boardly.features.label.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.domain.model.LabelCatalog;
+import com.boardly.features.label.infrastructure.config.LabelCatalogCacheProperties;
+
+@DisplayName("LabelCatalogCacheAdapter 테스트")
+class LabelCatalogCacheAdapterTest {
+
+    private final BoardId boardId = new BoardId("board-1");
+
+    @Test
+    @DisplayName("저장한 카탈로그를 그대로 돌려준다")
+    void put_ShouldBeFound() {
+        // given
+        LabelCatalogCacheAdapter cache = new LabelCatalogCacheAdapter(new LabelCatalogCacheProperties());
+        LabelCatalog catalog = LabelCatalog.of(boardId, List.of());
+
+        // when
+        cache.put(boardId, catalog);
+
+        // then
+        assertThat(cache.find(boardId)).containsSame(catalog);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 카탈로그는 돌려주지 않는다")
+    void find_AfterTtl_ShouldBeEmpty() {
+        // given
+        LabelCatalogCacheProperties properties = new LabelCatalogCacheProperties();
+        properties.setTtlSeconds(0);
+        LabelCatalogCacheAdapter cache = new LabelCatalogCacheAdapter(properties);
+
+        // when
+        cache.put(boardId, LabelCatalog.of(boardId, List.of()));
+
+        // then
+        assertThat(cache.find(boardId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건부 제거는 같은 카탈로그가 캐시되어 있을 때만 지운다")
+    void remove_ShouldOnlyRemoveSameCatalog() {
+        // given
+        LabelCatalogCacheAdapter cache = new LabelCatalogCacheAdapter(new LabelCatalogCacheProperties());
+        LabelCatalog older = LabelCatalog.of(boardId, List.of());
+        LabelCatalog newer = LabelCatalog.of(boardId, List.of());
+        cache.put(boardId, newer);
+
+        // when
+        cache.remove(boardId, older);
+
+        // then
+        assertThat(cache.find(boardId)).containsSame(newer);
+        cache.remove(boardId, newer);
+        assertThat(cache.find(boardId)).isEmpty();
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -104,6 +105,31 @@ class RegisterUserServiceTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("비밀번호 해싱 대기열이 가득 차면 저장하지 않고 PASSWORD_HASHING_BUSY를 반환해야 한다")
+    void register_whenPasswordHashingBusy_shouldReturnInternalError() {
+        // given
+        RegisterUserCommand command = createValidCommand();
+
+        when(userValidator.validateUserRegistration(command))
+                .thenReturn(ValidationResult.valid(command));
+        when(userRepository.existsByEmail(command.email()))
+                .thenReturn(false);
+        when(passwordEncoder.encode(command.password()))
+                .thenThrow(new TaskRejectedException("비밀번호 해싱 대기열이 가득 찼습니다"));
+        when(validationMessageResolver.getMessage("error.password.hashing.busy"))
+                .thenReturn("로그인 요청이 많아 처리하지 못했습니다.");
+
+        // when
+        Either<Failure, User> result = registerUserService.register(command);
+
+        // then
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft()).isInstanceOfSatisfying(Failure.InternalError.class,
+                error -> assertThat(error.getErrorCode()).isEqualTo("PASSWORD_HASHING_BUSY"));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
     @Test
     @DisplayName("입력 검증 실패 시 InputError를 반환해야 한다")
     void register_withInvalidInput_shouldReturnInputError() {
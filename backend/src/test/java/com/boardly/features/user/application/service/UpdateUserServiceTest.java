@@ -1,5 +1,6 @@
 package com.boardly.features.user.application.service;
 
+import com.boardly.features.board.application.service.BoardDetailCache;
 import com.boardly.features.user.application.port.input.UpdateUserCommand;
 import com.boardly.features.user.application.validation.UserValidator;
 import com.boardly.features.user.domain.model.User;
@@ -40,12 +41,16 @@ class UpdateUserServiceTest {
     @Mock
     private ValidationMessageResolver validationMessageResolver;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @BeforeEach
     void setUp() {
         updateUserService = new UpdateUserService(
                 userRepository,
                 userValidator,
-                validationMessageResolver);
+                validationMessageResolver,
+                boardDetailCache);
     }
 
     private UpdateUserCommand createValidCommand() {
@@ -108,6 +113,7 @@ class UpdateUserServiceTest {
         verify(userValidator).validateUserUpdate(command);
         verify(userRepository).findById(command.userId());
         verify(userRepository).save(any(User.class));
+        verify(boardDetailCache).invalidateAll();
     }
 
     @Test
@@ -208,6 +214,7 @@ class UpdateUserServiceTest {
         verify(userValidator).validateUserUpdate(command);
         verify(userRepository).findById(command.userId());
         verify(userRepository).save(any(User.class));
+        verify(boardDetailCache, never()).invalidateAll();
     }
 
     @Test
@@ -0,0 +1,69 @@
+package com.boardly.shared.application.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AuthorizationConfig 테스트")
+class AuthorizationConfigTest {
+
+    @Mock
+    private RegisteredClientRepository registeredClientRepository;
+
+    @Mock
+    private OAuth2AuthorizationService authorizationService;
+
+    @Mock
+    private PasswordEncoder boundedPasswordEncoder;
+
+    @Test
+    @DisplayName("클라이언트 시크릿은 사용자 비밀번호용 해싱 풀을 거치지 않고 검증한다")
+    void clientSecret_ShouldBypassBoundedPasswordEncoder() {
+        // given: 인증 서버가 공유 PasswordEncoder 빈(해싱 풀)을 주입한 상태
+        RegisteredClient client = RegisteredClient.withId(UUID.randomUUID().toString())
+                .clientId("boardly-client")
+                .clientSecret("{noop}secret")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .build();
+        when(registeredClientRepository.findByClientId("boardly-client")).thenReturn(client);
+        ClientSecretAuthenticationProvider provider = new ClientSecretAuthenticationProvider(
+                registeredClientRepository, authorizationService);
+        provider.setPasswordEncoder(boundedPasswordEncoder);
+
+        // when
+        AuthorizationConfig.useDirectClientSecretEncoder(List.<AuthenticationProvider>of(provider));
+        Authentication result = provider.authenticate(new OAuth2ClientAuthenticationToken(
+                "boardly-client", ClientAuthenticationMethod.CLIENT_SECRET_BASIC, "secret", null));
+
+        // then
+        assertThat(result.isAuthenticated()).isTrue();
+        verify(boundedPasswordEncoder, never()).matches(any(), anyString());
+    }
+}
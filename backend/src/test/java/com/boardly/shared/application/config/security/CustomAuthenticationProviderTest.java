@@ -0,0 +1,144 @@
+package com.boardly.shared.application.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.boardly.features.user.domain.model.User;
+import com.boardly.features.user.domain.model.UserProfile;
+import com.boardly.features.user.domain.repository.UserRepository;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CustomAuthenticationProvider 테스트")
+class CustomAuthenticationProviderTest {
+
+    private static final String EMAIL = "user@boardly.dev";
+    private static final String PASSWORD = "password";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PasswordEncoder passwordEncoder;
+    private CustomAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        // PasswordConfig와 같은 구성에서 해싱 풀만 뺀 인코더 (테스트 속도를 위해 작업 계수 4)
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(4)));
+        encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        passwordEncoder = encoder;
+        provider = new CustomAuthenticationProvider(userRepository, passwordEncoder);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Either.right(invocation.getArgument(0)));
+    }
+
+    private User givenUser(String hashedPassword) {
+        User user = User.create(EMAIL, hashedPassword, new UserProfile("길동", "홍"));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    private UsernamePasswordAuthenticationToken login(String password) {
+        return new UsernamePasswordAuthenticationToken(EMAIL, password);
+    }
+
+    @Test
+    @DisplayName("이전 형식의 해시로 로그인하면 현재 설정으로 다시 해싱해 저장한다")
+    void outdatedHash_ShouldBeUpgradedOnLogin() {
+        // given
+        User user = givenUser("{noop}" + PASSWORD);
+
+        // when
+        var result = provider.authenticate(login(PASSWORD));
+
+        // then
+        assertThat(result.isAuthenticated()).isTrue();
+        verify(userRepository).save(user);
+        assertThat(user.getHashedPassword()).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches(PASSWORD, user.getHashedPassword())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(user.getHashedPassword())).isFalse();
+    }
+
+    @Test
+    @DisplayName("낮은 작업 계수의 bcrypt 해시도 다시 해싱한다")
+    void weakerBcryptHash_ShouldBeUpgradedOnLogin() {
+        // given
+        DelegatingPasswordEncoder stronger = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+        stronger.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        provider = new CustomAuthenticationProvider(userRepository, stronger);
+        User user = givenUser(passwordEncoder.encode(PASSWORD));
+
+        // when
+        provider.authenticate(login(PASSWORD));
+
+        // then
+        verify(userRepository).save(user);
+        assertThat(user.getHashedPassword()).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    @DisplayName("현재 설정의 해시면 다시 저장하지 않는다")
+    void currentHash_ShouldNotBeSaved() {
+        // given
+        givenUser(passwordEncoder.encode(PASSWORD));
+
+        // when
+        provider.authenticate(login(PASSWORD));
+
+        // then
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다시 해싱한 값을 저장하지 못해도 로그인은 성공한다")
+    void upgradeFailure_ShouldNotFailLogin() {
+        // given
+        User user = givenUser("{noop}" + PASSWORD);
+        when(userRepository.save(user)).thenReturn(Either.left(Failure.ofInternalServerError("저장 실패")));
+
+        // when
+        var result = provider.authenticate(login(PASSWORD));
+
+        // then
+        assertThat(result.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 거절하고 해시를 건드리지 않는다")
+    void wrongPassword_ShouldBeRejectedWithoutUpgrade() {
+        // given
+        User user = givenUser("{noop}" + PASSWORD);
+
+        // when & then
+        assertThatThrownBy(() -> provider.authenticate(login("wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(userRepository, never()).save(any());
+        assertThat(user.getHashedPassword()).isEqualTo("{noop}" + PASSWORD);
+    }
+}
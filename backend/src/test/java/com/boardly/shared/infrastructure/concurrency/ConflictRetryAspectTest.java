@@ -0,0 +1,185 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardly.shared.application.concurrency.RetryOnConflict;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.domain.common.Failure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import jakarta.persistence.OptimisticLockException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ConflictRetryAspect 테스트")
+class ConflictRetryAspectTest {
+
+    @Mock
+    private ValidationMessageResolver validationMessageResolver;
+
+    private ConflictRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MoveService target;
+    private MoveService proxy;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConflictRetryProperties();
+        properties.setInitialBackoffMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        target = new MoveService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(properties, validationMessageResolver, meterRegistry));
+        proxy = factory.getProxy();
+
+        when(validationMessageResolver.getMessage(anyString())).thenReturn("동시 수정 충돌");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 다시 실행하고, 성공하면 그 결과를 반환한다")
+    void conflict_ShouldBeRetriedUntilSuccess() {
+        // given
+        target.conflictsBeforeSuccess = 2;
+
+        // when
+        Either<Failure, String> result = proxy.move();
+
+        // then
+        assertThat(result.get()).isEqualTo("moved");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get(ConflictRetryAspect.RETRY_METRIC)
+                .tag("usecase", "MoveService")
+                .tag("outcome", "retry")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋 시점 예외에 감싸진 충돌도 재시도한다")
+    void wrappedConflict_ShouldBeRetried() {
+        // given
+        target.conflictsBeforeSuccess = 1;
+        target.wrapConflict = true;
+
+        // when
+        Either<Failure, String> result = proxy.move();
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 CONCURRENT_MODIFICATION 충돌 실패를 반환한다")
+    void exhaustedRetries_ShouldReturnResourceConflict() {
+        // given
+        properties.setMaxAttempts(3);
+        target.conflictsBeforeSuccess = Integer.MAX_VALUE;
+
+        // when
+        Either<Failure, String> result = proxy.move();
+
+        // then
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(result.getLeft()).isInstanceOfSatisfying(Failure.ResourceConflict.class,
+                conflict -> assertThat(conflict.getErrorCode()).isEqualTo(ConflictRetryAspect.ERROR_CODE));
+        assertThat(result.getLeft().getMessage()).isEqualTo("동시 수정 충돌");
+        assertThat(meterRegistry.get(ConflictRetryAspect.RETRY_METRIC)
+                .tag("outcome", "exhausted")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Either를 반환하지 않는 메서드는 재시도 소진 후 마지막 예외를 던진다")
+    void exhaustedRetries_WithoutEither_ShouldRethrow() {
+        // given
+        properties.setMaxAttempts(2);
+        target.conflictsBeforeSuccess = Integer.MAX_VALUE;
+
+        // when & then
+        assertThatThrownBy(() -> proxy.moveRaw())
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void otherException_ShouldNotBeRetried() {
+        // given
+        target.failure = new IllegalStateException("boom");
+
+        // when & then
+        assertThatThrownBy(() -> proxy.move()).isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션 안에서 호출되면 재시도하지 않는다")
+    void withinOuterTransaction_ShouldNotRetry() {
+        // given
+        target.conflictsBeforeSuccess = 1;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when & then
+        assertThatThrownBy(() -> proxy.move()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    static class MoveService {
+
+        final AtomicInteger calls = new AtomicInteger();
+        int conflictsBeforeSuccess;
+        boolean wrapConflict;
+        RuntimeException failure;
+
+        @RetryOnConflict
+        public Either<Failure, String> move() {
+            attempt();
+            return Either.right("moved");
+        }
+
+        @RetryOnConflict
+        public String moveRaw() {
+            attempt();
+            return "moved";
+        }
+
+        private void attempt() {
+            int call = calls.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            if (call <= conflictsBeforeSuccess) {
+                if (wrapConflict) {
+                    throw new TransactionSystemException("커밋 실패", new OptimisticLockException("stale"));
+                }
+                throw new ObjectOptimisticLockingFailureException("CardEntity", "card-1");
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConnectionPoolGuard 테스트")
+class ConnectionPoolGuardTest {
+
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가가 반환된다")
+    void close_ShouldReleasePermit() throws SQLException {
+        // given
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(target, 1, 10, 50);
+
+        // when
+        Connection connection = guard.getConnection();
+        int availableWhileOpen = guard.getAvailable();
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(availableWhileOpen).isZero();
+        assertThat(guard.getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 허가를 얻지 못하면 일시적 커넥션 예외로 실패한다")
+    void getConnection_WhenPoolExhausted_ShouldFailAfterTimeout() throws SQLException {
+        // given
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(target, 1, 10, 50);
+        guard.getConnection();
+
+        // when & then
+        assertThatThrownBy(guard::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(guard.getRejected()).isEqualTo(1);
+        assertThat(guard.getWaiting()).isZero();
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("대기 요청이 한도를 넘으면 기다리지 않고 실패한다")
+    void getConnection_WhenTooManyWaiting_ShouldFailImmediately() throws Exception {
+        // given
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(target, 1, 1, 5_000);
+        Connection held = guard.getConnection();
+        CountDownLatch waiterStarted = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Connection> waiter = executor.submit(() -> {
+                waiterStarted.countDown();
+                return guard.getConnection();
+            });
+            waiterStarted.await();
+            while (guard.getWaiting() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // when & then
+            long started = System.nanoTime();
+            assertThatThrownBy(guard::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000);
+
+            held.close();
+            assertThat(waiter.get(1, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(guard.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상 DataSource가 실패하면 허가를 돌려준다")
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws SQLException {
+        // given
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(target, 1, 10, 50);
+
+        // when & then
+        assertThatThrownBy(guard::getConnection).isInstanceOf(SQLException.class).hasMessage("down");
+        assertThat(guard.getAvailable()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.boardly.shared.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("JDBC 드라이버 프레임이 있으면 애플리케이션 프레임보다 우선해 jdbc로 분류한다")
+    void classify_WithJdbcFrame_ShouldReturnJdbc() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of(
+                "org.h2.engine.SessionLocal.lock:120",
+                "com.boardly.features.board.application.service.BoardQueryService.getBoard:42")))
+                .isEqualTo("jdbc");
+    }
+
+    @Test
+    @DisplayName("애플리케이션 프레임만 있으면 application으로 분류한다")
+    void classify_WithApplicationFrameOnly_ShouldReturnApplication() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of(
+                "java.lang.Object.wait0:-1",
+                "com.boardly.shared.infrastructure.i18n.PreloadedMessageSource.resolveCode:60")))
+                .isEqualTo("application");
+    }
+
+    @Test
+    @DisplayName("알려진 프레임이 없으면 other로 분류한다")
+    void classify_WithoutKnownFrames_ShouldReturnOther() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of("java.lang.Object.wait0:-1"))).isEqualTo("other");
+        assertThat(VirtualThreadPinningMonitor.classify(List.of())).isEqualTo("other");
+    }
+}
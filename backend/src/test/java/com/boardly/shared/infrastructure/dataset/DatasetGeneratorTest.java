@@ -0,0 +1,107 @@
+package com.boardly.shared.infrastructure.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.shared.application.config.JacksonConfig;
+import com.boardly.shared.infrastructure.persistence.PersistenceProperties;
+
+/**
+ * Flyway로 만든 H2 스키마에 아주 작은 데이터셋을 실제로 적재해 INSERT 문과 외래 키 순서를 확인합니다.
+ */
+@JdbcTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset-generator;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DatasetGenerator 테스트")
+class DatasetGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    private DatasetProperties properties;
+    private DatasetGenerator datasetGenerator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DatasetProperties();
+        properties.setEmailDomain("smoke.boardly.test");
+        properties.setUsers(20);
+        properties.setBoards(5);
+        properties.setMinListsPerBoard(2);
+        properties.setMaxListsPerBoard(4);
+        properties.setCards(200);
+        properties.setMaxCardsPerBoard(100);
+        properties.setAverageMembersPerBoard(3);
+        properties.setLabelsPerBoard(3);
+        properties.setBatchSize(50);
+        datasetGenerator = new DatasetGenerator(properties, new PersistenceProperties(), jdbcTemplate,
+                new TransactionTemplate(transactionManager), new BCryptPasswordEncoder(4),
+                new JacksonConfig().objectMapper(), applicationContext);
+    }
+
+    @Test
+    @DisplayName("작은 규모로 적재하면 테이블마다 집계한 행 수만큼 들어가고, 다시 실행하면 건너뛴다")
+    void generate_AtTinyScale_ShouldInsertCountedRows() {
+        // given
+        Map<DatasetGenerator.Table, Long> before = countRows();
+
+        // when
+        DatasetGenerator.Summary summary = datasetGenerator.generate();
+        DatasetGenerator.Summary rerun = datasetGenerator.generate();
+
+        // then
+        Map<DatasetGenerator.Table, Long> after = countRows();
+        for (DatasetGenerator.Table table : DatasetGenerator.Table.values()) {
+            assertThat(after.get(table) - before.get(table))
+                    .as(table.name())
+                    .isEqualTo(summary.rows().getOrDefault(table, 0L));
+        }
+        assertThat(summary.rows())
+                .containsEntry(DatasetGenerator.Table.USERS, 20L)
+                .containsEntry(DatasetGenerator.Table.BOARDS, 5L)
+                .containsEntry(DatasetGenerator.Table.CARDS, 200L);
+        assertThat(summary.rows().get(DatasetGenerator.Table.USER_ACTIVITY)).isPositive();
+        assertThat(rerun).isNull();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM board_lists l
+                JOIN boards b ON b.board_id = l.board_id
+                JOIN users u ON u.user_id = b.owner_id
+                WHERE u.email LIKE '%@smoke.boardly.test'
+                  AND l.card_count <> (SELECT COUNT(*) FROM cards c WHERE c.list_id = l.list_id)
+                """, Long.class)).isZero();
+    }
+
+    private Map<DatasetGenerator.Table, Long> countRows() {
+        Map<DatasetGenerator.Table, Long> counts = new EnumMap<>(DatasetGenerator.Table.class);
+        for (DatasetGenerator.Table table : DatasetGenerator.Table.values()) {
+            counts.put(table, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table.name().toLowerCase(Locale.ROOT), Long.class));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.boardly.shared.infrastructure.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ZipfSampler 테스트")
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("앞 순위일수록 더 자주 뽑히고, 같은 시드면 같은 순서로 뽑힌다")
+    void sample_ShouldFavorLowRanksAndBeDeterministic() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(100, 1.1);
+        int[] counts = new int[100];
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // then
+        assertThat(counts[0]).isGreaterThan(counts[1]).isGreaterThan(counts[9] * 5);
+        assertThat(counts[0]).isBetween(22_000, 24_500);
+        assertThat(sampler.sample(new SplittableRandom(7))).isEqualTo(sampler.sample(new SplittableRandom(7)));
+    }
+
+    @Test
+    @DisplayName("지수가 0이면 균등하게 뽑는다")
+    void sample_WithZeroExponent_ShouldBeUniform() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(10, 0);
+        int[] counts = new int[10];
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // then
+        assertThat(Arrays.stream(counts).boxed()).allSatisfy(count -> assertThat(count).isBetween(9_000, 11_000));
+    }
+
+    @Test
+    @DisplayName("전체를 가중치대로 나누되 한 몫이 상한을 넘지 않는다")
+    void split_ShouldRespectWeightsAndCap() {
+        // when
+        int[] shares = ZipfSampler.split(100_000, 200, 1.1, 20_000);
+
+        // then
+        assertThat(shares[0]).isEqualTo(20_000);
+        assertThat(shares[1]).isGreaterThan(shares[10]).isGreaterThan(shares[199]);
+        assertThat(Arrays.stream(shares).sum()).isLessThanOrEqualTo(100_000 + shares.length);
+    }
+
+    @Test
+    @DisplayName("기하 분포 표본의 평균은 지정한 평균에 가깝다")
+    void geometric_ShouldMatchMean() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        double mean = IntStream.range(0, 100_000)
+                .map(i -> DatasetGenerator.geometric(random, 1.5))
+                .average()
+                .orElseThrow();
+
+        // then
+        assertThat(mean).isBetween(1.4, 1.6);
+        assertThat(DatasetGenerator.geometric(random, 0)).isZero();
+    }
+}
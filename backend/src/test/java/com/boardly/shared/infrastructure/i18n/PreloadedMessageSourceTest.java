@@ -0,0 +1,110 @@
+package com.boardly.shared.infrastructure.i18n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.io.ClassPathResource;
+
+@DisplayName("PreloadedMessageSource 테스트")
+class PreloadedMessageSourceTest {
+
+    private static final List<String> BASENAMES = List.of("messages/ValidationMessages", "messages/messages");
+
+    private static PreloadedMessageSource messageSource;
+    private static ResourceBundleMessageSource bundleMessageSource;
+
+    @BeforeAll
+    static void setUp() {
+        messageSource = new PreloadedMessageSource(BASENAMES, Locale.US, List.of(Locale.KOREAN));
+
+        bundleMessageSource = new ResourceBundleMessageSource();
+        bundleMessageSource.setBasenames(BASENAMES.toArray(String[]::new));
+        bundleMessageSource.setDefaultEncoding("UTF-8");
+        bundleMessageSource.setDefaultLocale(Locale.US);
+    }
+
+    @Test
+    @DisplayName("로케일별 메시지를 반환한다")
+    void getMessage_ShouldResolvePerLocale() {
+        assertThat(messageSource.getMessage("validation.common.required", null, Locale.KOREAN))
+                .isEqualTo("필수 입력 항목입니다");
+        assertThat(messageSource.getMessage("validation.common.required", null, Locale.ENGLISH))
+                .isEqualTo("This field is required");
+    }
+
+    @Test
+    @DisplayName("국가 코드가 붙은 로케일은 언어 카탈로그로 폴백한다")
+    void getMessage_WithCountry_ShouldFallBackToLanguage() {
+        assertThat(messageSource.getMessage("validation.common.required", null, Locale.KOREA))
+                .isEqualTo("필수 입력 항목입니다");
+    }
+
+    @Test
+    @DisplayName("파라미터를 미리 파싱한 형식으로 치환한다")
+    void getMessage_WithArguments_ShouldFormat() {
+        assertThat(messageSource.getMessage("validation.common.min.length", new Object[] { 8 }, Locale.ENGLISH))
+                .isEqualTo("Must be at least 8 characters long");
+    }
+
+    @Test
+    @DisplayName("없는 코드는 NoSuchMessageException을 던진다")
+    void getMessage_WithUnknownCode_ShouldThrow() {
+        assertThatThrownBy(() -> messageSource.getMessage("unknown.code", null, Locale.KOREAN))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+
+    @Test
+    @DisplayName("모든 메시지가 ResourceBundleMessageSource와 같은 결과를 낸다")
+    void getMessage_ShouldMatchResourceBundleMessageSource() throws IOException {
+        Object[] args = { 1, 2, 3 };
+        for (Locale locale : List.of(Locale.ENGLISH, Locale.KOREAN, Locale.KOREA)) {
+            for (String code : allCodes()) {
+                assertThat(resolve(messageSource, code, null, locale))
+                        .as("%s (%s)", code, locale)
+                        .isEqualTo(resolve(bundleMessageSource, code, null, locale));
+                assertThat(resolve(messageSource, code, args, locale))
+                        .as("%s (%s, args)", code, locale)
+                        .isEqualTo(resolve(bundleMessageSource, code, args, locale));
+            }
+        }
+    }
+
+    private static String resolve(MessageSource source, String code, Object[] args, Locale locale) {
+        try {
+            return source.getMessage(code, args, locale);
+        } catch (NoSuchMessageException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> allCodes() throws IOException {
+        Set<String> codes = new TreeSet<>();
+        for (String basename : BASENAMES) {
+            for (String suffix : List.of("", "_ko")) {
+                Properties properties = new Properties();
+                ClassPathResource resource = new ClassPathResource(basename + suffix + ".properties");
+                try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                codes.addAll(properties.stringPropertyNames());
+            }
+        }
+        return codes;
+    }
+}
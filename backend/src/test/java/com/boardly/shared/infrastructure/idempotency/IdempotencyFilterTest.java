@@ -0,0 +1,252 @@
+package com.boardly.shared.infrastructure.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.boardly.shared.application.config.JacksonConfig;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    @Mock
+    private ValidationMessageResolver validationMessageResolver;
+
+    private IdempotencyProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyFilter idempotencyFilter;
+    private AtomicInteger executions;
+    private FilterChain createCardChain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyFilter = new IdempotencyFilter(properties, new IdempotencyStore(properties),
+                validationMessageResolver, new JacksonConfig().objectMapper(), meterRegistry);
+        executions = new AtomicInteger();
+        createCardChain = (request, response) -> {
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            int execution = executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"execution\":" + execution + ",\"request\":" + body + "}");
+        };
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("user-1", null, "SCOPE_write"));
+        when(validationMessageResolver.getMessage(anyString())).thenReturn("message");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재전송된 요청은 다시 실행하지 않고 기록된 응답을 돌려준다")
+    void retriedRequest_ShouldReplayRecordedResponse() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{\"title\":\"a\"}"), first, createCardChain);
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{\"title\":\"a\"}"), retried, createCardChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"execution\":1,\"request\":{\"title\":\"a\"}}");
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.counter(IdempotencyFilter.REQUESTS_METRIC, "outcome", "replayed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문에 쓰면 422로 거절한다")
+    void reusedKeyWithDifferentBody_ShouldBeRejected() throws Exception {
+        // given
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{\"title\":\"a\"}"), new MockHttpServletResponse(),
+                createCardChain);
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{\"title\":\"b\"}"), response, createCardChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    @DisplayName("키는 사용자마다 따로 관리한다")
+    void sameKeyFromAnotherUser_ShouldExecuteAgain() throws Exception {
+        // given
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{}"), new MockHttpServletResponse(), createCardChain);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("user-2", null, "SCOPE_write"));
+
+        // when
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{}"), new MockHttpServletResponse(), createCardChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서버 오류 응답은 기록하지 않아 재시도하면 다시 실행된다")
+    void serverError_ShouldNotBeRecorded() throws Exception {
+        // given
+        FilterChain failingChain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        // when
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{}"), new MockHttpServletResponse(), failingChain);
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{}"), new MockHttpServletResponse(), failingChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("하위 처리기가 Error로 끝나도 키를 풀어 재시도하면 다시 실행된다")
+    void errorThrownDownstream_ShouldReleaseKey() throws Exception {
+        // given
+        FilterChain erroringChain = (request, response) -> {
+            executions.incrementAndGet();
+            throw new StackOverflowError();
+        };
+
+        // when
+        assertThatThrownBy(() -> idempotencyFilter.doFilter(createCardRequest("key-1", "{}"),
+                new MockHttpServletResponse(), erroringChain))
+                .isInstanceOf(StackOverflowError.class);
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{}"), retried, createCardChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retried.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 읽기 요청이면 그대로 통과시킨다")
+    void requestWithoutKeyOrReadRequest_ShouldPassThrough() throws Exception {
+        // given
+        MockHttpServletRequest withoutKey = createCardRequest(null, "{}");
+        MockHttpServletRequest readRequest = createCardRequest("key-1", "");
+        readRequest.setMethod("GET");
+
+        // when
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), createCardChain);
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), createCardChain);
+        idempotencyFilter.doFilter(readRequest, new MockHttpServletResponse(), createCardChain);
+        idempotencyFilter.doFilter(readRequest, new MockHttpServletResponse(), createCardChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("너무 긴 키는 400으로 거절한다")
+    void tooLongKey_ShouldBeRejected() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(createCardRequest("k".repeat(256), "{}"), response, createCardChain);
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_INVALID");
+    }
+
+    @Test
+    @DisplayName("비동기로 본문을 읽는 하위 처리기도 다시 제공된 본문을 끝까지 읽는다")
+    void replayedBody_ShouldSupportReadListener() throws Exception {
+        // given
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        FilterChain asyncChain = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[4];
+                    while (input.isReady() && !input.isFinished()) {
+                        int read = input.read(buffer);
+                        if (read > 0) {
+                            received.write(buffer, 0, read);
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(createCardRequest("key-1", "{\"title\":\"async\"}"), response, asyncChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(allDataRead).isTrue();
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"async\"}");
+    }
+
+    private MockHttpServletRequest createCardRequest(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/cards");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return request;
+    }
+}
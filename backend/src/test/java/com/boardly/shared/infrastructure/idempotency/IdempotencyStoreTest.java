@@ -0,0 +1,117 @@
+package com.boardly.shared.infrastructure.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boardly.shared.infrastructure.idempotency.IdempotencyStore.Outcome;
+import com.boardly.shared.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private IdempotencyProperties properties;
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        idempotencyStore = new IdempotencyStore(properties);
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 키는 같은 요청에 기록된 응답을, 다른 요청에는 불일치를 반환한다")
+    void reserve_CompletedKey_ShouldReplayOrRejectMismatch() {
+        // given
+        StoredResponse stored = new StoredResponse(201, "application/json", null, new byte[] { 1 });
+        assertThat(idempotencyStore.reserve("user-1:key", "fp").outcome()).isEqualTo(Outcome.ACQUIRED);
+        idempotencyStore.complete("user-1:key", stored);
+
+        // when & then
+        IdempotencyStore.Reservation replay = idempotencyStore.reserve("user-1:key", "fp");
+        assertThat(replay.outcome()).isEqualTo(Outcome.REPLAY);
+        assertThat(replay.response()).isSameAs(stored);
+        assertThat(idempotencyStore.reserve("user-1:key", "other").outcome()).isEqualTo(Outcome.MISMATCH);
+        assertThat(idempotencyStore.reserve("user-2:key", "fp").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 들어온 요청은 먼저 실행한 요청의 응답을 기다린다")
+    void reserve_InFlightKey_ShouldWaitForFirstExecution() throws Exception {
+        // given
+        StoredResponse stored = new StoredResponse(200, "application/json", null, new byte[] { 2 });
+        idempotencyStore.reserve("user-1:key", "fp");
+
+        // when
+        CompletableFuture<IdempotencyStore.Reservation> duplicate = CompletableFuture
+                .supplyAsync(() -> idempotencyStore.reserve("user-1:key", "fp"));
+        Thread.sleep(50);
+        assertThat(duplicate).isNotDone();
+        idempotencyStore.complete("user-1:key", stored);
+
+        // then
+        IdempotencyStore.Reservation reservation = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(reservation.outcome()).isEqualTo(Outcome.REPLAY);
+        assertThat(reservation.response()).isSameAs(stored);
+    }
+
+    @Test
+    @DisplayName("기록 없이 놓인 키는 기다리던 요청이 다시 선점한다")
+    void reserve_ReleasedKey_ShouldBeAcquiredByWaiter() throws Exception {
+        // given
+        idempotencyStore.reserve("user-1:key", "fp");
+        CompletableFuture<IdempotencyStore.Reservation> duplicate = CompletableFuture
+                .supplyAsync(() -> idempotencyStore.reserve("user-1:key", "fp"));
+        Thread.sleep(50);
+
+        // when
+        idempotencyStore.release("user-1:key");
+
+        // then
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("기다리는 시간을 넘기면 처리 중으로 응답한다")
+    void reserve_WaitTimeout_ShouldReturnInProgress() {
+        // given
+        properties.setWaitTimeoutMs(10);
+        idempotencyStore.reserve("user-1:key", "fp");
+
+        // when & then
+        assertThat(idempotencyStore.reserve("user-1:key", "fp").outcome()).isEqualTo(Outcome.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 응답은 재사용하지 않는다")
+    void reserve_ExpiredKey_ShouldBeAcquiredAgain() {
+        // given
+        properties.setTtlSeconds(0);
+        idempotencyStore.reserve("user-1:key", "fp");
+        idempotencyStore.complete("user-1:key", new StoredResponse(200, null, null, new byte[0]));
+
+        // when & then
+        assertThat(idempotencyStore.reserve("user-1:key", "other").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("키 수가 상한을 넘으면 처리가 끝난 키를 지운다")
+    void reserve_OverMaxEntries_ShouldEvictCompletedKeys() {
+        // given
+        properties.setMaxEntries(3);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            idempotencyStore.reserve("user-1:key-" + i, "fp");
+            idempotencyStore.complete("user-1:key-" + i, new StoredResponse(200, null, null, new byte[0]));
+        }
+
+        // then
+        assertThat(idempotencyStore.size()).isLessThanOrEqualTo(3);
+    }
+}
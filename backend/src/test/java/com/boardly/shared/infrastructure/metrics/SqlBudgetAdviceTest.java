@@ -0,0 +1,87 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.boardly.shared.presentation.SqlBudget;
+
+@DisplayName("SqlBudgetAdvice 테스트")
+class SqlBudgetAdviceTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+    private SqlBudgetProperties properties;
+    private SqlBudgetAdvice advice;
+    private SqlStatementRecording recording;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqlBudgetProperties();
+        properties.setEnabled(true);
+        advice = new SqlBudgetAdvice(properties);
+        recording = SqlStatementRecording.start(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+        SqlStatementCounter.clear();
+    }
+
+    @Test
+    @DisplayName("@SqlBudget이 있는 핸들러만 검사한다")
+    void supports_ShouldRequireAnnotation() throws NoSuchMethodException {
+        assertThat(advice.supports(returnType("budgeted"), MappingJackson2HttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(returnType("unbudgeted"), MappingJackson2HttpMessageConverter.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("FAIL 모드에서 예산을 초과하면 응답 작성 전에 실패한다")
+    void failMode_OverBudget_ShouldThrow() throws NoSuchMethodException {
+        // given
+        properties.setMode(SqlBudgetMode.FAIL);
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        // when & then
+        assertThatThrownBy(() -> advice.beforeBodyWrite("body", returnType("budgeted"), null, null, null, null))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("SampleController.budgeted");
+    }
+
+    @Test
+    @DisplayName("LOG 모드에서는 예산을 초과해도 본문을 그대로 반환한다")
+    void logMode_OverBudget_ShouldReturnBody() throws NoSuchMethodException {
+        // given
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        // when
+        Object body = advice.beforeBodyWrite("body", returnType("budgeted"), null, null, null, null);
+
+        // then
+        assertThat(body).isEqualTo("body");
+    }
+
+    private MethodParameter returnType(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(SampleController.class.getDeclaredMethod(methodName), -1);
+    }
+
+    static class SampleController {
+
+        @SqlBudget(1)
+        String budgeted() {
+            return "body";
+        }
+
+        String unbudgeted() {
+            return "body";
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code @SqlBudget}이 선언된 엔드포인트를 FAIL 모드로 호출해 예산을 넘으면 테스트가 실패하게 합니다.
+ *
+ * <p>
+ * dev 더미 데이터에 댓글과 첨부파일이 달린 카드를 더해, 카드 수에 비례해 SQL이 늘어나는 조회가 생기면
+ * 예산(20)을 넘도록 만듭니다. 보드 상세 캐시는 끄고 매번 조회 경로를 탑니다.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sql-budget-test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=WARN",
+        "boardly.sql-budget.enabled=true",
+        "boardly.sql-budget.mode=fail",
+        "boardly.board.detail-cache.enabled=false",
+        "boardly.rate-limit.enabled=false",
+        "boardly.outbox.enabled=false",
+        "boardly.card.reminder.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@DisplayName("SQL 예산 엔드포인트 테스트")
+class SqlBudgetEndpointTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String BOARD_ID = "board-1";
+    private static final int EXTRA_CARDS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seedCardsWithCommentsAndAttachments() {
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cards WHERE card_id LIKE 'budget-card-%'", Integer.class);
+        if (seeded != null && seeded > 0) {
+            return;
+        }
+        for (int i = 0; i < EXTRA_CARDS; i++) {
+            String cardId = "budget-card-" + i;
+            jdbcTemplate.update("""
+                    INSERT INTO cards (card_id, title, position, list_id, created_by, created_at, updated_at)
+                    VALUES (?, ?, ?, 'list-1', ?, NOW(), NOW())
+                    """, cardId, "예산 카드 " + i, 100 + i, USER_ID);
+            jdbcTemplate.update("""
+                    INSERT INTO comments (comment_id, card_id, author_id, content, created_at, updated_at)
+                    VALUES (?, ?, ?, '댓글', NOW(), NOW())
+                    """, "budget-comment-" + i, cardId, USER_ID);
+            jdbcTemplate.update("""
+                    INSERT INTO attachments (attachment_id, card_id, uploader_id, file_name, original_name,
+                        file_url, mime_type, file_size, created_at, updated_at)
+                    VALUES (?, ?, ?, 'a.txt', 'a.txt', '/files/a.txt', 'text/plain', 1, NOW(), NOW())
+                    """, "budget-attachment-" + i, cardId, USER_ID);
+        }
+    }
+
+    private static RequestPostProcessor user() {
+        return jwt().jwt(token -> token.subject(USER_ID))
+                .authorities(new SimpleGrantedAuthority("SCOPE_read"), new SimpleGrantedAuthority("SCOPE_openid"));
+    }
+
+    private double maxStatements(String uri) {
+        DistributionSummary summary = meterRegistry.find(SqlStatementMetricsFilter.REQUEST_SQL_STATEMENTS)
+                .tag("uri", uri)
+                .summary();
+        assertThat(summary).as("SQL 문 수 지표: %s", uri).isNotNull();
+        return summary.max();
+    }
+
+    @Test
+    @DisplayName("보드 상세 조회는 카드 수와 관계없이 SQL 예산 안에서 응답한다")
+    void boardDetail_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/boards/{boardId}", BOARD_ID).with(user()))
+                .andExpect(status().isOk());
+
+        assertThat(maxStatements("/api/boards/{boardId}")).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("대시보드 조회는 SQL 예산 안에서 응답한다")
+    void dashboard_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/dashboard").with(user()))
+                .andExpect(status().isOk());
+
+        assertThat(maxStatements("/api/dashboard")).isLessThanOrEqualTo(20);
+    }
+}
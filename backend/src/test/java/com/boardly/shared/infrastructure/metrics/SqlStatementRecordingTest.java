@@ -0,0 +1,103 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SqlStatementRecording 테스트")
+class SqlStatementRecordingTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.clear();
+    }
+
+    @Test
+    @DisplayName("기록 중이 아니면 SQL을 보관하지 않는다")
+    void inspect_WithoutRecording_ShouldOnlyCount() {
+        // when
+        inspector.inspect("select 1");
+
+        // then
+        assertThat(SqlStatementRecording.active()).isEmpty();
+        assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반복 임계값 이상 실행된 SQL을 N+1 의심으로 보고한다")
+    void repeatedStatements_ShouldReportStatementsAboveThreshold() {
+        // given
+        try (SqlStatementRecording recording = SqlStatementRecording.start(true)) {
+            inspector.inspect("select * from cards where list_id in (?)");
+            for (int i = 0; i < 5; i++) {
+                inspector.inspect("select * from card_members where card_id=?");
+            }
+
+            // when
+            List<SqlStatementRecording.RecordedStatement> repeated = recording.repeatedStatements(5);
+
+            // then
+            assertThat(recording.statementCount()).isEqualTo(6);
+            assertThat(repeated).hasSize(1);
+            assertThat(repeated.get(0).sql()).isEqualTo("select * from card_members where card_id=?");
+            assertThat(repeated.get(0).count()).isEqualTo(5);
+            assertThat(repeated.get(0).callSite())
+                    .anyMatch(frame -> frame.getClassName().equals(SqlStatementRecordingTest.class.getName()));
+        }
+        assertThat(SqlStatementRecording.active()).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("assertWithinBudget")
+    class AssertWithinBudgetTests {
+
+        @Test
+        @DisplayName("예산 이하이면 통과한다")
+        void withinBudget_ShouldPass() {
+            try (SqlStatementRecording recording = SqlStatementRecording.start(false)) {
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+
+                recording.assertWithinBudget(2);
+            }
+        }
+
+        @Test
+        @DisplayName("예산을 초과하면 가장 많이 반복된 SQL과 함께 실패한다")
+        void overBudget_ShouldThrowWithDescription() {
+            try (SqlStatementRecording recording = SqlStatementRecording.start(false)) {
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+                inspector.inspect("select 2");
+
+                assertThatThrownBy(() -> recording.assertWithinBudget(2))
+                        .isInstanceOf(SqlBudgetExceededException.class)
+                        .hasMessageContaining("3 > 2")
+                        .hasMessageContaining("[2x] select 2");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("중첩 기록은 바깥 기록에도 합산되고 종료 시 바깥 기록으로 돌아간다")
+    void nestedRecording_ShouldPropagateToOuter() {
+        try (SqlStatementRecording outer = SqlStatementRecording.start(false)) {
+            inspector.inspect("select 1");
+            try (SqlStatementRecording inner = SqlStatementRecording.start(false)) {
+                inspector.inspect("select 2");
+                assertThat(inner.statementCount()).isEqualTo(1);
+            }
+
+            assertThat(outer.statementCount()).isEqualTo(2);
+            assertThat(SqlStatementRecording.active()).containsSame(outer);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("UseCaseConnectionMetricsTrackerFactory 테스트")
+class UseCaseConnectionMetricsTrackerFactoryTest {
+
+    private static final String POOL = "boardly-test";
+
+    private SimpleMeterRegistry meterRegistry;
+    private IMetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("meterRegistry", meterRegistry);
+        UseCaseConnectionMetricsTrackerFactory factory = new UseCaseConnectionMetricsTrackerFactory(
+                context.getBeanProvider(MeterRegistry.class));
+        tracker = factory.create(POOL, new PoolStats(0) {
+            @Override
+            protected void update() {
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    @DisplayName("커넥션 획득 시간은 현재 유스케이스 태그로 기록된다")
+    void acquire_ShouldBeTaggedWithCurrentUseCase() {
+        // given
+        String previous = CurrentUseCase.enter("GetDashboardUseCase");
+
+        // when
+        try {
+            tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        } finally {
+            CurrentUseCase.restore(previous);
+        }
+
+        // then
+        assertThat(meterRegistry.get(UseCaseConnectionMetricsTrackerFactory.ACQUIRE_TIMER)
+                .tag("pool", POOL)
+                .tag("usecase", "GetDashboardUseCase")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("유스케이스 바깥의 점유 시간과 시간 초과는 none 태그로 기록된다")
+    void usageAndTimeout_OutsideUseCase_ShouldBeTaggedNone() {
+        // when
+        tracker.recordConnectionUsageMillis(40);
+        tracker.recordConnectionTimeout();
+
+        // then
+        assertThat(meterRegistry.get(UseCaseConnectionMetricsTrackerFactory.USAGE_TIMER)
+                .tag("usecase", CurrentUseCase.NONE)
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        assertThat(meterRegistry.get(UseCaseConnectionMetricsTrackerFactory.TIMEOUT_COUNTER)
+                .tag("usecase", CurrentUseCase.NONE)
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기본 hikaricp 메트릭도 함께 기록된다")
+    void delegate_ShouldKeepHikariMetrics() {
+        // when
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(2));
+
+        // then
+        assertThat(meterRegistry.get("hikaricp.connections.acquire")
+                .tag("pool", POOL)
+                .timer().count()).isEqualTo(1);
+    }
+}
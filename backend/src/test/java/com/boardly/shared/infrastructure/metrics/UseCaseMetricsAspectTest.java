@@ -0,0 +1,135 @@
+package com.boardly.shared.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.boardly.features.board.domain.model.BoardId;
+import com.boardly.features.label.application.usecase.GetLabelUseCase;
+import com.boardly.features.label.domain.model.LabelId;
+import com.boardly.features.user.domain.model.UserId;
+import com.boardly.shared.domain.common.Failure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UseCaseMetricsAspect 테스트")
+class UseCaseMetricsAspectTest {
+
+    @Mock
+    private GetLabelUseCase getLabelUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GetLabelUseCase proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(getLabelUseCase);
+        factory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 success outcome으로 기록된다")
+    void success_ShouldBeRecordedAsSuccess() {
+        // given
+        when(getLabelUseCase.getBoardLabels(any(), any())).thenReturn(Either.right(List.of()));
+
+        // when
+        proxy.getBoardLabels(new BoardId("board-1"), new UserId("user-1"));
+
+        // then
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.USECASE_TIMER)
+                .tag("usecase", "GetLabelUseCase")
+                .tag("method", "getBoardLabels")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.USECASE_SQL_STATEMENTS)
+                .tag("usecase", "GetLabelUseCase")
+                .summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Either.left 결과는 Failure 하위 타입 이름으로 기록된다")
+    void failure_ShouldBeRecordedByFailureType() {
+        // given
+        when(getLabelUseCase.getLabel(any(), any())).thenReturn(Either.left(Failure.ofNotFound("라벨 없음")));
+
+        // when
+        proxy.getLabel(new LabelId("label-1"), new UserId("user-1"));
+        proxy.getLabel(new LabelId("label-2"), new UserId("user-1"));
+
+        // then
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.USECASE_TIMER)
+                .tag("method", "getLabel")
+                .tag("outcome", "NotFound")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외는 exception outcome으로 기록하고 다시 던진다")
+    void exception_ShouldBeRecordedAndRethrown() {
+        // given
+        when(getLabelUseCase.getLabel(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> proxy.getLabel(new LabelId("label-1"), new UserId("user-1")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.USECASE_TIMER)
+                .tag("outcome", "exception")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL 문 수는 호출 전후 카운터 차이로 기록된다")
+    void sqlStatements_ShouldBeRecordedAsDelta() {
+        // given
+        CountingStatementInspector inspector = new CountingStatementInspector();
+        when(getLabelUseCase.getBoardLabels(any(), any())).thenAnswer(invocation -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return Either.right(List.of());
+        });
+        inspector.inspect("select before");
+
+        // when
+        proxy.getBoardLabels(new BoardId("board-1"), new UserId("user-1"));
+
+        // then
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.USECASE_SQL_STATEMENTS)
+                .summary().totalAmount()).isEqualTo(2.0);
+        SqlStatementCounter.clear();
+    }
+
+    @Test
+    @DisplayName("호출 중에는 현재 유스케이스 이름이 설정되고 종료 후 해제된다")
+    void currentUseCase_ShouldBeSetDuringInvocation() {
+        // given
+        List<String> observed = new ArrayList<>();
+        when(getLabelUseCase.getBoardLabels(any(), any())).thenAnswer(invocation -> {
+            observed.add(CurrentUseCase.name());
+            return Either.right(List.of());
+        });
+
+        // when
+        proxy.getBoardLabels(new BoardId("board-1"), new UserId("user-1"));
+
+        // then
+        assertThat(observed).containsExactly("GetLabelUseCase");
+        assertThat(CurrentUseCase.name()).isEqualTo(CurrentUseCase.NONE);
+    }
+}
@@ -0,0 +1,180 @@
+package com.boardly.shared.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardly.shared.application.outbox.OutboxEvent;
+import com.boardly.shared.application.outbox.OutboxEventHandler;
+import com.boardly.shared.domain.common.Failure;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Mock
+    private OutboxRelayLeaseJpaRepository leaseJpaRepository;
+
+    @Mock
+    private OutboxEventHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private OutboxProperties properties;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setMaxAttempts(3);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        lenient().when(handler.supports("TEST_EVENT")).thenReturn(true);
+
+        outboxRelay = new OutboxRelay(outboxEventJpaRepository, leaseJpaRepository, List.of(handler), properties,
+                new TransactionTemplate(transactionManager));
+    }
+
+    private OutboxEvent event(long id, String partitionKey) {
+        return new OutboxEvent(id, "TEST_EVENT", "CARD", "card-" + id, partitionKey, "{}", Instant.now(), 0);
+    }
+
+    @Test
+    @DisplayName("핸들러 처리에 성공하면 전달 완료로 표시한다")
+    void dispatch_WhenHandlerSucceeds_ShouldMarkPublished() {
+        // given
+        OutboxEvent event = event(1L, "board-1");
+        when(handler.handle(event)).thenReturn(Either.right(null));
+
+        // when
+        boolean result = outboxRelay.dispatch(event);
+
+        // then
+        assertThat(result).isTrue();
+        verify(outboxEventJpaRepository).markPublished(eq(1L), any(Instant.class));
+        verify(outboxEventJpaRepository, never()).recordFailure(any(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 롤백하고 실패를 기록한다")
+    void dispatch_WhenHandlerFails_ShouldRecordFailure() {
+        // given
+        OutboxEvent event = event(1L, "board-1");
+        when(handler.handle(event)).thenReturn(Either.left(Failure.ofInternalServerError("boom")));
+
+        // when
+        boolean result = outboxRelay.dispatch(event);
+
+        // then
+        assertThat(result).isFalse();
+        verify(transactionStatus).setRollbackOnly();
+        verify(outboxEventJpaRepository, never()).markPublished(any(), any());
+        verify(outboxEventJpaRepository).recordFailure(1L, "boom", 3);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 이벤트 타입은 핸들러 호출 없이 전달 완료로 표시한다")
+    void dispatch_WhenNoHandlerSupports_ShouldMarkPublished() {
+        // given
+        OutboxEvent event = new OutboxEvent(1L, "OTHER", "CARD", "card-1", "board-1", "{}", Instant.now(), 0);
+
+        // when
+        boolean result = outboxRelay.dispatch(event);
+
+        // then
+        assertThat(result).isTrue();
+        verify(handler, never()).handle(any());
+        verify(outboxEventJpaRepository).markPublished(eq(1L), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("같은 파티션에서 앞선 이벤트가 실패하면 뒤의 이벤트는 전달하지 않는다")
+    void dispatchPartition_WhenEarlierEventFails_ShouldStopPartition() {
+        // given
+        OutboxEvent first = event(1L, "board-1");
+        OutboxEvent second = event(2L, "board-1");
+        when(handler.handle(first)).thenReturn(Either.left(Failure.ofInternalServerError("boom")));
+
+        // when
+        int delivered = outboxRelay.dispatchPartition(List.of(first, second));
+
+        // then
+        assertThat(delivered).isZero();
+        verify(handler, never()).handle(second);
+    }
+
+    @Test
+    @DisplayName("리스를 획득하면 파티션별로 기록 순서대로 전달한다")
+    void relay_ShouldDispatchInOrderPerPartition() {
+        // given
+        OutboxEventEntity first = entity("card-1", "board-1");
+        OutboxEventEntity second = entity("card-2", "board-2");
+        OutboxEventEntity third = entity("card-3", "board-1");
+        when(leaseJpaRepository.tryAcquire(eq(OutboxRelay.LEASE_NAME), anyString(), any(), any())).thenReturn(1);
+        when(outboxEventJpaRepository.findByStatusOrderByIdAsc(eq(OutboxEventStatus.PENDING), any()))
+                .thenReturn(List.of(first, second, third));
+        when(handler.handle(any())).thenReturn(Either.right(null));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).handle(first.toOutboxEvent());
+        inOrder.verify(handler).handle(third.toOutboxEvent());
+        inOrder.verify(handler).handle(second.toOutboxEvent());
+    }
+
+    @Test
+    @DisplayName("리스를 획득하지 못하면 이벤트를 조회하지 않는다")
+    void relay_WhenLeaseNotAcquired_ShouldSkip() {
+        // given
+        when(leaseJpaRepository.tryAcquire(eq(OutboxRelay.LEASE_NAME), anyString(), any(), any())).thenReturn(0);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventJpaRepository, never()).findByStatusOrderByIdAsc(any(), any());
+    }
+
+    private OutboxEventEntity entity(String aggregateId, String partitionKey) {
+        return OutboxEventEntity.builder()
+                .eventType("TEST_EVENT")
+                .aggregateType("CARD")
+                .aggregateId(aggregateId)
+                .partitionKey(partitionKey)
+                .payload("{}")
+                .createdAt(Instant.now())
+                .build();
+    }
+}
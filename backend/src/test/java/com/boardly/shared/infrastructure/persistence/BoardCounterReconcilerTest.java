@@ -0,0 +1,105 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 카운터를 SQL로 직접 어긋나게 만든 뒤 보정 작업이 실제 행 수로 되돌리는지 확인합니다.
+ *
+ * <p>
+ * 드리프트 조회와 재계산이 JPQL 하위 쿼리에 기대므로 dev 스키마와 더미 데이터 위에서 실행합니다.
+ * 기동 직후 예약 실행과 겹치지 않도록 첫 실행을 늦춥니다.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:counter-reconcile-test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false",
+        "boardly.counters.reconcile-initial-delay-ms=3600000",
+        "boardly.outbox.enabled=false",
+        "boardly.card.reminder.enabled=false"
+})
+@ActiveProfiles("dev")
+@DisplayName("BoardCounterReconciler 테스트")
+class BoardCounterReconcilerTest {
+
+    @Autowired
+    private BoardCounterReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int cardCount(String listId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT card_count FROM board_lists WHERE list_id = ?", Integer.class, listId);
+    }
+
+    private int actualCards(String listId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cards WHERE list_id = ?", Integer.class, listId);
+    }
+
+    private int listCount(String boardId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT list_count FROM boards WHERE board_id = ?", Integer.class, boardId);
+    }
+
+    private int actualLists(String boardId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM board_lists WHERE board_id = ?", Integer.class, boardId);
+    }
+
+    @Test
+    @DisplayName("어긋난 리스트 카드 수와 보드 리스트 수를 실제 행 수로 되돌린다")
+    void reconcile_ShouldRepairDriftedCounters() {
+        // given
+        jdbcTemplate.update("UPDATE board_lists SET card_count = 999 WHERE list_id = 'list-1'");
+        jdbcTemplate.update("UPDATE boards SET list_count = 0 WHERE board_id = 'board-1'");
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(cardCount("list-1")).isEqualTo(actualCards("list-1")).isNotEqualTo(999);
+        assertThat(listCount("board-1")).isEqualTo(actualLists("board-1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("카운터를 거치지 않고 SQL로 넣은 카드도 다음 보정에서 반영된다")
+    void reconcile_ShouldCountRowsInsertedWithoutCounter() {
+        // given: 더미 데이터도 SQL로 들어가므로 먼저 한 번 맞춰 둔다
+        reconciler.reconcile();
+        int before = cardCount("list-2");
+        jdbcTemplate.update("""
+                INSERT INTO cards (card_id, title, position, list_id, created_by, created_at, updated_at)
+                VALUES ('reconcile-card-1', '보정 카드', 900, 'list-2', 'user-1', NOW(), NOW())
+                """);
+        assertThat(cardCount("list-2")).isEqualTo(before);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(cardCount("list-2")).isEqualTo(before + 1).isEqualTo(actualCards("list-2"));
+    }
+
+    @Test
+    @DisplayName("맞는 카운터는 그대로 둔다")
+    void reconcile_ShouldLeaveConsistentCountersUntouched() {
+        // given
+        reconciler.reconcile();
+        var before = jdbcTemplate.queryForList("SELECT list_id, card_count, updated_at FROM board_lists ORDER BY list_id");
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT list_id, card_count, updated_at FROM board_lists ORDER BY list_id"))
+                .isEqualTo(before);
+    }
+}
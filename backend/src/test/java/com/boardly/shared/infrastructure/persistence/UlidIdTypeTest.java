@@ -0,0 +1,195 @@
+package com.boardly.shared.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UlidIdType 테스트")
+class UlidIdTypeTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private TypeConfiguration typeConfiguration;
+
+    @Mock
+    private ServiceRegistry serviceRegistry;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    private final UlidIdType type = new UlidIdType();
+
+    @Test
+    @DisplayName("ULID 문자열과 UUID는 손실 없이 상호 변환된다")
+    void toUuidAndBack_ShouldPreserveUlid() {
+        // given
+        String ulid = UlidCreator.getUlid().toString();
+
+        // when
+        UUID uuid = UlidIdType.toUuid(ulid);
+
+        // then
+        assertThat(UlidIdType.fromUuid(uuid)).isEqualTo(ulid);
+    }
+
+    @Nested
+    @DisplayName("VARCHAR 모드")
+    class VarcharModeTests {
+
+        @Test
+        @DisplayName("문자열 그대로 바인딩한다")
+        void nullSafeSet_ShouldBindString() throws SQLException {
+            // given
+            String ulid = UlidCreator.getUlid().toString();
+
+            // when
+            type.nullSafeSet(statement, ulid, 1, null);
+
+            // then
+            assertThat(type.getSqlType()).isEqualTo(SqlTypes.VARCHAR);
+            verify(statement).setString(1, ulid);
+        }
+
+        @Test
+        @DisplayName("null은 VARCHAR null로 바인딩한다")
+        void nullSafeSet_WithNull_ShouldBindVarcharNull() throws SQLException {
+            // when
+            type.nullSafeSet(statement, null, 1, null);
+
+            // then
+            verify(statement).setNull(1, Types.VARCHAR);
+        }
+    }
+
+    @Nested
+    @DisplayName("BINARY 모드")
+    class BinaryModeTests {
+
+        @Test
+        @DisplayName("ULID를 UUID로 변환해 바인딩한다")
+        void nullSafeSet_ShouldBindUuid() throws SQLException {
+            // given
+            UlidIdType binaryType = new UlidIdType(IdStorageMode.BINARY);
+            String ulid = UlidCreator.getUlid().toString();
+
+            // when
+            binaryType.nullSafeSet(statement, ulid, 2, null);
+
+            // then
+            assertThat(binaryType.getSqlType()).isEqualTo(SqlTypes.UUID);
+            verify(statement).setObject(2, UlidIdType.toUuid(ulid));
+        }
+    }
+
+    @Nested
+    @DisplayName("Hibernate 설정")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("부트스트랩 설정의 저장 방식을 읽는다")
+        void setTypeConfiguration_ShouldReadStorageModeSetting() {
+            // given
+            givenSettings(Map.of(UlidIdType.STORAGE_MODE_SETTING, "binary"));
+
+            // when
+            type.setTypeConfiguration(typeConfiguration);
+
+            // then
+            assertThat(type.storageMode()).isEqualTo(IdStorageMode.BINARY);
+            assertThat(type.getSqlType()).isEqualTo(SqlTypes.UUID);
+        }
+
+        @Test
+        @DisplayName("설정이 없으면 VARCHAR로 저장하고 다른 인스턴스에 영향을 주지 않는다")
+        void setTypeConfiguration_WithoutSetting_ShouldUseVarchar() {
+            // given
+            givenSettings(Map.of());
+            UlidIdType binaryType = new UlidIdType(IdStorageMode.BINARY);
+
+            // when
+            type.setTypeConfiguration(typeConfiguration);
+
+            // then
+            assertThat(type.storageMode()).isEqualTo(IdStorageMode.VARCHAR);
+            assertThat(binaryType.storageMode()).isEqualTo(IdStorageMode.BINARY);
+        }
+
+        @SuppressWarnings("deprecation")
+        private void givenSettings(Map<String, Object> settings) {
+            when(typeConfiguration.getServiceRegistry()).thenReturn(serviceRegistry);
+            when(serviceRegistry.requireService(ConfigurationService.class)).thenReturn(configurationService);
+            when(configurationService.getSettings()).thenReturn(settings);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 시 변환")
+    class ReadTests {
+
+        @Test
+        @DisplayName("UUID 컬럼 값을 ULID 문자열로 복원한다")
+        void nullSafeGet_WithUuid_ShouldReturnUlid() throws SQLException {
+            // given
+            String ulid = UlidCreator.getUlid().toString();
+            when(resultSet.getObject(1)).thenReturn(UlidIdType.toUuid(ulid));
+
+            // when
+            String result = type.nullSafeGet(resultSet, 1, null, null);
+
+            // then
+            assertThat(result).isEqualTo(ulid);
+        }
+
+        @Test
+        @DisplayName("문자열 컬럼 값은 그대로 반환한다")
+        void nullSafeGet_WithString_ShouldReturnAsIs() throws SQLException {
+            // given
+            when(resultSet.getObject(1)).thenReturn("user-1");
+
+            // when
+            String result = type.nullSafeGet(resultSet, 1, null, null);
+
+            // then
+            assertThat(result).isEqualTo("user-1");
+        }
+
+        @Test
+        @DisplayName("null 컬럼 값은 null을 반환한다")
+        void nullSafeGet_WithNull_ShouldReturnNull() throws SQLException {
+            // given
+            when(resultSet.getObject(1)).thenReturn(null);
+
+            // when
+            String result = type.nullSafeGet(resultSet, 1, null, null);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.boardly.shared.application.config.JacksonConfig;
+import com.boardly.shared.application.validation.ValidationMessageResolver;
+import com.boardly.shared.presentation.RateLimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RateLimitInterceptor 테스트")
+class RateLimitInterceptorTest {
+
+    @Mock
+    private ValidationMessageResolver validationMessageResolver;
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitInterceptor rateLimitInterceptor;
+    private Set<String> nonMembers;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        nonMembers = new HashSet<>();
+        BoardAccessChecker boardAccessChecker = (boardId, userId) -> nonMembers.contains(userId)
+                ? Optional.empty() : Optional.of("MEMBER");
+        rateLimitInterceptor = new RateLimitInterceptor(properties, new RateLimiter(properties), boardAccessChecker,
+                validationMessageResolver, new JacksonConfig().objectMapper(), meterRegistry);
+        authenticate("user-1");
+        when(validationMessageResolver.getMessage(anyString())).thenReturn("요청이 너무 많습니다");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("사용자 예산을 넘으면 429와 Retry-After로 거절한다")
+    void userBudgetExceeded_ShouldRespond429WithRetryAfter() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(2, 0.5, 0, 0));
+
+        // when
+        boolean first = preHandle("board-1", new MockHttpServletResponse());
+        boolean second = preHandle("board-2", new MockHttpServletResponse());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        boolean third = preHandle("board-3", rejected);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("RATE_LIMITED");
+        assertThat(meterRegistry.get(RateLimitInterceptor.THROTTLED_METRIC)
+                .tag("endpoint", "board-detail")
+                .tag("scope", RateLimitInterceptor.SCOPE_USER)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보드 예산은 여러 사용자가 함께 쓴다")
+    void boardBudget_ShouldBeSharedAcrossUsers() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(10, 10, 2, 0.1));
+
+        // when
+        boolean first = preHandle("board-1", new MockHttpServletResponse());
+        authenticate("user-2");
+        boolean second = preHandle("board-1", new MockHttpServletResponse());
+        authenticate("user-3");
+        boolean third = preHandle("board-1", new MockHttpServletResponse());
+        boolean otherBoard = preHandle("board-2", new MockHttpServletResponse());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(otherBoard).isTrue();
+        assertThat(meterRegistry.get(RateLimitInterceptor.THROTTLED_METRIC)
+                .tag("scope", RateLimitInterceptor.SCOPE_BOARD)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보드 멤버가 아닌 사용자의 요청은 보드 예산을 차감하지 않는다")
+    void nonMember_ShouldNotDrainBoardBudget() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(10, 10, 1, 0.001));
+        nonMembers.add("intruder");
+
+        // when
+        authenticate("intruder");
+        for (int i = 0; i < 5; i++) {
+            assertThat(preHandle("board-1", new MockHttpServletResponse())).isTrue();
+        }
+        authenticate("user-1");
+        boolean member = preHandle("board-1", new MockHttpServletResponse());
+
+        // then
+        assertThat(member).isTrue();
+        assertThat(meterRegistry.find(RateLimitInterceptor.THROTTLED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("보드 예산을 확인하며 찾은 역할을 요청 속성으로 넘긴다")
+    void boardCheck_ShouldExposeViewerRole() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(10, 10, 10, 10));
+        nonMembers.add("intruder");
+        MockHttpServletRequest memberRequest = boardRequest("board-1");
+        MockHttpServletRequest intruderRequest = boardRequest("board-1");
+
+        // when
+        rateLimitInterceptor.preHandle(memberRequest, new MockHttpServletResponse(), boardDetailHandler());
+        authenticate("intruder");
+        rateLimitInterceptor.preHandle(intruderRequest, new MockHttpServletResponse(), boardDetailHandler());
+
+        // then
+        assertThat(memberRequest.getAttribute(RateLimit.BOARD_ROLE_ATTRIBUTE)).isEqualTo("MEMBER");
+        assertThat(intruderRequest.getAttribute(RateLimit.BOARD_ROLE_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 예산에서 거절된 요청은 보드 예산을 차감하지 않는다")
+    void userRejected_ShouldNotDrainBoardBudget() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(1, 0.001, 2, 0.001));
+
+        // when
+        preHandle("board-1", new MockHttpServletResponse());
+        boolean rejected = preHandle("board-1", new MockHttpServletResponse());
+        authenticate("user-2");
+        boolean otherMember = preHandle("board-1", new MockHttpServletResponse());
+
+        // then
+        assertThat(rejected).isFalse();
+        assertThat(otherMember).isTrue();
+    }
+
+    @Test
+    @DisplayName("엔드포인트 예산 재정의는 지정한 항목만 기본 예산을 덮어쓴다")
+    void partialOverride_ShouldKeepDefaultsForUnsetFields() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(
+                Map.of("boardly.rate-limit.endpoints.board-detail.user-capacity", "5")));
+
+        // when
+        RateLimitProperties bound = binder.bind("boardly.rate-limit", RateLimitProperties.class).get();
+        RateLimitProperties.Budget budget = bound.budgetFor("board-detail");
+
+        // then
+        assertThat(budget.getUserCapacity()).isEqualTo(5);
+        assertThat(budget.getUserRefillPerSecond()).isEqualTo(5.0);
+        assertThat(budget.getBoardCapacity()).isEqualTo(60);
+        assertThat(budget.getBoardRefillPerSecond()).isEqualTo(20.0);
+        assertThat(bound.budgetFor("dashboard").getUserCapacity()).isEqualTo(10);
+        assertThat(bound.budgetFor("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("@RateLimit이 없는 핸들러와 비활성화 설정은 제한하지 않는다")
+    void unannotatedHandlerOrDisabled_ShouldPass() throws Exception {
+        // given
+        properties.getEndpoints().put("board-detail", new RateLimitProperties.Budget(1, 0.001, 0, 0));
+        HandlerMethod unannotated = new HandlerMethod(new StubController(), "unlimited");
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimitInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    unannotated)).isTrue();
+        }
+        properties.setEnabled(false);
+        for (int i = 0; i < 3; i++) {
+            assertThat(preHandle("board-1", new MockHttpServletResponse())).isTrue();
+        }
+    }
+
+    private boolean preHandle(String boardId, MockHttpServletResponse response) throws Exception {
+        return rateLimitInterceptor.preHandle(boardRequest(boardId), response, boardDetailHandler());
+    }
+
+    private MockHttpServletRequest boardRequest(String boardId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/" + boardId);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("boardId", boardId));
+        return request;
+    }
+
+    private HandlerMethod boardDetailHandler() throws NoSuchMethodException {
+        return new HandlerMethod(new StubController(), "boardDetail");
+    }
+
+    private void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(userId, null, "SCOPE_read"));
+    }
+
+    static class StubController {
+
+        @RateLimit("board-detail")
+        public void boardDetail() {
+        }
+
+        public void unlimited() {
+        }
+    }
+}
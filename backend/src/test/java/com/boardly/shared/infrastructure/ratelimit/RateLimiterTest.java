@@ -0,0 +1,44 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateLimiter 테스트")
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("같은 키는 같은 버킷을 이어 쓴다")
+    void tryAcquire_WithSameKey_ShouldReuseBucket() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties());
+
+        // when
+        long first = rateLimiter.tryAcquire("board-detail", "user", "user-1", 1, 0.001);
+        long second = rateLimiter.tryAcquire("board-detail", "user", "user-1", 1, 0.001);
+        long otherUser = rateLimiter.tryAcquire("board-detail", "user", "user-2", 1, 0.001);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+        assertThat(otherUser).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 수는 maxBuckets를 넘지 않는다")
+    void tryAcquire_ShouldKeepBucketCountWithinLimit() {
+        // given
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(10);
+        RateLimiter rateLimiter = new RateLimiter(properties);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.tryAcquire("board-detail", "user", "user-" + i, 5, 1);
+        }
+
+        // then
+        assertThat(rateLimiter.bucketCount()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,83 @@
+package com.boardly.shared.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("용량만큼 몰아서 허용하고, 다음 요청은 충전 간격만큼 기다리게 한다")
+    void tryAcquire_ShouldAllowBurstThenReportWait() {
+        // given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 2, now);
+
+        // when & then
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 2);
+        assertThat(bucket.isFull(now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 충전량만큼 다시 허용하고, 용량을 넘게 쌓이지 않는다")
+    void tryAcquire_ShouldRefillOverTime() {
+        // given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 1, now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+
+        // when & then
+        assertThat(bucket.tryAcquire(now + SECOND)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND)).isPositive();
+
+        long later = now + 60 * SECOND;
+        assertThat(bucket.isFull(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 용량보다 많이 허용하지 않는다")
+    void tryAcquire_Concurrently_ShouldNotExceedCapacity() throws Exception {
+        // given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(100, 0.001, now);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (bucket.tryAcquire(now) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,161 @@
+package com.boardly.shared.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.boardly.shared.application.config.PasswordConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingEncoder delegate;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = new BlockingEncoder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱은 위임 인코더에서 실행하고 작업별 시간을 기록한다")
+    void encodeAndMatches_ShouldDelegateAndRecordTime() {
+        // given
+        delegate.release.countDown();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, 1000, meterRegistry);
+
+        // when
+        String hash = encoder.encode("secret");
+        boolean matched = encoder.matches("secret", hash);
+
+        // then
+        assertThat(hash).isEqualTo("hashed:secret");
+        assertThat(matched).isTrue();
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASHING_METRIC).tag("operation", "encode")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASHING_METRIC).tag("operation", "matches")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void queueFull_ShouldRejectImmediately() throws Exception {
+        // given
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 10_000, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueued(1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).tag("reason", "queue_full")
+                .counter().count()).isEqualTo(1);
+
+        delegate.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("대기열에서 허용 시간보다 오래 기다린 요청은 해싱하지 않고 거절한다")
+    void queueTimeout_ShouldRejectWithoutHashing() throws Exception {
+        // given
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, 10, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueued(1);
+        Thread.sleep(30);
+
+        // when
+        delegate.release.countDown();
+
+        // then
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TaskRejectedException.class);
+        assertThat(delegate.calls).isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).tag("reason", "queue_timeout")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설정된 작업 계수와 다른 bcrypt 해시나 다른 형식의 해시는 다시 해싱 대상이다")
+    void upgradeEncoding_ShouldFlagOutdatedHashes() {
+        // given
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(5);
+        properties.setThreads(1);
+        PasswordEncoder configured = new PasswordConfig().passwordEncoder(properties, meterRegistry);
+        encoder = (BoundedPasswordEncoder) configured;
+        String weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+
+        // when
+        String currentHash = configured.encode("secret");
+
+        // then
+        assertThat(configured.matches("secret", weakHash)).isTrue();
+        assertThat(configured.matches("secret", "{noop}secret")).isTrue();
+        assertThat(configured.upgradeEncoding(weakHash)).isTrue();
+        assertThat(configured.upgradeEncoding("{noop}secret")).isTrue();
+        assertThat(configured.upgradeEncoding(currentHash)).isFalse();
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(BoundedPasswordEncoder.QUEUE_METRIC + ".size").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * {@code release}가 열릴 때까지 해싱을 붙잡아 두는 인코더
+     */
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile int calls;
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            calls++;
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
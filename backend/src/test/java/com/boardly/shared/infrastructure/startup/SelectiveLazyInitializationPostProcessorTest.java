@@ -0,0 +1,86 @@
+package com.boardly.shared.infrastructure.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@DisplayName("SelectiveLazyInitializationPostProcessor 테스트")
+class SelectiveLazyInitializationPostProcessorTest {
+
+    private static final AtomicInteger documentationCreated = new AtomicInteger();
+    private static final AtomicInteger handlerCreated = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        documentationCreated.set(0);
+        handlerCreated.set(0);
+    }
+
+    @Test
+    @DisplayName("접두사에 맞는 설정 클래스의 빈만 처음 사용할 때 만든다")
+    void matchingBeans_ShouldBeCreatedOnFirstUse() {
+        // given
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(DocumentationConfig.class, HandlerConfig.class);
+        context.addBeanFactoryPostProcessor(new SelectiveLazyInitializationPostProcessor(
+                List.of(DocumentationConfig.class.getName())));
+
+        // when
+        context.refresh();
+
+        // then
+        assertThat(context.getBeanDefinition("documentation").isLazyInit()).isTrue();
+        assertThat(context.getBeanDefinition("handler").isLazyInit()).isFalse();
+        assertThat(documentationCreated).hasValue(0);
+        assertThat(handlerCreated).hasValue(1);
+
+        context.getBean("documentation");
+        assertThat(documentationCreated).hasValue(1);
+        context.close();
+    }
+
+    @Test
+    @DisplayName("접두사가 없으면 모든 빈을 기동 시점에 만든다")
+    void noPrefixes_ShouldKeepEagerInitialization() {
+        // given
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(DocumentationConfig.class, HandlerConfig.class);
+        context.addBeanFactoryPostProcessor(new SelectiveLazyInitializationPostProcessor(List.of()));
+
+        // when
+        context.refresh();
+
+        // then
+        assertThat(documentationCreated).hasValue(1);
+        assertThat(handlerCreated).hasValue(1);
+        context.close();
+    }
+
+    @Configuration
+    static class DocumentationConfig {
+
+        @Bean
+        Object documentation() {
+            documentationCreated.incrementAndGet();
+            return new Object();
+        }
+    }
+
+    @Configuration
+    static class HandlerConfig {
+
+        @Bean
+        Object handler() {
+            handlerCreated.incrementAndGet();
+            return new Object();
+        }
+    }
+}
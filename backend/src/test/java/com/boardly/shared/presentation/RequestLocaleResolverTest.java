@@ -0,0 +1,69 @@
+package com.boardly.shared.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("RequestLocaleResolver 테스트")
+class RequestLocaleResolverTest {
+
+    private RequestLocaleResolver localeResolver;
+
+    @BeforeEach
+    void setUp() {
+        localeResolver = new RequestLocaleResolver(Locale.KOREAN, List.of(Locale.KOREAN, Locale.ENGLISH));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 기본 로케일을 사용한다")
+    void resolveLocale_WithoutHeader_ShouldReturnDefault() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(localeResolver.resolveLocale(request)).isEqualTo(Locale.KOREAN);
+    }
+
+    @Test
+    @DisplayName("Accept-Language 헤더를 따른다")
+    void resolveLocale_WithAcceptLanguage_ShouldUseHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "en-US,en;q=0.9,ko;q=0.8");
+
+        assertThat(localeResolver.resolveLocale(request).getLanguage()).isEqualTo("en");
+    }
+
+    @Test
+    @DisplayName("lang 파라미터가 헤더보다 우선한다")
+    void resolveLocale_WithLangParameter_ShouldOverrideHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "ko");
+        request.setParameter("lang", "en");
+
+        assertThat(localeResolver.resolveLocale(request)).isEqualTo(Locale.ENGLISH);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 lang 파라미터는 무시한다")
+    void resolveLocale_WithUnsupportedLang_ShouldIgnoreParameter() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("lang", "fr");
+
+        assertThat(localeResolver.resolveLocale(request)).isEqualTo(Locale.KOREAN);
+    }
+
+    @Test
+    @DisplayName("로케일을 결정해도 세션을 만들지 않는다")
+    void resolveLocale_ShouldNotCreateSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("lang", "en");
+
+        localeResolver.resolveLocale(request);
+
+        assertThat(request.getSession(false)).isNull();
+    }
+}
@@ -0,0 +1,29 @@
+-- =====================================================
+-- Boardly - 테이블/인덱스 크기 리포트 (PostgreSQL)
+-- =====================================================
+-- 사용법: psql -d boardly -f docs/performance/sql/index-size-report.sql
+-- 측정 전에 VACUUM ANALYZE 를 실행해 통계와 페이지 수를 정리합니다.
+
+VACUUM ANALYZE;
+
+SELECT c.relname                                   AS index_name,
+       t.relname                                   AS table_name,
+       pg_size_pretty(pg_relation_size(c.oid))     AS index_size,
+       pg_relation_size(c.oid)                     AS index_bytes,
+       t.reltuples::BIGINT                         AS table_rows
+FROM pg_class c
+         JOIN pg_index i ON i.indexrelid = c.oid
+         JOIN pg_class t ON t.oid = i.indrelid
+         JOIN pg_namespace n ON n.oid = c.relnamespace
+WHERE n.nspname = 'public'
+  AND c.relkind = 'i'
+ORDER BY pg_relation_size(c.oid) DESC;
+
+SELECT relname                                         AS table_name,
+       pg_size_pretty(pg_table_size(oid))              AS table_size,
+       pg_size_pretty(pg_indexes_size(oid))            AS indexes_size,
+       pg_size_pretty(pg_total_relation_size(oid))     AS total_size
+FROM pg_class
+WHERE relkind = 'r'
+  AND relnamespace = 'public'::regnamespace
+ORDER BY pg_total_relation_size(oid) DESC;
@@ -278,7 +278,7 @@ export type ActorResponse = {
 };
 export type ActivityResponse = {
     id?: string;
-    "type"?: "CARD_CREATE" | "CARD_MOVE" | "CARD_RENAME" | "CARD_ARCHIVE" | "CARD_UNARCHIVE" | "CARD_DELETE" | "CARD_ASSIGN_MEMBER" | "CARD_UNASSIGN_MEMBER" | "CARD_SET_DUE_DATE" | "CARD_REMOVE_DUE_DATE" | "CARD_ADD_COMMENT" | "CARD_ADD_ATTACHMENT" | "CARD_REMOVE_ATTACHMENT" | "CARD_ADD_CHECKLIST" | "CARD_ADD_LABEL" | "CARD_REMOVE_LABEL" | "CARD_DUPLICATE" | "CARD_UPDATE_DESCRIPTION" | "LIST_CREATE" | "LIST_RENAME" | "LIST_ARCHIVE" | "LIST_UNARCHIVE" | "LIST_MOVE" | "LIST_CHANGE_COLOR" | "LIST_DELETE" | "BOARD_CREATE" | "BOARD_RENAME" | "BOARD_ARCHIVE" | "BOARD_UNARCHIVE" | "BOARD_MOVE" | "BOARD_DELETE" | "BOARD_UPDATE_DESCRIPTION" | "BOARD_ADD_MEMBER" | "BOARD_REMOVE_MEMBER" | "BOARD_UPDATE_MEMBER_ROLE" | "BOARD_DUPLICATE" | "USER_UPDATE_PROFILE" | "USER_CHANGE_LANGUAGE" | "USER_CHANGE_PASSWORD" | "USER_DELETE_ACCOUNT";
+    "type"?: "CARD_CREATE" | "CARD_MOVE" | "CARD_RENAME" | "CARD_ARCHIVE" | "CARD_UNARCHIVE" | "CARD_DELETE" | "CARD_ASSIGN_MEMBER" | "CARD_UNASSIGN_MEMBER" | "CARD_SET_DUE_DATE" | "CARD_REMOVE_DUE_DATE" | "CARD_ADD_COMMENT" | "CARD_ADD_ATTACHMENT" | "CARD_REMOVE_ATTACHMENT" | "CARD_ADD_CHECKLIST" | "CARD_ADD_LABEL" | "CARD_REMOVE_LABEL" | "CARD_DUPLICATE" | "CARD_UPDATE_DESCRIPTION" | "CARD_DUE_REMINDER" | "LIST_CREATE" | "LIST_RENAME" | "LIST_ARCHIVE" | "LIST_UNARCHIVE" | "LIST_MOVE" | "LIST_CHANGE_COLOR" | "LIST_DELETE" | "BOARD_CREATE" | "BOARD_RENAME" | "BOARD_ARCHIVE" | "BOARD_UNARCHIVE" | "BOARD_MOVE" | "BOARD_DELETE" | "BOARD_UPDATE_DESCRIPTION" | "BOARD_ADD_MEMBER" | "BOARD_REMOVE_MEMBER" | "BOARD_UPDATE_MEMBER_ROLE" | "BOARD_DUPLICATE" | "USER_UPDATE_PROFILE" | "USER_CHANGE_LANGUAGE" | "USER_CHANGE_PASSWORD" | "USER_DELETE_ACCOUNT";
     actor?: ActorResponse;
     timestamp?: string;
     payload?: {